@@ -6,7 +6,12 @@ from fastapi import APIRouter, Depends
 
 from api.v1.dependencies import get_emotion_prediction_service
 from api.v1.routers.common import problem_responses
-from api.v1.schemas import EmotionPredictionRequest, EmotionPredictionResponse
+from api.v1.schemas import (
+    EmotionPredictionBatchRequest,
+    EmotionPredictionBatchResponse,
+    EmotionPredictionRequest,
+    EmotionPredictionResponse,
+)
 
 if TYPE_CHECKING:
     from application.services.emotion_prediction_service import EmotionPredictionService
@@ -27,3 +32,18 @@ async def create_emotion_prediction(
     service: EmotionPredictionService = Depends(get_emotion_prediction_service),
 ) -> EmotionPredictionResponse:
     return service.predict(payload)
+
+
+@router.post(
+    "/emotion-prediction-batches",
+    response_model=EmotionPredictionBatchResponse,
+    status_code=200,
+    summary="Predict emotions for multiple texts in one model call",
+    operation_id="createEmotionPredictionBatch",
+    responses=problem_responses(400, 404, 422, 500, 503),
+)
+async def create_emotion_prediction_batch(
+    payload: EmotionPredictionBatchRequest,
+    service: EmotionPredictionService = Depends(get_emotion_prediction_service),
+) -> EmotionPredictionBatchResponse:
+    return service.predict_batch(payload)
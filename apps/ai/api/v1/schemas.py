@@ -23,6 +23,23 @@ class EmotionPredictionResponse(BaseModel):
     analyzedAt: datetime
 
 
+class EmotionPredictionBatchRequest(BaseModel):
+    texts: list[str] = Field(min_length=1, max_length=64)
+    aggregation: Literal["overall_avg", "split_avg", "full"] = "overall_avg"
+
+
+class EmotionPredictionBatchItem(BaseModel):
+    text: str
+    probabilities: dict[str, float]
+
+
+class EmotionPredictionBatchResponse(BaseModel):
+    aggregation: Literal["overall_avg", "split_avg", "full"]
+    count: int
+    items: list[EmotionPredictionBatchItem]
+    analyzedAt: datetime
+
+
 class MovieRecommendationRequest(BaseModel):
     joy: float = Field(ge=0)
     sadness: float = Field(ge=0)
@@ -2,7 +2,13 @@ from __future__ import annotations
 
 from datetime import datetime, timezone
 
-from api.v1.schemas import EmotionPredictionRequest, EmotionPredictionResponse
+from api.v1.schemas import (
+    EmotionPredictionBatchItem,
+    EmotionPredictionBatchRequest,
+    EmotionPredictionBatchResponse,
+    EmotionPredictionRequest,
+    EmotionPredictionResponse,
+)
 from common.errors import BadRequestException
 from infrastructure.ml.kobert_predictor import KoBertPredictor
 
@@ -24,3 +30,20 @@ class EmotionPredictionService:
             probabilities=probabilities,
             analyzedAt=datetime.now(timezone.utc),
         )
+
+    def predict_batch(self, payload: EmotionPredictionBatchRequest) -> EmotionPredictionBatchResponse:
+        stripped_texts = [text.strip() for text in payload.texts]
+        if any(not text for text in stripped_texts):
+            raise BadRequestException("INVALID_TEXT", "texts must not contain blank text")
+
+        probabilities = self._predictor.predict_many(stripped_texts, payload.aggregation)
+
+        return EmotionPredictionBatchResponse(
+            aggregation=payload.aggregation,
+            count=len(stripped_texts),
+            items=[
+                EmotionPredictionBatchItem(text=text, probabilities=probability)
+                for text, probability in zip(stripped_texts, probabilities)
+            ],
+            analyzedAt=datetime.now(timezone.utc),
+        )
@@ -53,21 +53,31 @@ class KoBertPredictor:
             for probability in probabilities
         ]
 
-    def predict(self, text: str, aggregation: str) -> dict[str, float]:
-        stripped_text = text.strip()
-
+    def _segments(self, text: str, aggregation: str) -> list[str]:
         if aggregation == "full":
-            [raw] = self._predict_batch([stripped_text])
-            return self._format_percent(raw)
-
-        sentences = self._split_sentences(stripped_text)
+            return [text]
 
+        sentences = self._split_sentences(text)
         if aggregation == "split_avg":
-            raw_probabilities = self._predict_batch(sentences)
-            averaged = self._average_probabilities(raw_probabilities)
-            return self._format_percent(averaged)
+            return sentences
 
         # default: overall_avg
-        raw_probabilities = self._predict_batch([stripped_text] + sentences)
-        averaged = self._average_probabilities(raw_probabilities)
-        return self._format_percent(averaged)
+        return [text] + sentences
+
+    def predict(self, text: str, aggregation: str) -> dict[str, float]:
+        [probabilities] = self.predict_many([text], aggregation)
+        return probabilities
+
+    def predict_many(self, texts: list[str], aggregation: str) -> list[dict[str, float]]:
+        # 모든 텍스트의 문장을 한 번의 forward 로 추론한 뒤 텍스트별로 다시 나눈다.
+        segments_per_text = [self._segments(text.strip(), aggregation) for text in texts]
+        flattened = [segment for segments in segments_per_text for segment in segments]
+        raw_probabilities = self._predict_batch(flattened)
+
+        results: list[dict[str, float]] = []
+        offset = 0
+        for segments in segments_per_text:
+            chunk = raw_probabilities[offset:offset + len(segments)]
+            offset += len(segments)
+            results.append(self._format_percent(self._average_probabilities(chunk)))
+        return results
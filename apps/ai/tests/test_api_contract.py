@@ -28,6 +28,26 @@ class FakeEmotionPredictionService:
             "analyzedAt": "2026-02-23T00:00:00Z",
         }
 
+    def predict_batch(self, payload):
+        return {
+            "aggregation": payload.aggregation,
+            "count": len(payload.texts),
+            "items": [
+                {
+                    "text": text,
+                    "probabilities": {
+                        "joy": 55.0,
+                        "sadness": 15.0,
+                        "anger": 10.0,
+                        "fear": 10.0,
+                        "disgust": 10.0,
+                    },
+                }
+                for text in payload.texts
+            ],
+            "analyzedAt": "2026-02-23T00:00:00Z",
+        }
+
 
 class FakeMovieRecommendationService:
     def recommend(self, payload, db):
@@ -86,6 +106,21 @@ def test_emotion_prediction_contract(client: TestClient) -> None:
     assert "analyzedAt" in body
 
 
+def test_emotion_prediction_batch_contract(client: TestClient) -> None:
+    response = client.post(
+        "/api/v1/emotion-prediction-batches",
+        json={"texts": ["영화가 매우 좋았어요", "지루했어요"], "aggregation": "overall_avg"},
+    )
+
+    assert response.status_code == 200
+    body = response.json()
+    assert body["aggregation"] == "overall_avg"
+    assert body["count"] == 2
+    assert [item["text"] for item in body["items"]] == ["영화가 매우 좋았어요", "지루했어요"]
+    assert "probabilities" in body["items"][0]
+    assert "analyzedAt" in body
+
+
 def test_movie_recommendation_contract(client: TestClient) -> None:
     response = client.post(
         "/api/v1/movie-recommendations",
@@ -15,6 +15,7 @@ def test_openapi_has_only_new_paths_and_problem_detail_contract() -> None:
 
     assert "/api/v1/health" in paths
     assert "/api/v1/emotion-predictions" in paths
+    assert "/api/v1/emotion-prediction-batches" in paths
     assert "/api/v1/movie-recommendations" in paths
     assert "/api/v1/movies/{movieId}/review-crawls" in paths
 
@@ -38,6 +39,7 @@ def test_openapi_operation_status_codes() -> None:
     operations = [
         ("/api/v1/health", "get"),
         ("/api/v1/emotion-predictions", "post"),
+        ("/api/v1/emotion-prediction-batches", "post"),
         ("/api/v1/movie-recommendations", "post"),
         ("/api/v1/movies/{movieId}/review-crawls", "post"),
     ]
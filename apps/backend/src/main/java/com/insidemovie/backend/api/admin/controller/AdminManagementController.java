@@ -7,6 +7,10 @@ import com.insidemovie.backend.api.admin.dto.AdminReportDTO;
 import com.insidemovie.backend.api.admin.dto.AdminReportStatusUpdateRequest;
 import com.insidemovie.backend.api.admin.docs.AdminManagementApi;
 import com.insidemovie.backend.api.admin.service.AdminService;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryRebuildReport;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsRebuildReport;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.api.report.service.ReportService;
 import com.insidemovie.backend.common.response.PageResult;
 import jakarta.validation.Valid;
@@ -17,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -28,6 +33,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminManagementController implements AdminManagementApi {
     private final AdminService adminService;
     private final ReportService reportService;
+    private final MovieEmotionSummaryService movieEmotionSummaryService;
+    private final MovieRatingStatsService movieRatingStatsService;
 
     @GetMapping("/users")
     public ResponseEntity<PageResult<AdminMemberDTO>> getUsers(
@@ -74,4 +81,14 @@ public class AdminManagementController implements AdminManagementApi {
     public ResponseEntity<AdminDashboardDTO> getDashboard() {
         return ResponseEntity.ok(adminService.getDashboardSummary());
     }
+
+    @PostMapping("/movies/emotion-summaries/rebuild")
+    public ResponseEntity<MovieEmotionSummaryRebuildReport> rebuildMovieEmotionSummaries() {
+        return ResponseEntity.ok(movieEmotionSummaryService.rebuildAll());
+    }
+
+    @PostMapping("/movies/rating-stats/rebuild")
+    public ResponseEntity<MovieRatingStatsRebuildReport> rebuildMovieRatingStats() {
+        return ResponseEntity.ok(movieRatingStatsService.rebuildAll());
+    }
 }
@@ -5,6 +5,8 @@ import com.insidemovie.backend.api.admin.dto.AdminMemberDTO;
 import com.insidemovie.backend.api.admin.dto.AdminMemberStatusUpdateRequest;
 import com.insidemovie.backend.api.admin.dto.AdminReportDTO;
 import com.insidemovie.backend.api.admin.dto.AdminReportStatusUpdateRequest;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryRebuildReport;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsRebuildReport;
 import com.insidemovie.backend.common.response.PageResult;
 import com.insidemovie.backend.common.swagger.annotation.ApiCommonErrorResponses;
 import com.insidemovie.backend.common.swagger.annotation.ApiCookieAuth;
@@ -54,4 +56,12 @@ public interface AdminManagementApi {
     @Operation(summary = "Get admin dashboard summary")
     @ApiResponse(responseCode = "200", description = "OK")
     ResponseEntity<AdminDashboardDTO> getDashboard();
+
+    @Operation(summary = "Rebuild movie emotion summaries from emotion rows")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<MovieEmotionSummaryRebuildReport> rebuildMovieEmotionSummaries();
+
+    @Operation(summary = "Rebuild movie rating stats from review rows")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<MovieRatingStatsRebuildReport> rebuildMovieRatingStats();
 }
@@ -5,18 +5,25 @@ import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MoviesChangedEvent;
 import com.insidemovie.backend.api.review.dto.ReviewCreateDTO;
+import com.insidemovie.backend.api.review.infrastructure.fastapi.EmotionPredictionClient;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.api.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,7 +38,9 @@ public class ReviewAiSeedService {
     private final MovieRepository movieRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewService reviewService;
+    private final EmotionPredictionClient emotionPredictionClient;
     private final DemoReviewFixtureLoader fixtureLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewAiSeedReport seed(boolean dryRun, DemoDataBackfillProperties.Review reviewProperties) {
@@ -49,6 +58,8 @@ public class ReviewAiSeedService {
         int failed = 0;
 
         Map<String, Optional<Movie>> movieByKoficIdCache = new HashMap<>();
+        List<PlannedReview> plannedReviews = new ArrayList<>();
+        Set<String> plannedKeys = new HashSet<>();
 
         for (DemoAccountCatalogService.DemoAccountDefinition definition
                 : demoAccountCatalogService.getGeneralAccountDefinitions()) {
@@ -89,7 +100,8 @@ public class ReviewAiSeedService {
                     movie = movieOptional.get();
                 }
 
-                if (reviewRepository.findByMemberAndMovie(member, movie).isPresent()) {
+                if (!plannedKeys.add(member.getId() + ":" + movie.getId())
+                        || reviewRepository.findByMemberAndMovie(member, movie).isPresent()) {
                     skipped++;
                     continue;
                 }
@@ -106,11 +118,20 @@ public class ReviewAiSeedService {
                     continue;
                 }
 
-                if (createWithRetry(movie.getId(), request, member.getId())) {
-                    created++;
-                } else {
-                    failed++;
-                }
+                plannedReviews.add(new PlannedReview(movie.getId(), member.getId(), request));
+            }
+        }
+
+        // 감정 예측은 배치로 한꺼번에 요청한 뒤 리뷰를 저장한다
+        List<Map<String, Double>> predictions = predictWithRetry(plannedReviews.stream()
+                .map(planned -> planned.request().getContent())
+                .toList());
+        for (int i = 0; i < plannedReviews.size(); i++) {
+            PlannedReview planned = plannedReviews.get(i);
+            if (create(planned, predictions.get(i))) {
+                created++;
+            } else {
+                failed++;
             }
         }
 
@@ -124,19 +145,48 @@ public class ReviewAiSeedService {
                 .build();
     }
 
-    private boolean createWithRetry(Long movieId, ReviewCreateDTO request, Long userId) {
-        for (int attempt = 1; attempt <= FASTAPI_RETRY + 1; attempt++) {
-            try {
-                reviewService.createReviewForSeed(movieId, request, userId);
-                return true;
-            } catch (Exception e) {
-                if (attempt > FASTAPI_RETRY) {
-                    log.warn("[ReviewAiSeed] createReview failed movieId={} userId={} error={}",
-                            movieId, userId, e.getMessage());
+    private List<Map<String, Double>> predictWithRetry(List<String> contents) {
+        List<Map<String, Double>> predictions = new ArrayList<>(contents.size());
+        contents.forEach(content -> predictions.add(null));
+
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < contents.size(); i++) {
+            targets.add(i);
+        }
+
+        for (int attempt = 1; attempt <= FASTAPI_RETRY + 1 && !targets.isEmpty(); attempt++) {
+            List<CompletableFuture<Map<String, Double>>> futures = targets.stream()
+                    .map(index -> emotionPredictionClient.submit(contents.get(index))
+                            .exceptionally(e -> null))
+                    .toList();
+
+            List<Integer> failedTargets = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                Map<String, Double> prediction = futures.get(i).join();
+                if (prediction == null) {
+                    failedTargets.add(targets.get(i));
+                } else {
+                    predictions.set(targets.get(i), prediction);
                 }
             }
+            targets = failedTargets;
+        }
+
+        if (!targets.isEmpty()) {
+            log.warn("[ReviewAiSeed] FastAPI unavailable for {} reviews. fallback emotion is used.", targets.size());
+        }
+        return predictions;
+    }
+
+    private boolean create(PlannedReview planned, Map<String, Double> prediction) {
+        try {
+            reviewService.createReviewForSeed(planned.movieId(), planned.request(), planned.userId(), prediction);
+            return true;
+        } catch (Exception e) {
+            log.warn("[ReviewAiSeed] createReview failed movieId={} userId={} error={}",
+                    planned.movieId(), planned.userId(), e.getMessage());
+            return false;
         }
-        return false;
     }
 
     private Movie createPlaceholderMovie(String koficId) {
@@ -149,6 +199,11 @@ public class ReviewAiSeedService {
                 .popularity(0.0)
                 .isMatched(false)
                 .build();
-        return movieRepository.save(placeholder);
+        Movie saved = movieRepository.save(placeholder);
+        eventPublisher.publishEvent(new MoviesChangedEvent(List.of(saved.getId())));
+        return saved;
+    }
+
+    private record PlannedReview(Long movieId, Long userId, ReviewCreateDTO request) {
     }
 }
@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum BoxOfficeTrendMetric {
+
+    AUDIENCE,  // 관객수 합계
+    SALES      // 매출액 합계
+}
@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum EmotionStatus {
+    PENDING,   // 감정 분석 대기
+    COMPLETE,  // 감정 분석 완료
+    FAILED     // 감정 분석 실패 (재시도 소진)
+}
@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum PersonRole {
+
+    DIRECTOR,  // 감독
+    ACTOR      // 배우
+}
@@ -14,9 +14,10 @@ import com.insidemovie.backend.api.movie.dto.MovieDetailSimpleResDto;
 import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.common.exception.ConflictException;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.InternalServerException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
@@ -26,12 +27,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 @Slf4j
@@ -45,7 +47,7 @@ public class MatchService {
     private final VoteRepository voteRepository;
     private final MemberPolicyService memberPolicyService;
     private final Random random = new Random();
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
 
     // 대결 생성
     @Transactional
@@ -171,19 +173,14 @@ public class MatchService {
 
         // 매치 내역 조회
         List<MovieMatch> movieMatch = movieMatchRepository.findByMatchId(lastMatch.getId());
+        Map<Long, BigDecimal> ratingAvgs = movieRatingStatsService.getRatingAvgs(
+                movieMatch.stream().map(MovieMatch::getMovie).filter(Objects::nonNull).map(Movie::getId).toList());
 
         for (MovieMatch mm : movieMatch) {
             Movie movie = mm.getMovie();
             MovieEmotionSummary movieEmotion = movie.getEmotions();
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratingAvgs.getOrDefault(movie.getId(), MovieRatingStats.EMPTY_AVG);
 
             MovieEmotionResDTO emotionDto = MovieEmotionResDTO.builder()
                     .joy(movieEmotion.getJoy())
@@ -209,6 +206,8 @@ public class MatchService {
     // 역대 우승 영화 조회
     public List<WinnerHistoryDto> getWinnerHistory() {
         List<Match> matches = matchRepository.findAllByWinnerIdIsNotNullOrderByMatchNumberDesc();
+        Map<Long, BigDecimal> ratingAvgs = movieRatingStatsService.getRatingAvgs(
+                matches.stream().map(Match::getWinnerId).toList());
         List<WinnerHistoryDto> response = new ArrayList<>();
 
         for (Match match : matches) {
@@ -219,14 +218,7 @@ public class MatchService {
                 continue;
             }
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratingAvgs.getOrDefault(movie.getId(), MovieRatingStats.EMPTY_AVG);
 
             MovieDetailSimpleResDto movieDto = MovieDetailSimpleResDto.builder()
                     .id(movie.getId())
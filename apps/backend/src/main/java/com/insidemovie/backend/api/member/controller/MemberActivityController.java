@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.member.controller;
 
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
 import com.insidemovie.backend.api.movie.dto.MyMovieResponseDTO;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
@@ -32,6 +33,15 @@ public class MemberActivityController implements MemberActivityApi {
         return ResponseEntity.ok(memberActivityService.getMyReviews(currentUserIdResolver.resolve(jwt), page, pageSize));
     }
 
+    @GetMapping("/reviews/feed")
+    public ResponseEntity<CursorPageResDto<ReviewResponseDTO>> getMyReviewFeed(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(memberActivityService.getMyReviewFeed(currentUserIdResolver.resolve(jwt), cursor, size));
+    }
+
     @GetMapping("/liked-movies")
     public ResponseEntity<PageResDto<MyMovieResponseDTO>> getMyLikedMovies(
             @AuthenticationPrincipal Jwt jwt,
@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.member.docs;
 
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
 import com.insidemovie.backend.api.movie.dto.MyMovieResponseDTO;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
@@ -27,6 +28,15 @@ public interface MemberActivityApi {
             @RequestParam(defaultValue = "10") int pageSize
     );
 
+    @Operation(summary = "Get my reviews (cursor)",
+            description = "Pass nextCursor from the previous response as cursor to read the next page.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<CursorPageResDto<ReviewResponseDTO>> getMyReviewFeed(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    );
+
     @Operation(summary = "Get my liked movies")
     @ApiResponse(responseCode = "200", description = "OK")
     ResponseEntity<PageResDto<MyMovieResponseDTO>> getMyLikedMovies(
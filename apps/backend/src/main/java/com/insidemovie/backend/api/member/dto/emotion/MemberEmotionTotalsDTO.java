@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.member.dto.emotion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원이 좋아요한 영화들의 감정 요약 합계 (member_emotion_summary 재계산용)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberEmotionTotalsDTO {
+    private Long likedMovieCount;
+    private Double joySum;
+    private Double sadnessSum;
+    private Double angerSum;
+    private Double fearSum;
+    private Double disgustSum;
+}
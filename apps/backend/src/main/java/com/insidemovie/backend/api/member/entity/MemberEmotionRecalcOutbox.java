@@ -0,0 +1,42 @@
+package com.insidemovie.backend.api.member.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 요약 재계산을 기다리는 회원 (transactional outbox).
+ * 영화 감정 요약을 바꾼 트랜잭션에서 함께 기록되므로 재기동해도 남은 재계산이 사라지지 않는다.
+ * 회원당 한 행만 두고, 처리 중에 다시 요청되면 request_seq 만 올려 처리 후 한 번 더 재계산한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "member_emotion_recalc_outbox",
+        indexes = @Index(name = "idx_member_recalc_outbox_next_attempt", columnList = "next_attempt_at")
+)
+public class MemberEmotionRecalcOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_recalc_outbox_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false, unique = true)
+    private Long memberId;
+
+    // 재요청 횟수. 처리 시작 때 값과 달라졌으면 완료 후에도 행을 남긴다
+    @Column(name = "request_seq", nullable = false)
+    private int requestSeq;
+
+    // 다음 처리 가능 시각. 워커가 가져갈 때 점유 만료 시각으로 미뤄 둔다
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+}
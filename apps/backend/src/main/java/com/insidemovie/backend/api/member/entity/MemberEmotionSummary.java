@@ -2,6 +2,7 @@ package com.insidemovie.backend.api.member.entity;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.member.dto.emotion.MemberEmotionTotalsDTO;
 import com.insidemovie.backend.api.member.dto.emotion.MemberEmotionSummaryRequestDTO;
 import jakarta.persistence.*;
 import lombok.*;
@@ -35,6 +36,20 @@ public class MemberEmotionSummary {
     @Column(name = "rep_emotion_type")
     private EmotionType repEmotionType; // 대표 감정
 
+    // 좋아요 시 평균을 O(1)로 갱신하기 위한 누적값 (좋아요한 영화 감정 요약의 합)
+    @Column(name = "liked_movie_count")
+    private Long likedMovieCount;
+    @Column(name = "joy_sum")
+    private Double joySum;
+    @Column(name = "sadness_sum")
+    private Double sadnessSum;
+    @Column(name = "fear_sum")
+    private Double fearSum;
+    @Column(name = "anger_sum")
+    private Double angerSum;
+    @Column(name = "disgust_sum")
+    private Double disgustSum;
+
     public void setMember(Member member) {
         this.member = member;
     }
@@ -58,4 +73,44 @@ public class MemberEmotionSummary {
         this.disgust = dto.getDisgust();
         this.repEmotionType = rep;
     }
+
+    // 누적값 컬럼 추가 이전에 만들어진 행은 전체 재계산으로 초기화해야 한다.
+    public boolean hasTotals() {
+        return likedMovieCount != null && joySum != null && sadnessSum != null
+                && fearSum != null && angerSum != null && disgustSum != null;
+    }
+
+    public void resetTotals(MemberEmotionTotalsDTO totals) {
+        this.likedMovieCount = totals.getLikedMovieCount();
+        this.joySum = totals.getJoySum();
+        this.sadnessSum = totals.getSadnessSum();
+        this.fearSum = totals.getFearSum();
+        this.angerSum = totals.getAngerSum();
+        this.disgustSum = totals.getDisgustSum();
+    }
+
+    // 좋아요한 영화의 감정 요약을 누적값에 더한다 (취소는 resetTotals 로 다시 집계)
+    public void addLikedMovie(EmotionAvgDTO movieEmotion) {
+        this.likedMovieCount += 1;
+        this.joySum += movieEmotion.getJoy();
+        this.sadnessSum += movieEmotion.getSadness();
+        this.fearSum += movieEmotion.getFear();
+        this.angerSum += movieEmotion.getAnger();
+        this.disgustSum += movieEmotion.getDisgust();
+    }
+
+    // 누적값으로 평균 계산 (대표 감정은 호출 측에서 결정)
+    public EmotionAvgDTO averagesFromTotals() {
+        if (likedMovieCount == null || likedMovieCount <= 0) {
+            return new EmotionAvgDTO(0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        double count = likedMovieCount;
+        return new EmotionAvgDTO(
+                joySum / count,
+                sadnessSum / count,
+                angerSum / count,
+                fearSum / count,
+                disgustSum / count
+        );
+    }
 }
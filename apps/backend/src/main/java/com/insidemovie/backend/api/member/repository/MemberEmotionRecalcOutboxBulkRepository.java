@@ -0,0 +1,10 @@
+package com.insidemovie.backend.api.member.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface MemberEmotionRecalcOutboxBulkRepository {
+
+    // 회원별 재계산 요청 일괄 기록. 이미 대기 중인 회원은 request_seq 만 올린다
+    void enqueueAll(Collection<Long> memberIds, LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package com.insidemovie.backend.api.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 재계산 요청 JDBC 배치 insert. 영화 하나에 좋아요한 회원이 많아도 한 번의 배치로 기록한다.
+ */
+@RequiredArgsConstructor
+class MemberEmotionRecalcOutboxBulkRepositoryImpl implements MemberEmotionRecalcOutboxBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ENQUEUE_SQL = """
+        insert into member_emotion_recalc_outbox (member_id, request_seq, next_attempt_at, enqueued_at)
+        values (?, 0, ?, ?)
+        on duplicate key update request_seq = request_seq + 1
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void enqueueAll(Collection<Long> memberIds, LocalDateTime now) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Timestamp at = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, memberIds, BATCH_SIZE, (ps, memberId) -> {
+            ps.setLong(1, memberId);
+            ps.setTimestamp(2, at);
+            ps.setTimestamp(3, at);
+        });
+    }
+}
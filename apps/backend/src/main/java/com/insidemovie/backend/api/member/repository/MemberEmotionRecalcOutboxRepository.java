@@ -0,0 +1,43 @@
+package com.insidemovie.backend.api.member.repository;
+
+import com.insidemovie.backend.api.member.entity.MemberEmotionRecalcOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberEmotionRecalcOutboxRepository
+        extends JpaRepository<MemberEmotionRecalcOutbox, Long>, MemberEmotionRecalcOutboxBulkRepository {
+
+    // 처리 시각이 된 항목을 오래된 순으로 조회
+    @Query("SELECT o FROM MemberEmotionRecalcOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<MemberEmotionRecalcOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 점유: 아직 아무도 가져가지 않은 경우에만 다음 처리 시각을 점유 만료 시각으로 미룬다
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE MemberEmotionRecalcOutbox o
+           SET o.nextAttemptAt = :leaseUntil
+         WHERE o.id = :id
+           AND o.nextAttemptAt <= :now
+    """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처리하는 동안 다시 요청되지 않았을 때만 삭제
+    @Modifying
+    @Query("DELETE FROM MemberEmotionRecalcOutbox o WHERE o.id = :id AND o.requestSeq = :requestSeq")
+    int deleteIfUnchanged(@Param("id") Long id, @Param("requestSeq") int requestSeq);
+
+    // 처리 중 다시 요청된 항목은 점유를 풀어 바로 다시 처리되게 한다
+    @Modifying
+    @Query("UPDATE MemberEmotionRecalcOutbox o SET o.nextAttemptAt = :now WHERE o.id = :id")
+    int release(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT MIN(o.enqueuedAt) FROM MemberEmotionRecalcOutbox o")
+    Optional<LocalDateTime> findOldestEnqueuedAt();
+}
@@ -1,9 +1,13 @@
 package com.insidemovie.backend.api.member.repository;
 
+import com.insidemovie.backend.api.member.dto.emotion.MemberEmotionTotalsDTO;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +17,25 @@ public interface MemberEmotionSummaryRepository extends JpaRepository<MemberEmot
     Optional<MemberEmotionSummary> findByMemberId(Long memberId);
 
     Optional<MemberEmotionSummary> findByMember(Member member);
+
+    // 좋아요 증분 반영 / 백그라운드 재계산이 같은 행을 동시에 덮어쓰지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MemberEmotionSummary s WHERE s.memberId = :memberId")
+    Optional<MemberEmotionSummary> findForUpdateByMemberId(@Param("memberId") Long memberId);
+
+    // 회원이 좋아요한 영화들의 감정 요약 합계 (요약이 없는 영화는 0으로 계산)
+    @Query("""
+        SELECT new com.insidemovie.backend.api.member.dto.emotion.MemberEmotionTotalsDTO(
+            COUNT(ml),
+            COALESCE(SUM(COALESCE(s.joy, 0.0)), 0.0),
+            COALESCE(SUM(COALESCE(s.sadness, 0.0)), 0.0),
+            COALESCE(SUM(COALESCE(s.anger, 0.0)), 0.0),
+            COALESCE(SUM(COALESCE(s.fear, 0.0)), 0.0),
+            COALESCE(SUM(COALESCE(s.disgust, 0.0)), 0.0)
+        )
+        FROM MovieLike ml
+        LEFT JOIN MovieEmotionSummary s ON s.movieId = ml.movie.id
+        WHERE ml.member.id = :memberId
+    """)
+    MemberEmotionTotalsDTO aggregateLikedMovieTotals(@Param("memberId") Long memberId);
 }
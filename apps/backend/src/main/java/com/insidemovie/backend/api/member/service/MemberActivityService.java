@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.member.service;
 
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
 import com.insidemovie.backend.api.movie.dto.MyMovieResponseDTO;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
@@ -21,6 +22,10 @@ public class MemberActivityService {
         return reviewService.getMyReviews(userId, page, pageSize);
     }
 
+    public CursorPageResDto<ReviewResponseDTO> getMyReviewFeed(Long userId, String cursor, int size) {
+        return reviewService.getMyReviewFeed(userId, cursor, size);
+    }
+
     public PageResDto<MyMovieResponseDTO> getMyLikedMovies(Long userId, int page, int pageSize) {
         return movieLikeService.getMyMovies(userId, page, pageSize);
     }
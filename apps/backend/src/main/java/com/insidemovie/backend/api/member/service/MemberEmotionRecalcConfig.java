@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.member.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MemberEmotionRecalcProperties.class)
+public class MemberEmotionRecalcConfig {
+}
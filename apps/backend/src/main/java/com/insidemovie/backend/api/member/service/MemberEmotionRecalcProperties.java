@@ -0,0 +1,19 @@
+package com.insidemovie.backend.api.member.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.emotion-recalc")
+public class MemberEmotionRecalcProperties {
+    // 동시에 처리하는 배치 수
+    private int concurrency = 2;
+    // 한 트랜잭션에서 재계산하는 회원 수
+    private int batchSize = 100;
+    // 대기열 확인 주기
+    private long drainIntervalMs = 200;
+    // 워커가 가져간 회원을 다른 워커가 다시 가져가지 않도록 점유하는 시간. 실패한 회원은 점유가 끝나면 다시 처리된다
+    private long leaseMs = 60000;
+}
@@ -0,0 +1,202 @@
+package com.insidemovie.backend.api.member.service;
+
+import com.insidemovie.backend.api.member.entity.MemberEmotionRecalcOutbox;
+import com.insidemovie.backend.api.member.repository.MemberEmotionRecalcOutboxRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 영화 감정 요약이 바뀐 뒤 좋아요한 회원들의 감정 요약 재계산을 백그라운드로 처리하는 대기열.
+ * - 요청은 member_emotion_recalc_outbox 에 호출 트랜잭션과 함께 기록되어 재기동해도 남는다
+ * - 같은 회원이 여러 번 들어와도 한 행으로 합쳐 한 번만 처리한다
+ * - 동시에 실행되는 배치 수를 제한하고, 배치 단위로 커밋한다
+ */
+@Slf4j
+@Component
+public class MemberEmotionRecalcQueue {
+
+    private final MemberEmotionSummaryService memberEmotionSummaryService;
+    private final MemberEmotionRecalcOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberEmotionRecalcProperties properties;
+
+    private final Semaphore permits;
+    private final ExecutorService workers;
+
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+
+    public MemberEmotionRecalcQueue(
+            MemberEmotionSummaryService memberEmotionSummaryService,
+            MemberEmotionRecalcOutboxRepository outboxRepository,
+            PlatformTransactionManager transactionManager,
+            MemberEmotionRecalcProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.memberEmotionSummaryService = memberEmotionSummaryService;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        this.permits = new Semaphore(concurrency);
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "member-emotion-recalc-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("member.emotion.recalc.backlog", this, MemberEmotionRecalcQueue::backlog);
+        meterRegistry.gauge("member.emotion.recalc.oldest.age.ms", this, MemberEmotionRecalcQueue::oldestPendingAgeMs);
+        this.batchTimer = meterRegistry.timer("member.emotion.recalc.batch");
+        this.lagTimer = meterRegistry.timer("member.emotion.recalc.lag");
+        this.processedCounter = meterRegistry.counter("member.emotion.recalc.processed");
+        this.failedCounter = meterRegistry.counter("member.emotion.recalc.failed");
+    }
+
+    /**
+     * 회원 감정 요약 재계산 요청. 호출 트랜잭션 안에서 기록되므로 워커는 커밋된 요청만 읽는다.
+     */
+    public void enqueueAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        outboxRepository.enqueueAll(List.copyOf(memberIds), LocalDateTime.now());
+    }
+
+    public long backlog() {
+        return outboxRepository.count();
+    }
+
+    @Scheduled(fixedDelayString = "${member.emotion-recalc.drain-interval-ms:200}")
+    public void drain() {
+        while (permits.tryAcquire()) {
+            List<MemberEmotionRecalcOutbox> batch;
+            try {
+                batch = claimDue(Math.max(1, properties.getBatchSize()));
+            } catch (RuntimeException e) {
+                permits.release();
+                log.warn("[MemberEmotionRecalc] claim failed reason={}", e.getMessage());
+                return;
+            }
+            if (batch.isEmpty()) {
+                permits.release();
+                return;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        processBatch(batch);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 종료 중 등으로 실행 불가 시 점유 만료 후 다시 처리된다
+                permits.release();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<MemberEmotionRecalcOutbox> claimDue(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = now.plusNanos(properties.getLeaseMs() * 1_000_000L);
+            List<MemberEmotionRecalcOutbox> claimed = new ArrayList<>();
+            for (MemberEmotionRecalcOutbox outbox : outboxRepository.findDue(now, PageRequest.of(0, limit))) {
+                if (outboxRepository.claim(outbox.getId(), now, leaseUntil) == 1) {
+                    claimed.add(outbox);
+                }
+            }
+            return claimed;
+        });
+    }
+
+    private void processBatch(List<MemberEmotionRecalcOutbox> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(outbox -> lagTimer.record(Duration.between(outbox.getEnqueuedAt(), now)));
+
+        batchTimer.record(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(outbox -> {
+                    memberEmotionSummaryService.recalcMemberSummary(outbox.getMemberId());
+                    finish(outbox);
+                }));
+                processedCounter.increment(batch.size());
+            } catch (Exception e) {
+                // 배치 중 하나라도 실패하면 회원별 트랜잭션으로 다시 처리
+                log.warn("[MemberEmotionRecalc] batch failed, retrying per member size={} reason={}",
+                        batch.size(), e.getMessage());
+                batch.forEach(this::processSingle);
+            }
+        });
+    }
+
+    private void processSingle(MemberEmotionRecalcOutbox outbox) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberEmotionSummaryService.recalcMemberSummary(outbox.getMemberId());
+                finish(outbox);
+            });
+            processedCounter.increment();
+        } catch (NotFoundException e) {
+            // 탈퇴한 회원은 재계산할 요약이 없으므로 요청만 지운다 (재계산 트랜잭션은 롤백됐으므로 따로 처리)
+            log.info("[MemberEmotionRecalc] member gone, dropping memberId={}", outbox.getMemberId());
+            try {
+                transactionTemplate.executeWithoutResult(status -> finish(outbox));
+            } catch (RuntimeException dropFailure) {
+                log.warn("[MemberEmotionRecalc] drop failed memberId={} reason={}",
+                        outbox.getMemberId(), dropFailure.getMessage());
+            }
+        } catch (Exception e) {
+            // 점유가 끝나면 다시 처리된다
+            failedCounter.increment();
+            log.warn("[MemberEmotionRecalc] member recalc failed memberId={} reason={}",
+                    outbox.getMemberId(), e.getMessage());
+        }
+    }
+
+    private void finish(MemberEmotionRecalcOutbox outbox) {
+        if (outboxRepository.deleteIfUnchanged(outbox.getId(), outbox.getRequestSeq()) == 0) {
+            outboxRepository.release(outbox.getId(), LocalDateTime.now());
+        }
+    }
+
+    private double oldestPendingAgeMs() {
+        return outboxRepository.findOldestEnqueuedAt()
+                .map(enqueuedAt -> (double) Duration.between(enqueuedAt, LocalDateTime.now()).toMillis())
+                .orElse(0.0);
+    }
+}
@@ -6,19 +6,15 @@ import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
 import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
-import com.insidemovie.backend.api.movie.entity.MovieLike;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
-import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,9 +23,12 @@ public class MemberEmotionSummaryService {
 
     private final MemberRepository memberRepository;
     private final MemberEmotionSummaryRepository memberEmotionSummaryRepository;
-    private final MovieLikeRepository movieLikeRepository;
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
 
+    /**
+     * 좋아요한 영화들의 감정 요약 평균으로 회원 감정 요약을 다시 계산한다.
+     * 좋아요 수와 관계없이 집계 쿼리 한 번으로 처리한다.
+     */
     @Transactional
     public void recalcMemberSummary(Long memberId) {
         // 회원 조회
@@ -38,70 +37,67 @@ public class MemberEmotionSummaryService {
 
         // 기존 요약 or 새로 생성
         MemberEmotionSummary summary = memberEmotionSummaryRepository
-            .findByMember(member)
+            .findForUpdateByMemberId(memberId)
             .orElseGet(() -> MemberEmotionSummary.builder()
                 .member(member)
                 .build()
             );
 
-        // 좋아요한 영화들의 감정 요약을 모아서 평균내기
-        // Pageable.unpaged() 로 전체를 가져옴
-        List<EmotionAvgDTO> dtos = movieLikeRepository
-            .findByMember(member, Pageable.unpaged())
-            .getContent().stream()
-            .map(MovieLike::getMovie)
-            .map(movie -> movieEmotionSummaryRepository
-                .findByMovieId(movie.getId())
-                .map(mes -> EmotionAvgDTO.builder()
-                    .joy(mes.getJoy().doubleValue())
-                    .sadness(mes.getSadness().doubleValue())
-                    .anger(mes.getAnger().doubleValue())
-                    .fear(mes.getFear().doubleValue())
-                    .disgust(mes.getDisgust().doubleValue())
-                    .repEmotionType(mes.getDominantEmotion())
-                    .build()
-                ).orElseGet(() -> EmotionAvgDTO.builder()
-                    .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
-                    .repEmotionType(EmotionType.NONE)
-                    .build()
-                )
-            )
-            .collect(Collectors.toList());
-
-        EmotionAvgDTO aggregated = aggregateEmotionAverages(dtos);
+        // 좋아요한 영화들의 감정 요약 합계를 한 번에 조회
+        summary.resetTotals(memberEmotionSummaryRepository.aggregateLikedMovieTotals(memberId));
 
         // 요약 엔티티에 반영 후 저장
-        summary.updateFromDTO(aggregated);
+        refreshAverages(summary);
+        memberEmotionSummaryRepository.save(summary);
+    }
+
+    /**
+     * 영화 좋아요/좋아요 취소 직후 회원 감정 요약을 갱신한다.
+     * 좋아요는 해당 영화의 감정 요약만 누적값에 더한다. 취소는 좋아요 이후 영화 요약이 바뀌었을 수 있어
+     * 지금 값을 빼면 어긋나므로 집계 쿼리로 다시 계산한다. 누적값이 아직 없는 회원도 전체 재계산으로 초기화한다.
+     */
+    @Transactional
+    public void applyLikeChange(Long memberId, Long movieId, boolean liked) {
+        MemberEmotionSummary summary = memberEmotionSummaryRepository
+            .findForUpdateByMemberId(memberId)
+            .orElse(null);
+        if (!liked || summary == null || !summary.hasTotals()) {
+            recalcMemberSummary(memberId);
+            return;
+        }
+
+        EmotionAvgDTO movieEmotion = movieEmotionSummaryRepository.findByMovieId(movieId)
+            .map(MovieEmotionSummary::toEmotionAvgDTO)
+            .orElseGet(() -> new EmotionAvgDTO(0.0, 0.0, 0.0, 0.0, 0.0));
+
+        summary.addLikedMovie(movieEmotion);
+        refreshAverages(summary);
         memberEmotionSummaryRepository.save(summary);
     }
 
-    /** 좋아요한 영화들의 감정 DTO 리스트를 평균내는 헬퍼 */
-    private EmotionAvgDTO aggregateEmotionAverages(List<EmotionAvgDTO> list) {
-        if (list.isEmpty()) {
-            return EmotionAvgDTO.builder()
-                .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
-                .repEmotionType(EmotionType.NONE)
-                .build();
+    private void refreshAverages(MemberEmotionSummary summary) {
+        EmotionAvgDTO avg = summary.averagesFromTotals();
+        avg.setRepEmotionType(calculateRepEmotion(avg));
+        summary.updateFromDTO(avg);
+    }
+
+    private EmotionType calculateRepEmotion(EmotionAvgDTO dto) {
+        Map<EmotionType, Double> scores = Map.of(
+            EmotionType.JOY, dto.getJoy(),
+            EmotionType.SADNESS, dto.getSadness(),
+            EmotionType.ANGER, dto.getAnger(),
+            EmotionType.FEAR, dto.getFear(),
+            EmotionType.DISGUST, dto.getDisgust()
+        );
+
+        // 모든 값이 0.0이면 NONE
+        if (scores.values().stream().allMatch(v -> v == 0.0)) {
+            return EmotionType.NONE;
         }
-        double joy     = list.stream().mapToDouble(EmotionAvgDTO::getJoy).average().orElse(0.0);
-        double sadness = list.stream().mapToDouble(EmotionAvgDTO::getSadness).average().orElse(0.0);
-        double anger   = list.stream().mapToDouble(EmotionAvgDTO::getAnger).average().orElse(0.0);
-        double fear    = list.stream().mapToDouble(EmotionAvgDTO::getFear).average().orElse(0.0);
-        double disgust = list.stream().mapToDouble(EmotionAvgDTO::getDisgust).average().orElse(0.0);
-        EmotionType rep = Map.<EmotionType, Double>of(
-                EmotionType.JOY, joy,
-                EmotionType.SADNESS, sadness,
-                EmotionType.ANGER, anger,
-                EmotionType.FEAR, fear,
-                EmotionType.DISGUST, disgust
-            ).entrySet().stream()
-             .max(Map.Entry.comparingByValue())
-             .map(Map.Entry::getKey)
-             .orElse(EmotionType.NONE);
 
-        return EmotionAvgDTO.builder()
-            .joy(joy).sadness(sadness).anger(anger).fear(fear).disgust(disgust)
-            .repEmotionType(rep)
-            .build();
+        return scores.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse(EmotionType.NONE);
     }
-}
\ No newline at end of file
+}
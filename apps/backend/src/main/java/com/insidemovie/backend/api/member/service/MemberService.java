@@ -13,7 +13,6 @@ import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
 import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
-import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.BadRequestException;
 import com.insidemovie.backend.common.exception.BaseException;
@@ -43,7 +42,6 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final OAuthService oAuthService;
-    private final EmotionRepository emotionRepository;
     private final MemberEmotionSummaryRepository memberEmotionSummaryRepository;
     private final MovieLikeRepository movieLikeRepository;
     private final ReviewRepository reviewRepository;
@@ -300,26 +298,6 @@ public class MemberService {
             .build();
     }
 
-    private EmotionType calculateRepEmotion(EmotionAvgDTO dto) {
-        Map<EmotionType, Double> scores = Map.of(
-                EmotionType.JOY, dto.getJoy(),
-                EmotionType.SADNESS, dto.getSadness(),
-                EmotionType.ANGER,   dto.getAnger(),
-                EmotionType.FEAR,    dto.getFear(),
-                EmotionType.DISGUST, dto.getDisgust()
-        );
-
-        // 모든 값이 0.0이면 NONE
-        boolean allZero = scores.values().stream().allMatch(v -> v == 0.0);
-        if (allZero) return EmotionType.NONE;
-
-        // 최댓값 감정 리턴
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(EmotionType.NONE);
-    }
-
     @Transactional
     public MemberEmotionSummaryResponseDTO saveInitialEmotionSummary(MemberEmotionSummaryRequestDTO dto) {
         Member member = memberRepository.findById(dto.getUserId())
@@ -414,48 +392,4 @@ public class MemberService {
     private double avg(double a, double b) {
         return (a + b) / 2.0;
     }
-
-    /**
-     * 사용자가 좋아요 누른 영화들의 감정 데이터를 집계하여
-     * MemberEmotionSummary를 갱신하고 그 DTO를 반환한다.
-     */
-    @Transactional
-    public MemberEmotionSummaryResponseDTO updateEmotionSummaryByLikedMovies(Long userId) {
-        // 1) 좋아요 누른 영화 ID 목록 조회
-        List<Long> likedMovieIds = movieLikeRepository
-            .findByMember_Id(userId)
-            .stream()
-            .map(ml -> ml.getMovie().getId())
-            .toList();
-
-        // 2) 해당 영화들의 감정 평균 집계 (없으면 0.0 기본)
-        EmotionAvgDTO avg = emotionRepository
-            .findAverageEmotionsByMovieIds(likedMovieIds)
-            .orElseGet(() -> EmotionAvgDTO.builder()
-                .joy(0.0).sadness(0.0).anger(0.0)
-                .fear(0.0).disgust(0.0)
-                .repEmotionType(EmotionType.NONE)
-                .build()
-            );
-
-        // 3) 대표 감정 계산
-        EmotionType rep = calculateRepEmotion(avg);
-        avg.setRepEmotionType(rep);
-
-        // 4) MemberEmotionSummary 엔티티 조회 또는 생성
-        MemberEmotionSummary summary = memberEmotionSummaryRepository
-            .findById(userId)
-            .orElseGet(() -> {
-                MemberEmotionSummary s = MemberEmotionSummary.builder()
-                    .member(Member.builder().id(userId).build()) // member만 식별자로 설정
-                    .build();
-                return s;
-            });
-
-        // 5) DTO → 엔티티 반영 및 저장
-        summary.updateFromDTO(avg);
-        MemberEmotionSummary updated = memberEmotionSummaryRepository.save(summary);
-
-        return MemberEmotionSummaryResponseDTO.fromEntity(updated);
-    }
 }
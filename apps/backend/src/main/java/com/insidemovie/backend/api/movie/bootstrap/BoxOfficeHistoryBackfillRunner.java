@@ -0,0 +1,95 @@
+package com.insidemovie.backend.api.movie.bootstrap;
+
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeRequestDTO;
+import com.insidemovie.backend.api.movie.service.BoxOfficeHistoryBackfillReport;
+import com.insidemovie.backend.api.movie.service.BoxOfficeHistoryBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.boxoffice.history.enabled", havingValue = "true")
+@Slf4j
+public class BoxOfficeHistoryBackfillRunner implements ApplicationRunner {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Value("${movie.boxoffice.history.dry-run:false}")
+    private boolean dryRun;
+
+    @Value("${movie.boxoffice.history.from}")
+    private String from;
+
+    @Value("${movie.boxoffice.history.to}")
+    private String to;
+
+    @Value("${movie.boxoffice.history.include-daily:true}")
+    private boolean includeDaily;
+
+    @Value("${movie.boxoffice.history.include-weekly:true}")
+    private boolean includeWeekly;
+
+    @Value("${movie.boxoffice.history.item-per-page:10}")
+    private int itemPerPage;
+
+    @Value("${movie.boxoffice.history.week-gb:0}")
+    private String weekGb;
+
+    @Value("${movie.boxoffice.history.chunk-size:7}")
+    private int chunkSize;
+
+    private final BoxOfficeHistoryBackfillService boxOfficeHistoryBackfillService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            LocalDate fromDate = LocalDate.parse(from, FMT);
+            LocalDate toDate = LocalDate.parse(to, FMT);
+            if (dryRun) {
+                log.info("[BoxOfficeHistory] dryRun=true from={} to={} includeDaily={} includeWeekly={} itemPerPage={} weekGb={} chunkSize={}",
+                        fromDate, toDate, includeDaily, includeWeekly, itemPerPage, weekGb, chunkSize);
+            } else {
+                BoxOfficeRequestDTO req = BoxOfficeRequestDTO.builder()
+                        .itemPerPage(itemPerPage)
+                        .weekGb(weekGb)
+                        .build();
+                BoxOfficeHistoryBackfillReport report = boxOfficeHistoryBackfillService.backfill(
+                        fromDate, toDate, req, includeDaily, includeWeekly, chunkSize);
+                log.info("[BoxOfficeHistory] completed from={} to={} days={} skippedDays={} failedDays={} dailyRows={} weeks={} skippedWeeks={} failedWeeks={} weeklyRows={} chunks={} requests={} retries={} elapsedMs={} requestsPerSec={}",
+                        fromDate, toDate,
+                        report.getRequestedDays(),
+                        report.getSkippedDays(),
+                        report.getFailedDays(),
+                        report.getDailyRows(),
+                        report.getRequestedWeeks(),
+                        report.getSkippedWeeks(),
+                        report.getFailedWeeks(),
+                        report.getWeeklyRows(),
+                        report.getChunks(),
+                        report.getRequests(),
+                        report.getRetries(),
+                        report.getElapsedMs(),
+                        String.format("%.2f", report.getRequestsPerSecond()));
+            }
+        } catch (Exception e) {
+            exitCode = 1;
+            log.error("[BoxOfficeHistory] failed", e);
+        } finally {
+            int finalExitCode = exitCode;
+            SpringApplication.exit(context, () -> finalExitCode);
+            System.exit(finalExitCode);
+        }
+    }
+}
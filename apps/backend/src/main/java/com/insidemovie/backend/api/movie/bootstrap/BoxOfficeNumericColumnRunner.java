@@ -0,0 +1,35 @@
+package com.insidemovie.backend.api.movie.bootstrap;
+
+import com.insidemovie.backend.api.movie.service.BoxOfficeNumericBackfillReport;
+import com.insidemovie.backend.api.movie.service.BoxOfficeNumericBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 숫자 컬럼이 비어 있는 기존 박스오피스 행을 채운다.
+ * 채울 행이 없으면 조회 한 번으로 끝나며, 실패해도 기동은 계속한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.boxoffice.numeric-backfill.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BoxOfficeNumericColumnRunner implements ApplicationRunner {
+
+    private final BoxOfficeNumericBackfillService boxOfficeNumericBackfillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            BoxOfficeNumericBackfillReport report = boxOfficeNumericBackfillService.backfill();
+            log.info("[BoxOfficeNumeric] completed dailyRows={} weeklyRows={} unparsedRanks={}/{} droppedIndexes={}",
+                    report.getDailyRows(), report.getWeeklyRows(),
+                    report.getDailyUnparsedRanks(), report.getWeeklyUnparsedRanks(), report.getDroppedIndexes());
+        } catch (Exception e) {
+            log.error("[BoxOfficeNumeric] failed", e);
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class MovieMetadataBackfillRunner implements ApplicationRunner {
         int exitCode = 0;
         try {
             MovieMetadataBackfillReport report = movieMetadataBackfillService.backfill(dryRun);
-            log.info("[MovieMetadataBackfill] completed dryRun={} requested={} succeeded={} failed={} ignored={} updatedPoster={} updatedBackdrop={} updatedOverview={}",
+            log.info("[MovieMetadataBackfill] completed dryRun={} requested={} succeeded={} failed={} ignored={} updatedPoster={} updatedBackdrop={} updatedOverview={} resumedAfter={} chunks={} kobisRequests={} kmdbRequests={} elapsedMs={} moviesPerSec={} matchTiers={}",
                     dryRun,
                     report.getRequestedMovies(),
                     report.getSucceededMovies(),
@@ -37,7 +37,14 @@ public class MovieMetadataBackfillRunner implements ApplicationRunner {
                     report.getIgnoredMovies(),
                     report.getUpdatedPosterCount(),
                     report.getUpdatedBackdropCount(),
-                    report.getUpdatedOverviewCount());
+                    report.getUpdatedOverviewCount(),
+                    report.getResumedAfterMovieId(),
+                    report.getChunks(),
+                    report.getKobisRequests(),
+                    report.getKmdbRequests(),
+                    report.getElapsedMs(),
+                    String.format("%.2f", report.getMoviesPerSecond()),
+                    report.getMatchTiers());
         } catch (Exception e) {
             exitCode = 1;
             log.error("[MovieMetadataBackfill] failed", e);
@@ -0,0 +1,53 @@
+package com.insidemovie.backend.api.movie.bootstrap;
+
+import com.insidemovie.backend.api.movie.service.MoviePersonBackfillReport;
+import com.insidemovie.backend.api.movie.service.MoviePersonBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.person.backfill.enabled", havingValue = "true")
+@Slf4j
+public class MoviePersonBackfillRunner implements ApplicationRunner {
+
+    private final MoviePersonBackfillService moviePersonBackfillService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${movie.person.backfill.dry-run:false}")
+    private boolean dryRun;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            MoviePersonBackfillReport report = moviePersonBackfillService.backfill(dryRun);
+            log.info("[MoviePersonBackfill] completed dryRun={} requested={} kobis={} legacy={} failed={} ignored={} creditRows={} createdPeople={} resumedAfter={} chunks={} kobisRequests={}",
+                    dryRun,
+                    report.getRequestedMovies(),
+                    report.getKobisMovies(),
+                    report.getLegacyMovies(),
+                    report.getFailedMovies(),
+                    report.getIgnoredMovies(),
+                    report.getCreditRows(),
+                    report.getCreatedPeople(),
+                    report.getResumedAfterMovieId(),
+                    report.getChunks(),
+                    report.getKobisRequests());
+        } catch (Exception e) {
+            exitCode = 1;
+            log.error("[MoviePersonBackfill] failed", e);
+        } finally {
+            int finalExitCode = exitCode;
+            SpringApplication.exit(context, () -> finalExitCode);
+            System.exit(finalExitCode);
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class MoviePosterAuditRunner implements ApplicationRunner {
         int exitCode = 0;
         try {
             MoviePosterAuditReport report = moviePosterAuditService.auditAndBackfill(dryRun, includeDetails);
-            log.info("[MoviePosterAudit] completed dryRun={} totalMovies={} targetMissingPosterMovies={} alreadyHasPoster={} kobisNoPosterSource={} kmdbNoResult={} kmdbResultNoPoster={} matchScoreBelowThreshold={} matchedUpdated={} failed={}",
+            log.info("[MoviePosterAudit] completed dryRun={} totalMovies={} targetMissingPosterMovies={} alreadyHasPoster={} kobisNoPosterSource={} kmdbNoResult={} kmdbResultNoPoster={} matchScoreBelowThreshold={} matchedUpdated={} failed={} kmdbRequests={} matchTiers={}",
                     dryRun,
                     report.getTotalMovies(),
                     report.getTargetMissingPosterMovies(),
@@ -48,7 +48,9 @@ public class MoviePosterAuditRunner implements ApplicationRunner {
                     report.getKmdbResultNoPoster(),
                     report.getMatchScoreBelowThreshold(),
                     report.getMatchedUpdated(),
-                    report.getFailed());
+                    report.getFailed(),
+                    report.getKmdbRequests(),
+                    report.getMatchTiers());
             writeReportFile(report);
         } catch (Exception e) {
             exitCode = 1;
@@ -0,0 +1,50 @@
+package com.insidemovie.backend.api.movie.bootstrap;
+
+import com.insidemovie.backend.api.movie.service.MovieFullTextIndex;
+import com.insidemovie.backend.api.movie.service.MovieSuggestIndex;
+import com.insidemovie.backend.api.movie.service.MovieTitleIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 영화 검색용 메모리 색인을 만든다.
+ * - 제목 색인을 만들기 전이나 실패했을 때 제목 검색은 DB LIKE 검색을 쓴다
+ * - 자동완성 색인은 DB 대체 경로가 없어 만들기 전에는 빈 목록을 돌려준다
+ * - 전문 검색 색인을 만들기 전에는 제목 검색 결과를 패싯 없이 돌려준다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieSearchIndexRunner implements ApplicationRunner {
+
+    private final MovieTitleIndex movieTitleIndex;
+    private final MovieSuggestIndex movieSuggestIndex;
+    private final MovieFullTextIndex movieFullTextIndex;
+    @Value("${movie.search.title-index.enabled:true}")
+    private boolean titleIndexEnabled = true;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (titleIndexEnabled) {
+            try {
+                movieTitleIndex.rebuild();
+            } catch (Exception e) {
+                log.error("[MovieTitleIndex] build failed", e);
+            }
+        }
+        try {
+            movieSuggestIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[MovieSuggestIndex] build failed", e);
+        }
+        try {
+            movieFullTextIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[MovieFullTextIndex] build failed", e);
+        }
+    }
+}
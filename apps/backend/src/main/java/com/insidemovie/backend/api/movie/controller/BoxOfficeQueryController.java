@@ -1,13 +1,20 @@
 package com.insidemovie.backend.api.movie.controller;
 
+import com.insidemovie.backend.api.constant.BoxOfficeTrendMetric;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
 import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeMovieTrendDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeSnapshot;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTopMoviesDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.docs.BoxOfficeQueryApi;
 import com.insidemovie.backend.api.movie.service.BoxOfficeService;
+import com.insidemovie.backend.api.movie.service.BoxOfficeSnapshotService;
+import com.insidemovie.backend.api.movie.service.BoxOfficeTrendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,30 +22,24 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-
 @RestController
 @RequestMapping("/api/v1/boxoffice")
 @RequiredArgsConstructor
 @Slf4j
 public class BoxOfficeQueryController implements BoxOfficeQueryApi {
     private final BoxOfficeService boxOfficeService;
-    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService;
+    private final BoxOfficeTrendService boxOfficeTrendService;
 
     @GetMapping("/daily")
     public ResponseEntity<BoxOfficeListDTO<DailyBoxOfficeResponseDTO>> getDaily(
             @RequestParam(value = "targetDt", required = false) String targetDt,
             @RequestParam(defaultValue = "10") Integer itemPerPage
     ) {
-        String resolved = (targetDt == null || targetDt.isBlank())
-                ? LocalDate.now().minusDays(1).format(FMT)
-                : targetDt;
+        String resolved = BoxOfficeSnapshotService.resolveDailyTargetDt(targetDt);
         log.info("[Controller] resolved daily targetDt={}", resolved);
 
-        BoxOfficeListDTO<DailyBoxOfficeResponseDTO> dto =
-                boxOfficeService.getSavedDailyBoxOffice(resolved, itemPerPage);
-        return ResponseEntity.ok(dto);
+        return toResponse(boxOfficeSnapshotService.getDaily(resolved, itemPerPage));
     }
 
     @GetMapping("/daily/movies/{movieId}")
@@ -52,7 +53,7 @@ public class BoxOfficeQueryController implements BoxOfficeQueryApi {
             @RequestParam(defaultValue = "0") String weekGb,
             @RequestParam(defaultValue = "10") Integer itemPerPage
     ) {
-        return ResponseEntity.ok(boxOfficeService.getSavedWeeklyBoxOffice(targetDt, weekGb, itemPerPage));
+        return toResponse(boxOfficeSnapshotService.getWeekly(targetDt, weekGb, itemPerPage));
     }
 
     @GetMapping("/weekly/movies/{movieId}")
@@ -62,4 +63,31 @@ public class BoxOfficeQueryController implements BoxOfficeQueryApi {
     ) {
         return ResponseEntity.ok(boxOfficeService.getWeeklyMovieDetailByMovieId(movieId, weekGb));
     }
+
+    @GetMapping("/trends/top")
+    public ResponseEntity<BoxOfficeTopMoviesDTO> getTopMovies(
+            @RequestParam(value = "endDt", required = false) String endDt,
+            @RequestParam(defaultValue = "7") Integer days,
+            @RequestParam(defaultValue = "10") Integer limit,
+            @RequestParam(defaultValue = "AUDIENCE") BoxOfficeTrendMetric metric
+    ) {
+        return ResponseEntity.ok(boxOfficeTrendService.getTopMovies(endDt, days, limit, metric));
+    }
+
+    @GetMapping("/trends/movies/{movieCd}")
+    public ResponseEntity<BoxOfficeMovieTrendDTO> getMovieTrend(
+            @PathVariable String movieCd,
+            @RequestParam(value = "endDt", required = false) String endDt,
+            @RequestParam(defaultValue = "30") Integer days
+    ) {
+        return ResponseEntity.ok(boxOfficeTrendService.getMovieTrend(movieCd, endDt, days));
+    }
+
+    // If-None-Match 가 일치하면 304 로 응답된다. 평점/감정은 스냅샷 이후에도 바뀌므로 Last-Modified 는 보내지 않는다
+    private <T> ResponseEntity<BoxOfficeListDTO<T>> toResponse(BoxOfficeSnapshot<T> snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.body());
+    }
 }
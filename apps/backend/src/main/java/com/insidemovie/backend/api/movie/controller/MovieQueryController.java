@@ -3,12 +3,16 @@ package com.insidemovie.backend.api.movie.controller;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
+import com.insidemovie.backend.api.movie.dto.MovieFullTextSearchResDto;
+import com.insidemovie.backend.api.movie.dto.MoviePersonResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
+import com.insidemovie.backend.api.movie.dto.MovieSuggestResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.dto.SearchMovieWrapperDTO;
 import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
 import com.insidemovie.backend.api.movie.docs.MovieQueryApi;
 import com.insidemovie.backend.api.movie.service.MovieDetailService;
+import com.insidemovie.backend.api.movie.service.MoviePersonService;
 import com.insidemovie.backend.api.movie.service.MovieService;
 import com.insidemovie.backend.common.config.security.CurrentUserIdResolver;
 import lombok.RequiredArgsConstructor;
@@ -21,12 +25,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/movies")
 public class MovieQueryController implements MovieQueryApi {
     private final MovieService movieService;
     private final MovieDetailService movieDetailService;
+    private final MoviePersonService moviePersonService;
     private final CurrentUserIdResolver currentUserIdResolver;
 
     @GetMapping("/{id}")
@@ -50,6 +57,11 @@ public class MovieQueryController implements MovieQueryApi {
         return ResponseEntity.ok(movieService.getMovieEmotionSummary(movieId));
     }
 
+    @GetMapping("/{movieId}/people")
+    public ResponseEntity<List<MoviePersonResDto>> getMoviePeople(@PathVariable Long movieId) {
+        return ResponseEntity.ok(moviePersonService.getMoviePeople(movieId));
+    }
+
     @GetMapping("/search/title")
     public ResponseEntity<PageResDto<MovieSearchResDto>> searchByTitle(
             @RequestParam String title,
@@ -68,6 +80,24 @@ public class MovieQueryController implements MovieQueryApi {
         return ResponseEntity.ok(movieService.searchByQuery(q, page, pageSize));
     }
 
+    @GetMapping("/search/full-text")
+    public ResponseEntity<MovieFullTextSearchResDto> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(required = false) GenreType genre,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize
+    ) {
+        return ResponseEntity.ok(movieService.fullTextSearch(q, genre, page, pageSize));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MovieSuggestResDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(movieService.suggestTitles(q, limit));
+    }
+
     @GetMapping("/popular")
     public ResponseEntity<SearchMovieWrapperDTO> getPopularMovies(
             @RequestParam(defaultValue = "0") int page,
@@ -0,0 +1,35 @@
+package com.insidemovie.backend.api.movie.controller;
+
+import com.insidemovie.backend.api.movie.docs.PersonQueryApi;
+import com.insidemovie.backend.api.movie.dto.PersonFilmographyResDto;
+import com.insidemovie.backend.api.movie.dto.PersonResDto;
+import com.insidemovie.backend.api.movie.service.MoviePersonService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/people")
+public class PersonQueryController implements PersonQueryApi {
+    private final MoviePersonService moviePersonService;
+
+    @GetMapping
+    public ResponseEntity<List<PersonResDto>> searchPeople(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(moviePersonService.searchPeople(name, limit));
+    }
+
+    @GetMapping("/{personId}/movies")
+    public ResponseEntity<PersonFilmographyResDto> getFilmography(@PathVariable Long personId) {
+        return ResponseEntity.ok(moviePersonService.getFilmography(personId));
+    }
+}
@@ -1,7 +1,10 @@
 package com.insidemovie.backend.api.movie.docs;
 
+import com.insidemovie.backend.api.constant.BoxOfficeTrendMetric;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
 import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeMovieTrendDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTopMoviesDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
 import com.insidemovie.backend.common.swagger.annotation.ApiCommonErrorResponses;
@@ -41,5 +44,21 @@ public interface BoxOfficeQueryApi {
             @PathVariable Long movieId,
             @RequestParam(defaultValue = "0") String weekGb
     );
-}
 
+    @Operation(summary = "Get top movies by total audience or sales over the last N days")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<BoxOfficeTopMoviesDTO> getTopMovies(
+            @RequestParam(value = "endDt", required = false) String endDt,
+            @RequestParam(defaultValue = "7") Integer days,
+            @RequestParam(defaultValue = "10") Integer limit,
+            @RequestParam(defaultValue = "AUDIENCE") BoxOfficeTrendMetric metric
+    );
+
+    @Operation(summary = "Get daily audience/sales trend of a movie over the last N days")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<BoxOfficeMovieTrendDTO> getMovieTrend(
+            @PathVariable String movieCd,
+            @RequestParam(value = "endDt", required = false) String endDt,
+            @RequestParam(defaultValue = "30") Integer days
+    );
+}
@@ -3,7 +3,10 @@ package com.insidemovie.backend.api.movie.docs;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
+import com.insidemovie.backend.api.movie.dto.MovieFullTextSearchResDto;
+import com.insidemovie.backend.api.movie.dto.MoviePersonResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
+import com.insidemovie.backend.api.movie.dto.MovieSuggestResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.dto.SearchMovieWrapperDTO;
 import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
@@ -17,6 +20,8 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @Tag(name = "Movie Query", description = "Movie read-only query APIs")
 @ApiCommonErrorResponses
 public interface MovieQueryApi {
@@ -36,6 +41,10 @@ public interface MovieQueryApi {
     @ApiResponse(responseCode = "200", description = "OK")
     ResponseEntity<EmotionAvgDTO> getMovieEmotionSummary(@PathVariable Long movieId);
 
+    @Operation(summary = "Get movie directors and actors")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<List<MoviePersonResDto>> getMoviePeople(@PathVariable Long movieId);
+
     @Operation(summary = "Search movies by title")
     @ApiResponse(responseCode = "200", description = "OK")
     ResponseEntity<PageResDto<MovieSearchResDto>> searchByTitle(
@@ -52,6 +61,22 @@ public interface MovieQueryApi {
             @RequestParam int pageSize
     );
 
+    @Operation(summary = "Full-text search over title, overview, actors and directors with genre facets")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<MovieFullTextSearchResDto> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(required = false) GenreType genre,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize
+    );
+
+    @Operation(summary = "Suggest movie titles by prefix or Korean initial consonants")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<List<MovieSuggestResDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    );
+
     @Operation(summary = "Get popular movies")
     @ApiResponse(responseCode = "200", description = "OK")
     ResponseEntity<SearchMovieWrapperDTO> getPopularMovies(
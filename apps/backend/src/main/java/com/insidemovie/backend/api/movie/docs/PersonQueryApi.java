@@ -0,0 +1,29 @@
+package com.insidemovie.backend.api.movie.docs;
+
+import com.insidemovie.backend.api.movie.dto.PersonFilmographyResDto;
+import com.insidemovie.backend.api.movie.dto.PersonResDto;
+import com.insidemovie.backend.common.swagger.annotation.ApiCommonErrorResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@Tag(name = "Person Query", description = "Director and actor read-only query APIs")
+@ApiCommonErrorResponses
+public interface PersonQueryApi {
+
+    @Operation(summary = "Search people by name prefix")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<List<PersonResDto>> searchPeople(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "10") int limit
+    );
+
+    @Operation(summary = "Get filmography of a person")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<PersonFilmographyResDto> getFilmography(@PathVariable Long personId);
+}
@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답. 전체 개수 대신 다음 페이지 존재 여부와 다음 커서를 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResDto<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
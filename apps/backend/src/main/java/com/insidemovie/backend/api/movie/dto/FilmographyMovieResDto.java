@@ -0,0 +1,26 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import com.insidemovie.backend.api.constant.PersonRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "필모그래피 영화")
+public class FilmographyMovieResDto {
+    @Schema(description = "영화 ID")
+    private Long movieId;
+
+    @Schema(description = "영화 제목")
+    private String title;
+
+    @Schema(description = "포스터 이미지 경로")
+    private String posterPath;
+
+    @Schema(description = "개봉일 (yyyy-MM-dd)")
+    private String releaseDate;
+
+    @Schema(description = "이 영화에서의 역할")
+    private PersonRole role;
+}
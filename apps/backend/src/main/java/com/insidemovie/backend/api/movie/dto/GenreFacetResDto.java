@@ -0,0 +1,17 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import com.insidemovie.backend.api.constant.GenreType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "검색 결과 장르 패싯")
+public class GenreFacetResDto {
+    @Schema(description = "장르")
+    private GenreType genre;
+
+    @Schema(description = "검색 결과 중 이 장르 영화 수")
+    private int count;
+}
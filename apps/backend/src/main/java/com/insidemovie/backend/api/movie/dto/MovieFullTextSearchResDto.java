@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "영화 전문 검색 결과")
+public class MovieFullTextSearchResDto {
+    @Schema(description = "관련도 순 영화 목록 (장르 필터 적용)")
+    private PageResDto<MovieSearchResDto> movies;
+
+    @Schema(description = "장르 필터 적용 전 결과의 장르별 영화 수 (많은 순)")
+    private List<GenreFacetResDto> genreFacets;
+}
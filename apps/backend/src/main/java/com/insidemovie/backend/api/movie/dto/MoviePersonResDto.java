@@ -0,0 +1,20 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import com.insidemovie.backend.api.constant.PersonRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "영화 출연/연출 영화인")
+public class MoviePersonResDto {
+    @Schema(description = "영화인 ID")
+    private Long personId;
+
+    @Schema(description = "이름")
+    private String name;
+
+    @Schema(description = "역할")
+    private PersonRole role;
+}
@@ -0,0 +1,22 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "영화 제목 자동완성 항목")
+public class MovieSuggestResDto {
+    @Schema(description = "영화 ID")
+    private Long id;
+
+    @Schema(description = "영화 제목")
+    private String title;
+
+    @Schema(description = "영문 영화 제목")
+    private String titleEn;
+
+    @Schema(description = "포스터 이미지 경로")
+    private String posterPath;
+}
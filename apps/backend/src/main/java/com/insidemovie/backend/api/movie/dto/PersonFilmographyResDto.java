@@ -0,0 +1,21 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "영화인 필모그래피")
+public class PersonFilmographyResDto {
+    @Schema(description = "영화인 ID")
+    private Long personId;
+
+    @Schema(description = "이름")
+    private String name;
+
+    @Schema(description = "참여 영화 (개봉일 내림차순)")
+    private List<FilmographyMovieResDto> movies;
+}
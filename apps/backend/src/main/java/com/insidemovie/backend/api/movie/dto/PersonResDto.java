@@ -0,0 +1,19 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "영화인 검색 결과")
+public class PersonResDto {
+    @Schema(description = "영화인 ID")
+    private Long id;
+
+    @Schema(description = "이름")
+    private String name;
+
+    @Schema(description = "참여한 영화 수")
+    private long movieCount;
+}
@@ -1,13 +1,18 @@
 package com.insidemovie.backend.api.movie.dto.boxoffice;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 // 박스오피스 항목의 공통 속성
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Schema(description = "박스오피스 공통 항목")
 public class BaseBoxOfficeItemDTO {
     @Schema(description = "내부 박스오피스 항목 ID")
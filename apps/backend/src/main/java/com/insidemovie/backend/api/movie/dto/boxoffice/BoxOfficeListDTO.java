@@ -1,14 +1,19 @@
 package com.insidemovie.backend.api.movie.dto.boxoffice;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 // 일간/주간 공통 박스오피스 리스트 래퍼
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)  // 박스오피스 스냅샷 역직렬화용
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class BoxOfficeListDTO<T> {
     private String boxofficeType;
     private String targetDt;
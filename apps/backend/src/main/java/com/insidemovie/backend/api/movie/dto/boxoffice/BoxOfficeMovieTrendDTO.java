@@ -0,0 +1,36 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "영화별 일간 박스오피스 추이")
+public class BoxOfficeMovieTrendDTO {
+    @Schema(description = "KOBIS 영화 코드")
+    private String movieCd;
+
+    @Schema(description = "내부 영화 ID (매핑 전이면 null)")
+    private Long movieId;
+
+    @Schema(description = "영화 제목")
+    private String movieNm;
+
+    @Schema(description = "조회 시작일 (yyyyMMdd)")
+    private String from;
+
+    @Schema(description = "조회 종료일 (yyyyMMdd)")
+    private String to;
+
+    @Schema(description = "기간 관객수 합계")
+    private long totalAudience;
+
+    @Schema(description = "기간 매출액 합계")
+    private long totalSales;
+
+    @Schema(description = "일자별 값 (박스오피스 순위권 밖인 날은 없음)")
+    private List<BoxOfficeTrendPointDTO> points;
+}
@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+/**
+ * 박스오피스 응답 본문과 ETag. etag 는 평점/감정을 현재 값으로 덮어쓴 최종 본문의 해시다.
+ */
+public record BoxOfficeSnapshot<T>(BoxOfficeListDTO<T> body, String etag) {
+}
@@ -0,0 +1,34 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "기간 박스오피스 상위 영화")
+public class BoxOfficeTopMovieDTO {
+    @Schema(description = "기간 순위 (동률은 같은 순위)")
+    private int rank;
+
+    @Schema(description = "KOBIS 영화 코드")
+    private String movieCd;
+
+    @Schema(description = "내부 영화 ID (매핑 전이면 null)")
+    private Long movieId;
+
+    @Schema(description = "영화 제목")
+    private String movieNm;
+
+    @Schema(description = "기간 관객수 합계")
+    private long audience;
+
+    @Schema(description = "기간 매출액 합계")
+    private long sales;
+
+    @Schema(description = "기간 중 일간 박스오피스에 오른 일수")
+    private int daysOnChart;
+
+    @Schema(description = "기간 중 최고 일간 순위")
+    private Integer bestRank;
+}
@@ -0,0 +1,24 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import com.insidemovie.backend.api.constant.BoxOfficeTrendMetric;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "기간 박스오피스 상위 N")
+public class BoxOfficeTopMoviesDTO {
+    @Schema(description = "조회 시작일 (yyyyMMdd)")
+    private String from;
+
+    @Schema(description = "조회 종료일 (yyyyMMdd)")
+    private String to;
+
+    @Schema(description = "정렬 기준")
+    private BoxOfficeTrendMetric metric;
+
+    private List<BoxOfficeTopMovieDTO> items;
+}
@@ -0,0 +1,28 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "일자별 박스오피스 추이 값")
+public class BoxOfficeTrendPointDTO {
+    @Schema(description = "기준 일자 (yyyyMMdd)")
+    private String targetDt;
+
+    @Schema(description = "순위")
+    private Integer rank;
+
+    @Schema(description = "해당일 관객수")
+    private Long audiCnt;
+
+    @Schema(description = "해당일 매출액")
+    private Long salesAmt;
+
+    @Schema(description = "누적 관객수")
+    private Long audiAcc;
+
+    @Schema(description = "최근 7개 기록 관객수 이동 평균")
+    private Double audiCntAvg7;
+}
@@ -3,12 +3,17 @@ package com.insidemovie.backend.api.movie.dto.boxoffice;
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 // 주간 박스오피스 응답 DTO
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Schema(description = "주간 박스오피스 응답")
 public class WeeklyBoxOfficeResponseDTO {
     @Schema(description = "내부 영화 ID")
@@ -0,0 +1,19 @@
+package com.insidemovie.backend.api.movie.dto.emotion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영화별 감정 합계 (movie_emotion_summary 재구성용)
+ */
+@Getter
+@AllArgsConstructor
+public class MovieEmotionTotalsDTO {
+    private Long movieId;
+    private Long reviewCount;
+    private Double joySum;
+    private Double sadnessSum;
+    private Double angerSum;
+    private Double fearSum;
+    private Double disgustSum;
+}
@@ -0,0 +1,36 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * KOBIS 영화 상세(searchMovieInfo) 응답 캐시. 장르/메타데이터/포스터 백필이 같은 영화를
+ * 여러 번 조회하지 않도록 파싱 결과를 JSON 으로 보관한다. 저장은 native upsert 로만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "kobis_movie_info_cache",
+    uniqueConstraints = @UniqueConstraint(name = "uk_kobis_movie_info_cache_movie_cd", columnNames = "movie_cd")
+)
+public class KobisMovieInfoCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "movie_cd", nullable = false, length = 20)
+    private String movieCd;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
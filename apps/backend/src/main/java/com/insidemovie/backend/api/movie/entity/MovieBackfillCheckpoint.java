@@ -0,0 +1,52 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영화 단위 백필 작업의 진행 커서. 청크를 커밋할 때마다 마지막으로 처리한 movie_id 를 남겨
+ * 중단된 작업을 다시 실행하면 그 다음 영화부터 이어서 처리한다. 작업이 끝나면 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "movie_backfill_checkpoint",
+    uniqueConstraints = @UniqueConstraint(name = "uk_movie_backfill_checkpoint_job", columnNames = "job")
+)
+public class MovieBackfillCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job", nullable = false, length = 40)
+    private String job;
+
+    @Column(name = "last_movie_id", nullable = false)
+    private Long lastMovieId;
+
+    @Column(name = "processed_movies", nullable = false)
+    private int processedMovies;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static MovieBackfillCheckpoint of(String job) {
+        MovieBackfillCheckpoint checkpoint = new MovieBackfillCheckpoint();
+        checkpoint.job = job;
+        checkpoint.lastMovieId = 0L;
+        checkpoint.updatedAt = LocalDateTime.now();
+        return checkpoint;
+    }
+
+    public void advance(Long lastMovieId, int processed) {
+        this.lastMovieId = lastMovieId;
+        this.processedMovies += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
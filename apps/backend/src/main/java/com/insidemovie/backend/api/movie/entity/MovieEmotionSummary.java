@@ -2,6 +2,8 @@ package com.insidemovie.backend.api.movie.entity;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO;
+import com.insidemovie.backend.api.review.entity.Emotion;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -31,6 +33,20 @@ public class MovieEmotionSummary {
     @Column(name = "dominant_emotion", length = 20)
     private EmotionType dominantEmotion; // 대표 감정
 
+    // 리뷰 작성/수정/삭제 시 평균을 O(1)로 갱신하기 위한 누적값
+    @Column(name = "review_count")
+    private Long reviewCount;
+    @Column(name = "joy_sum")
+    private Double joySum;
+    @Column(name = "sadness_sum")
+    private Double sadnessSum;
+    @Column(name = "fear_sum")
+    private Double fearSum;
+    @Column(name = "anger_sum")
+    private Double angerSum;
+    @Column(name = "disgust_sum")
+    private Double disgustSum;
+
     public void updateFromDTO(EmotionAvgDTO dto) {
         this.joy = dto.getJoy().floatValue();
         this.sadness = dto.getSadness().floatValue();
@@ -39,4 +55,74 @@ public class MovieEmotionSummary {
         this.disgust = dto.getDisgust().floatValue();
         this.dominantEmotion = dto.getRepEmotionType();
     }
+
+    // 누적값 컬럼 추가 이전에 만들어진 행은 전체 재계산으로 초기화해야 한다.
+    public boolean hasTotals() {
+        return reviewCount != null && joySum != null && sadnessSum != null
+                && fearSum != null && angerSum != null && disgustSum != null;
+    }
+
+    public void resetTotals(MovieEmotionTotalsDTO totals) {
+        this.reviewCount = totals.getReviewCount();
+        this.joySum = totals.getJoySum();
+        this.sadnessSum = totals.getSadnessSum();
+        this.fearSum = totals.getFearSum();
+        this.angerSum = totals.getAngerSum();
+        this.disgustSum = totals.getDisgustSum();
+    }
+
+    // 제거된 감정은 빼고, 추가된 감정은 더한다 (null 이면 무시)
+    public void applyDelta(Emotion removed, Emotion added) {
+        if (removed != null) {
+            this.reviewCount -= 1;
+            this.joySum -= removed.getJoy();
+            this.sadnessSum -= removed.getSadness();
+            this.fearSum -= removed.getFear();
+            this.angerSum -= removed.getAnger();
+            this.disgustSum -= removed.getDisgust();
+        }
+        if (added != null) {
+            this.reviewCount += 1;
+            this.joySum += added.getJoy();
+            this.sadnessSum += added.getSadness();
+            this.fearSum += added.getFear();
+            this.angerSum += added.getAnger();
+            this.disgustSum += added.getDisgust();
+        }
+        if (this.reviewCount <= 0) {
+            // 부동소수 오차 누적 방지
+            this.reviewCount = 0L;
+            this.joySum = 0.0;
+            this.sadnessSum = 0.0;
+            this.fearSum = 0.0;
+            this.angerSum = 0.0;
+            this.disgustSum = 0.0;
+        }
+    }
+
+    // 누적값으로 평균 계산 (대표 감정은 호출 측에서 결정)
+    public EmotionAvgDTO averagesFromTotals() {
+        if (reviewCount == null || reviewCount <= 0) {
+            return new EmotionAvgDTO(0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        double count = reviewCount;
+        return new EmotionAvgDTO(
+                joySum / count,
+                sadnessSum / count,
+                angerSum / count,
+                fearSum / count,
+                disgustSum / count
+        );
+    }
+
+    public EmotionAvgDTO toEmotionAvgDTO() {
+        return EmotionAvgDTO.builder()
+                .joy(joy == null ? 0.0 : joy.doubleValue())
+                .sadness(sadness == null ? 0.0 : sadness.doubleValue())
+                .anger(anger == null ? 0.0 : anger.doubleValue())
+                .fear(fear == null ? 0.0 : fear.doubleValue())
+                .disgust(disgust == null ? 0.0 : disgust.doubleValue())
+                .repEmotionType(dominantEmotion == null ? EmotionType.NONE : dominantEmotion)
+                .build();
+    }
 }
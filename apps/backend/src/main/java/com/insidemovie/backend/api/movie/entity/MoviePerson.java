@@ -0,0 +1,63 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import com.insidemovie.backend.api.constant.PersonRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영화-영화인 연결. creditOrder 는 KOBIS 응답의 나열 순서다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "movie_person",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_movie_person_movie_person_role",
+        columnNames = {"movie_id", "person_id", "role"}
+    ),
+    indexes = @Index(name = "idx_movie_person_person", columnList = "person_id")
+)
+public class MoviePerson {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movie_person_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "movie_id", nullable = false)
+    private Movie movie;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "person_id", nullable = false)
+    private Person person;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false, length = 20)
+    private PersonRole role;
+
+    @Column(name = "credit_order", nullable = false)
+    private int creditOrder;
+
+    private MoviePerson(Long id, Movie movie, Person person, PersonRole role, int creditOrder) {
+        this.id = id;
+        this.movie = movie;
+        this.person = person;
+        this.role = role;
+        this.creditOrder = creditOrder;
+    }
+
+    public static MoviePerson of(Movie movie, Person person, PersonRole role, int creditOrder) {
+        return MoviePerson.builder()
+                .movie(movie)
+                .person(person)
+                .role(role)
+                .creditOrder(creditOrder)
+                .build();
+    }
+}
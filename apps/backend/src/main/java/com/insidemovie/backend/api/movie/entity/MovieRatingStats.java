@@ -0,0 +1,78 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 영화별 리뷰 평점 통계. 리뷰 작성/수정/삭제 시 누적값을 증분 갱신해
+ * 조회 시 AVG(rating) 집계를 하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "movie_rating_stats")
+public class MovieRatingStats {
+
+    public static final BigDecimal EMPTY_AVG = BigDecimal.ZERO.setScale(2);
+
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;  // Movie의 PK와 일치
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    @Column(name = "rating_avg", nullable = false, precision = 3, scale = 2)
+    private BigDecimal ratingAvg;  // 소수점 둘째 자리 반올림
+
+    public static MovieRatingStats empty(Long movieId) {
+        MovieRatingStats stats = new MovieRatingStats();
+        stats.movieId = movieId;
+        stats.reset(0L, 0.0);
+        return stats;
+    }
+
+    public void reset(long reviewCount, double ratingSum) {
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+        refreshAvg();
+    }
+
+    // 제거된 평점은 빼고, 추가된 평점은 더한다 (null 이면 무시)
+    public void applyDelta(Double removed, Double added) {
+        if (removed != null) {
+            this.reviewCount -= 1;
+            this.ratingSum -= removed;
+        }
+        if (added != null) {
+            this.reviewCount += 1;
+            this.ratingSum += added;
+        }
+        if (this.reviewCount <= 0) {
+            this.reviewCount = 0L;
+            this.ratingSum = 0.0;
+        }
+        refreshAvg();
+    }
+
+    // insertIfAbsent 로 막 만든 행. 잠근 뒤 리뷰 테이블 기준으로 채워야 한다
+    public boolean isUncomputed() {
+        return reviewCount < 0;
+    }
+
+    public boolean matches(long reviewCount, double ratingSum) {
+        return this.reviewCount == reviewCount && Math.abs(this.ratingSum - ratingSum) < 1e-6;
+    }
+
+    private void refreshAvg() {
+        this.ratingAvg = reviewCount <= 0
+                ? EMPTY_AVG
+                : BigDecimal.valueOf(ratingSum / reviewCount).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,63 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 영화인(감독/배우). KOBIS 영화 상세가 이름만 주므로 이름을 자연 키로 쓴다.
+ * MySQL 기본 콜레이션(대소문자/악센트 무시)에서 같게 비교되는 이름이 따로 들어가지 않도록
+ * 유니크 키는 name 이 아니라 정규화한 nameKey 에 둔다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "person",
+    uniqueConstraints = @UniqueConstraint(name = "uk_person_name_key", columnNames = "name_key")
+)
+public class Person {
+
+    public static final int NAME_MAX_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "person_id")
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = NAME_MAX_LENGTH)
+    private String name;
+
+    @Column(name = "name_key", nullable = false, length = NAME_MAX_LENGTH)
+    private String nameKey;
+
+    private Person(Long id, String name, String nameKey) {
+        this.id = id;
+        this.name = name;
+        this.nameKey = nameKey;
+    }
+
+    public static Person of(String name) {
+        return Person.builder()
+                .name(name)
+                .nameKey(keyOf(name))
+                .build();
+    }
+
+    /**
+     * 호환 분해 후 결합 문자(악센트)를 빼고 소문자로 바꾼다. 한글 음절은 다시 결합되어 그대로 남는다.
+     */
+    public static String keyOf(String name) {
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFKD).replaceAll("\\p{M}+", "");
+        String key = Normalizer.normalize(decomposed, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ");
+        return key.length() > NAME_MAX_LENGTH ? key.substring(0, NAME_MAX_LENGTH) : key;
+    }
+}
@@ -0,0 +1,54 @@
+package com.insidemovie.backend.api.movie.entity.boxoffice;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과거 구간 백필 진행 기록. 끝난 기간(일간: yyyyMMdd:itemPerPage, 주간: yearWeekTime:weekGb:itemPerPage)별로
+ * 저장이 끝났음을 남겨 중단된 백필을 다시 실행하면 남은 기간만 받는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "box_office_ingest_checkpoint",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_boxoffice_checkpoint_period",
+        columnNames = {"kind", "period_key"}
+    )
+)
+public class BoxOfficeIngestCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "kind", nullable = false, length = 10)
+    private String kind;  // DAILY / WEEKLY
+
+    @Column(name = "period_key", nullable = false, length = 16)
+    private String periodKey;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public static BoxOfficeIngestCheckpoint of(String kind, String periodKey, int rowCount) {
+        BoxOfficeIngestCheckpoint checkpoint = new BoxOfficeIngestCheckpoint();
+        checkpoint.kind = kind;
+        checkpoint.periodKey = periodKey;
+        checkpoint.complete(rowCount);
+        return checkpoint;
+    }
+
+    public void complete(int rowCount) {
+        this.rowCount = rowCount;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.insidemovie.backend.api.movie.entity.boxoffice;
+
+/**
+ * KOBIS 문자열 수치("1,234", "", "-") 를 숫자 컬럼 값으로 변환. 숫자가 아니면 null.
+ */
+public final class BoxOfficeNumbers {
+
+    // 순위를 숫자로 바꾸지 못한 행의 movie_rank_num. null 대신 최대값을 넣어 order by movie_rank_num 만으로 맨 뒤에 오게 한다
+    public static final int UNPARSED_RANK = Integer.MAX_VALUE;
+
+    private BoxOfficeNumbers() {
+    }
+
+    public static Long toLong(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String digits = raw.replace(",", "").strip();
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static Integer toInt(String raw) {
+        Long value = toLong(raw);
+        return (value == null || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) ? null : value.intValue();
+    }
+
+    public static int toRank(String raw) {
+        Integer rank = toInt(raw);
+        return rank == null ? UNPARSED_RANK : rank;
+    }
+}
@@ -16,7 +16,7 @@ import java.time.LocalDate;
         )
     },
     indexes = {
-        @Index(name = "idx_daily_target_rank", columnList = "target_date, movie_rank"),
+        @Index(name = "idx_daily_target_rank_num", columnList = "target_date, movie_rank_num"),
         @Index(name = "idx_daily_movie_cd", columnList = "movie_cd")
     }
 )
@@ -65,6 +65,34 @@ public class DailyBoxOfficeEntity {
     private String scrnCnt;
     private String showCnt;
 
+    // 정렬/집계용 숫자 컬럼. 문자열 컬럼에서 파생 (BoxOfficeNumbers)
+    @Column(name = "movie_rank_num")
+    private Integer movieRankNum;
+    @Column(name = "audi_cnt_num")
+    private Long audiCntNum;
+    @Column(name = "audi_acc_num")
+    private Long audiAccNum;
+    @Column(name = "sales_amt_num")
+    private Long salesAmtNum;
+    @Column(name = "sales_acc_num")
+    private Long salesAccNum;
+    @Column(name = "scrn_cnt_num")
+    private Integer scrnCntNum;
+    @Column(name = "show_cnt_num")
+    private Integer showCntNum;
+
+    @PrePersist
+    @PreUpdate
+    public void syncNumericColumns() {
+        this.movieRankNum = BoxOfficeNumbers.toRank(movieRank);
+        this.audiCntNum   = BoxOfficeNumbers.toLong(audiCnt);
+        this.audiAccNum   = BoxOfficeNumbers.toLong(audiAcc);
+        this.salesAmtNum  = BoxOfficeNumbers.toLong(salesAmt);
+        this.salesAccNum  = BoxOfficeNumbers.toLong(salesAcc);
+        this.scrnCntNum   = BoxOfficeNumbers.toInt(scrnCnt);
+        this.showCntNum   = BoxOfficeNumbers.toInt(showCnt);
+    }
+
     /** 기존 행을 새 API 데이터로 갱신 (변하지 않는 key 컬럼 제외) */
     public void updateFrom(DailyBoxOfficeEntity other) {
         this.rnum          = other.rnum;
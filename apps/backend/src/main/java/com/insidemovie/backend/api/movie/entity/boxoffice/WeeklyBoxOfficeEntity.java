@@ -14,7 +14,7 @@ import lombok.*;
         )
     },
     indexes = {
-        @Index(name = "idx_weekly_yearweek_rank", columnList = "year_week_time, movie_rank"),
+        @Index(name = "idx_weekly_yearweek_rank_num", columnList = "year_week_time, movie_rank_num"),
         @Index(name = "idx_weekly_movie_cd", columnList = "movie_cd")
     }
 )
@@ -61,6 +61,34 @@ public class WeeklyBoxOfficeEntity {
     private String scrnCnt;
     private String showCnt;
 
+    // 정렬/집계용 숫자 컬럼. 문자열 컬럼에서 파생 (BoxOfficeNumbers)
+    @Column(name = "movie_rank_num")
+    private Integer movieRankNum;
+    @Column(name = "audi_cnt_num")
+    private Long audiCntNum;
+    @Column(name = "audi_acc_num")
+    private Long audiAccNum;
+    @Column(name = "sales_amt_num")
+    private Long salesAmtNum;
+    @Column(name = "sales_acc_num")
+    private Long salesAccNum;
+    @Column(name = "scrn_cnt_num")
+    private Integer scrnCntNum;
+    @Column(name = "show_cnt_num")
+    private Integer showCntNum;
+
+    @PrePersist
+    @PreUpdate
+    public void syncNumericColumns() {
+        this.movieRankNum = BoxOfficeNumbers.toRank(movieRank);
+        this.audiCntNum   = BoxOfficeNumbers.toLong(audiCnt);
+        this.audiAccNum   = BoxOfficeNumbers.toLong(audiAcc);
+        this.salesAmtNum  = BoxOfficeNumbers.toLong(salesAmt);
+        this.salesAccNum  = BoxOfficeNumbers.toLong(salesAcc);
+        this.scrnCntNum   = BoxOfficeNumbers.toInt(scrnCnt);
+        this.showCntNum   = BoxOfficeNumbers.toInt(showCnt);
+    }
+
     public void updateFrom(WeeklyBoxOfficeEntity other) {
         this.rnum          = other.rnum;
         this.movieRank     = other.movieRank;
@@ -0,0 +1,41 @@
+package com.insidemovie.backend.api.movie.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 호출 간격을 초당 요청 수 이하로 맞추는 단순 제한기.
+ * 여러 스레드가 공유하며, 호출 순서대로 다음 허용 시각을 하나씩 예약한다 (버스트 없음).
+ */
+public class RequestRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong acquired = new AtomicLong();
+    private long nextFreeAt;
+
+    public RequestRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        this.nextFreeAt = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        acquired.incrementAndGet();
+        if (intervalNanos == 0L) {
+            return;
+        }
+        long reservedAt;
+        synchronized (this) {
+            reservedAt = Math.max(System.nanoTime(), nextFreeAt);
+            nextFreeAt = reservedAt + intervalNanos;
+        }
+        long waitNanos = reservedAt - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 지금까지 허용한 요청 수
+    public long acquiredCount() {
+        return acquired.get();
+    }
+}
@@ -0,0 +1,109 @@
+package com.insidemovie.backend.api.movie.infrastructure.kobis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.movie.entity.KobisMovieInfoCacheEntry;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.KobisMovieInfoCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * KOBIS 영화 상세 조회 앞단의 DB 캐시 (kobis_movie_info_cache).
+ * - ttl-days 안에 받은 결과가 있으면 KOBIS 를 호출하지 않는다
+ * - 조회에 실패하거나 결과가 없으면 저장하지 않아 다음에 다시 호출한다
+ */
+@Slf4j
+@Component
+public class KobisMovieInfoCache {
+
+    private final KobisMovieInfoClient kobisMovieInfoClient;
+    private final KobisMovieInfoCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlDays;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public KobisMovieInfoCache(
+            KobisMovieInfoClient kobisMovieInfoClient,
+            KobisMovieInfoCacheRepository cacheRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${movie.kobis.movie-info-cache.enabled:true}") boolean enabled,
+            @Value("${movie.kobis.movie-info-cache.ttl-days:30}") long ttlDays
+    ) {
+        this.kobisMovieInfoClient = kobisMovieInfoClient;
+        this.cacheRepository = cacheRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlDays = ttlDays;
+        this.hitCounter = meterRegistry.counter("kobis.movieinfo.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("kobis.movieinfo.cache", "result", "miss");
+    }
+
+    public Optional<KobisMovieInfo> fetchMovieInfo(String movieCd) {
+        try {
+            return fetchMovieInfo(movieCd, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("KOBIS movieInfo lookup interrupted", e);
+        }
+    }
+
+    /**
+     * @param limiter 캐시에 없어 KOBIS 를 호출할 때만 먼저 통과할 요청 제한기 (없으면 null)
+     */
+    public Optional<KobisMovieInfo> fetchMovieInfo(String movieCd, RequestRateLimiter limiter) throws InterruptedException {
+        if (!enabled || movieCd == null || movieCd.isBlank()) {
+            return callKobis(movieCd, limiter);
+        }
+
+        Optional<KobisMovieInfo> cached = read(movieCd);
+        if (cached.isPresent()) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        Optional<KobisMovieInfo> fetched = callKobis(movieCd, limiter);
+        fetched.ifPresent(info -> write(movieCd, info));
+        return fetched;
+    }
+
+    private Optional<KobisMovieInfo> callKobis(String movieCd, RequestRateLimiter limiter) throws InterruptedException {
+        if (limiter != null) {
+            limiter.acquire();
+        }
+        return kobisMovieInfoClient.fetchMovieInfo(movieCd);
+    }
+
+    private Optional<KobisMovieInfo> read(String movieCd) {
+        try {
+            Optional<KobisMovieInfoCacheEntry> entry = cacheRepository.findByMovieCd(movieCd);
+            if (entry.isEmpty() || entry.get().getFetchedAt().isBefore(LocalDateTime.now().minusDays(ttlDays))) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(entry.get().getPayload(), KobisMovieInfo.class));
+        } catch (Exception e) {
+            log.debug("KOBIS movieInfo cache read failed movieCd={} error={}", movieCd, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(String movieCd, KobisMovieInfo info) {
+        try {
+            cacheRepository.upsert(movieCd, objectMapper.writeValueAsString(info), LocalDateTime.now());
+        } catch (Exception e) {
+            // 캐시 저장 실패는 조회 결과에 영향을 주지 않는다 (upsert 는 별도 트랜잭션)
+            log.warn("KOBIS movieInfo cache write failed movieCd={} error={}", movieCd, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeIngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoxOfficeIngestCheckpointRepository extends JpaRepository<BoxOfficeIngestCheckpoint, Long> {
+
+    List<BoxOfficeIngestCheckpoint> findByKindAndPeriodKeyIn(String kind, Collection<String> periodKeys);
+}
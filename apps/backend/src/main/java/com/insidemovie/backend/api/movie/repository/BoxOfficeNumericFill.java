@@ -0,0 +1,68 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeNumbers;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 숫자 컬럼이 비어 있는 기존 박스오피스 행을 문자열 컬럼에서 채운다 (일간/주간 공통).
+ * id 순으로 limit 건씩 읽어 배치 update 하며, 다음 호출은 반환된 lastId 이후부터 읽는다.
+ * 순위가 숫자가 아닌 행은 movie_rank_num 에 UNPARSED_RANK 를 넣으므로 다시 읽지 않는다.
+ *
+ * @param unparsedRanks 이번 배치에서 순위를 숫자로 바꾸지 못한 행 수
+ */
+public record BoxOfficeNumericFill(int rows, long lastId, int unparsedRanks) {
+
+    static BoxOfficeNumericFill fill(JdbcTemplate jdbcTemplate, String table, long afterId, int limit) {
+        List<Object[]> rows = jdbcTemplate.query(
+                "select id, movie_rank, audi_cnt, audi_acc, sales_amt, sales_acc, scrn_cnt, show_cnt"
+                        + " from " + table
+                        + " where id > ? and movie_rank_num is null"
+                        + " order by id limit ?",
+                (rs, rowNum) -> new Object[]{
+                        rs.getLong("id"),
+                        BoxOfficeNumbers.toRank(rs.getString("movie_rank")),
+                        BoxOfficeNumbers.toLong(rs.getString("audi_cnt")),
+                        BoxOfficeNumbers.toLong(rs.getString("audi_acc")),
+                        BoxOfficeNumbers.toLong(rs.getString("sales_amt")),
+                        BoxOfficeNumbers.toLong(rs.getString("sales_acc")),
+                        BoxOfficeNumbers.toInt(rs.getString("scrn_cnt")),
+                        BoxOfficeNumbers.toInt(rs.getString("show_cnt"))
+                },
+                afterId, limit);
+        if (rows.isEmpty()) {
+            return new BoxOfficeNumericFill(0, afterId, 0);
+        }
+
+        jdbcTemplate.batchUpdate(
+                "update " + table + " set movie_rank_num = ?, audi_cnt_num = ?, audi_acc_num = ?, sales_amt_num = ?,"
+                        + " sales_acc_num = ?, scrn_cnt_num = ?, show_cnt_num = ? where id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setObject(1, row[1], Types.INTEGER);
+                    ps.setObject(2, row[2], Types.BIGINT);
+                    ps.setObject(3, row[3], Types.BIGINT);
+                    ps.setObject(4, row[4], Types.BIGINT);
+                    ps.setObject(5, row[5], Types.BIGINT);
+                    ps.setObject(6, row[6], Types.INTEGER);
+                    ps.setObject(7, row[7], Types.INTEGER);
+                    ps.setLong(8, (Long) row[0]);
+                });
+        int unparsedRanks = (int) rows.stream().filter(row -> (Integer) row[1] == BoxOfficeNumbers.UNPARSED_RANK).count();
+        return new BoxOfficeNumericFill(rows.size(), (Long) rows.get(rows.size() - 1)[0], unparsedRanks);
+    }
+
+    // MySQL 은 DROP INDEX IF EXISTS 가 없어 information_schema 로 먼저 확인한다
+    static boolean dropIndexIfExists(JdbcTemplate jdbcTemplate, String table, String index) {
+        Integer found = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics"
+                        + " where table_schema = database() and table_name = ? and index_name = ?",
+                Integer.class, table, index);
+        if (found == null || found == 0) {
+            return false;
+        }
+        jdbcTemplate.execute("alter table " + table + " drop index " + index);
+        return true;
+    }
+}
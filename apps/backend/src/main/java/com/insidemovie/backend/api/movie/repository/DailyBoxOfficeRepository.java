@@ -8,7 +8,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface DailyBoxOfficeRepository extends JpaRepository<DailyBoxOfficeEntity, Long> {
+public interface DailyBoxOfficeRepository
+        extends JpaRepository<DailyBoxOfficeEntity, Long>, DailyBoxOfficeBulkRepository {
 
     Optional<DailyBoxOfficeEntity> findByTargetDateAndMovieCd(LocalDate targetDate, String movieCd);
 
@@ -17,12 +18,12 @@ public interface DailyBoxOfficeRepository extends JpaRepository<DailyBoxOfficeEn
     @Query("select max(d.targetDate) from DailyBoxOfficeEntity d")
     Optional<LocalDate> findLatestTargetDate();
 
-    // (1) 특정 날짜 정렬 (movie_rank 가 varchar 이므로 cast)
+    // (1) 특정 날짜 정렬 (idx_daily_target_rank_num 순서 그대로 읽음. 순위 없는 행은 UNPARSED_RANK 라 맨 뒤)
     @Query(value = """
         select * 
         from daily_box_office
         where target_date = :targetDate
-        order by cast(movie_rank as unsigned)
+        order by movie_rank_num, id
         """, nativeQuery = true)
     List<DailyBoxOfficeEntity> findAllSortedByTargetDate(@Param("targetDate") LocalDate targetDate);
 
@@ -31,7 +32,43 @@ public interface DailyBoxOfficeRepository extends JpaRepository<DailyBoxOfficeEn
         select * 
         from daily_box_office
         where target_date = (select max(target_date) from daily_box_office)
-        order by cast(movie_rank as unsigned)
+        order by movie_rank_num, id
         """, nativeQuery = true)
     List<DailyBoxOfficeEntity> findLatestSorted();
+
+    // (3) 기간 내 영화별 합계 상위 N. 반환: [movie_cd, movie_name, audience, sales, days, best_rank, rnk]
+    // best_rank / movie_rank_num 은 UNPARSED_RANK(2147483647) 를 null 로 돌려 응답에 그대로 노출하지 않는다
+    @Query(value = """
+        select movie_cd, max(movie_name), sum(audi_cnt_num), sum(sales_amt_num), count(*), nullif(min(movie_rank_num), 2147483647),
+               rank() over (order by sum(audi_cnt_num) desc)
+        from daily_box_office
+        where target_date between :from and :to
+        group by movie_cd
+        order by sum(audi_cnt_num) desc, movie_cd
+        limit :limit
+        """, nativeQuery = true)
+    List<Object[]> findTopMoviesByAudience(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("limit") int limit);
+
+    @Query(value = """
+        select movie_cd, max(movie_name), sum(audi_cnt_num), sum(sales_amt_num), count(*), nullif(min(movie_rank_num), 2147483647),
+               rank() over (order by sum(sales_amt_num) desc)
+        from daily_box_office
+        where target_date between :from and :to
+        group by movie_cd
+        order by sum(sales_amt_num) desc, movie_cd
+        limit :limit
+        """, nativeQuery = true)
+    List<Object[]> findTopMoviesBySales(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("limit") int limit);
+
+    // (4) 영화 하나의 일자별 추이 + 관객수 7개 기록 이동 평균.
+    // 반환: [target_date, movie_name, movie_rank_num, audi_cnt_num, sales_amt_num, audi_acc_num, audi_avg7]
+    @Query(value = """
+        select target_date, movie_name, nullif(movie_rank_num, 2147483647), audi_cnt_num, sales_amt_num, audi_acc_num,
+               avg(audi_cnt_num) over (order by target_date rows between 6 preceding and current row)
+        from daily_box_office
+        where movie_cd = :movieCd
+          and target_date between :from and :to
+        order by target_date
+        """, nativeQuery = true)
+    List<Object[]> findTrendByMovieCd(@Param("movieCd") String movieCd, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
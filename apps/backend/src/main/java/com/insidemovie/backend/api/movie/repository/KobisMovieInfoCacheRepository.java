@@ -0,0 +1,32 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.KobisMovieInfoCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface KobisMovieInfoCacheRepository extends JpaRepository<KobisMovieInfoCacheEntry, Long> {
+
+    Optional<KobisMovieInfoCacheEntry> findByMovieCd(String movieCd);
+
+    // 여러 백필이 같은 영화를 동시에 저장해도 충돌하지 않도록 upsert
+    // 호출자 트랜잭션과 분리해, 캐시 저장 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않게 한다
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+        insert into kobis_movie_info_cache (movie_cd, payload, fetched_at)
+        values (:movieCd, :payload, :fetchedAt)
+        on duplicate key update payload = values(payload), fetched_at = values(fetched_at)
+        """, nativeQuery = true)
+    int upsert(
+            @Param("movieCd") String movieCd,
+            @Param("payload") String payload,
+            @Param("fetchedAt") LocalDateTime fetchedAt
+    );
+}
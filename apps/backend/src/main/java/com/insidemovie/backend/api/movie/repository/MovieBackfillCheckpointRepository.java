@@ -0,0 +1,13 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.MovieBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MovieBackfillCheckpointRepository extends JpaRepository<MovieBackfillCheckpoint, Long> {
+
+    Optional<MovieBackfillCheckpoint> findByJob(String job);
+
+    void deleteByJob(String job);
+}
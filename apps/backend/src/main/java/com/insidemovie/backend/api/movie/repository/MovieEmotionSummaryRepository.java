@@ -2,11 +2,34 @@ package com.insidemovie.backend.api.movie.repository;
 
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieEmotionSummaryRepository extends JpaRepository<MovieEmotionSummary, Long> {
     Optional<MovieEmotionSummary> findByMovieId(Long movieId);
     Optional<MovieEmotionSummary> findByMovie(Movie movie);
+
+    // 누적값 갱신 시 동시 리뷰 작성으로 인한 lost update 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MovieEmotionSummary s WHERE s.movieId = :movieId")
+    Optional<MovieEmotionSummary> findForUpdateByMovieId(@Param("movieId") Long movieId);
+
+    // 첫 리뷰가 동시에 들어와도 중복 키 없이 빈 행을 하나만 만든다. 누적값은 호출 측이 재계산한다
+    @Modifying
+    @Query(value = """
+        insert into movie_emotion_summary (movie_id) values (:movieId)
+        on duplicate key update movie_id = movie_id
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("movieId") Long movieId);
+
+    // 영화 목록 카드용 감정 요약 일괄 조회
+    List<MovieEmotionSummary> findByMovieIdIn(Collection<Long> movieIds);
 }
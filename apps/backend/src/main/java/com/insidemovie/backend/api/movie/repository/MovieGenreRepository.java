@@ -6,12 +6,14 @@ import com.insidemovie.backend.api.movie.entity.MovieGenre;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,8 +25,16 @@ public interface MovieGenreRepository extends JpaRepository<MovieGenre, Long> {
 
     //특정 영화(movieId)에 매핑된 모든 MovieGenre 조회
     List<MovieGenre> findByMovieId(Long movieId);
+    @EntityGraph(attributePaths = "movie")
     Page<MovieGenre> findByGenreTypeIn(List<GenreType> genreType, Pageable pageable);
     Page<MovieGenre> findByGenreType(GenreType genreType, Pageable pageable);
 
     List<MovieGenre> findByMovie(Movie movie);
+
+    // 전문 검색 장르 필터/패싯용 [movieId, genreType]
+    @Query("SELECT mg.movie.id, mg.genreType FROM MovieGenre mg")
+    List<Object[]> findAllMovieIdAndGenre();
+
+    @Query("SELECT mg.movie.id, mg.genreType FROM MovieGenre mg WHERE mg.movie.id IN :movieIds")
+    List<Object[]> findMovieIdAndGenreByMovieIdIn(@Param("movieIds") Collection<Long> movieIds);
 }
@@ -5,7 +5,10 @@ import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +18,12 @@ public interface MovieLikeRepository extends JpaRepository<MovieLike, Long> {
     // 특정 회원이 좋아요 한 영화 목록을 페이징하여 조회
     Page<MovieLike> findByMember(Member member, Pageable pageable);
 
+    // 좋아요 한 영화 목록용: 영화까지 한 번에 조회
+    @EntityGraph(attributePaths = "movie")
+    @Query(value = "SELECT ml FROM MovieLike ml WHERE ml.member = :member",
+            countQuery = "SELECT COUNT(ml) FROM MovieLike ml WHERE ml.member = :member")
+    Page<MovieLike> findWithMovieByMember(@Param("member") Member member, Pageable pageable);
+
     // 영화 좋아요 여부 확인
     Optional<MovieLike> findByMovie_IdAndMember_Id(Long movieId, Long memberId);
 
@@ -26,4 +35,8 @@ public interface MovieLikeRepository extends JpaRepository<MovieLike, Long> {
     Page<MovieLike> findByMovie(Member member, Pageable pageable);
     List<MovieLike> findByMember_Id(Long memberId);
     List<MovieLike> findByMovie(Movie movie);
+
+    // 영화를 좋아요한 회원 ID 목록 (회원 감정 요약 재계산 대상)
+    @Query("SELECT ml.member.id FROM MovieLike ml WHERE ml.movie.id = :movieId")
+    List<Long> findMemberIdsByMovieId(@Param("movieId") Long movieId);
 }
@@ -0,0 +1,64 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.MoviePerson;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MoviePersonRepository extends JpaRepository<MoviePerson, Long> {
+
+    @Modifying
+    @Query("DELETE FROM MoviePerson mp WHERE mp.movie.id IN :movieIds")
+    int deleteByMovieIdIn(@Param("movieIds") Collection<Long> movieIds);
+
+    // 영화 상세 출연진 [personId, name, role]
+    @Query("""
+            SELECT p.id, p.name, mp.role
+            FROM MoviePerson mp JOIN mp.person p
+            WHERE mp.movie.id = :movieId
+            ORDER BY mp.creditOrder, mp.id
+            """)
+    List<Object[]> findCreditRowsByMovieId(@Param("movieId") Long movieId);
+
+    // 검색 색인용 [movieId, name, role]
+    @Query("""
+            SELECT mp.movie.id, p.name, mp.role
+            FROM MoviePerson mp JOIN mp.person p
+            ORDER BY mp.movie.id, mp.creditOrder, mp.id
+            """)
+    List<Object[]> findAllCreditNameRows();
+
+    @Query("""
+            SELECT mp.movie.id, p.name, mp.role
+            FROM MoviePerson mp JOIN mp.person p
+            WHERE mp.movie.id IN :movieIds
+            ORDER BY mp.movie.id, mp.creditOrder, mp.id
+            """)
+    List<Object[]> findCreditNameRowsByMovieIdIn(@Param("movieIds") Collection<Long> movieIds);
+
+    // 필모그래피 [movieId, title, posterPath, releaseDate, role]
+    @Query("""
+            SELECT m.id, m.title, m.posterPath, m.releaseDate, mp.role
+            FROM MoviePerson mp JOIN mp.movie m
+            WHERE mp.person.id = :personId
+            ORDER BY m.releaseDate DESC, m.id DESC
+            """)
+    List<Object[]> findFilmographyRows(@Param("personId") Long personId);
+
+    // 정규화 이름(Person.keyOf) 접두 검색 [personId, name, 참여 영화 수]
+    @Query("""
+            SELECT p.id, p.name, COUNT(DISTINCT mp.movie.id)
+            FROM MoviePerson mp JOIN mp.person p
+            WHERE p.nameKey LIKE CONCAT(:prefix, '%')
+            GROUP BY p.id, p.name
+            ORDER BY COUNT(DISTINCT mp.movie.id) DESC, p.id
+            """)
+    List<Object[]> findPersonRowsByNamePrefix(@Param("prefix") String prefix, Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MovieRatingStatsRepository extends JpaRepository<MovieRatingStats, Long> {
+
+    // 누적값 갱신 시 동시 리뷰 작성으로 인한 lost update 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MovieRatingStats s WHERE s.movieId = :movieId")
+    Optional<MovieRatingStats> findForUpdateByMovieId(@Param("movieId") Long movieId);
+
+    // 첫 리뷰가 동시에 들어와도 중복 키 없이 행을 하나만 만든다. review_count = -1 은 아직 계산 전이라는 표시
+    @Modifying
+    @Query(value = """
+        insert into movie_rating_stats (movie_id, review_count, rating_sum, rating_avg)
+        values (:movieId, -1, 0, 0)
+        on duplicate key update movie_id = movie_id
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("movieId") Long movieId);
+
+    @Query("SELECT s.movieId FROM MovieRatingStats s")
+    List<Long> findAllMovieIds();
+
+    // 영화 목록/박스오피스 등 여러 영화 평점 일괄 조회
+    List<MovieRatingStats> findByMovieIdIn(Collection<Long> movieIds);
+}
@@ -9,27 +9,68 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     Optional<Movie> findByKoficId(String koficId);
+    List<Movie> findByKoficIdIn(Collection<String> koficIds);
     List<Movie> findAllByKoficIdIsNotNull();
+    // 메타데이터 백필 대상을 movie_id 순으로 afterId 다음부터 한 청크씩 읽는다
     @Query("""
       SELECT m
       FROM Movie m
       WHERE m.koficId IS NOT NULL
+        AND m.id > :afterId
         AND (
           m.posterPath IS NULL OR m.posterPath = ''
           OR m.backdropPath IS NULL OR m.backdropPath = ''
           OR m.overview IS NULL OR m.overview = ''
         )
+      ORDER BY m.id
       """)
-    List<Movie> findAllByKoficIdIsNotNullAndMetadataMissing();
+    List<Movie> findMetadataMissingAfter(@Param("afterId") Long afterId, Pageable pageable);
+    @Query("""
+      SELECT COUNT(m)
+      FROM Movie m
+      WHERE m.koficId IS NOT NULL
+        AND m.id > :afterId
+        AND (
+          m.posterPath IS NULL OR m.posterPath = ''
+          OR m.backdropPath IS NULL OR m.backdropPath = ''
+          OR m.overview IS NULL OR m.overview = ''
+        )
+      """)
+    long countMetadataMissingAfter(@Param("afterId") Long afterId);
+    // 영화인 백필은 모든 영화를 movie_id 순으로 afterId 다음부터 한 청크씩 읽는다
+    List<Movie> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    long countByIdGreaterThan(Long afterId);
     Page<Movie> findAllByOrderByPopularityDesc(Pageable pageable);
     Page<Movie> findAllByOrderByReleaseDateDesc(Pageable pageable);
 
+    // 제목 색인용으로 본문(@Lob) 없이 [id, title, titleEn] 만 읽는다
+    @Query("SELECT m.id, m.title, m.titleEn FROM Movie m")
+    List<Object[]> findAllTitles();
+
+    @Query("SELECT m.id, m.title, m.titleEn FROM Movie m WHERE m.id IN :ids")
+    List<Object[]> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 전문 검색 색인용 [id, title, titleEn, overview, actors, directors] (배우/감독은 movie_person 미백필 영화의 폴백)
+    @Query("SELECT m.id, m.title, m.titleEn, m.overview, m.actors, m.directors FROM Movie m")
+    List<Object[]> findAllSearchDocuments();
+
+    @Query("SELECT m.id, m.title, m.titleEn, m.overview, m.actors, m.directors FROM Movie m WHERE m.id IN :ids")
+    List<Object[]> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 자동완성 색인용 [id, title, titleEn, posterPath, popularity]
+    @Query("SELECT m.id, m.title, m.titleEn, m.posterPath, m.popularity FROM Movie m")
+    List<Object[]> findAllSuggestRows();
+
+    @Query("SELECT m.id, m.title, m.titleEn, m.posterPath, m.popularity FROM Movie m WHERE m.id IN :ids")
+    List<Object[]> findSuggestRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
       SELECT m
       FROM Movie m
@@ -0,0 +1,17 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+
+import java.util.List;
+
+public interface WeeklyBoxOfficeBulkRepository {
+
+    // (year_week_time, movie_cd) 유니크 키 기준 일괄 upsert. 반영된 행 수(입력 기준) 반환
+    int upsertAll(List<WeeklyBoxOfficeEntity> rows);
+
+    // 숫자 컬럼이 비어 있는 행을 id 순으로 limit 건씩 채움 (기존 데이터 마이그레이션)
+    BoxOfficeNumericFill fillNumericColumns(long afterId, int limit);
+
+    // 문자열 순위 기준 옛 인덱스(idx_weekly_yearweek_rank) 삭제. ddl-auto 는 인덱스를 지우지 않는다. 삭제했으면 true
+    boolean dropLegacyRankIndex();
+}
@@ -0,0 +1,99 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeNumbers;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 주간 박스오피스 JDBC 배치 upsert. movie_nm 은 최초 저장 값을 유지한다.
+ */
+@RequiredArgsConstructor
+class WeeklyBoxOfficeBulkRepositoryImpl implements WeeklyBoxOfficeBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+        insert into weekly_box_office
+            (year_week_time, movie_cd, movie_nm, rnum, movie_rank, rank_inten, rank_old_and_new, open_dt,
+             sales_amt, sales_share, sales_inten, sales_change, sales_acc,
+             audi_cnt, audi_inten, audi_change, audi_acc, scrn_cnt, show_cnt,
+             movie_rank_num, audi_cnt_num, audi_acc_num, sales_amt_num, sales_acc_num, scrn_cnt_num, show_cnt_num)
+        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        on duplicate key update
+            rnum = values(rnum),
+            movie_rank = values(movie_rank),
+            rank_inten = values(rank_inten),
+            rank_old_and_new = values(rank_old_and_new),
+            open_dt = values(open_dt),
+            sales_amt = values(sales_amt),
+            sales_share = values(sales_share),
+            sales_inten = values(sales_inten),
+            sales_change = values(sales_change),
+            sales_acc = values(sales_acc),
+            audi_cnt = values(audi_cnt),
+            audi_inten = values(audi_inten),
+            audi_change = values(audi_change),
+            audi_acc = values(audi_acc),
+            scrn_cnt = values(scrn_cnt),
+            show_cnt = values(show_cnt),
+            movie_rank_num = values(movie_rank_num),
+            audi_cnt_num = values(audi_cnt_num),
+            audi_acc_num = values(audi_acc_num),
+            sales_amt_num = values(sales_amt_num),
+            sales_acc_num = values(sales_acc_num),
+            scrn_cnt_num = values(scrn_cnt_num),
+            show_cnt_num = values(show_cnt_num)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(List<WeeklyBoxOfficeEntity> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, row.getYearWeekTime());
+            ps.setString(2, row.getMovieCd());
+            ps.setString(3, row.getMovieNm());
+            ps.setString(4, row.getRnum());
+            ps.setString(5, row.getMovieRank());
+            ps.setString(6, row.getRankInten());
+            ps.setString(7, row.getRankOldAndNew());
+            ps.setString(8, row.getOpenDt());
+            ps.setString(9, row.getSalesAmt());
+            ps.setString(10, row.getSalesShare());
+            ps.setString(11, row.getSalesInten());
+            ps.setString(12, row.getSalesChange());
+            ps.setString(13, row.getSalesAcc());
+            ps.setString(14, row.getAudiCnt());
+            ps.setString(15, row.getAudiInten());
+            ps.setString(16, row.getAudiChange());
+            ps.setString(17, row.getAudiAcc());
+            ps.setString(18, row.getScrnCnt());
+            ps.setString(19, row.getShowCnt());
+            ps.setInt(20, BoxOfficeNumbers.toRank(row.getMovieRank()));
+            ps.setObject(21, BoxOfficeNumbers.toLong(row.getAudiCnt()), Types.BIGINT);
+            ps.setObject(22, BoxOfficeNumbers.toLong(row.getAudiAcc()), Types.BIGINT);
+            ps.setObject(23, BoxOfficeNumbers.toLong(row.getSalesAmt()), Types.BIGINT);
+            ps.setObject(24, BoxOfficeNumbers.toLong(row.getSalesAcc()), Types.BIGINT);
+            ps.setObject(25, BoxOfficeNumbers.toInt(row.getScrnCnt()), Types.INTEGER);
+            ps.setObject(26, BoxOfficeNumbers.toInt(row.getShowCnt()), Types.INTEGER);
+        });
+        return rows.size();
+    }
+
+    @Override
+    public BoxOfficeNumericFill fillNumericColumns(long afterId, int limit) {
+        return BoxOfficeNumericFill.fill(jdbcTemplate, "weekly_box_office", afterId, limit);
+    }
+
+    @Override
+    public boolean dropLegacyRankIndex() {
+        return BoxOfficeNumericFill.dropIndexIfExists(jdbcTemplate, "weekly_box_office", "idx_weekly_yearweek_rank");
+    }
+}
@@ -7,7 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
 
-public interface WeeklyBoxOfficeRepository extends JpaRepository<WeeklyBoxOfficeEntity, Long> {
+public interface WeeklyBoxOfficeRepository
+        extends JpaRepository<WeeklyBoxOfficeEntity, Long>, WeeklyBoxOfficeBulkRepository {
 
     Optional<WeeklyBoxOfficeEntity> findByYearWeekTimeAndMovieCd(String yearWeekTime, String movieCd);
 
@@ -17,7 +18,7 @@ public interface WeeklyBoxOfficeRepository extends JpaRepository<WeeklyBoxOffice
         select * 
         from weekly_box_office
         where year_week_time = :yearWeek
-        order by cast(movie_rank as unsigned)
+        order by movie_rank_num, id
         """, nativeQuery = true)
     List<WeeklyBoxOfficeEntity> findAllSortedByYearWeek(@Param("yearWeek") String yearWeek);
 
@@ -25,7 +26,7 @@ public interface WeeklyBoxOfficeRepository extends JpaRepository<WeeklyBoxOffice
         select * 
         from weekly_box_office
         where year_week_time = (select max(year_week_time) from weekly_box_office)
-        order by cast(movie_rank as unsigned)
+        order by movie_rank_num, id
         """, nativeQuery = true)
     List<WeeklyBoxOfficeEntity> findLatestSorted();
 }
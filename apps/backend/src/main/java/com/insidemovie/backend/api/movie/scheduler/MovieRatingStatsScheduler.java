@@ -0,0 +1,31 @@
+package com.insidemovie.backend.api.movie.scheduler;
+
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsRebuildReport;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * movie_rating_stats 누적값을 리뷰 테이블 기준으로 주기적으로 재검증한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieRatingStatsScheduler {
+    private final MovieRatingStatsService movieRatingStatsService;
+
+    @Scheduled(cron = "${scheduler.cron.rating_stats}", zone = "${scheduler.zone}")
+    public void rebuildRatingStats() {
+        try {
+            MovieRatingStatsRebuildReport report = movieRatingStatsService.rebuildAll();
+            if (report.getCorrectedMovies() > 0 || report.getCreatedMovies() > 0 || report.getResetMovies() > 0) {
+                log.warn("[MovieRatingStats] drift repaired corrected={} created={} reset={}",
+                        report.getCorrectedMovies(), report.getCreatedMovies(), report.getResetMovies());
+            }
+        } catch (Exception e) {
+            log.error("[MovieRatingStats] rebuild failed", e);
+        }
+    }
+}
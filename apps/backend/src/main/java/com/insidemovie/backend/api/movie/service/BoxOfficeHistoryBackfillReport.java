@@ -0,0 +1,25 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BoxOfficeHistoryBackfillReport {
+    private final int requestedDays;
+    private final int skippedDays;  // 체크포인트로 건너뛴 날짜 수
+    private final int failedDays;
+    private final int dailyRows;
+    private final int requestedWeeks;
+    private final int skippedWeeks;
+    private final int failedWeeks;
+    private final int weeklyRows;
+    private final int chunks;   // 일괄 upsert 트랜잭션 수
+    private final int requests; // 재시도를 포함한 KOBIS 호출 수
+    private final int retries;
+    private final long elapsedMs;
+
+    public double getRequestsPerSecond() {
+        return elapsedMs == 0 ? 0.0 : requests * 1000.0 / elapsedMs;
+    }
+}
@@ -0,0 +1,232 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeRequestDTO;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 과거 구간 박스오피스 백필.
+ * - 구간을 chunk-size 단위(일간: 일, 주간: 주)로 나누고, 청크 안의 기간은 concurrency 개 스레드로 동시에 받는다
+ * - 모든 KOBIS 호출은 requests-per-second 제한을 공유하며, 실패한 기간은 max-attempts 까지 재시도한다
+ * - 청크마다 한 트랜잭션으로 upsert 하고 체크포인트를 남겨, 중단 후 다시 실행하면 남은 기간만 받는다
+ * - 체크포인트 키에는 조회 조건(itemPerPage, 주간은 weekGb)을 붙여, 조건이 다른 실행은 서로의 기록을 건너뛰지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeHistoryBackfillService {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final BoxOfficeService boxOfficeService;
+    private final BoxOfficeHistoryWriter historyWriter;
+    private final BoxOfficeHistoryProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 끝난 기간 판단 기준일 (테스트에서 교체)
+    Supplier<LocalDate> today = () -> LocalDate.now(KST);
+
+    public BoxOfficeHistoryBackfillReport backfill(
+            LocalDate from,
+            LocalDate to,
+            BoxOfficeRequestDTO req,
+            boolean includeDaily,
+            boolean includeWeekly,
+            int chunkSize
+    ) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to: " + from + " > " + to);
+        }
+
+        long startedAt = System.nanoTime();
+        int concurrency = Math.max(1, properties.getConcurrency());
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService fetchers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "boxoffice-history-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Run run = new Run(fetchers, new RequestRateLimiter(properties.getRequestsPerSecond()), Math.max(1, chunkSize));
+        LocalDate currentDay = today.get();
+        LocalDate currentWeekStart = currentDay.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        BoxOfficeHistoryBackfillReport.BoxOfficeHistoryBackfillReportBuilder report = BoxOfficeHistoryBackfillReport.builder();
+        try {
+            if (includeDaily) {
+                String condition = ":" + req.getItemPerPage();
+                KindResult daily = ingest(run, Kind.DAILY,
+                        from.datesUntil(to.plusDays(1)).toList(),
+                        day -> day.format(FMT) + condition,
+                        day -> day.isBefore(currentDay),
+                        day -> boxOfficeService.fetchDailyFromApi(day, req.getItemPerPage()),
+                        historyWriter::writeDaily);
+                report.requestedDays(daily.requested).skippedDays(daily.skipped)
+                        .failedDays(daily.failed).dailyRows(daily.rows);
+            }
+            if (includeWeekly) {
+                String condition = ":" + req.getWeekGb() + ":" + req.getItemPerPage();
+                KindResult weekly = ingest(run, Kind.WEEKLY,
+                        weekEndsBetween(from, to),
+                        weekEnd -> BoxOfficeService.yearWeekOf(weekEnd) + condition,
+                        weekEnd -> weekEnd.isBefore(currentWeekStart),
+                        weekEnd -> boxOfficeService.fetchWeeklyFromApi(
+                                weekEnd, req.getWeekGb(), req.getItemPerPage(), BoxOfficeService.yearWeekOf(weekEnd)),
+                        historyWriter::writeWeekly);
+                report.requestedWeeks(weekly.requested).skippedWeeks(weekly.skipped)
+                        .failedWeeks(weekly.failed).weeklyRows(weekly.rows);
+            }
+        } finally {
+            fetchers.shutdownNow();
+        }
+
+        return report
+                .chunks(run.chunks)
+                .requests(run.requests.get())
+                .retries(run.retries.get())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    private <T> KindResult ingest(
+            Run run,
+            Kind kind,
+            List<LocalDate> periods,
+            Function<LocalDate, String> keyOf,
+            Predicate<LocalDate> closed,
+            Function<LocalDate, List<T>> fetcher,
+            BiFunction<Map<String, List<T>>, Set<String>, Integer> writer
+    ) {
+        KindResult result = new KindResult();
+        result.requested = periods.size();
+
+        List<LocalDate> pending = periods;
+        if (properties.isResume()) {
+            Set<String> done = historyWriter.completedPeriods(kind, periods.stream().map(keyOf).toList());
+            pending = periods.stream().filter(period -> !done.contains(keyOf.apply(period))).toList();
+            result.skipped = periods.size() - pending.size();
+        }
+
+        for (int start = 0; start < pending.size(); start += run.chunkSize) {
+            List<LocalDate> chunk = pending.subList(start, Math.min(start + run.chunkSize, pending.size()));
+            long chunkStartedAt = System.nanoTime();
+
+            List<Future<List<T>>> futures = new ArrayList<>(chunk.size());
+            for (LocalDate period : chunk) {
+                futures.add(run.fetchers.submit(() -> fetchWithRetry(run, () -> fetcher.apply(period))));
+            }
+
+            // 실패한 기간과 아직 끝나지 않은 기간은 체크포인트를 남기지 않아 다음 실행에서 다시 받는다
+            Map<String, List<T>> fetched = new LinkedHashMap<>();
+            Set<String> closedKeys = new HashSet<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                String key = keyOf.apply(chunk.get(i));
+                try {
+                    fetched.put(key, futures.get(i).get());
+                    if (closed.test(chunk.get(i))) {
+                        closedKeys.add(key);
+                    }
+                } catch (ExecutionException e) {
+                    result.failed++;
+                    log.warn("[BoxOfficeHistory] {} fetch failed period={} reason={}",
+                            kind, key, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("box office history backfill interrupted", e);
+                }
+            }
+
+            int rows = writer.apply(fetched, closedKeys);
+            result.rows += rows;
+            run.chunks++;
+            long chunkMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStartedAt));
+            log.info("[BoxOfficeHistory] {} chunk {}~{} periods={} rows={} elapsedMs={} periodsPerSec={}",
+                    kind,
+                    keyOf.apply(chunk.get(0)),
+                    keyOf.apply(chunk.get(chunk.size() - 1)),
+                    fetched.size(), rows, chunkMs,
+                    String.format("%.2f", fetched.size() * 1000.0 / chunkMs));
+        }
+
+        if (result.rows > 0) {
+            eventPublisher.publishEvent(new BoxOfficeIngestedEvent(kind));
+        }
+        return result;
+    }
+
+    private <T> List<T> fetchWithRetry(Run run, Supplier<List<T>> fetch) throws InterruptedException {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            run.limiter.acquire();
+            run.requests.incrementAndGet();
+            try {
+                return fetch.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                run.retries.incrementAndGet();
+                TimeUnit.MILLISECONDS.sleep(Math.max(0L, properties.getRetryBackoffMs()) << (attempt - 1));
+            }
+        }
+    }
+
+    // 구간과 겹치는 ISO 주마다 그 주의 일요일 (KOBIS 주간 조회 기준일)
+    static List<LocalDate> weekEndsBetween(LocalDate from, LocalDate to) {
+        LocalDate last = to.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        List<LocalDate> weekEnds = new ArrayList<>();
+        for (LocalDate d = from.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)); !d.isAfter(last); d = d.plusWeeks(1)) {
+            weekEnds.add(d);
+        }
+        return weekEnds;
+    }
+
+    // 한 번의 백필 실행 동안 공유하는 실행기/제한기/카운터
+    private static final class Run {
+        private final ExecutorService fetchers;
+        private final RequestRateLimiter limiter;
+        private final int chunkSize;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private int chunks;
+
+        private Run(ExecutorService fetchers, RequestRateLimiter limiter, int chunkSize) {
+            this.fetchers = fetchers;
+            this.limiter = limiter;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static final class KindResult {
+        private int requested;
+        private int skipped;
+        private int failed;
+        private int rows;
+    }
+}
@@ -0,0 +1,20 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "movie.boxoffice.history")
+public class BoxOfficeHistoryProperties {
+    // 동시에 KOBIS 를 호출하는 스레드 수
+    private int concurrency = 4;
+    // KOBIS 초당 요청 수 상한 (0 이하면 제한 없음)
+    private double requestsPerSecond = 5.0;
+    // 기간별 최대 시도 횟수, 재시도 간격은 retry-backoff-ms 부터 두 배씩 증가
+    private int maxAttempts = 3;
+    private long retryBackoffMs = 500;
+    // 체크포인트에 완료로 기록된 기간은 건너뜀
+    private boolean resume = true;
+}
@@ -0,0 +1,87 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeIngestCheckpoint;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.repository.BoxOfficeIngestCheckpointRepository;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 과거 구간 백필의 청크 저장. 청크의 행 upsert 와 기간별 체크포인트 기록을 한 트랜잭션으로 묶는다.
+ * 아직 끝나지 않은 기간(오늘, 이번 주)은 행만 저장하고 체크포인트는 남기지 않아 다음 실행에서 다시 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeHistoryWriter {
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final WeeklyBoxOfficeRepository weeklyRepo;
+    private final BoxOfficeIngestCheckpointRepository checkpointRepository;
+
+    @Transactional
+    public Set<String> completedPeriods(Kind kind, Collection<String> periodKeys) {
+        if (periodKeys.isEmpty()) {
+            return Set.of();
+        }
+        return checkpointRepository.findByKindAndPeriodKeyIn(kind.name(), periodKeys).stream()
+                .map(BoxOfficeIngestCheckpoint::getPeriodKey)
+                .collect(Collectors.toSet());
+    }
+
+    // 기간 키 -> 그 날짜의 행. 체크포인트는 closedPeriods 에 든 (끝난) 기간만 남긴다
+    @Transactional
+    public int writeDaily(Map<String, List<DailyBoxOfficeEntity>> rowsByPeriod, Set<String> closedPeriods) {
+        int rows = dailyRepo.upsertAll(flatten(rowsByPeriod));
+        recordCheckpoints(Kind.DAILY, rowsByPeriod, closedPeriods);
+        return rows;
+    }
+
+    // 기간 키 -> 그 주의 행
+    @Transactional
+    public int writeWeekly(Map<String, List<WeeklyBoxOfficeEntity>> rowsByPeriod, Set<String> closedPeriods) {
+        int rows = weeklyRepo.upsertAll(flatten(rowsByPeriod));
+        recordCheckpoints(Kind.WEEKLY, rowsByPeriod, closedPeriods);
+        return rows;
+    }
+
+    private void recordCheckpoints(Kind kind, Map<String, ? extends List<?>> rowsByPeriod, Set<String> closedPeriods) {
+        Map<String, Integer> rowCounts = new LinkedHashMap<>();
+        rowsByPeriod.forEach((periodKey, rows) -> {
+            if (closedPeriods.contains(periodKey)) {
+                rowCounts.put(periodKey, rows.size());
+            }
+        });
+        if (rowCounts.isEmpty()) {
+            return;
+        }
+        Map<String, BoxOfficeIngestCheckpoint> existing = checkpointRepository
+                .findByKindAndPeriodKeyIn(kind.name(), rowCounts.keySet()).stream()
+                .collect(Collectors.toMap(BoxOfficeIngestCheckpoint::getPeriodKey, Function.identity()));
+
+        rowCounts.forEach((periodKey, rowCount) -> {
+            BoxOfficeIngestCheckpoint checkpoint = existing.get(periodKey);
+            if (checkpoint != null) {
+                checkpoint.complete(rowCount);
+            } else {
+                checkpointRepository.save(BoxOfficeIngestCheckpoint.of(kind.name(), periodKey, rowCount));
+            }
+        });
+    }
+
+    private static <T> List<T> flatten(Map<String, List<T>> rowsByPeriod) {
+        return rowsByPeriod.values().stream().flatMap(List::stream).toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.movie.service;
+
+/**
+ * 박스오피스 수집(upsert)이 끝났음을 알리는 이벤트. 커밋 후 스냅샷을 다시 만든다.
+ */
+public record BoxOfficeIngestedEvent(Kind kind) {
+
+    public enum Kind {
+        DAILY,
+        WEEKLY
+    }
+}
@@ -0,0 +1,15 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BoxOfficeNumericBackfillReport {
+    private final int dailyRows;
+    private final int weeklyRows;
+    // 순위 문자열이 숫자가 아니어서 movie_rank_num 에 UNPARSED_RANK 를 넣은 행
+    private final int dailyUnparsedRanks;
+    private final int weeklyUnparsedRanks;
+    private final int droppedIndexes;
+}
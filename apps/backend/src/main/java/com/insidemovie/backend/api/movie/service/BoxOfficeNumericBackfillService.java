@@ -0,0 +1,77 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.repository.BoxOfficeNumericFill;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 숫자 컬럼 도입 이전에 저장된 박스오피스 행의 movie_rank_num 등을 문자열 컬럼에서 채운다.
+ * 배치마다 바로 커밋되므로 중간에 멈춰도 다음 실행이 남은 행부터 이어서 처리한다.
+ * 문자열 순위 기준 옛 인덱스는 숫자 인덱스로 대체됐으므로 먼저 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeNumericBackfillService {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final WeeklyBoxOfficeRepository weeklyRepo;
+
+    public BoxOfficeNumericBackfillReport backfill() {
+        int droppedIndexes = dropLegacyIndex("daily", dailyRepo::dropLegacyRankIndex)
+                + dropLegacyIndex("weekly", weeklyRepo::dropLegacyRankIndex);
+        Filled daily = fillAll("daily", dailyRepo::fillNumericColumns);
+        Filled weekly = fillAll("weekly", weeklyRepo::fillNumericColumns);
+        return BoxOfficeNumericBackfillReport.builder()
+                .dailyRows(daily.rows)
+                .dailyUnparsedRanks(daily.unparsedRanks)
+                .weeklyRows(weekly.rows)
+                .weeklyUnparsedRanks(weekly.unparsedRanks)
+                .droppedIndexes(droppedIndexes)
+                .build();
+    }
+
+    // 인덱스 정리는 부가 작업이라 실패(권한, information_schema 미지원 DB 등)해도 채우기는 계속한다
+    private int dropLegacyIndex(String kind, BooleanSupplier dropper) {
+        try {
+            if (dropper.getAsBoolean()) {
+                log.info("[BoxOfficeNumeric] {} legacy rank index dropped", kind);
+                return 1;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[BoxOfficeNumeric] {} legacy rank index drop skipped reason={}", kind, e.getMessage());
+        }
+        return 0;
+    }
+
+    private Filled fillAll(String kind, BiFunction<Long, Integer, BoxOfficeNumericFill> filler) {
+        Filled filled = new Filled();
+        long afterId = 0L;
+        while (true) {
+            BoxOfficeNumericFill batch = filler.apply(afterId, BATCH_SIZE);
+            if (batch.rows() == 0) {
+                break;
+            }
+            filled.rows += batch.rows();
+            filled.unparsedRanks += batch.unparsedRanks();
+            afterId = batch.lastId();
+            log.info("[BoxOfficeNumeric] {} filled={} unparsedRanks={} lastId={}",
+                    kind, filled.rows, filled.unparsedRanks, afterId);
+        }
+        return filled;
+    }
+
+    private static final class Filled {
+        private int rows;
+        private int unparsedRanks;
+    }
+}
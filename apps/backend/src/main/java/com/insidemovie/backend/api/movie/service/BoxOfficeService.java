@@ -1,6 +1,5 @@
 package com.insidemovie.backend.api.movie.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.constant.EmotionType;
@@ -11,11 +10,12 @@ import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO
 import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
 import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
 import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
 import com.insidemovie.backend.api.movie.repository.*;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.BaseException;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
@@ -23,18 +23,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Service
@@ -51,7 +54,10 @@ public class BoxOfficeService {
     private final MovieRepository movieRepository;
     private final MovieGenreRepository movieGenreRepository;
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
+    private final MoviePersonService moviePersonService;
+    private final MovieListColumnParser movieListColumnParser;
+    private final ApplicationEventPublisher eventPublisher;
     @Qualifier("kobisRestClient")
     private final RestClient kobisRestClient;
 
@@ -63,29 +69,43 @@ public class BoxOfficeService {
     // 일간 박스오피스 조회 및 저장
     @Transactional
     public void fetchAndStoreDailyBoxOffice(BoxOfficeRequestDTO req) {
-        LocalDate date = LocalDate.now().minusDays(1);
+        LocalDate date = resolveTargetDate(req, LocalDate.now().minusDays(1));
         log.info("[Service] WILL UPSERT daily date = {}", date);
         int limit = req.getItemPerPage();
 
         log.info("[Daily] Fetch & Upsert for date={} (limit={})", date, limit);
 
         List<DailyBoxOfficeEntity> fetched = fetchDailyFromApi(date, limit);
+        // (movieCd, targetDate) 유니크 키 기준 일괄 upsert
+        dailyRepo.upsertAll(fetched);
 
-        for (DailyBoxOfficeEntity incoming : fetched) {
-            // (movieCd, targetDate) 로 기존 검색
-            DailyBoxOfficeEntity entity = dailyRepo
-                    .findByTargetDateAndMovieCd(date, incoming.getMovieCd())
-                    .map(existing -> { existing.updateFrom(incoming); return existing; })
-                    .orElse(incoming); // 새 엔티티
+        log.info("[Daily] Upsert completed (count={}) for {}", fetched.size(), date);
+        // 커밋 후 일간 스냅샷 재생성
+        eventPublisher.publishEvent(new BoxOfficeIngestedEvent(BoxOfficeIngestedEvent.Kind.DAILY));
+    }
 
-            dailyRepo.save(entity);
-        }
+    // 요청에 targetDt 가 있으면 그 날짜, 없으면 기본값
+    private static LocalDate resolveTargetDate(BoxOfficeRequestDTO req, LocalDate defaultDate) {
+        String targetDt = req.getTargetDt();
+        return (targetDt == null || targetDt.isBlank()) ? defaultDate : LocalDate.parse(targetDt, FMT);
+    }
 
-        log.info("[Daily] Upsert completed (count={}) for {}", fetched.size(), date);
+    // ISO 주차 기준 yearWeekTime (예: 2025IW07)
+    static String yearWeekOf(LocalDate date) {
+        WeekFields wf = WeekFields.ISO;
+        return String.format("%04dIW%02d", date.get(wf.weekBasedYear()), date.get(wf.weekOfWeekBasedYear()));
+    }
+
+    // KOBIS 는 키 오류/호출 한도 초과를 200 + faultInfo 로 응답한다
+    private static void rejectFault(JsonNode response) {
+        if (response != null && response.has("faultInfo")) {
+            log.warn("[KOBIS] fault response message={}", response.path("faultInfo").path("message").asText());
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_KOBIS_ERROR.getMessage());
+        }
     }
 
     // 외부 API 호출하여 일간 엔티티 목록 생성
-    private List<DailyBoxOfficeEntity> fetchDailyFromApi
+    List<DailyBoxOfficeEntity> fetchDailyFromApi
     (
         LocalDate date,
         int itemPerPage
@@ -97,6 +117,7 @@ public class BoxOfficeService {
             .queryParam("itemPerPage", itemPerPage)
             .toUriString();
         JsonNode response = kobisRestClient.get().uri(uri).retrieve().body(JsonNode.class);
+        rejectFault(response);
         JsonNode listNode = Optional.ofNullable(response)
             .orElseGet(() -> objectMapper.createObjectNode())
             .path("boxOfficeResult")
@@ -113,6 +134,7 @@ public class BoxOfficeService {
                 .movieCd(node.path("movieCd").asText())
                 .movieName(node.path("movieNm").asText())
                 .openDate(node.path("openDt").asText())
+                .salesAmt(node.path("salesAmt").asText())
                 .salesShare(node.path("salesShare").asText())
                 .salesInten(node.path("salesInten").asText())
                 .salesChange(node.path("salesChange").asText())
@@ -130,30 +152,22 @@ public class BoxOfficeService {
     // 주간 박스오피스 조회 및 저장
     @Transactional
     public void fetchAndStoreWeeklyBoxOffice(BoxOfficeRequestDTO req) {
-        // 1) 지난주 날짜 & yearWeek 계산
-        LocalDate lastWeek = LocalDate.now().minusWeeks(1);
-        WeekFields wf = WeekFields.ISO;
-        int weekOfYear = lastWeek.get(wf.weekOfWeekBasedYear());
-        int year       = lastWeek.get(wf.weekBasedYear());
-        String yearWeek = String.format("%04dIW%02d", year, weekOfYear);
+        // 1) 조회 주(기본: 지난주) & yearWeek 계산
+        LocalDate lastWeek = resolveTargetDate(req, LocalDate.now().minusWeeks(1));
+        String yearWeek = yearWeekOf(lastWeek);
 
         // 2) API 호출
         List<WeeklyBoxOfficeEntity> fetched = fetchWeeklyFromApi(
             lastWeek, req.getWeekGb(), req.getItemPerPage(), yearWeek
         );
 
-        for (WeeklyBoxOfficeEntity incoming : fetched) {
-            // 3) upsert
-            WeeklyBoxOfficeEntity entity = weeklyRepo
-                .findByYearWeekTimeAndMovieCd(yearWeek, incoming.getMovieCd())
-                .map(existing -> { existing.updateFrom(incoming); return existing; })
-                .orElse(incoming);
-            // 4) 저장
-            weeklyRepo.save(entity);
-        }
+        // 3) (yearWeek, movieCd) 유니크 키 기준 일괄 upsert
+        weeklyRepo.upsertAll(fetched);
+        // 4) 커밋 후 주간 스냅샷 재생성
+        eventPublisher.publishEvent(new BoxOfficeIngestedEvent(BoxOfficeIngestedEvent.Kind.WEEKLY));
     }
     // 외부 API 호출하여 주간 엔티티 목록 생성
-    private List<WeeklyBoxOfficeEntity> fetchWeeklyFromApi(
+    List<WeeklyBoxOfficeEntity> fetchWeeklyFromApi(
         LocalDate date,
         String weekGb,
         int itemPerPage,
@@ -168,6 +182,7 @@ public class BoxOfficeService {
             .queryParam("itemPerPage", itemPerPage)
             .toUriString();
         JsonNode response = kobisRestClient.get().uri(uri).retrieve().body(JsonNode.class);
+        rejectFault(response);
         JsonNode listNode = Optional.ofNullable(response)
             .orElseGet(() -> objectMapper.createObjectNode())
             .path("boxOfficeResult")
@@ -238,6 +253,11 @@ public class BoxOfficeService {
             );
         }
 
+        // 평점 평균과 감정 요약은 행마다 조회하지 않고 한 번에 조회
+        LiveStats stats = liveStats(ratedMovieIds(rows.stream()
+            .limit(itemPerPage)
+            .map(DailyBoxOfficeEntity::getMovie)));
+
         // 3) DTO 변환: movieCd(koficId) 연관 Movie 기준 메타 + 평점 평균 + 감정 통계 추가
         List<DailyBoxOfficeResponseDTO> items = rows.stream()
             .limit(itemPerPage)
@@ -249,41 +269,14 @@ public class BoxOfficeService {
                 String title       = (movie != null) ? movie.getTitle()      : e.getMovieName();
                 String posterPath  = (movie != null) ? movie.getPosterPath() : null;
 
-                // — 평점 평균 조회 & 반올림 (기존 코드 그대로) —
-                Double rawRatingAvg = (movieId != null)
-                    ? reviewRepository.findAverageByMovieId(movieId)
-                    : null;
-                BigDecimal rounded = (rawRatingAvg == null)
-                    ? BigDecimal.ZERO.setScale(2)
-                    : BigDecimal.valueOf(rawRatingAvg).setScale(2, RoundingMode.HALF_UP);
-                double ratingValue = rounded.doubleValue();
-
-                // — 감정 통계: movie_emotion_summary 에서 가져오기 —
-                MovieEmotionSummary summary = (movieId != null)
-                    ? movieEmotionSummaryRepository.findByMovieId(movieId).orElse(null)
-                    : null;
-
-                EmotionType mainEmotion = (summary != null)
-                    ? summary.getDominantEmotion()
-                    : EmotionType.NONE;
-
-                double mainValue = switch (mainEmotion) {
-                    case JOY     -> (summary != null ? summary.getJoy()     : 0f);
-                    case SADNESS -> (summary != null ? summary.getSadness() : 0f);
-                    case ANGER   -> (summary != null ? summary.getAnger()   : 0f);
-                    case FEAR    -> (summary != null ? summary.getFear()    : 0f);
-                    case DISGUST -> (summary != null ? summary.getDisgust() : 0f);
-                    default      -> 0f;
-                };
-
-                // — 최종 DTO 생성 —
+                // — 최종 DTO 생성 (평점 평균, 감정 통계 포함) —
                 return DailyBoxOfficeResponseDTO.fromEntity(
                     e,
                     title,
                     posterPath,
-                    ratingValue,
-                    mainEmotion,
-                    mainValue
+                    stats.ratingAvg(movieId),
+                    stats.mainEmotion(movieId),
+                    stats.mainEmotionValue(movieId)
                 );
             })
             .toList();
@@ -305,13 +298,7 @@ public class BoxOfficeService {
 
         String yearWeek = Optional.ofNullable(targetDt)
                 .filter(s -> !s.isBlank())
-                .map(dt -> {
-                    LocalDate d = LocalDate.parse(dt, FMT);
-                    WeekFields wf = WeekFields.ISO;
-                    int w = d.get(wf.weekOfWeekBasedYear());
-                    int y = d.get(wf.weekBasedYear());
-                    return String.format("%04dIW%02d", y, w);
-                })
+                .map(dt -> yearWeekOf(LocalDate.parse(dt, FMT)))
                 .orElse(null);
 
         List<WeeklyBoxOfficeEntity> rows =
@@ -329,6 +316,10 @@ public class BoxOfficeService {
             log.warn("[Weekly][Fallback] 요청된 targetDt 데이터 없음 → 최신 yearWeek={} 사용", yearWeek);
         }
 
+        LiveStats stats = liveStats(ratedMovieIds(rows.stream()
+            .limit(itemPerPage)
+            .map(WeeklyBoxOfficeEntity::getMovie)));
+
         List<WeeklyBoxOfficeResponseDTO> items = rows.stream()
             .limit(itemPerPage)
             .map(e -> {
@@ -339,39 +330,14 @@ public class BoxOfficeService {
                 String title       = movie != null ? movie.getTitle()       : e.getMovieNm();
                 String posterPath  = movie != null ? movie.getPosterPath()  : null;
 
-                // --- 사용자 평점 평균 조회 & 반올림
-                Double rawRatingAvg = movieId != null
-                    ? reviewRepository.findAverageByMovieId(movieId)
-                    : null;
-                BigDecimal rounded = rawRatingAvg == null
-                    ? BigDecimal.ZERO.setScale(2)
-                    : BigDecimal.valueOf(rawRatingAvg).setScale(2, RoundingMode.HALF_UP);
-                double ratingAvg = rounded.doubleValue();
-
-                // --- 감정 통계(movie_emotion_summary) 조회
-                MovieEmotionSummary summary = movieId != null
-                    ? movieEmotionSummaryRepository.findByMovieId(movieId).orElse(null)
-                    : null;
-                EmotionType mainEmotion = summary != null
-                    ? summary.getDominantEmotion()
-                    : EmotionType.NONE;
-                double mainValue = switch (mainEmotion) {
-                    case JOY     -> summary.getJoy();
-                    case SADNESS -> summary.getSadness();
-                    case ANGER   -> summary.getAnger();
-                    case FEAR    -> summary.getFear();
-                    case DISGUST -> summary.getDisgust();
-                    default      -> 0.0;
-                };
-
-                // --- 최종 DTO 생성
+                // --- 최종 DTO 생성 (사용자 평점 평균, 감정 통계 포함)
                 return WeeklyBoxOfficeResponseDTO.fromEntity(
                     e,
                     title,
                     posterPath,
-                    ratingAvg,
-                    mainEmotion,
-                    mainValue
+                    stats.ratingAvg(movieId),
+                    stats.mainEmotion(movieId),
+                    stats.mainEmotionValue(movieId)
                 );
             })
             .toList();
@@ -383,6 +349,46 @@ public class BoxOfficeService {
             .build();
     }
 
+    /**
+     * 스냅샷으로 보관한 일간 목록의 평점 평균과 대표 감정을 현재 값으로 바꾼다.
+     * 순위 행은 그대로 두고 영화 id 로 평점/감정 요약만 한 번씩 조회한다.
+     */
+    @Transactional
+    public BoxOfficeListDTO<DailyBoxOfficeResponseDTO> withLiveDailyStats(BoxOfficeListDTO<DailyBoxOfficeResponseDTO> list) {
+        LiveStats stats = liveStats(list.getItems().stream()
+            .map(DailyBoxOfficeResponseDTO::getMovieId)
+            .filter(Objects::nonNull)
+            .toList());
+        return list.toBuilder()
+            .items(list.getItems().stream()
+                .map(item -> item.toBuilder()
+                    .ratingAvg(stats.ratingAvg(item.getMovieId()))
+                    .mainEmotion(stats.mainEmotion(item.getMovieId()))
+                    .mainEmotionValue(stats.mainEmotionValue(item.getMovieId()))
+                    .build())
+                .toList())
+            .build();
+    }
+
+    /**
+     * 스냅샷으로 보관한 주간 목록의 평점 평균과 대표 감정을 현재 값으로 바꾼다.
+     */
+    @Transactional
+    public BoxOfficeListDTO<WeeklyBoxOfficeResponseDTO> withLiveWeeklyStats(BoxOfficeListDTO<WeeklyBoxOfficeResponseDTO> list) {
+        LiveStats stats = liveStats(list.getItems().stream()
+            .map(WeeklyBoxOfficeResponseDTO::getMovieId)
+            .filter(Objects::nonNull)
+            .toList());
+        return list.toBuilder()
+            .items(list.getItems().stream()
+                .map(item -> item.toBuilder()
+                    .ratingAvg(stats.ratingAvg(item.getMovieId()))
+                    .mainEmotion(stats.mainEmotion(item.getMovieId()))
+                    .mainEmotionValue(stats.mainEmotionValue(item.getMovieId()))
+                    .build())
+                .toList())
+            .build();
+    }
 
      /**
      * 저장된 일간 박스오피스 영화의 MovieDetailResDto 리스트 반환
@@ -457,10 +463,11 @@ public class BoxOfficeService {
                 .toList();
         dto.setGenre(genres);
 
-        // 배우 / 감독 / OTT : JSON 배열 파싱
-        dto.setActors(readJsonArray(movie.getActors()));          // ["배우1","배우2",...]
-        dto.setDirector(readJsonArray(movie.getDirectors()));     // ["감독1","감독2"...]
-        dto.setOttProviders(readJsonArray(movie.getOttProviders())); // []
+        // 배우 / 감독 / OTT
+        MovieCredits credits = moviePersonService.getCredits(movie);
+        dto.setActors(credits.actors());
+        dto.setDirector(credits.directors());
+        dto.setOttProviders(movieListColumnParser.parse(movie.getOttProviders()));
 
         dto.setRating(movie.getRating());
 
@@ -477,21 +484,51 @@ public class BoxOfficeService {
     }
 
 
-    private List<String> readJsonArray(String raw) {
-        if (raw == null || raw.isBlank()) return List.of();
-        try {
-            return objectMapper.readValue(raw, new TypeReference<List<String>>() {
-            });
-        } catch (Exception e) {
-            // 과거 toString() 포맷 호환 (fallback)
-            if (raw.startsWith("[") && raw.endsWith("]")) {
-                return Arrays.stream(raw.substring(1, raw.length() - 1).split(","))
-                        .map(String::trim)
-                        .filter(s -> !s.isEmpty())
-                        .toList();
-            }
-            return List.of();
+    private List<Long> ratedMovieIds(Stream<Movie> movies) {
+        return movies.filter(Objects::nonNull).map(Movie::getId).toList();
+    }
+
+    private LiveStats liveStats(List<Long> movieIds) {
+        return new LiveStats(movieRatingStatsService.getRatingAvgs(movieIds), emotionSummariesOf(movieIds));
+    }
+
+    private Map<Long, MovieEmotionSummary> emotionSummariesOf(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, MovieEmotionSummary> summaries = new HashMap<>();
+        for (MovieEmotionSummary summary : movieEmotionSummaryRepository.findByMovieIdIn(movieIds)) {
+            summaries.put(summary.getMovieId(), summary);
         }
+        return summaries;
     }
 
+    // 영화별 평점 평균과 감정 요약. 매칭되지 않은 행(movieId null)은 0 / NONE
+    private record LiveStats(Map<Long, BigDecimal> ratingAvgs, Map<Long, MovieEmotionSummary> summaries) {
+
+        double ratingAvg(Long movieId) {
+            BigDecimal avg = movieId == null ? null : ratingAvgs.get(movieId);
+            return (avg != null ? avg : MovieRatingStats.EMPTY_AVG).doubleValue();
+        }
+
+        EmotionType mainEmotion(Long movieId) {
+            MovieEmotionSummary summary = movieId == null ? null : summaries.get(movieId);
+            return summary != null && summary.getDominantEmotion() != null
+                ? summary.getDominantEmotion()
+                : EmotionType.NONE;
+        }
+
+        double mainEmotionValue(Long movieId) {
+            MovieEmotionSummary summary = movieId == null ? null : summaries.get(movieId);
+            Float value = switch (mainEmotion(movieId)) {
+                case JOY     -> summary.getJoy();
+                case SADNESS -> summary.getSadness();
+                case ANGER   -> summary.getAnger();
+                case FEAR    -> summary.getFear();
+                case DISGUST -> summary.getDisgust();
+                default      -> null;
+            };
+            return value != null ? value : 0.0;
+        }
+    }
 }
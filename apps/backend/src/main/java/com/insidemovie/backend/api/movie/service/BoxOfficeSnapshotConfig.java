@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.movie.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BoxOfficeSnapshotProperties.class)
+public class BoxOfficeSnapshotConfig {
+}
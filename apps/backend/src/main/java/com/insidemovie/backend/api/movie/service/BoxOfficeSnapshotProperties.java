@@ -0,0 +1,17 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "movie.boxoffice.snapshot")
+public class BoxOfficeSnapshotProperties {
+    // 프로세스 내 스냅샷 최대 개수 (targetDt/itemPerPage 조합별, LRU)
+    private int maxEntries = 256;
+    // Redis 2차 캐시 사용 여부 (여러 인스턴스가 스냅샷과 무효화 버전을 공유)
+    private boolean redisEnabled = false;
+    private long redisTtlHours = 48;
+    private String redisKeyPrefix = "boxoffice:snapshot:";
+}
@@ -0,0 +1,262 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeSnapshot;
+import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 일간/주간 박스오피스 응답 스냅샷.
+ * - 조회 조건(targetDt, weekGb, itemPerPage)별로 조립이 끝난 순위 목록을 보관한다
+ * - 1차: 프로세스 내 LRU, 2차: Redis (선택, redis-enabled)
+ * - 평점 평균/대표 감정은 리뷰마다 바뀌므로 보관하지 않고 요청마다 현재 값으로 덮어쓴 뒤, 최종 본문으로 ETag 를 만든다
+ * - 박스오피스 수집이 커밋되면 버전을 올려 기존 스냅샷을 버리고, 기본 조회 조건은 바로 다시 만든다
+ * - 영화 제목/포스터가 바뀌면(MoviesChangedEvent) 두 종류 모두 버린다
+ */
+@Slf4j
+@Service
+public class BoxOfficeSnapshotService {
+
+    static final int DEFAULT_ITEM_PER_PAGE = 10;
+    static final String DEFAULT_WEEK_GB = "0";
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final BoxOfficeService boxOfficeService;
+    private final BoxOfficeSnapshotProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, BoxOfficeListDTO<?>> local;
+    private final Map<Kind, AtomicLong> localVersions = new EnumMap<>(Kind.class);
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public BoxOfficeSnapshotService(
+            BoxOfficeService boxOfficeService,
+            BoxOfficeSnapshotProperties properties,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.boxOfficeService = boxOfficeService;
+        this.properties = properties;
+        this.redisTemplate = properties.isRedisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.objectMapper = objectMapper;
+        for (Kind kind : Kind.values()) {
+            localVersions.put(kind, new AtomicLong());
+        }
+
+        int maxEntries = Math.max(1, properties.getMaxEntries());
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BoxOfficeListDTO<?>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.localHitCounter = meterRegistry.counter("boxoffice.snapshot", "result", "hit", "tier", "local");
+        this.redisHitCounter = meterRegistry.counter("boxoffice.snapshot", "result", "hit", "tier", "redis");
+        this.missCounter = meterRegistry.counter("boxoffice.snapshot", "result", "miss", "tier", "none");
+    }
+
+    public BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> getDaily(String targetDt, int itemPerPage) {
+        String resolved = resolveDailyTargetDt(targetDt);
+        return get(
+                Kind.DAILY,
+                resolved + ":" + itemPerPage,
+                DailyBoxOfficeResponseDTO.class,
+                () -> boxOfficeService.getSavedDailyBoxOffice(resolved, itemPerPage),
+                boxOfficeService::withLiveDailyStats
+        );
+    }
+
+    public BoxOfficeSnapshot<WeeklyBoxOfficeResponseDTO> getWeekly(String targetDt, String weekGb, int itemPerPage) {
+        String dateKey = (targetDt == null || targetDt.isBlank()) ? "latest" : targetDt;
+        return get(
+                Kind.WEEKLY,
+                dateKey + ":" + weekGb + ":" + itemPerPage,
+                WeeklyBoxOfficeResponseDTO.class,
+                () -> boxOfficeService.getSavedWeeklyBoxOffice(targetDt, weekGb, itemPerPage),
+                boxOfficeService::withLiveWeeklyStats
+        );
+    }
+
+    // targetDt 가 없으면 어제 날짜
+    public static String resolveDailyTargetDt(String targetDt) {
+        return (targetDt == null || targetDt.isBlank())
+                ? LocalDate.now().minusDays(1).format(FMT)
+                : targetDt;
+    }
+
+    /**
+     * 수집 트랜잭션이 커밋된 뒤 해당 종류의 스냅샷을 모두 버리고, 랜딩 페이지 기본 조회를 미리 만든다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIngested(BoxOfficeIngestedEvent event) {
+        invalidate(event.kind());
+        try {
+            if (event.kind() == Kind.DAILY) {
+                getDaily(null, DEFAULT_ITEM_PER_PAGE);
+            } else {
+                getWeekly(null, DEFAULT_WEEK_GB, DEFAULT_ITEM_PER_PAGE);
+            }
+        } catch (RuntimeException e) {
+            // 다음 조회 요청에서 다시 만든다
+            log.warn("[BoxOfficeSnapshot] warm-up failed kind={} reason={}", event.kind(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        for (Kind kind : Kind.values()) {
+            invalidate(kind);
+        }
+    }
+
+    public void invalidate(Kind kind) {
+        localVersions.get(kind).incrementAndGet();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().increment(versionKey(kind));
+            } catch (RuntimeException e) {
+                log.warn("[BoxOfficeSnapshot] redis invalidate failed kind={} reason={}", kind, e.getMessage());
+            }
+        }
+        String prefix = kind.name() + ":";
+        synchronized (local) {
+            local.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+        log.info("[BoxOfficeSnapshot] invalidated kind={}", kind);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BoxOfficeSnapshot<T> get(
+            Kind kind,
+            String condition,
+            Class<T> itemType,
+            Supplier<BoxOfficeListDTO<T>> loader,
+            UnaryOperator<BoxOfficeListDTO<T>> liveStats
+    ) {
+        // 버전이 키에 포함되어 있어 무효화 이전 스냅샷은 더 이상 조회되지 않는다
+        String key = kind.name() + ":" + currentVersion(kind) + ":" + condition;
+
+        BoxOfficeListDTO<T> rows;
+        synchronized (local) {
+            rows = (BoxOfficeListDTO<T>) local.get(key);
+        }
+        if (rows != null) {
+            localHitCounter.increment();
+        } else {
+            rows = readRedis(key, itemType);
+            if (rows != null) {
+                redisHitCounter.increment();
+            } else {
+                missCounter.increment();
+                rows = loader.get();
+                writeRedis(key, rows);
+            }
+            synchronized (local) {
+                local.put(key, rows);
+            }
+        }
+        return build(liveStats.apply(rows));
+    }
+
+    private <T> BoxOfficeSnapshot<T> build(BoxOfficeListDTO<T> body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new BoxOfficeSnapshot<>(body, "\"" + sha256(json).substring(0, 32) + "\"");
+    }
+
+    private long currentVersion(Kind kind) {
+        if (redisTemplate != null) {
+            try {
+                String version = redisTemplate.opsForValue().get(versionKey(kind));
+                return version == null ? 0L : Long.parseLong(version);
+            } catch (RuntimeException e) {
+                log.debug("[BoxOfficeSnapshot] redis version read failed kind={} reason={}", kind, e.getMessage());
+            }
+        }
+        return localVersions.get(kind).get();
+    }
+
+    private <T> BoxOfficeListDTO<T> readRedis(String key, Class<T> itemType) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(rowsKey(key));
+            if (json == null) {
+                return null;
+            }
+            JavaType type = objectMapper.getTypeFactory().constructParametricType(BoxOfficeListDTO.class, itemType);
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.debug("[BoxOfficeSnapshot] redis read failed key={} reason={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, BoxOfficeListDTO<?> rows) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                    rowsKey(key),
+                    objectMapper.writeValueAsString(rows),
+                    Duration.ofHours(properties.getRedisTtlHours())
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("[BoxOfficeSnapshot] redis write failed key={} reason={}", key, e.getMessage());
+        }
+    }
+
+    // 응답 전체를 담던 이전 형식의 값과 섞이지 않도록 rows: 아래에 둔다
+    private String rowsKey(String key) {
+        return properties.getRedisKeyPrefix() + "rows:" + key;
+    }
+
+    private String versionKey(Kind kind) {
+        return properties.getRedisKeyPrefix() + "version:" + kind.name();
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeTrendMetric;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeMovieTrendDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTopMovieDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTopMoviesDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTrendPointDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import com.insidemovie.backend.common.exception.BadRequestException;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 일간 박스오피스 이력으로 기간 추이/상위 N 을 계산한다.
+ * - 합계/순위/이동 평균은 숫자 컬럼 위에서 집계·윈도 함수로 DB 가 계산한다
+ * - 결과는 조회 구간별로 LRU 에 보관하고, 새 일간 데이터가 커밋되면 모두 버린다
+ */
+@Slf4j
+@Service
+public class BoxOfficeTrendService {
+
+    static final int MAX_DAYS = 365;
+    static final int MAX_LIMIT = 50;
+    private static final int MAX_ENTRIES = 256;
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final MovieRepository movieRepository;
+    private final Map<String, Object> cache;
+    // endDt 가 없을 때 기준이 되는 마지막 수집일. 일간 수집 시 초기화
+    private volatile LocalDate latestTargetDate;
+    // 무효화될 때마다 올린다 (cache 잠금 안에서). 조회 중에 무효화가 끼면 그 결과는 넣지 않는다
+    private long generation;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public BoxOfficeTrendService(
+            DailyBoxOfficeRepository dailyRepo,
+            MovieRepository movieRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.dailyRepo = dailyRepo;
+        this.movieRepository = movieRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.hitCounter = meterRegistry.counter("boxoffice.trend.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("boxoffice.trend.cache", "result", "miss");
+    }
+
+    /**
+     * endDt 를 포함한 최근 days 일 동안의 관객수/매출액 합계 상위 limit 개 영화.
+     */
+    public BoxOfficeTopMoviesDTO getTopMovies(String endDt, int days, int limit, BoxOfficeTrendMetric metric) {
+        LocalDate to = resolveEnd(endDt);
+        LocalDate from = windowStart(to, days);
+        int size = Math.min(Math.max(1, limit), MAX_LIMIT);
+        String key = "top:" + metric + ":" + from + ":" + to + ":" + size;
+
+        return cached(key, () -> {
+            List<Object[]> rows = metric == BoxOfficeTrendMetric.SALES
+                    ? dailyRepo.findTopMoviesBySales(from, to, size)
+                    : dailyRepo.findTopMoviesByAudience(from, to, size);
+            Map<String, Long> movieIds = movieIdsOf(rows.stream().map(row -> (String) row[0]).toList());
+
+            List<BoxOfficeTopMovieDTO> items = rows.stream()
+                    .map(row -> BoxOfficeTopMovieDTO.builder()
+                            .rank(toInt(row[6]))
+                            .movieCd((String) row[0])
+                            .movieId(movieIds.get((String) row[0]))
+                            .movieNm((String) row[1])
+                            .audience(toLong(row[2]))
+                            .sales(toLong(row[3]))
+                            .daysOnChart(toInt(row[4]))
+                            .bestRank(row[5] == null ? null : toInt(row[5]))
+                            .build())
+                    .toList();
+
+            return BoxOfficeTopMoviesDTO.builder()
+                    .from(from.format(FMT))
+                    .to(to.format(FMT))
+                    .metric(metric)
+                    .items(items)
+                    .build();
+        });
+    }
+
+    /**
+     * 영화 하나의 최근 days 일 일자별 관객수/매출액 추이.
+     * 박스오피스 순위 밖이었던 날은 기록이 없어 결과에서도 빠진다.
+     */
+    public BoxOfficeMovieTrendDTO getMovieTrend(String movieCd, String endDt, int days) {
+        LocalDate to = resolveEnd(endDt);
+        LocalDate from = windowStart(to, days);
+        String key = "movie:" + movieCd + ":" + from + ":" + to;
+
+        return cached(key, () -> {
+            List<Object[]> rows = dailyRepo.findTrendByMovieCd(movieCd, from, to);
+            if (rows.isEmpty()) {
+                throw new NotFoundException(ErrorStatus.NOT_FOUND_DAILY_BOXOFFICE.getMessage());
+            }
+
+            List<BoxOfficeTrendPointDTO> points = rows.stream()
+                    .map(row -> BoxOfficeTrendPointDTO.builder()
+                            .targetDt(toLocalDate(row[0]).format(FMT))
+                            .rank(row[2] == null ? null : toInt(row[2]))
+                            .audiCnt(row[3] == null ? null : toLong(row[3]))
+                            .salesAmt(row[4] == null ? null : toLong(row[4]))
+                            .audiAcc(row[5] == null ? null : toLong(row[5]))
+                            .audiCntAvg7(row[6] == null ? null : ((Number) row[6]).doubleValue())
+                            .build())
+                    .toList();
+
+            return BoxOfficeMovieTrendDTO.builder()
+                    .movieCd(movieCd)
+                    .movieId(movieIdsOf(List.of(movieCd)).get(movieCd))
+                    .movieNm((String) rows.get(rows.size() - 1)[1])
+                    .from(from.format(FMT))
+                    .to(to.format(FMT))
+                    .totalAudience(points.stream().mapToLong(p -> p.getAudiCnt() == null ? 0L : p.getAudiCnt()).sum())
+                    .totalSales(points.stream().mapToLong(p -> p.getSalesAmt() == null ? 0L : p.getSalesAmt()).sum())
+                    .points(points)
+                    .build();
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIngested(BoxOfficeIngestedEvent event) {
+        if (event.kind() == Kind.DAILY) {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        synchronized (cache) {
+            generation++;
+            latestTargetDate = null;
+            cache.clear();
+        }
+        log.info("[BoxOfficeTrend] cache invalidated");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader) {
+        Object value;
+        long startedGeneration;
+        synchronized (cache) {
+            value = cache.get(key);
+            startedGeneration = generation;
+        }
+        if (value != null) {
+            hitCounter.increment();
+            return (T) value;
+        }
+        missCounter.increment();
+        T loaded = loader.get();
+        synchronized (cache) {
+            if (generation == startedGeneration) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private LocalDate resolveEnd(String endDt) {
+        if (endDt != null && !endDt.isBlank()) {
+            try {
+                return LocalDate.parse(endDt, FMT);
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException(ErrorStatus.INVALID_TREND_WINDOW_EXCEPTION.getMessage());
+            }
+        }
+        LocalDate latest = latestTargetDate;
+        if (latest == null) {
+            long startedGeneration;
+            synchronized (cache) {
+                startedGeneration = generation;
+            }
+            latest = dailyRepo.findLatestTargetDate()
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_DAILY_BOXOFFICE.getMessage()));
+            synchronized (cache) {
+                if (generation == startedGeneration) {
+                    latestTargetDate = latest;
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static LocalDate windowStart(LocalDate to, int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new BadRequestException(ErrorStatus.INVALID_TREND_WINDOW_EXCEPTION.getMessage());
+        }
+        return to.minusDays(days - 1L);
+    }
+
+    private Map<String, Long> movieIdsOf(List<String> movieCds) {
+        if (movieCds.isEmpty()) {
+            return Map.of();
+        }
+        return movieRepository.findByKoficIdIn(movieCds).stream()
+                .collect(Collectors.toMap(Movie::getKoficId, Movie::getId, (a, b) -> a));
+    }
+
+    // 네이티브 쿼리의 DATE 는 드라이버에 따라 java.sql.Date 또는 LocalDate 로 온다
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+}
@@ -0,0 +1,317 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.infrastructure.kmdb.KmdbMovieClient;
+import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * KOBIS 영화 정보로 KMDb 후보를 검색하고 가장 잘 맞는 후보를 고른다.
+ * - 검색은 KmdbQueryTier 순서로 하나씩 보내고, 받을 때마다 점수를 매긴다
+ * - min-score 이상이면서 포스터가 있는 후보가 나오면 남은 단계는 보내지 않는다
+ * - 끝까지 확신할 후보가 없으면 모은 후보 전체에서 min-score / 완화 기준으로 고른다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KmdbCandidateMatcher {
+
+    private final KmdbMovieClient kmdbMovieClient;
+    private final MeterRegistry meterRegistry;
+    @Value("${movie.metadata.match.list-count:20}")
+    private int listCount = 20;
+    @Value("${movie.metadata.match.min-score:70}")
+    private int minScore = 70;
+    @Value("${movie.metadata.match.relaxed-min-score:55}")
+    private int relaxedMinScore = 55;
+    @Value("${movie.metadata.match.relaxed-year-tolerance:1}")
+    private int relaxedYearTolerance = 1;
+    @Value("${movie.metadata.match.early-stop:true}")
+    private boolean earlyStop = true;
+
+    public KmdbMatchResult match(KobisMovieInfo info, Movie movie) {
+        try {
+            return match(info, movie, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("KMDb match interrupted", e);
+        }
+    }
+
+    /**
+     * @param limiter KMDb 검색마다 먼저 통과할 요청 제한기 (없으면 null)
+     */
+    public KmdbMatchResult match(KobisMovieInfo info, Movie movie, RequestRateLimiter limiter) throws InterruptedException {
+        String title = firstNonBlank(info == null ? null : info.title(), movie.getTitle());
+        String titleEn = firstNonBlank(info == null ? null : info.titleEn(), movie.getTitleEn());
+        Integer year = resolveYear(info, movie);
+        String director = info == null || info.directors() == null || info.directors().isEmpty()
+                ? ""
+                : firstNonBlank(info.directors().get(0), "");
+        String normalizedTitle = normalizeTitleForQuery(title);
+        boolean hasNormalizedVariant = !normalizedTitle.isBlank() && !normalizedTitle.equals(title);
+
+        Source source = new Source(title, year, normalizeNames(info == null ? List.of() : info.directors()));
+        Cascade cascade = new Cascade(source, limiter);
+        for (KmdbQueryTier tier : KmdbQueryTier.values()) {
+            switch (tier) {
+                case TITLE_YEAR_DIRECTOR -> cascade.query(tier, title, year, director);
+                case TITLE_YEAR -> {
+                    if (year != null) {
+                        cascade.query(tier, title, year, "");
+                    }
+                }
+                case TITLE_DIRECTOR -> {
+                    if (!isBlank(director)) {
+                        cascade.query(tier, title, null, director);
+                    }
+                }
+                case TITLE -> cascade.query(tier, title, null, "");
+                case TITLE_EN -> {
+                    if (!isBlank(titleEn)) {
+                        cascade.query(tier, titleEn, null, "");
+                    }
+                }
+                case NORMALIZED_TITLE_YEAR_DIRECTOR -> {
+                    if (hasNormalizedVariant) {
+                        cascade.query(tier, normalizedTitle, year, director);
+                    }
+                }
+                case NORMALIZED_TITLE -> {
+                    if (hasNormalizedVariant) {
+                        cascade.query(tier, normalizedTitle, null, "");
+                    }
+                }
+            }
+            if (earlyStop && cascade.confident()) {
+                break;
+            }
+        }
+
+        KmdbMatchResult result = cascade.result(movie);
+        meterRegistry.counter("movie.kmdb.match", "tier", result.tierName()).increment();
+        meterRegistry.summary("movie.kmdb.match.queries").record(result.queries());
+        return result;
+    }
+
+    // 한 영화의 검색 단계를 거치며 후보를 모으고 최고 점수 후보를 유지한다
+    private final class Cascade {
+        private final Source source;
+        private final RequestRateLimiter limiter;
+        private final Set<String> seen = new HashSet<>();
+        private int queries;
+        private int candidates;
+        private KmdbMovieCandidate best;
+        private KmdbQueryTier bestTier;
+        private int bestScore = -1;
+        private boolean bestHasPoster;
+
+        private Cascade(Source source, RequestRateLimiter limiter) {
+            this.source = source;
+            this.limiter = limiter;
+        }
+
+        private void query(KmdbQueryTier tier, String title, Integer year, String director) throws InterruptedException {
+            if (limiter != null) {
+                limiter.acquire();
+            }
+            queries++;
+            List<KmdbMovieCandidate> found = kmdbMovieClient.searchMovieCandidates(title, year, director, listCount);
+            if (found == null) {
+                return;
+            }
+            for (KmdbMovieCandidate candidate : found) {
+                if (!seen.add(dedupeKey(candidate))) {
+                    continue;
+                }
+                candidates++;
+                int score = scoreTitle(source.title(), candidate.title())
+                        + scoreYear(source.year(), candidate.productionYear())
+                        + scoreDirectors(source.directors(), candidate.directors());
+                boolean hasPoster = !isBlank(candidate.posterPath());
+                if (score > bestScore || (score == bestScore && hasPoster && !bestHasPoster)) {
+                    best = candidate;
+                    bestTier = tier;
+                    bestScore = score;
+                    bestHasPoster = hasPoster;
+                }
+            }
+        }
+
+        private boolean confident() {
+            return best != null && bestScore >= minScore && bestHasPoster;
+        }
+
+        private KmdbMatchResult result(Movie movie) {
+            if (best == null) {
+                return new KmdbMatchResult(null, null, -1, queries, candidates);
+            }
+            if (bestScore >= minScore) {
+                return new KmdbMatchResult(best, bestTier, bestScore, queries, candidates);
+            }
+            if (allowRelaxedMatch(best, bestScore, source.title(), source.year())) {
+                log.info("KMDb relaxed match accepted movieId={} title={} score={} minScore={}",
+                        movie.getId(), movie.getTitle(), bestScore, minScore);
+                return new KmdbMatchResult(best, bestTier, bestScore, queries, candidates);
+            }
+            log.debug("KMDb match below threshold movieId={} title={} bestScore={}", movie.getId(), movie.getTitle(), bestScore);
+            return new KmdbMatchResult(null, null, bestScore, queries, candidates);
+        }
+    }
+
+    private record Source(String title, Integer year, Set<String> directors) {
+    }
+
+    private String dedupeKey(KmdbMovieCandidate candidate) {
+        return normalizeText(candidate.title()) + "|" + candidate.productionYear() + "|"
+                + (candidate.directors() == null || candidate.directors().isEmpty()
+                ? ""
+                : normalizeText(candidate.directors().get(0)));
+    }
+
+    private int scoreTitle(String sourceTitle, String candidateTitle) {
+        if (isBlank(sourceTitle) || isBlank(candidateTitle)) {
+            return 0;
+        }
+        String source = normalizeText(sourceTitle);
+        String candidate = normalizeText(candidateTitle);
+        if (source.equals(candidate)) {
+            return 70;
+        }
+        if (source.contains(candidate) || candidate.contains(source)) {
+            return 40;
+        }
+        return 0;
+    }
+
+    private int scoreYear(Integer sourceYear, Integer candidateYear) {
+        if (sourceYear == null || candidateYear == null) {
+            return 0;
+        }
+        return sourceYear.equals(candidateYear) ? 30 : 0;
+    }
+
+    private int scoreDirectors(Set<String> sourceDirectors, List<String> candidateDirectors) {
+        if (sourceDirectors.isEmpty() || candidateDirectors == null || candidateDirectors.isEmpty()) {
+            return 0;
+        }
+        Set<String> normalizedCandidates = normalizeNames(candidateDirectors);
+        for (String source : sourceDirectors) {
+            if (normalizedCandidates.contains(source)) {
+                return 20;
+            }
+        }
+        return 0;
+    }
+
+    private boolean allowRelaxedMatch(
+            KmdbMovieCandidate best,
+            int bestScore,
+            String sourceTitle,
+            Integer sourceYear
+    ) {
+        if (bestScore < relaxedMinScore) {
+            return false;
+        }
+        if (isBlank(best.posterPath())) {
+            return false;
+        }
+        if (!isTitleSimilar(sourceTitle, best.title())) {
+            return false;
+        }
+        return isYearWithinTolerance(sourceYear, best.productionYear(), relaxedYearTolerance);
+    }
+
+    private boolean isTitleSimilar(String sourceTitle, String candidateTitle) {
+        if (isBlank(sourceTitle) || isBlank(candidateTitle)) {
+            return false;
+        }
+        String source = normalizeText(sourceTitle);
+        String candidate = normalizeText(candidateTitle);
+        return source.equals(candidate) || source.contains(candidate) || candidate.contains(source);
+    }
+
+    private boolean isYearWithinTolerance(Integer sourceYear, Integer candidateYear, int tolerance) {
+        if (sourceYear == null || candidateYear == null) {
+            return false;
+        }
+        return Math.abs(sourceYear - candidateYear) <= Math.max(tolerance, 0);
+    }
+
+    private Set<String> normalizeNames(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return names.stream()
+                .map(this::normalizeText)
+                .filter(value -> !value.isBlank())
+                .collect(Collectors.toSet());
+    }
+
+    private Integer resolveYear(KobisMovieInfo info, Movie movie) {
+        if (info != null && info.productionYear() != null) {
+            return info.productionYear();
+        }
+        if (info != null && !isBlank(info.openDt())) {
+            String digits = info.openDt().replaceAll("[^0-9]", "");
+            if (digits.length() >= 4) {
+                return Integer.parseInt(digits.substring(0, 4));
+            }
+        }
+        if (movie.getReleaseDate() != null) {
+            return movie.getReleaseDate().getYear();
+        }
+        return null;
+    }
+
+    private String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value
+                .replaceAll("!HS|!HE|<[^>]+>", " ")
+                .replaceAll("\\([^)]*\\)|\\[[^\\]]*\\]", " ")
+                .replaceAll("[:：\\-–_]", " ")
+                .replaceAll("[\\s\\p{Punct}]+", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+
+    private String normalizeTitleForQuery(String title) {
+        if (isBlank(title)) {
+            return "";
+        }
+        return title
+                .replaceAll("\\([^)]*\\)|\\[[^\\]]*\\]", " ")
+                .replaceAll("[:：\\-–_]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private String firstNonBlank(String primary, String fallback) {
+        if (!isBlank(primary)) {
+            return primary.trim();
+        }
+        if (!isBlank(fallback)) {
+            return fallback.trim();
+        }
+        return "";
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
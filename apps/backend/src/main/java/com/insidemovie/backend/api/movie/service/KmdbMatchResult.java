@@ -0,0 +1,28 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
+
+/**
+ * KMDb 후보 매칭 결과.
+ *
+ * @param candidate  채택된 후보 (없으면 null)
+ * @param tier       채택된 후보가 처음 나온 검색 단계 (없으면 null)
+ * @param score      채택된 후보 점수 (없으면 최고 점수, 후보가 없으면 -1)
+ * @param queries    실제로 보낸 KMDb 검색 수
+ * @param candidates 중복을 제외하고 받은 후보 수
+ */
+public record KmdbMatchResult(
+        KmdbMovieCandidate candidate,
+        KmdbQueryTier tier,
+        int score,
+        int queries,
+        int candidates
+) {
+    public boolean matched() {
+        return candidate != null;
+    }
+
+    public String tierName() {
+        return tier == null ? "NONE" : tier.name();
+    }
+}
@@ -0,0 +1,14 @@
+package com.insidemovie.backend.api.movie.service;
+
+/**
+ * KMDb 후보 검색 단계. 선언 순서대로 조회하며, 매칭된 후보가 처음 나온 단계를 기록한다.
+ */
+public enum KmdbQueryTier {
+    TITLE_YEAR_DIRECTOR,
+    TITLE_YEAR,
+    TITLE_DIRECTOR,
+    TITLE,
+    TITLE_EN,
+    NORMALIZED_TITLE_YEAR_DIRECTOR,
+    NORMALIZED_TITLE
+}
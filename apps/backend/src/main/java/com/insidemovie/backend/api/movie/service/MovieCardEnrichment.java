@@ -0,0 +1,51 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 한 페이지 분량의 영화 카드에 필요한 감정 요약/평균 평점 조회 결과.
+ * 요약이나 리뷰가 없는 영화는 NONE / 0.00 으로 채운다.
+ */
+public class MovieCardEnrichment {
+
+    private final Map<Long, MovieEmotionSummary> summaries;
+    private final Map<Long, BigDecimal> ratingAverages;
+
+    MovieCardEnrichment(Map<Long, MovieEmotionSummary> summaries, Map<Long, BigDecimal> ratingAverages) {
+        this.summaries = summaries;
+        this.ratingAverages = ratingAverages;
+    }
+
+    public EmotionType mainEmotion(Long movieId) {
+        MovieEmotionSummary summary = summaries.get(movieId);
+        if (summary == null || summary.getDominantEmotion() == null) {
+            return EmotionType.NONE;
+        }
+        return summary.getDominantEmotion();
+    }
+
+    public double mainEmotionValue(Long movieId) {
+        MovieEmotionSummary summary = summaries.get(movieId);
+        if (summary == null) {
+            return 0.0;
+        }
+        Float value = switch (mainEmotion(movieId)) {
+            case JOY -> summary.getJoy();
+            case SADNESS -> summary.getSadness();
+            case ANGER -> summary.getAnger();
+            case FEAR -> summary.getFear();
+            case DISGUST -> summary.getDisgust();
+            case NONE -> null;
+        };
+        return value == null ? 0.0 : value.doubleValue();
+    }
+
+    public BigDecimal ratingAvg(Long movieId) {
+        return ratingAverages.getOrDefault(movieId, MovieRatingStats.EMPTY_AVG);
+    }
+}
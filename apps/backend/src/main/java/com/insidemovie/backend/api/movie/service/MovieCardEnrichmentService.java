@@ -0,0 +1,45 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 영화 목록 응답(검색/추천/내가 본 영화 등)의 카드 정보를 페이지 단위로 채운다.
+ * 행마다 감정 요약/평점을 조회하지 않고, 페이지의 영화 ID 목록으로 IN 쿼리 한 번씩만 실행한다.
+ * 평점은 movie_rating_stats 에 저장된 평균을 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieCardEnrichmentService {
+
+    private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
+
+    public MovieCardEnrichment enrich(Collection<Long> movieIds) {
+        List<Long> ids = movieIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return new MovieCardEnrichment(Map.of(), Map.of());
+        }
+
+        Map<Long, MovieEmotionSummary> summaries = new HashMap<>();
+        for (MovieEmotionSummary summary : movieEmotionSummaryRepository.findByMovieIdIn(ids)) {
+            summaries.put(summary.getMovieId(), summary);
+        }
+
+        Map<Long, BigDecimal> ratingAverages = movieRatingStatsService.getRatingAvgs(ids);
+
+        return new MovieCardEnrichment(summaries, ratingAverages);
+    }
+}
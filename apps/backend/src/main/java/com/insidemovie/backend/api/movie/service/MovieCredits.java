@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.movie.service;
+
+import java.util.List;
+
+/**
+ * 영화 상세에 싣는 배우/감독 이름 (나열 순서 유지).
+ */
+public record MovieCredits(
+        List<String> actors,
+        List<String> directors
+) {
+}
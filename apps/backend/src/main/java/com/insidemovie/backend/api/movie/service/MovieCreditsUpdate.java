@@ -0,0 +1,13 @@
+package com.insidemovie.backend.api.movie.service;
+
+import java.util.List;
+
+/**
+ * 영화인 백필이 한 영화에 저장할 감독/배우 이름 (나열 순서 유지).
+ */
+public record MovieCreditsUpdate(
+        Long movieId,
+        List<String> directors,
+        List<String> actors
+) {
+}
@@ -0,0 +1,184 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 사용자와 무관한 영화 상세 응답 캐시. isLike 는 담지 않고 호출하는 쪽에서 덧씌운다.
+ * - 항목마다 추정 크기를 두고 합이 max-weight-bytes 를 넘으면 오래 안 쓴 것부터 버린다 (LRU)
+ * - ttl-minutes 가 지난 항목은 다시 만든다
+ * - 백필(MoviesChangedEvent)과 리뷰 평점 변경(MovieRatingChangedEvent) 커밋 후 해당 영화만 버린다
+ * 돌려주는 객체는 캐시와 공유하므로 고치지 말고 복사해서 쓴다.
+ */
+@Slf4j
+@Component
+public class MovieDetailCache {
+
+    // 객체 헤더/참조 등 문자열 외 고정 비용 추정치
+    private static final int BASE_WEIGHT = 512;
+    private static final int ELEMENT_WEIGHT = 48;
+
+    private final MovieDetailCacheProperties properties;
+    private final Map<Long, Entry> local = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight;
+    // 무효화될 때마다 올린다. 조립 중에 무효화가 끼면 그 결과는 넣지 않는다
+    private long generation;
+
+    // 테스트에서 시간을 바꿔 끼운다
+    LongSupplier clock = System::currentTimeMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredCounter;
+
+    public MovieDetailCache(MovieDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        meterRegistry.gauge("movie.detail.cache.size", this, MovieDetailCache::size);
+        meterRegistry.gauge("movie.detail.cache.weight", this, MovieDetailCache::weightBytes);
+        this.hitCounter = meterRegistry.counter("movie.detail.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("movie.detail.cache", "result", "miss");
+        this.expiredCounter = meterRegistry.counter("movie.detail.cache", "result", "expired");
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없거나 만료되었으면 loader 로 만들어 넣는다. loader 의 예외는 그대로 던진다.
+     */
+    public MovieDetailResDto get(Long movieId, Supplier<MovieDetailResDto> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        long startedGeneration;
+        synchronized (local) {
+            Entry entry = local.get(movieId);
+            if (entry != null && entry.expiresAt() > clock.getAsLong()) {
+                hitCounter.increment();
+                return entry.detail();
+            }
+            if (entry != null) {
+                remove(movieId);
+                expiredCounter.increment();
+            } else {
+                missCounter.increment();
+            }
+            startedGeneration = generation;
+        }
+
+        MovieDetailResDto detail = loader.get();
+        long weight = estimateWeight(detail);
+        long maxWeight = Math.max(0, properties.getMaxWeightBytes());
+        if (weight > maxWeight) {
+            return detail;
+        }
+
+        synchronized (local) {
+            if (generation != startedGeneration) {
+                return detail;
+            }
+            remove(movieId);
+            long expiresAt = clock.getAsLong() + properties.getTtlMinutes() * 60_000L;
+            local.put(movieId, new Entry(detail, weight, expiresAt));
+            totalWeight += weight;
+            Iterator<Map.Entry<Long, Entry>> eldest = local.entrySet().iterator();
+            while (totalWeight > maxWeight && eldest.hasNext()) {
+                totalWeight -= eldest.next().getValue().weight();
+                eldest.remove();
+            }
+        }
+        return detail;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        invalidate(event.movieIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(MovieRatingChangedEvent event) {
+        invalidate(event.movieIds());
+    }
+
+    public void invalidate(Collection<Long> movieIds) {
+        if (movieIds == null || movieIds.isEmpty()) {
+            return;
+        }
+        synchronized (local) {
+            generation++;
+            movieIds.forEach(this::remove);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (local) {
+            generation++;
+            local.clear();
+            totalWeight = 0;
+        }
+        log.info("[MovieDetailCache] invalidated all");
+    }
+
+    int size() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    long weightBytes() {
+        synchronized (local) {
+            return totalWeight;
+        }
+    }
+
+    // local 잠금 안에서만 부른다
+    private void remove(Long movieId) {
+        Entry removed = local.remove(movieId);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    /**
+     * 응답 객체의 대략적인 힙 크기. 문자열은 글자당 2바이트로 센다.
+     */
+    static long estimateWeight(MovieDetailResDto detail) {
+        long weight = BASE_WEIGHT;
+        for (String value : new String[]{
+                detail.getTitle(), detail.getOverview(), detail.getPosterPath(), detail.getBackdropPath(),
+                detail.getOriginalLanguage(), detail.getRating(), detail.getReleaseDate(), detail.getStatus(),
+                detail.getTitleEn()}) {
+            weight += stringWeight(value);
+        }
+        for (List<String> values : List.of(
+                nullToEmpty(detail.getGenre()), nullToEmpty(detail.getActors()),
+                nullToEmpty(detail.getDirector()), nullToEmpty(detail.getOttProviders()))) {
+            for (String value : values) {
+                weight += ELEMENT_WEIGHT + stringWeight(value);
+            }
+        }
+        return weight;
+    }
+
+    private static long stringWeight(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+
+    private record Entry(MovieDetailResDto detail, long weight, long expiresAt) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "movie.detail.cache")
+public class MovieDetailCacheProperties {
+    private boolean enabled = true;
+    // 캐시에 든 상세 응답의 추정 크기 합 상한 (넘으면 오래 안 쓴 것부터 버린다)
+    private long maxWeightBytes = 16L * 1024 * 1024;
+    // 무효화 이벤트를 놓쳐도 이 시간이 지나면 다시 만든다
+    private long ttlMinutes = 10;
+}
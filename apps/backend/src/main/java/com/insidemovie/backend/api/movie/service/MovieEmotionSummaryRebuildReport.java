@@ -0,0 +1,11 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MovieEmotionSummaryRebuildReport {
+    private final int rebuiltMovies;
+    private final int resetMovies;
+}
@@ -2,18 +2,25 @@ package com.insidemovie.backend.api.movie.service;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
-import com.insidemovie.backend.api.member.service.MemberEmotionSummaryService;
+import com.insidemovie.backend.api.member.service.MemberEmotionRecalcQueue;
+import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.review.entity.Emotion;
 import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MovieEmotionSummaryService {
@@ -21,45 +28,126 @@ public class MovieEmotionSummaryService {
     private final MovieEmotionSummaryRepository summaryRepository;
     private final MovieRepository movieRepository;
     private final MovieLikeRepository movieLikeRepository;
-    private final MemberEmotionSummaryService memberEmotionSummaryService;
+    private final MemberEmotionRecalcQueue memberEmotionRecalcQueue;
     private final MovieService movieService;
 
+    /**
+     * 리뷰 감정 변경분만 movie_emotion_summary 누적값에 반영한다.
+     * - 작성: removed = null, added = 새 감정
+     * - 수정: removed = 기존 감정, added = 새 감정
+     * - 삭제: removed = 기존 감정, added = null
+     * 누적값이 아직 없는 행(또는 행 자체가 없는 경우)은 해당 영화만 전체 재계산한다.
+     */
+    @Transactional
+    public void applyEmotionChange(Long movieId, Emotion removed, Emotion added) {
+        Movie movie = movieRepository.findById(movieId)
+            .orElseThrow(() -> new NotFoundException("Movie not found: " + movieId));
+
+        MovieEmotionSummary summary = lockSummary(movieId);
+        if (!summary.hasTotals()) {
+            summary = rebuildSummary(movie, summary);
+        } else {
+            summary.applyDelta(removed, added);
+            refreshAverages(summary);
+        }
+        summaryRepository.save(summary);
+
+        recalcLikedMemberSummaries(movie);
+    }
+
+    /**
+     * 한 영화의 감정 요약을 Emotion 테이블 기준으로 전체 재계산한다. (복구용)
+     */
     @Transactional
     public void recalcMovieSummary(Long movieId) {
         // 1) 영화 존재 확인
         Movie movie = movieRepository.findById(movieId)
             .orElseThrow(() -> new NotFoundException("Movie not found: " + movieId));
 
-        // 2) Emotion 테이블 평균 조회
-        EmotionAvgDTO avgDto = emotionRepository
-            .findAverageEmotionsByMovieId(movieId)
-            .orElseGet(() -> EmotionAvgDTO.builder()
-                .joy(0.0).sadness(0.0)
-                .anger(0.0).fear(0.0)
-                .disgust(0.0)
-                .repEmotionType(EmotionType.NONE)
-                .build());
+        // 2) 합계 재계산 후 저장
+        summaryRepository.save(rebuildSummary(movie, lockSummary(movieId)));
 
-        EmotionType rep = movieService.calculateRepEmotion(avgDto);
-        avgDto.setRepEmotionType(rep);
+        // 3) 이 영화를 좋아요한 모든 회원의 감정 요약 재계산 요청
+        recalcLikedMemberSummaries(movie);
+    }
+
+    /**
+     * 전체 영화의 감정 요약 누적값을 Emotion 테이블 기준으로 재구성한다. (관리자 복구 도구)
+     * 감정이 하나도 없는 영화의 요약 행은 0으로 초기화한다.
+     */
+    @Transactional
+    public MovieEmotionSummaryRebuildReport rebuildAll() {
+        Map<Long, MovieEmotionTotalsDTO> totalsByMovie = new HashMap<>();
+        for (MovieEmotionTotalsDTO totals : emotionRepository.findTotalsGroupByMovie()) {
+            totalsByMovie.put(totals.getMovieId(), totals);
+        }
 
-        // 3) movie_emotion_summary 조회 또는 신규 생성
-        MovieEmotionSummary summary = summaryRepository
-            .findByMovie(movie)
-            .orElseGet(() -> MovieEmotionSummary.builder()
+        int rebuilt = 0;
+        int reset = 0;
+        for (MovieEmotionSummary summary : summaryRepository.findAll()) {
+            MovieEmotionTotalsDTO totals = totalsByMovie.remove(summary.getMovieId());
+            if (totals == null) {
+                totals = emptyTotals(summary.getMovieId());
+                reset++;
+            } else {
+                rebuilt++;
+            }
+            summary.resetTotals(totals);
+            refreshAverages(summary);
+        }
+
+        // 감정은 있지만 요약 행이 없는 영화
+        for (MovieEmotionTotalsDTO totals : totalsByMovie.values()) {
+            Movie movie = movieRepository.findById(totals.getMovieId()).orElse(null);
+            if (movie == null) {
+                continue;
+            }
+            MovieEmotionSummary summary = MovieEmotionSummary.builder()
                 .movie(movie)
-                .build()
-            );
+                .build();
+            summary.resetTotals(totals);
+            refreshAverages(summary);
+            summaryRepository.save(summary);
+            rebuilt++;
+        }
+
+        log.info("[MovieEmotionSummary] rebuild completed rebuilt={} reset={}", rebuilt, reset);
+        return MovieEmotionSummaryRebuildReport.builder()
+            .rebuiltMovies(rebuilt)
+            .resetMovies(reset)
+            .build();
+    }
+
+    // 행이 없으면 먼저 insert-if-absent 로 만든 뒤 잠근다. 동시에 처음 쓰는 트랜잭션은 같은 행 잠금에서 차례를 기다린다
+    private MovieEmotionSummary lockSummary(Long movieId) {
+        return summaryRepository.findForUpdateByMovieId(movieId).orElseGet(() -> {
+            summaryRepository.insertIfAbsent(movieId);
+            return summaryRepository.findForUpdateByMovieId(movieId)
+                .orElseThrow(() -> new NotFoundException("MovieEmotionSummary not found: " + movieId));
+        });
+    }
+
+    private MovieEmotionSummary rebuildSummary(Movie movie, MovieEmotionSummary summary) {
+        MovieEmotionTotalsDTO totals = emotionRepository.findTotalsByMovieId(movie.getId())
+            .orElseGet(() -> emptyTotals(movie.getId()));
+        summary.resetTotals(totals);
+        refreshAverages(summary);
+        return summary;
+    }
 
-        // 4) 갱신 후 저장
+    private void refreshAverages(MovieEmotionSummary summary) {
+        EmotionAvgDTO avgDto = summary.averagesFromTotals();
+        EmotionType rep = movieService.calculateRepEmotion(avgDto);
+        avgDto.setRepEmotionType(rep);
         summary.updateFromDTO(avgDto);
-        summaryRepository.save(summary);
+    }
+
+    // 좋아요한 회원 감정 요약은 커밋 후 백그라운드에서 재계산 (리뷰 작성 트랜잭션에서 분리)
+    private void recalcLikedMemberSummaries(Movie movie) {
+        memberEmotionRecalcQueue.enqueueAll(movieLikeRepository.findMemberIdsByMovieId(movie.getId()));
+    }
 
-        // 5) 이 영화를 좋아요한 모든 회원의 감정 요약 재계산
-        movieLikeRepository.findByMovie(movie)
-            .forEach(like -> {
-                Long memberId = like.getMember().getId();
-                memberEmotionSummaryService.recalcMemberSummary(memberId);
-            });
+    private MovieEmotionTotalsDTO emptyTotals(Long movieId) {
+        return new MovieEmotionTotalsDTO(movieId, 0L, 0.0, 0.0, 0.0, 0.0, 0.0);
     }
-}
\ No newline at end of file
+}
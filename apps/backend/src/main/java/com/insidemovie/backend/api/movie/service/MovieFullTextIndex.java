@@ -0,0 +1,320 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 제목/영문 제목/줄거리/배우/감독 전문 검색 역색인 (BM25).
+ * - 한글은 형태소 분석 없이 음절 1-gram, 2-gram 으로, 나머지 문자는 단어 단위로 색인한다
+ * - 필드별 BM25 점수에 필드 가중치를 곱해 더하고, idf 는 필드와 관계없이 문서 빈도로 계산한다
+ * - 검색어 토큰의 75% 이상을 가진 영화만 결과로 삼고, 그 결과의 장르별 개수를 패싯으로 돌려준다
+ * - 배우/감독은 상세와 같이 movie_person 을 쓰고, 아직 백필되지 않은 영화만 기존 문자열 컬럼을 읽는다 (MoviePersonService)
+ * - 기동 시 한 번 전체를 읽고, 이후에는 MoviesChangedEvent 로 바뀐 영화만 다시 읽는다
+ */
+@Slf4j
+@Component
+public class MovieFullTextIndex {
+
+    // 필드 순서: title, titleEn, overview, actors, directors
+    private static final int FIELDS = 5;
+    private static final double[] BOOSTS = {3.0, 2.0, 1.0, 1.5, 1.5};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double MIN_SHOULD_MATCH = 0.75;
+
+    private final MovieRepository movieRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MoviePersonService moviePersonService;
+    private final Timer searchTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+
+    public MovieFullTextIndex(
+            MovieRepository movieRepository,
+            MovieGenreRepository movieGenreRepository,
+            MoviePersonService moviePersonService,
+            MeterRegistry meterRegistry
+    ) {
+        this.movieRepository = movieRepository;
+        this.movieGenreRepository = movieGenreRepository;
+        this.moviePersonService = moviePersonService;
+        this.searchTimer = meterRegistry.timer("movie.search.full-text");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param genre 결과를 이 장르로 거른다 (없으면 null). 패싯은 거르기 전 결과로 센다
+     * @return 색인이 아직 없거나 검색어에서 토큰이 나오지 않으면 empty
+     */
+    public Optional<MovieFullTextResult> search(String query, GenreType genre) {
+        Set<String> terms = tokenize(query, true);
+        if (!ready || terms.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(searchTimer.record(() -> rank(terms, genre)));
+    }
+
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Set<GenreType>> genres = loadGenres(movieGenreRepository.findAllMovieIdAndGenre());
+        Map<Long, MovieCredits> credits = moviePersonService.loadAllCredits();
+        State fresh = new State();
+        for (Object[] row : movieRepository.findAllSearchDocuments()) {
+            fresh.add(toDoc(row, genres, credits));
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[MovieFullTextIndex] built movies={} terms={} elapsedMs={}",
+                fresh.docs.size(), fresh.postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        if (event.movieIds() == null || event.movieIds().isEmpty()) {
+            return;
+        }
+        try {
+            refresh(event.movieIds());
+        } catch (Exception e) {
+            log.warn("[MovieFullTextIndex] refresh failed ids={} error={}", event.movieIds(), e.getMessage());
+        }
+    }
+
+    // 바뀐 영화만 다시 읽어 고친다. 다시 읽히지 않는 id 는 삭제된 것으로 보고 뺀다
+    public synchronized void refresh(Collection<Long> movieIds) {
+        if (!ready) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>(movieIds);
+        Map<Long, Set<GenreType>> genres = loadGenres(movieGenreRepository.findMovieIdAndGenreByMovieIdIn(ids));
+        Map<Long, MovieCredits> credits = moviePersonService.loadCredits(ids);
+        List<Doc> fresh = new ArrayList<>();
+        for (Object[] row : movieRepository.findSearchDocumentsByIdIn(ids)) {
+            fresh.add(toDoc(row, genres, credits));
+        }
+
+        lock.writeLock().lock();
+        try {
+            ids.forEach(state::remove);
+            fresh.forEach(state::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private MovieFullTextResult rank(Set<String> terms, GenreType genre) {
+        Map<Long, double[]> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            State current = state;
+            int n = current.docs.size();
+            double[] avgLengths = new double[FIELDS];
+            for (int f = 0; f < FIELDS; f++) {
+                avgLengths[f] = n == 0 ? 0 : (double) current.totalLengths[f] / n;
+            }
+
+            for (String term : terms) {
+                Map<Long, int[]> posting = current.postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, int[]> entry : posting.entrySet()) {
+                    int[] lengths = current.docs.get(entry.getKey()).lengths();
+                    double termScore = 0;
+                    for (int f = 0; f < FIELDS; f++) {
+                        int tf = entry.getValue()[f];
+                        if (tf == 0) {
+                            continue;
+                        }
+                        double norm = avgLengths[f] == 0 ? 1 : lengths[f] / avgLengths[f];
+                        termScore += BOOSTS[f] * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * norm));
+                    }
+                    // [0] 누적 점수, [1] 가진 검색어 토큰 수
+                    double[] acc = scores.computeIfAbsent(entry.getKey(), key -> new double[2]);
+                    acc[0] += termScore;
+                    acc[1] += 1;
+                }
+            }
+
+            int minMatch = (int) Math.max(1, Math.ceil(terms.size() * MIN_SHOULD_MATCH));
+            Map<GenreType, Integer> facets = new EnumMap<>(GenreType.class);
+            List<Map.Entry<Long, double[]>> hits = new ArrayList<>();
+            for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+                if (entry.getValue()[1] < minMatch) {
+                    continue;
+                }
+                Set<GenreType> docGenres = current.docs.get(entry.getKey()).genres();
+                docGenres.forEach(g -> facets.merge(g, 1, Integer::sum));
+                if (genre == null || docGenres.contains(genre)) {
+                    hits.add(entry);
+                }
+            }
+
+            hits.sort(Comparator.<Map.Entry<Long, double[]>>comparingDouble(entry -> entry.getValue()[0]).reversed()
+                    .thenComparing(Map.Entry::getKey));
+            return new MovieFullTextResult(hits.stream().map(Map.Entry::getKey).toList(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한글 음절 묶음은 색인 쪽에서는 1-gram 과 2-gram 을 모두, 검색 쪽에서는 2-gram 만(한 음절이면 1-gram) 만든다.
+     * 그 밖의 글자/숫자 묶음은 통째로 한 토큰이다.
+     */
+    static Set<String> tokenize(String text, boolean query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachToken(text, query, tokens::add);
+        return tokens;
+    }
+
+    private static void forEachToken(String text, boolean query, Consumer<String> sink) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String value = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (isHangul(c)) {
+                int end = i;
+                while (end < value.length() && isHangul(value.charAt(end))) {
+                    end++;
+                }
+                int length = end - i;
+                for (int j = i; j < end; j++) {
+                    if (!query || length == 1) {
+                        sink.accept(value.substring(j, j + 1));
+                    }
+                    if (j + 1 < end) {
+                        sink.accept(value.substring(j, j + 2));
+                    }
+                }
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i;
+                while (end < value.length() && Character.isLetterOrDigit(value.charAt(end)) && !isHangul(value.charAt(end))) {
+                    end++;
+                }
+                sink.accept(value.substring(i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    // row: [id, title, titleEn, overview, actors(legacy), directors(legacy)]
+    private Doc toDoc(Object[] row, Map<Long, Set<GenreType>> genres, Map<Long, MovieCredits> stored) {
+        Long id = ((Number) row[0]).longValue();
+        MovieCredits credits = moviePersonService.resolveCredits(stored, id, (String) row[4], (String) row[5]);
+        String[] fields = {
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                String.join(" ", credits.actors()),
+                String.join(" ", credits.directors())
+        };
+        return Doc.of(id, fields, genres.getOrDefault(id, Set.of()));
+    }
+
+    private static Map<Long, Set<GenreType>> loadGenres(List<Object[]> rows) {
+        Map<Long, Set<GenreType>> genres = new HashMap<>();
+        for (Object[] row : rows) {
+            genres.computeIfAbsent(((Number) row[0]).longValue(), key -> EnumSet.noneOf(GenreType.class))
+                    .add((GenreType) row[1]);
+        }
+        return genres;
+    }
+
+    /**
+     * 색인 문서. termFreqs 는 토큰별 필드 출현 수, lengths 는 필드별 토큰 수다.
+     */
+    private record Doc(Long id, Map<String, int[]> termFreqs, int[] lengths, Set<GenreType> genres) {
+        private static Doc of(Long id, String[] fields, Set<GenreType> genres) {
+            Map<String, int[]> termFreqs = new HashMap<>();
+            int[] lengths = new int[FIELDS];
+            for (int f = 0; f < FIELDS; f++) {
+                int field = f;
+                forEachToken(fields[f], false, token -> {
+                    termFreqs.computeIfAbsent(token, key -> new int[FIELDS])[field]++;
+                    lengths[field]++;
+                });
+            }
+            return new Doc(id, termFreqs, lengths, genres);
+        }
+    }
+
+    private static final class State {
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+        private final long[] totalLengths = new long[FIELDS];
+
+        private void add(Doc doc) {
+            docs.put(doc.id(), doc);
+            doc.termFreqs().forEach((term, freqs) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(doc.id(), freqs));
+            for (int f = 0; f < FIELDS; f++) {
+                totalLengths[f] += doc.lengths()[f];
+            }
+        }
+
+        private void remove(Long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            for (String term : doc.termFreqs().keySet()) {
+                Map<Long, int[]> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            for (int f = 0; f < FIELDS; f++) {
+                totalLengths[f] -= doc.lengths()[f];
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.GenreType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전문 검색 결과.
+ *
+ * @param movieIds    장르 필터까지 적용한 영화 id (점수 내림차순)
+ * @param genreFacets 장르 필터 적용 전 검색 결과의 장르별 영화 수
+ */
+public record MovieFullTextResult(
+        List<Long> movieIds,
+        Map<GenreType, Integer> genreFacets
+) {
+}
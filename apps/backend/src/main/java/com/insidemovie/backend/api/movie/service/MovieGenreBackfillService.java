@@ -3,14 +3,16 @@ package com.insidemovie.backend.api.movie.service;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieGenre;
-import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoClient;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -21,8 +23,9 @@ public class MovieGenreBackfillService {
 
     private final MovieRepository movieRepository;
     private final MovieGenreRepository movieGenreRepository;
-    private final KobisMovieInfoClient kobisMovieInfoClient;
+    private final KobisMovieInfoCache kobisMovieInfoCache;
     private final GenreMappingService genreMappingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MovieGenreBackfillReport backfill(boolean dryRun) {
@@ -34,6 +37,7 @@ public class MovieGenreBackfillService {
         int failed = 0;
         int ignored = 0;
         int mappedRows = 0;
+        List<Long> changedMovieIds = new ArrayList<>();
 
         for (Movie movie : movies) {
             requested++;
@@ -44,7 +48,7 @@ public class MovieGenreBackfillService {
                     continue;
                 }
 
-                var info = kobisMovieInfoClient.fetchMovieInfo(koficId);
+                var info = kobisMovieInfoCache.fetchMovieInfo(koficId);
                 if (info.isEmpty()) {
                     failed++;
                     continue;
@@ -65,6 +69,7 @@ public class MovieGenreBackfillService {
                                     .map(genre -> MovieGenre.of(movie, genre))
                                     .toList()
                     );
+                    changedMovieIds.add(movie.getId());
                 }
 
                 succeeded++;
@@ -75,6 +80,10 @@ public class MovieGenreBackfillService {
             }
         }
 
+        if (!changedMovieIds.isEmpty()) {
+            eventPublisher.publishEvent(new MoviesChangedEvent(changedMovieIds));
+        }
+
         long finalRows = dryRun ? initialRows : movieGenreRepository.count();
         return MovieGenreBackfillReport.builder()
                 .requestedMovies(requested)
@@ -1,20 +1,14 @@
 package com.insidemovie.backend.api.movie.service;
 
-import com.insidemovie.backend.api.constant.EmotionType;
-import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.member.entity.Member;
-import com.insidemovie.backend.api.member.service.MemberService;
+import com.insidemovie.backend.api.member.service.MemberEmotionSummaryService;
 import com.insidemovie.backend.api.member.service.MemberPolicyService;
 import com.insidemovie.backend.api.movie.dto.MyMovieResponseDTO;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.entity.Movie;
-import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.entity.MovieLike;
-import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
-import com.insidemovie.backend.api.review.service.ReviewService;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
@@ -25,8 +19,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Optional;
 
 @Slf4j
@@ -35,9 +27,8 @@ import java.util.Optional;
 public class MovieLikeService {
     private final MovieLikeRepository movieLikeRepository;
     private final MovieRepository movieRepository;
-    private final MovieService movieService;
-    private final ReviewRepository reviewRepository;
-    private final MemberService memberService;
+    private final MovieCardEnrichmentService movieCardEnrichmentService;
+    private final MemberEmotionSummaryService memberEmotionSummaryService;
     private final MemberPolicyService memberPolicyService;
 
     // 좋아요 한 영화 목록 조회
@@ -47,40 +38,21 @@ public class MovieLikeService {
         Member member = memberPolicyService.getMemberById(userId);
 
         // 영화 목록 조회
-        Page<MovieLike> myMovies = movieLikeRepository.findByMember(member, pageable);
+        Page<MovieLike> myMovies = movieLikeRepository.findWithMovieByMember(member, pageable);
+        MovieCardEnrichment enrichment = movieCardEnrichmentService.enrich(
+                myMovies.getContent().stream().map(movieLike -> movieLike.getMovie().getId()).toList()
+        );
 
-        Page<MyMovieResponseDTO> dto = myMovies.map(movielike ->{
+        Page<MyMovieResponseDTO> dto = myMovies.map(movielike -> {
             Movie movie = movielike.getMovie();
-            EmotionAvgDTO avg = movieService.getMovieEmotionSummary(movie.getId());
-            EmotionType mainEmotion = avg.getRepEmotionType();
-
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
-
-            // mainEmotion에 해당하는 수치 꺼내기
-            double emainEmotionValue = switch (mainEmotion) {
-                case JOY -> avg.getJoy();
-                case SADNESS -> avg.getSadness();
-                case ANGER -> avg.getAnger();
-                case FEAR -> avg.getFear();
-                case DISGUST -> avg.getDisgust();
-                case NONE -> 0.0;
-            };
-
             return MyMovieResponseDTO.builder()
                     .movieReactionId(movielike.getId())
                     .movieId(movie.getId())
                     .posterPath(movie.getPosterPath())
                     .title(movie.getTitle())
-                    .mainEmotion(mainEmotion)
-                    .mainEmotionValue(emainEmotionValue)
-                    .ratingAvg(rounded)
+                    .mainEmotion(enrichment.mainEmotion(movie.getId()))
+                    .mainEmotionValue(enrichment.mainEmotionValue(movie.getId()))
+                    .ratingAvg(enrichment.ratingAvg(movie.getId()))
                     .build();
         });
         return new PageResDto<>(dto);
@@ -102,7 +74,7 @@ public class MovieLikeService {
                 .build());
         }
 
-        memberService.updateEmotionSummaryByLikedMovies(member.getId());
+        memberEmotionSummaryService.applyLikeChange(member.getId(), movieId, existing.isEmpty());
     }
 
     @Transactional
@@ -120,7 +92,7 @@ public class MovieLikeService {
                 .movie(movie)
                 .member(member)
                 .build());
-        memberService.updateEmotionSummaryByLikedMovies(member.getId());
+        memberEmotionSummaryService.applyLikeChange(member.getId(), movieId, true);
         return true;
     }
 
@@ -128,7 +100,9 @@ public class MovieLikeService {
     public void deleteMovieLike(Long movieId, Long userId) {
         Member member = memberPolicyService.getActiveMemberById(userId);
         Optional<MovieLike> existing = movieLikeRepository.findByMovie_IdAndMember_Id(movieId, member.getId());
-        existing.ifPresent(movieLikeRepository::delete);
-        memberService.updateEmotionSummaryByLikedMovies(member.getId());
+        if (existing.isPresent()) {
+            movieLikeRepository.delete(existing.get());
+            memberEmotionSummaryService.applyLikeChange(member.getId(), movieId, false);
+        }
     }
 }
@@ -0,0 +1,71 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Movie 의 actors / directors / ottProviders 문자열 컬럼 파서.
+ * - JSON 문자열(["A","B"])과 과거 toString() 형태([A, B]) 둘 다 받는다
+ * - 같은 원문은 한 번만 파싱하도록 결과를 LRU 로 들고 있는다
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieListColumnParser {
+
+    static final int MAX_ENTRIES = 4096;
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, List<String>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    public List<String> parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return List.of();
+        }
+        List<String> cached = cache.get(raw);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> parsed = List.copyOf(parseUncached(raw.trim()));
+        cache.put(raw, parsed);
+        return parsed;
+    }
+
+    int cachedEntries() {
+        return cache.size();
+    }
+
+    private List<String> parseUncached(String raw) {
+        if (!raw.startsWith("[") || !raw.endsWith("]")) {
+            // 그냥 단일 값
+            return List.of(raw);
+        }
+        try {
+            return objectMapper.readValue(raw, STRING_LIST).stream()
+                    .filter(value -> value != null && !value.isBlank())
+                    .map(String::trim)
+                    .toList();
+        } catch (Exception ignore) {
+            // 실패하면 toString() 형태로 본다
+        }
+        return Arrays.stream(raw.substring(1, raw.length() - 1).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "movie.metadata.backfill")
+public class MovieMetadataBackfillProperties {
+    // 한 번에 읽고 한 트랜잭션으로 저장하는 영화 수
+    private int chunkSize = 50;
+    // 동시에 외부 API 를 조회하는 스레드 수
+    private int concurrency = 4;
+    // 제공자별 초당 요청 수 상한 (0 이하면 제한 없음)
+    private double kobisRequestsPerSecond = 5.0;
+    private double kmdbRequestsPerSecond = 5.0;
+    // 중단된 이전 실행의 커서 다음부터 이어서 처리
+    private boolean resume = true;
+}
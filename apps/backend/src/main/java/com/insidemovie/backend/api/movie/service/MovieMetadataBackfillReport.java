@@ -3,6 +3,8 @@ package com.insidemovie.backend.api.movie.service;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 public class MovieMetadataBackfillReport {
@@ -13,4 +15,16 @@ public class MovieMetadataBackfillReport {
     private int updatedPosterCount;
     private int updatedBackdropCount;
     private int updatedOverviewCount;
+    private long resumedAfterMovieId;  // 0 이면 처음부터
+    private int chunks;
+    private int kobisRequests;
+    private int kmdbRequests;
+    private long elapsedMs;
+    // 채택된 후보가 나온 KMDb 검색 단계별 영화 수
+    @Builder.Default
+    private Map<String, Integer> matchTiers = Map.of();
+
+    public double getMoviesPerSecond() {
+        return elapsedMs == 0 ? 0.0 : requestedMovies * 1000.0 / elapsedMs;
+    }
 }
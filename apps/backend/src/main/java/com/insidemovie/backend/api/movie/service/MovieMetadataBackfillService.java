@@ -1,262 +1,204 @@
 package com.insidemovie.backend.api.movie.service;
 
 import com.insidemovie.backend.api.movie.entity.Movie;
-import com.insidemovie.backend.api.movie.infrastructure.kmdb.KmdbMovieClient;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
 import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
-import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoClient;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KOBIS 상세 + KMDb 검색으로 비어 있는 포스터/배경/개요를 채운다.
+ * - 대상 영화를 movie_id 순으로 chunk-size 개씩 읽고, 청크 안의 영화는 concurrency 개 스레드로 동시에 조회한다
+ * - KOBIS/KMDb 호출은 제공자별 초당 요청 수 제한을 공유한다
+ * - KMDb 후보는 검색 단계마다 점수를 매겨 확신할 후보가 나오면 남은 검색을 생략한다 (KmdbCandidateMatcher)
+ * - 청크마다 한 트랜잭션으로 저장하며 진행 커서를 남긴다
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MovieMetadataBackfillService {
 
+    static final String JOB = "movie-metadata";
+
     private final MovieRepository movieRepository;
-    private final KobisMovieInfoClient kobisMovieInfoClient;
-    private final KmdbMovieClient kmdbMovieClient;
-    @Value("${movie.metadata.match.list-count:20}")
-    private int listCount = 20;
-    @Value("${movie.metadata.match.min-score:70}")
-    private int minScore = 70;
-    @Value("${movie.metadata.match.relaxed-min-score:55}")
-    private int relaxedMinScore = 55;
-    @Value("${movie.metadata.match.relaxed-year-tolerance:1}")
-    private int relaxedYearTolerance = 1;
+    private final KobisMovieInfoCache kobisMovieInfoCache;
+    private final KmdbCandidateMatcher kmdbCandidateMatcher;
+    private final MovieMetadataWriter metadataWriter;
+    private final MovieMetadataBackfillProperties properties;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
     public MovieMetadataBackfillReport backfill(boolean dryRun) {
-        List<Movie> targets = movieRepository.findAllByKoficIdIsNotNullAndMetadataMissing();
-
-        int requested = 0;
-        int succeeded = 0;
-        int failed = 0;
-        int ignored = 0;
-        int updatedPoster = 0;
-        int updatedBackdrop = 0;
-        int updatedOverview = 0;
-
-        for (Movie movie : targets) {
-            requested++;
-            try {
-                Optional<KobisMovieInfo> infoOptional = kobisMovieInfoClient.fetchMovieInfo(movie.getKoficId());
-                if (infoOptional.isEmpty()) {
-                    failed++;
-                    continue;
-                }
-
-                KobisMovieInfo info = infoOptional.get();
-                String searchTitle = firstNonBlank(info.title(), movie.getTitle());
-                if (searchTitle.isBlank()) {
-                    ignored++;
-                    continue;
-                }
-
-                Integer year = resolveYear(info, movie);
-                String director = info.directors() == null || info.directors().isEmpty() ? "" : info.directors().get(0);
-                List<KmdbMovieCandidate> candidates = searchCandidates(
-                        searchTitle,
-                        firstNonBlank(info.titleEn(), movie.getTitleEn()),
-                        year,
-                        director
-                );
-                Optional<KmdbMovieCandidate> matched = selectBestMatch(info, movie, candidates);
-
-                if (matched.isEmpty() || !matched.get().hasMetadata()) {
-                    ignored++;
-                    continue;
-                }
-
-                KmdbMovieCandidate candidate = matched.get();
-                boolean changed = false;
-
-                boolean canUpdatePoster = isBlank(movie.getPosterPath()) && !isBlank(candidate.posterPath());
-                boolean canUpdateBackdrop = isBlank(movie.getBackdropPath()) && !isBlank(candidate.backdropPath());
-                boolean canUpdateOverview = isBlank(movie.getOverview()) && !isBlank(candidate.overview());
-
-                if (canUpdatePoster) {
-                    updatedPoster++;
-                    changed = true;
-                }
-                if (canUpdateBackdrop) {
-                    updatedBackdrop++;
-                    changed = true;
+        long startedAt = System.nanoTime();
+        // dry-run 은 저장하지 않으므로 커서도 읽거나 남기지 않는다
+        long afterId = !dryRun && properties.isResume() ? metadataWriter.resumeAfter(JOB).orElse(0L) : 0L;
+        long resumedAfter = afterId;
+        long total = movieRepository.countMetadataMissingAfter(afterId);
+        if (resumedAfter > 0) {
+            log.info("[MovieMetadataBackfill] resuming after movieId={} remaining={}", resumedAfter, total);
+        }
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int concurrency = Math.max(1, properties.getConcurrency());
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService fetchers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "movie-metadata-backfill-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Run run = new Run(
+                fetchers,
+                new RequestRateLimiter(properties.getKobisRequestsPerSecond()),
+                new RequestRateLimiter(properties.getKmdbRequestsPerSecond()),
+                meterRegistry
+        );
+
+        try {
+            while (true) {
+                List<Movie> chunk = movieRepository.findMetadataMissingAfter(afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
                 }
-                if (canUpdateOverview) {
-                    updatedOverview++;
-                    changed = true;
-                }
-
-                if (!dryRun) {
-                    if (canUpdatePoster) {
-                        movie.updatePosterPath(candidate.posterPath().trim());
-                    }
-                    if (canUpdateBackdrop) {
-                        movie.updateBackDropPath(candidate.backdropPath().trim());
-                    }
-                    if (canUpdateOverview) {
-                        movie.updateOverview(candidate.overview().trim());
-                    }
-                    if (Boolean.TRUE != movie.getIsMatched()) {
-                        movie.setIsMatched(true);
-                        changed = true;
-                    }
-                    if (changed) {
-                        movieRepository.save(movie);
-                    }
+                afterId = chunk.get(chunk.size() - 1).getId();
+                processChunk(run, chunk, afterId, dryRun);
+                log.info("[MovieMetadataBackfill] chunk lastMovieId={} processed={}/{} succeeded={} failed={} ignored={} moviesPerSec={}",
+                        afterId, run.requested, total, run.succeeded, run.failed, run.ignored,
+                        String.format("%.2f", run.requested * 1e9 / Math.max(1, System.nanoTime() - startedAt)));
+                if (chunk.size() < chunkSize) {
+                    break;
                 }
-                succeeded++;
-            } catch (Exception e) {
-                failed++;
-                log.warn("Movie metadata backfill failed movieId={} koficId={} error={}",
-                        movie.getId(), movie.getKoficId(), e.getMessage());
             }
+            if (!dryRun) {
+                metadataWriter.clear(JOB);
+            }
+        } finally {
+            fetchers.shutdownNow();
         }
 
         return MovieMetadataBackfillReport.builder()
-                .requestedMovies(requested)
-                .succeededMovies(succeeded)
-                .failedMovies(failed)
-                .ignoredMovies(ignored)
-                .updatedPosterCount(updatedPoster)
-                .updatedBackdropCount(updatedBackdrop)
-                .updatedOverviewCount(updatedOverview)
+                .requestedMovies(run.requested)
+                .succeededMovies(run.succeeded)
+                .failedMovies(run.failed)
+                .ignoredMovies(run.ignored)
+                .updatedPosterCount(run.updatedPoster)
+                .updatedBackdropCount(run.updatedBackdrop)
+                .updatedOverviewCount(run.updatedOverview)
+                .resumedAfterMovieId(resumedAfter)
+                .chunks(run.chunks)
+                .kobisRequests((int) run.kobisLimiter.acquiredCount())
+                .kmdbRequests(run.kmdbRequests.get())
+                .matchTiers(run.matchTiers)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
                 .build();
     }
 
-    private Optional<KmdbMovieCandidate> selectBestMatch(KobisMovieInfo info, Movie movie, List<KmdbMovieCandidate> candidates) {
-        if (candidates == null || candidates.isEmpty()) {
-            return Optional.empty();
+    private void processChunk(Run run, List<Movie> chunk, Long lastMovieId, boolean dryRun) {
+        // 1) 조회: 영화별 KOBIS 상세 + KMDb 후보 검색을 병렬로
+        long fetchStartedAt = System.nanoTime();
+        List<Future<Fetched>> futures = new ArrayList<>(chunk.size());
+        for (Movie movie : chunk) {
+            futures.add(run.fetchers.submit(() -> fetch(run, movie)));
         }
-
-        String kobisTitle = firstNonBlank(info.title(), movie.getTitle());
-        Integer kobisYear = resolveYear(info, movie);
-        Set<String> kobisDirectors = normalizeNames(info.directors());
-
-        KmdbMovieCandidate best = null;
-        int bestScore = -1;
-        boolean bestHasPoster = false;
-
-        for (KmdbMovieCandidate candidate : candidates) {
-            int score = scoreTitle(kobisTitle, candidate.title())
-                    + scoreYear(kobisYear, candidate.productionYear())
-                    + scoreDirectors(kobisDirectors, candidate.directors());
-            boolean hasPoster = !isBlank(candidate.posterPath());
-            if (score > bestScore || (score == bestScore && hasPoster && !bestHasPoster)) {
-                bestScore = score;
-                best = candidate;
-                bestHasPoster = hasPoster;
+        List<Fetched> fetched = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Movie movie = chunk.get(i);
+            try {
+                fetched.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                fetched.add(Fetched.failed(movie));
+                log.warn("Movie metadata backfill failed movieId={} koficId={} error={}",
+                        movie.getId(), movie.getKoficId(),
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("movie metadata backfill interrupted", e);
             }
         }
+        run.fetchTimer.record(System.nanoTime() - fetchStartedAt, TimeUnit.NANOSECONDS);
 
-        if (best == null) {
-            return Optional.empty();
-        }
-
-        if (bestScore >= minScore) {
-            return Optional.of(best);
-        }
-
-        if (allowRelaxedMatch(best, bestScore, kobisTitle, kobisYear)) {
-            log.info("KMDb relaxed match accepted movieId={} title={} score={} minScore={}",
-                    movie.getId(), movie.getTitle(), bestScore, minScore);
-            return Optional.of(best);
-        }
-
-        if (bestScore < minScore) {
-            log.debug("KMDb match below threshold movieId={} title={} bestScore={}", movie.getId(), movie.getTitle(), bestScore);
-            return Optional.empty();
-        }
-        return Optional.empty();
-    }
-
-    private int scoreTitle(String sourceTitle, String candidateTitle) {
-        if (isBlank(sourceTitle) || isBlank(candidateTitle)) {
-            return 0;
-        }
-        String source = normalizeText(sourceTitle);
-        String candidate = normalizeText(candidateTitle);
-        if (source.equals(candidate)) {
-            return 70;
-        }
-        if (source.contains(candidate) || candidate.contains(source)) {
-            return 40;
-        }
-        return 0;
-    }
-
-    private int scoreYear(Integer sourceYear, Integer candidateYear) {
-        if (sourceYear == null || candidateYear == null) {
-            return 0;
-        }
-        return sourceYear.equals(candidateYear) ? 30 : 0;
-    }
+        // 2) 후보 적용: 조회 단계에서 고른 후보로 채울 항목을 정한다
+        long scoreStartedAt = System.nanoTime();
+        List<MovieMetadataUpdate> updates = new ArrayList<>();
+        for (Fetched result : fetched) {
+            run.requested++;
+            if (result.outcome() != Outcome.FETCHED) {
+                run.count(result.outcome());
+                continue;
+            }
+            Movie movie = result.movie();
+            KmdbMatchResult match = result.match();
+            if (!match.matched() || !match.candidate().hasMetadata()) {
+                run.count(Outcome.IGNORED);
+                continue;
+            }
 
-    private int scoreDirectors(Set<String> sourceDirectors, List<String> candidateDirectors) {
-        if (sourceDirectors.isEmpty() || candidateDirectors == null || candidateDirectors.isEmpty()) {
-            return 0;
-        }
-        Set<String> normalizedCandidates = normalizeNames(candidateDirectors);
-        for (String source : sourceDirectors) {
-            if (normalizedCandidates.contains(source)) {
-                return 20;
+            KmdbMovieCandidate candidate = match.candidate();
+            run.matchTiers.merge(match.tierName(), 1, Integer::sum);
+            boolean canUpdatePoster = isBlank(movie.getPosterPath()) && !isBlank(candidate.posterPath());
+            boolean canUpdateBackdrop = isBlank(movie.getBackdropPath()) && !isBlank(candidate.backdropPath());
+            boolean canUpdateOverview = isBlank(movie.getOverview()) && !isBlank(candidate.overview());
+            if (canUpdatePoster) {
+                run.updatedPoster++;
             }
-        }
-        return 0;
+            if (canUpdateBackdrop) {
+                run.updatedBackdrop++;
+            }
+            if (canUpdateOverview) {
+                run.updatedOverview++;
+            }
+            updates.add(new MovieMetadataUpdate(
+                    movie.getId(),
+                    canUpdatePoster ? candidate.posterPath().trim() : null,
+                    canUpdateBackdrop ? candidate.backdropPath().trim() : null,
+                    canUpdateOverview ? candidate.overview().trim() : null
+            ));
+            run.count(Outcome.SUCCEEDED);
+        }
+        run.scoreTimer.record(System.nanoTime() - scoreStartedAt, TimeUnit.NANOSECONDS);
+
+        // 3) 저장: 청크 단위 커밋 + 커서 기록
+        if (!dryRun) {
+            long writeStartedAt = System.nanoTime();
+            metadataWriter.write(JOB, updates, lastMovieId, chunk.size());
+            run.writeTimer.record(System.nanoTime() - writeStartedAt, TimeUnit.NANOSECONDS);
+        }
+        run.chunks++;
     }
 
-    private Set<String> normalizeNames(List<String> names) {
-        if (names == null || names.isEmpty()) {
-            return Collections.emptySet();
+    private Fetched fetch(Run run, Movie movie) throws InterruptedException {
+        // 캐시에 있으면 KOBIS 제한기를 거치지 않는다
+        Optional<KobisMovieInfo> infoOptional = kobisMovieInfoCache.fetchMovieInfo(movie.getKoficId(), run.kobisLimiter);
+        if (infoOptional.isEmpty()) {
+            return Fetched.failed(movie);
         }
-        return names.stream()
-                .map(this::normalizeText)
-                .filter(value -> !value.isBlank())
-                .collect(Collectors.toSet());
-    }
 
-    private Integer resolveYear(KobisMovieInfo info, Movie movie) {
-        if (info.productionYear() != null) {
-            return info.productionYear();
-        }
-        String openDt = info.openDt();
-        if (!isBlank(openDt)) {
-            String digits = openDt.replaceAll("[^0-9]", "");
-            if (digits.length() >= 4) {
-                return Integer.parseInt(digits.substring(0, 4));
-            }
+        KobisMovieInfo info = infoOptional.get();
+        if (firstNonBlank(info.title(), movie.getTitle()).isBlank()) {
+            return new Fetched(movie, Outcome.IGNORED, null);
         }
-        if (movie.getReleaseDate() != null) {
-            return movie.getReleaseDate().getYear();
-        }
-        return null;
-    }
 
-    private String normalizeText(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value
-                .replaceAll("!HS|!HE|<[^>]+>", " ")
-                .replaceAll("\\([^)]*\\)|\\[[^\\]]*\\]", " ")
-                .replaceAll("[:：\\-–_]", " ")
-                .replaceAll("[\\s\\p{Punct}]+", "")
-                .toLowerCase(Locale.ROOT)
-                .trim();
+        KmdbMatchResult match = kmdbCandidateMatcher.match(info, movie, run.kmdbLimiter);
+        run.kmdbRequests.addAndGet(match.queries());
+        return new Fetched(movie, Outcome.FETCHED, match);
     }
 
     private String firstNonBlank(String primary, String fallback) {
@@ -273,86 +215,68 @@ public class MovieMetadataBackfillService {
         return value == null || value.trim().isEmpty();
     }
 
-    private List<KmdbMovieCandidate> searchCandidates(String title, String titleEn, Integer year, String director) {
-        List<KmdbMovieCandidate> merged = new ArrayList<>();
-        Set<String> seen = new HashSet<>();
-        String normalizedTitle = normalizeTitleForQuery(title);
+    private enum Outcome { FETCHED, SUCCEEDED, FAILED, IGNORED }
 
-        appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(title, year, director, listCount));
-        if (year != null) {
-            appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(title, year, "", listCount));
-        }
-        if (!isBlank(director)) {
-            appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(title, null, director, listCount));
-        }
-        appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(title, null, "", listCount));
-        if (!isBlank(titleEn)) {
-            appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(titleEn, null, "", listCount));
+    private record Fetched(Movie movie, Outcome outcome, KmdbMatchResult match) {
+        private static Fetched failed(Movie movie) {
+            return new Fetched(movie, Outcome.FAILED, null);
         }
-        if (!normalizedTitle.isBlank() && !normalizedTitle.equals(title)) {
-            appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(normalizedTitle, year, director, listCount));
-            appendUnique(merged, seen, kmdbMovieClient.searchMovieCandidates(normalizedTitle, null, "", listCount));
-        }
-        return merged;
     }
 
-    private void appendUnique(List<KmdbMovieCandidate> merged, Set<String> seen, List<KmdbMovieCandidate> candidates) {
-        if (candidates == null || candidates.isEmpty()) {
-            return;
-        }
-        for (KmdbMovieCandidate candidate : candidates) {
-            String key = normalizeText(candidate.title()) + "|" + candidate.productionYear() + "|"
-                    + (candidate.directors() == null || candidate.directors().isEmpty()
-                    ? ""
-                    : normalizeText(candidate.directors().get(0)));
-            if (seen.add(key)) {
-                merged.add(candidate);
+    // 한 번의 백필 실행 동안 공유하는 실행기/제한기/집계
+    private static final class Run {
+        private final ExecutorService fetchers;
+        private final RequestRateLimiter kobisLimiter;
+        private final RequestRateLimiter kmdbLimiter;
+        private final AtomicInteger kmdbRequests = new AtomicInteger();
+        private final Counter succeededCounter;
+        private final Counter failedCounter;
+        private final Counter ignoredCounter;
+        private final Timer fetchTimer;
+        private final Timer scoreTimer;
+        private final Timer writeTimer;
+        private final Map<String, Integer> matchTiers = new TreeMap<>();
+        private int requested;
+        private int succeeded;
+        private int failed;
+        private int ignored;
+        private int updatedPoster;
+        private int updatedBackdrop;
+        private int updatedOverview;
+        private int chunks;
+
+        private Run(
+                ExecutorService fetchers,
+                RequestRateLimiter kobisLimiter,
+                RequestRateLimiter kmdbLimiter,
+                MeterRegistry meterRegistry
+        ) {
+            this.fetchers = fetchers;
+            this.kobisLimiter = kobisLimiter;
+            this.kmdbLimiter = kmdbLimiter;
+            this.succeededCounter = meterRegistry.counter("movie.metadata.backfill.movies", "outcome", "succeeded");
+            this.failedCounter = meterRegistry.counter("movie.metadata.backfill.movies", "outcome", "failed");
+            this.ignoredCounter = meterRegistry.counter("movie.metadata.backfill.movies", "outcome", "ignored");
+            this.fetchTimer = meterRegistry.timer("movie.metadata.backfill.stage", "stage", "fetch");
+            this.scoreTimer = meterRegistry.timer("movie.metadata.backfill.stage", "stage", "score");
+            this.writeTimer = meterRegistry.timer("movie.metadata.backfill.stage", "stage", "write");
+        }
+
+        private void count(Outcome outcome) {
+            switch (outcome) {
+                case SUCCEEDED -> {
+                    succeeded++;
+                    succeededCounter.increment();
+                }
+                case FAILED -> {
+                    failed++;
+                    failedCounter.increment();
+                }
+                default -> {
+                    ignored++;
+                    ignoredCounter.increment();
+                }
             }
         }
     }
-
-    private boolean allowRelaxedMatch(
-            KmdbMovieCandidate best,
-            int bestScore,
-            String sourceTitle,
-            Integer sourceYear
-    ) {
-        if (bestScore < relaxedMinScore) {
-            return false;
-        }
-        if (isBlank(best.posterPath())) {
-            return false;
-        }
-        if (!isTitleSimilar(sourceTitle, best.title())) {
-            return false;
-        }
-        return isYearWithinTolerance(sourceYear, best.productionYear(), relaxedYearTolerance);
-    }
-
-    private boolean isYearWithinTolerance(Integer sourceYear, Integer candidateYear, int tolerance) {
-        if (sourceYear == null || candidateYear == null) {
-            return false;
-        }
-        return Math.abs(sourceYear - candidateYear) <= Math.max(tolerance, 0);
-    }
-
-    private boolean isTitleSimilar(String sourceTitle, String candidateTitle) {
-        if (isBlank(sourceTitle) || isBlank(candidateTitle)) {
-            return false;
-        }
-        String source = normalizeText(sourceTitle);
-        String candidate = normalizeText(candidateTitle);
-        return source.equals(candidate) || source.contains(candidate) || candidate.contains(source);
-    }
-
-    private String normalizeTitleForQuery(String title) {
-        if (isBlank(title)) {
-            return "";
-        }
-        return title
-                .replaceAll("\\([^)]*\\)|\\[[^\\]]*\\]", " ")
-                .replaceAll("[:：\\-–_]", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
-    }
 }
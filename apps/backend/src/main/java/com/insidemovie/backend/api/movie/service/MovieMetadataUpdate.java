@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.movie.service;
+
+/**
+ * 매칭된 KMDb 후보에서 채울 메타데이터. 비어 있던 항목만 값이 있고 나머지는 null.
+ */
+public record MovieMetadataUpdate(
+        Long movieId,
+        String posterPath,
+        String backdropPath,
+        String overview
+) {
+}
@@ -0,0 +1,94 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieBackfillCheckpoint;
+import com.insidemovie.backend.api.movie.repository.MovieBackfillCheckpointRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메타데이터 백필의 청크 저장. 청크의 영화 갱신과 진행 커서 기록을 한 트랜잭션으로 묶는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieMetadataWriter {
+
+    private final MovieRepository movieRepository;
+    private final MovieBackfillCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Optional<Long> resumeAfter(String job) {
+        return checkpointRepository.findByJob(job).map(MovieBackfillCheckpoint::getLastMovieId);
+    }
+
+    /**
+     * 외부 호출 동안 다른 곳에서 채워졌을 수 있어, 다시 읽은 영화에서 여전히 비어 있는 항목만 채운다.
+     */
+    @Transactional
+    public int write(String job, List<MovieMetadataUpdate> updates, Long lastMovieId, int processed) {
+        List<Long> savedMovieIds = new ArrayList<>();
+        if (!updates.isEmpty()) {
+            Map<Long, Movie> movies = movieRepository.findAllById(
+                    updates.stream().map(MovieMetadataUpdate::movieId).toList()
+            ).stream().collect(Collectors.toMap(Movie::getId, Function.identity()));
+
+            for (MovieMetadataUpdate update : updates) {
+                Movie movie = movies.get(update.movieId());
+                if (movie != null && apply(movie, update)) {
+                    movieRepository.save(movie);
+                    savedMovieIds.add(movie.getId());
+                }
+            }
+        }
+
+        MovieBackfillCheckpoint checkpoint = checkpointRepository.findByJob(job)
+                .orElseGet(() -> checkpointRepository.save(MovieBackfillCheckpoint.of(job)));
+        checkpoint.advance(lastMovieId, processed);
+        if (!savedMovieIds.isEmpty()) {
+            eventPublisher.publishEvent(new MoviesChangedEvent(savedMovieIds));
+        }
+        return savedMovieIds.size();
+    }
+
+    // 끝까지 돈 작업은 커서를 지워 다음 실행이 처음부터 대상을 다시 본다
+    @Transactional
+    public void clear(String job) {
+        checkpointRepository.deleteByJob(job);
+    }
+
+    private boolean apply(Movie movie, MovieMetadataUpdate update) {
+        boolean changed = false;
+        if (update.posterPath() != null && isBlank(movie.getPosterPath())) {
+            movie.updatePosterPath(update.posterPath());
+            changed = true;
+        }
+        if (update.backdropPath() != null && isBlank(movie.getBackdropPath())) {
+            movie.updateBackDropPath(update.backdropPath());
+            changed = true;
+        }
+        if (update.overview() != null && isBlank(movie.getOverview())) {
+            movie.updateOverview(update.overview());
+            changed = true;
+        }
+        if (Boolean.TRUE != movie.getIsMatched()) {
+            movie.setIsMatched(true);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
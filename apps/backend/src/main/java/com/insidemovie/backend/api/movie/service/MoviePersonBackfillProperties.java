@@ -0,0 +1,17 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "movie.person.backfill")
+public class MoviePersonBackfillProperties {
+    // 한 번에 읽고 한 트랜잭션으로 저장하는 영화 수
+    private int chunkSize = 100;
+    // KOBIS 초당 요청 수 상한 (0 이하면 제한 없음, 캐시 적중은 세지 않는다)
+    private double kobisRequestsPerSecond = 5.0;
+    // 중단된 이전 실행의 커서 다음부터 이어서 처리
+    private boolean resume = true;
+}
@@ -0,0 +1,19 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MoviePersonBackfillReport {
+    private final int requestedMovies;
+    private final int kobisMovies;      // KOBIS 영화 상세로 채운 영화
+    private final int legacyMovies;     // KOBIS 정보가 없어 기존 문자열 컬럼으로 채운 영화
+    private final int failedMovies;
+    private final int ignoredMovies;
+    private final int creditRows;
+    private final int createdPeople;
+    private final long resumedAfterMovieId;
+    private final int chunks;
+    private final int kobisRequests;    // 캐시 미스로 실제 보낸 KOBIS 요청 수
+}
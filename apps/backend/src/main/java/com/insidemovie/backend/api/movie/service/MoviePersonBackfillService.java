@@ -0,0 +1,151 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.Person;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * person / movie_person 백필.
+ * - KOBIS 영화 상세(directors/actors)를 우선 쓰고, 코드가 없거나 정보가 비면 Movie 의 문자열 컬럼을 한 번 파싱해 옮긴다
+ * - 영화를 movie_id 순으로 chunk-size 개씩 읽어 청크마다 MoviePersonWriter 로 한 트랜잭션에 저장하고 진행 커서를 남긴다
+ * - KOBIS 호출은 캐시 미스일 때만 초당 요청 수 제한을 거친다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MoviePersonBackfillService {
+
+    static final String JOB = "movie-person";
+
+    private final MovieRepository movieRepository;
+    private final KobisMovieInfoCache kobisMovieInfoCache;
+    private final MovieListColumnParser movieListColumnParser;
+    private final MoviePersonWriter moviePersonWriter;
+    private final MoviePersonBackfillProperties properties;
+
+    public MoviePersonBackfillReport backfill(boolean dryRun) {
+        // dry-run 은 저장하지 않으므로 커서도 읽거나 남기지 않는다
+        long afterId = !dryRun && properties.isResume() ? moviePersonWriter.resumeAfter(JOB).orElse(0L) : 0L;
+        long resumedAfter = afterId;
+        if (resumedAfter > 0) {
+            log.info("[MoviePersonBackfill] resuming after movieId={} remaining={}",
+                    resumedAfter, movieRepository.countByIdGreaterThan(resumedAfter));
+        }
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        RequestRateLimiter kobisLimiter = new RequestRateLimiter(properties.getKobisRequestsPerSecond());
+        int requested = 0;
+        int fromKobis = 0;
+        int fromLegacy = 0;
+        int failed = 0;
+        int ignored = 0;
+        int creditRows = 0;
+        int createdPeople = 0;
+        int chunks = 0;
+
+        while (true) {
+            List<Movie> chunk = movieRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+
+            List<MovieCreditsUpdate> updates = new ArrayList<>();
+            for (Movie movie : chunk) {
+                requested++;
+                try {
+                    Optional<KobisMovieInfo> info = fetchKobisInfo(movie, kobisLimiter);
+                    Set<String> directors = names(info.map(KobisMovieInfo::directors).orElse(null));
+                    Set<String> actors = names(info.map(KobisMovieInfo::actors).orElse(null));
+                    boolean kobis = !directors.isEmpty() || !actors.isEmpty();
+                    if (!kobis) {
+                        directors = names(movieListColumnParser.parse(movie.getDirectors()));
+                        actors = names(movieListColumnParser.parse(movie.getActors()));
+                    }
+                    if (directors.isEmpty() && actors.isEmpty()) {
+                        ignored++;
+                        continue;
+                    }
+                    if (kobis) {
+                        fromKobis++;
+                    } else {
+                        fromLegacy++;
+                    }
+                    creditRows += directors.size() + actors.size();
+                    updates.add(new MovieCreditsUpdate(movie.getId(), List.copyOf(directors), List.copyOf(actors)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("movie person backfill interrupted", e);
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("Movie person backfill failed movieId={} koficId={} error={}",
+                            movie.getId(), movie.getKoficId(), e.getMessage());
+                }
+            }
+
+            // 저장 실패는 청크 단위로 롤백되고 예외가 그대로 올라가, 다음 실행이 이 청크부터 다시 한다
+            if (!dryRun) {
+                createdPeople += moviePersonWriter.write(JOB, updates, afterId, chunk.size());
+            }
+            chunks++;
+            log.info("[MoviePersonBackfill] chunk lastMovieId={} processed={} kobis={} legacy={} failed={} ignored={}",
+                    afterId, requested, fromKobis, fromLegacy, failed, ignored);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        if (!dryRun) {
+            moviePersonWriter.clear(JOB);
+        }
+
+        return MoviePersonBackfillReport.builder()
+                .requestedMovies(requested)
+                .kobisMovies(fromKobis)
+                .legacyMovies(fromLegacy)
+                .failedMovies(failed)
+                .ignoredMovies(ignored)
+                .creditRows(creditRows)
+                .createdPeople(createdPeople)
+                .resumedAfterMovieId(resumedAfter)
+                .chunks(chunks)
+                .kobisRequests((int) kobisLimiter.acquiredCount())
+                .build();
+    }
+
+    private Optional<KobisMovieInfo> fetchKobisInfo(Movie movie, RequestRateLimiter kobisLimiter) throws InterruptedException {
+        String koficId = movie.getKoficId();
+        if (koficId == null || koficId.isBlank()) {
+            return Optional.empty();
+        }
+        return kobisMovieInfoCache.fetchMovieInfo(koficId, kobisLimiter);
+    }
+
+    // 공백 정리, 빈 값/중복 제거 (순서 유지)
+    private static Set<String> names(List<String> raw) {
+        Set<String> names = new LinkedHashSet<>();
+        if (raw == null) {
+            return names;
+        }
+        for (String value : raw) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String name = value.trim().replaceAll("\\s+", " ");
+            names.add(name.length() > Person.NAME_MAX_LENGTH ? name.substring(0, Person.NAME_MAX_LENGTH) : name);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,143 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.PersonRole;
+import com.insidemovie.backend.api.movie.dto.FilmographyMovieResDto;
+import com.insidemovie.backend.api.movie.dto.MoviePersonResDto;
+import com.insidemovie.backend.api.movie.dto.PersonFilmographyResDto;
+import com.insidemovie.backend.api.movie.dto.PersonResDto;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.Person;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * movie_person 기반 출연진/필모그래피 조회.
+ * 아직 백필되지 않은 영화만 Movie 의 문자열 컬럼을 MovieListColumnParser 로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MoviePersonService {
+
+    static final int MAX_SEARCH_LIMIT = 50;
+
+    private final MoviePersonRepository moviePersonRepository;
+    private final PersonRepository personRepository;
+    private final MovieRepository movieRepository;
+    private final MovieListColumnParser movieListColumnParser;
+
+    public MovieCredits getCredits(Movie movie) {
+        return resolveCredits(loadCredits(List.of(movie.getId())), movie.getId(), movie.getActors(), movie.getDirectors());
+    }
+
+    // 검색 색인용 movie_person 일괄 조회 (movieId -> 이름). 행이 없는 영화는 결과에 없다
+    public Map<Long, MovieCredits> loadAllCredits() {
+        return group(moviePersonRepository.findAllCreditNameRows());
+    }
+
+    public Map<Long, MovieCredits> loadCredits(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Map.of();
+        }
+        return group(moviePersonRepository.findCreditNameRowsByMovieIdIn(movieIds));
+    }
+
+    /**
+     * movie_person 에 있으면 그 이름을, 아직 백필되지 않은 영화면 기존 문자열 컬럼을 파싱 캐시로 읽는다.
+     * 상세와 검색 색인이 같은 규칙으로 배우/감독을 고른다.
+     */
+    public MovieCredits resolveCredits(Map<Long, MovieCredits> stored, Long movieId, String legacyActors, String legacyDirectors) {
+        MovieCredits credits = stored.get(movieId);
+        if (credits != null) {
+            return credits;
+        }
+        return new MovieCredits(movieListColumnParser.parse(legacyActors), movieListColumnParser.parse(legacyDirectors));
+    }
+
+    // [movieId, name, role] 행을 영화별 배우/감독 목록으로 묶는다 (행 순서 유지)
+    private static Map<Long, MovieCredits> group(List<Object[]> rows) {
+        Map<Long, List<String>> actors = new HashMap<>();
+        Map<Long, List<String>> directors = new HashMap<>();
+        Set<Long> movieIds = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            Long movieId = ((Number) row[0]).longValue();
+            movieIds.add(movieId);
+            (row[2] == PersonRole.DIRECTOR ? directors : actors)
+                    .computeIfAbsent(movieId, key -> new ArrayList<>())
+                    .add((String) row[1]);
+        }
+        Map<Long, MovieCredits> credits = new HashMap<>();
+        for (Long movieId : movieIds) {
+            credits.put(movieId, new MovieCredits(
+                    List.copyOf(actors.getOrDefault(movieId, List.of())),
+                    List.copyOf(directors.getOrDefault(movieId, List.of()))
+            ));
+        }
+        return credits;
+    }
+
+    public List<MoviePersonResDto> getMoviePeople(Long movieId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage());
+        }
+        return moviePersonRepository.findCreditRowsByMovieId(movieId).stream()
+                .map(row -> MoviePersonResDto.builder()
+                        .personId(((Number) row[0]).longValue())
+                        .name((String) row[1])
+                        .role((PersonRole) row[2])
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 이름으로 시작하는 영화인을 참여 영화 수 순으로 돌려준다. 대소문자/악센트는 구분하지 않는다.
+     */
+    public List<PersonResDto> searchPeople(String name, int limit) {
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(1, limit), MAX_SEARCH_LIMIT);
+        return moviePersonRepository.findPersonRowsByNamePrefix(Person.keyOf(name), PageRequest.of(0, size)).stream()
+                .map(row -> PersonResDto.builder()
+                        .id(((Number) row[0]).longValue())
+                        .name((String) row[1])
+                        .movieCount(((Number) row[2]).longValue())
+                        .build())
+                .toList();
+    }
+
+    public PersonFilmographyResDto getFilmography(Long personId) {
+        Person person = personRepository.findById(personId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_PERSON_EXCEPTION.getMessage()));
+
+        List<FilmographyMovieResDto> movies = moviePersonRepository.findFilmographyRows(personId).stream()
+                .map(row -> FilmographyMovieResDto.builder()
+                        .movieId(((Number) row[0]).longValue())
+                        .title((String) row[1])
+                        .posterPath((String) row[2])
+                        .releaseDate(row[3] == null ? null : ((LocalDate) row[3]).toString())
+                        .role((PersonRole) row[4])
+                        .build())
+                .toList();
+
+        return PersonFilmographyResDto.builder()
+                .personId(person.getId())
+                .name(person.getName())
+                .movies(movies)
+                .build();
+    }
+}
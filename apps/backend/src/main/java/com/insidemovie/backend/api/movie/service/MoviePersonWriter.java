@@ -0,0 +1,110 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.PersonRole;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieBackfillCheckpoint;
+import com.insidemovie.backend.api.movie.entity.MoviePerson;
+import com.insidemovie.backend.api.movie.entity.Person;
+import com.insidemovie.backend.api.movie.repository.MovieBackfillCheckpointRepository;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 영화인 백필의 청크 저장. 청크 영화들의 movie_person 교체와 진행 커서 기록을 한 트랜잭션으로 묶는다.
+ * 영화인은 Person.keyOf 로 찾으므로 대소문자/악센트만 다른 이름은 같은 행을 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MoviePersonWriter {
+
+    private final MovieRepository movieRepository;
+    private final PersonRepository personRepository;
+    private final MoviePersonRepository moviePersonRepository;
+    private final MovieBackfillCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Optional<Long> resumeAfter(String job) {
+        return checkpointRepository.findByJob(job).map(MovieBackfillCheckpoint::getLastMovieId);
+    }
+
+    /**
+     * @return 새로 만든 영화인 수
+     */
+    @Transactional
+    public int write(String job, List<MovieCreditsUpdate> updates, Long lastMovieId, int processed) {
+        int created = 0;
+        if (!updates.isEmpty()) {
+            // 청크에 나온 이름을 키별로 모아(처음 나온 표기 유지) 한 번에 찾고 없는 것만 만든다
+            Map<String, String> namesByKey = new LinkedHashMap<>();
+            for (MovieCreditsUpdate update : updates) {
+                update.directors().forEach(name -> namesByKey.putIfAbsent(Person.keyOf(name), name));
+                update.actors().forEach(name -> namesByKey.putIfAbsent(Person.keyOf(name), name));
+            }
+            Map<String, Person> people = new HashMap<>();
+            personRepository.findByNameKeyIn(namesByKey.keySet())
+                    .forEach(person -> people.put(person.getNameKey(), person));
+            List<Person> missing = namesByKey.entrySet().stream()
+                    .filter(entry -> !people.containsKey(entry.getKey()))
+                    .map(entry -> Person.of(entry.getValue()))
+                    .toList();
+            personRepository.saveAll(missing).forEach(person -> people.put(person.getNameKey(), person));
+            created = missing.size();
+
+            List<Long> movieIds = updates.stream().map(MovieCreditsUpdate::movieId).toList();
+            moviePersonRepository.deleteByMovieIdIn(movieIds);
+            List<MoviePerson> credits = new ArrayList<>();
+            for (MovieCreditsUpdate update : updates) {
+                Movie movie = movieRepository.getReferenceById(update.movieId());
+                Set<String> seen = new HashSet<>();
+                int order = 0;
+                for (String name : update.directors()) {
+                    order = addCredit(credits, seen, movie, people, name, PersonRole.DIRECTOR, order);
+                }
+                for (String name : update.actors()) {
+                    order = addCredit(credits, seen, movie, people, name, PersonRole.ACTOR, order);
+                }
+            }
+            moviePersonRepository.saveAll(credits);
+            eventPublisher.publishEvent(new MoviesChangedEvent(movieIds));
+        }
+
+        MovieBackfillCheckpoint checkpoint = checkpointRepository.findByJob(job)
+                .orElseGet(() -> checkpointRepository.save(MovieBackfillCheckpoint.of(job)));
+        checkpoint.advance(lastMovieId, processed);
+        return created;
+    }
+
+    // 끝까지 돈 작업은 커서를 지워 다음 실행이 처음부터 대상을 다시 본다
+    @Transactional
+    public void clear(String job) {
+        checkpointRepository.deleteByJob(job);
+    }
+
+    // 같은 영화에서 키와 역할이 겹치는 이름은 한 번만 넣는다 (uk_movie_person_movie_person_role)
+    private static int addCredit(
+            List<MoviePerson> credits, Set<String> seen, Movie movie,
+            Map<String, Person> people, String name, PersonRole role, int order
+    ) {
+        String key = Person.keyOf(name);
+        if (!seen.add(role + ":" + key)) {
+            return order;
+        }
+        credits.add(MoviePerson.of(movie, people.get(key), role, order));
+        return order + 1;
+    }
+}
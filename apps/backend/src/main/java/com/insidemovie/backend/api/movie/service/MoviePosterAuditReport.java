@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -17,6 +18,10 @@ public class MoviePosterAuditReport {
     private final int matchScoreBelowThreshold;
     private final int matchedUpdated;
     private final int failed;
+    private final int kmdbRequests;
+    // 채택된 후보가 나온 KMDb 검색 단계별 영화 수
+    @Builder.Default
+    private final Map<String, Integer> matchTiers = Map.of();
     @Builder.Default
     private final List<MoviePosterAuditDetail> details = List.of();
 
@@ -27,5 +32,6 @@ public class MoviePosterAuditReport {
         private final String koficId;
         private final String title;
         private final String reason;
+        private final String matchTier;
     }
 }
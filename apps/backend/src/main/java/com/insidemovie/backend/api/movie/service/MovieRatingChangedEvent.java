@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.movie.service;
+
+import java.util.Collection;
+
+/**
+ * 리뷰 작성/수정/삭제나 통계 재계산으로 영화 평균 평점이 바뀌었음을 알리는 이벤트.
+ */
+public record MovieRatingChangedEvent(Collection<Long> movieIds) {
+}
@@ -0,0 +1,13 @@
+package com.insidemovie.backend.api.movie.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MovieRatingStatsRebuildReport {
+    private final int checkedMovies;
+    private final int correctedMovies;  // 누적값이 리뷰 테이블과 달라 다시 맞춘 영화 수
+    private final int createdMovies;
+    private final int resetMovies;
+}
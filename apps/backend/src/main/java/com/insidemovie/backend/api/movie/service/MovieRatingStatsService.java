@@ -0,0 +1,178 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import com.insidemovie.backend.api.movie.repository.MovieRatingStatsRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * movie_rating_stats 관리. 리뷰 쓰기 시 증분 반영하고, 조회는 저장된 평균을 그대로 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieRatingStatsService {
+
+    private final MovieRatingStatsRepository movieRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 리뷰 평점 변경분만 반영한다.
+     * - 작성: removed = null, added = 새 평점
+     * - 수정: removed = 기존 평점, added = 새 평점
+     * - 삭제: removed = 기존 평점, added = null
+     * 통계 행이 없는 영화는 행을 만들어 잠근 뒤 리뷰 테이블 기준으로 새로 계산한다. (현재 변경분 포함)
+     */
+    @Transactional
+    public void applyRatingChange(Long movieId, Double removed, Double added) {
+        MovieRatingStats stats = lockStats(movieId);
+        if (stats.isUncomputed()) {
+            resetFromReviews(stats);
+        } else {
+            stats.applyDelta(removed, added);
+        }
+        movieRatingStatsRepository.save(stats);
+        eventPublisher.publishEvent(new MovieRatingChangedEvent(List.of(movieId)));
+    }
+
+    /**
+     * 영화 평균 평점 (소수점 둘째 자리). 리뷰가 없으면 0.00
+     */
+    public BigDecimal getRatingAvg(Long movieId) {
+        if (movieId == null) {
+            return MovieRatingStats.EMPTY_AVG;
+        }
+        return movieRatingStatsRepository.findById(movieId)
+                .map(MovieRatingStats::getRatingAvg)
+                .orElse(MovieRatingStats.EMPTY_AVG);
+    }
+
+    /**
+     * 여러 영화의 평균 평점을 한 번에 조회한다. 통계가 없는 영화는 결과에 포함하지 않는다.
+     */
+    public Map<Long, BigDecimal> getRatingAvgs(Collection<Long> movieIds) {
+        List<Long> ids = movieIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, BigDecimal> averages = new HashMap<>();
+        for (MovieRatingStats stats : movieRatingStatsRepository.findByMovieIdIn(ids)) {
+            averages.put(stats.getMovieId(), stats.getRatingAvg());
+        }
+        return averages;
+    }
+
+    /**
+     * 전체 영화의 평점 통계를 리뷰 테이블 기준으로 다시 맞춘다. (누적값 드리프트 복구)
+     * 리뷰가 하나도 없는 영화의 통계 행은 0으로 초기화한다.
+     * 영화마다 별도 트랜잭션에서 통계 행을 잠근 뒤 리뷰 합계를 읽어, 그 사이 커밋된 증분 반영을 덮어쓰지 않는다.
+     */
+    public MovieRatingStatsRebuildReport rebuildAll() {
+        Set<Long> movieIds = new TreeSet<>(movieRatingStatsRepository.findAllMovieIds());
+        movieIds.addAll(reviewRepository.findRatedMovieIds());
+
+        int checked = 0;
+        int corrected = 0;
+        int created = 0;
+        int reset = 0;
+        List<Long> changedMovieIds = new ArrayList<>();
+        for (Long movieId : movieIds) {
+            RebuildOutcome outcome = transactionTemplate.execute(status -> rebuildOne(movieId));
+            switch (outcome) {
+                case UNCHANGED -> checked++;
+                case CORRECTED -> {
+                    checked++;
+                    corrected++;
+                }
+                case RESET -> {
+                    checked++;
+                    reset++;
+                }
+                case CREATED -> created++;
+            }
+            if (outcome != RebuildOutcome.UNCHANGED) {
+                changedMovieIds.add(movieId);
+            }
+        }
+
+        if (!changedMovieIds.isEmpty()) {
+            eventPublisher.publishEvent(new MovieRatingChangedEvent(changedMovieIds));
+        }
+
+        log.info("[MovieRatingStats] rebuild completed checked={} corrected={} created={} reset={}",
+                checked, corrected, created, reset);
+        return MovieRatingStatsRebuildReport.builder()
+                .checkedMovies(checked)
+                .correctedMovies(corrected)
+                .createdMovies(created)
+                .resetMovies(reset)
+                .build();
+    }
+
+    private RebuildOutcome rebuildOne(Long movieId) {
+        MovieRatingStats stats = lockStats(movieId);
+        boolean created = stats.isUncomputed();
+        Object[] totals = ratingTotals(movieId);
+        long count = totals == null ? 0L : ((Number) totals[1]).longValue();
+        double sum = totals == null || totals[2] == null ? 0.0 : ((Number) totals[2]).doubleValue();
+        if (!created && stats.matches(count, sum)) {
+            return RebuildOutcome.UNCHANGED;
+        }
+        stats.reset(count, sum);
+        movieRatingStatsRepository.save(stats);
+        if (created) {
+            return RebuildOutcome.CREATED;
+        }
+        return totals == null ? RebuildOutcome.RESET : RebuildOutcome.CORRECTED;
+    }
+
+    // 행이 없으면 먼저 insert-if-absent 로 만든 뒤 잠근다. 동시에 처음 쓰는 트랜잭션은 같은 행 잠금에서 차례를 기다린다
+    private MovieRatingStats lockStats(Long movieId) {
+        return movieRatingStatsRepository.findForUpdateByMovieId(movieId).orElseGet(() -> {
+            movieRatingStatsRepository.insertIfAbsent(movieId);
+            return movieRatingStatsRepository.findForUpdateByMovieId(movieId)
+                    .orElseThrow(() -> new NotFoundException("MovieRatingStats not found: " + movieId));
+        });
+    }
+
+    private void resetFromReviews(MovieRatingStats stats) {
+        Object[] totals = ratingTotals(stats.getMovieId());
+        if (totals == null) {
+            stats.reset(0L, 0.0);
+            return;
+        }
+        stats.reset(((Number) totals[1]).longValue(), totals[2] == null ? 0.0 : ((Number) totals[2]).doubleValue());
+    }
+
+    // (movieId, count, sum). 리뷰가 없으면 null
+    private Object[] ratingTotals(Long movieId) {
+        List<Object[]> rows = reviewRepository.findRatingTotalsByMovieId(movieId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private enum RebuildOutcome {
+        UNCHANGED, CORRECTED, RESET, CREATED
+    }
+}
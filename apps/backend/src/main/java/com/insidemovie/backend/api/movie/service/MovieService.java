@@ -5,9 +5,12 @@ import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
+import com.insidemovie.backend.api.movie.dto.GenreFacetResDto;
+import com.insidemovie.backend.api.movie.dto.MovieFullTextSearchResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.dto.SearchMovieResponseDTO;
+import com.insidemovie.backend.api.movie.dto.MovieSuggestResDto;
 import com.insidemovie.backend.api.movie.dto.SearchMovieWrapperDTO;
 import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
 import com.insidemovie.backend.api.movie.entity.Movie;
@@ -17,7 +20,6 @@ import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepositor
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
 import com.insidemovie.backend.api.review.entity.Review;
-import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
@@ -25,18 +27,19 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,11 +49,14 @@ public class MovieService {
 
     private final MovieRepository movieRepository;
     private final MovieGenreRepository movieGenreRepository;
-    private final EmotionRepository emotionRepository;
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final MovieGenreBackfillService movieGenreBackfillService;
+    private final MovieCardEnrichmentService movieCardEnrichmentService;
+    private final MovieTitleIndex movieTitleIndex;
+    private final MovieSuggestIndex movieSuggestIndex;
+    private final MovieFullTextIndex movieFullTextIndex;
     private final AtomicBoolean genreBackfillAttempted = new AtomicBoolean(false);
 
     /**
@@ -82,13 +88,12 @@ public class MovieService {
     public PageResDto<MovieSearchResDto> movieSearchTitle(String title, Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(page, pageSize);
 
-        Page<Movie> movies = movieRepository.findByTitleContainingIgnoreCase(title, pageable);
+        Page<Movie> movies = searchTitles(title, pageable);
         if (movies.isEmpty()) {
             throw new NotFoundException("제목이 '" + title + "'인 영화를 찾을 수 없습니다.");
         }
 
-        Page<MovieSearchResDto> movieSearchResDtos = movies.map(this::convertEntityToDto);
-        return new PageResDto<>(movieSearchResDtos);
+        return new PageResDto<>(toMovieCardPage(movies, false));
     }
 
     /*
@@ -107,66 +112,108 @@ public class MovieService {
             Page<MovieGenre> mgPage = movieGenreRepository.findByGenreTypeIn(matched, pageable);
             moviePage = mgPage.map(MovieGenre::getMovie);
         } else {
-            moviePage = movieRepository.findByTitleContainingIgnoreCase(q, pageable);
+            moviePage = searchTitles(q, pageable);
         }
-        Page<MovieSearchResDto> dto = moviePage.map(this::convertEntityToDto);
-        return new PageResDto<>(dto);
+        return new PageResDto<>(toMovieCardPage(moviePage, false));
     }
 
-    private MovieSearchResDto convertEntityToDto(Movie movie) {
-        EmotionAvgDTO avg = getMovieEmotionSummary(movie.getId());
-        EmotionType mainEmotion = avg.getRepEmotionType();
-
-        double mainEmotionValue = switch (mainEmotion) {
-            case JOY -> avg.getJoy();
-            case SADNESS -> avg.getSadness();
-            case ANGER -> avg.getAnger();
-            case FEAR -> avg.getFear();
-            case DISGUST -> avg.getDisgust();
-            case NONE -> 0.0;
-        };
-
-        Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-        BigDecimal rounded;
-        if (ratingAvg == null || ratingAvg == 0.00) {
-            rounded = BigDecimal.ZERO.setScale(2);
-        } else {
-            rounded = BigDecimal.valueOf(ratingAvg).setScale(2, RoundingMode.HALF_UP);
+    /**
+     * 검색창 자동완성. 메모리 색인만 보고 인기도 순으로 돌려준다.
+     */
+    public List<MovieSuggestResDto> suggestTitles(String q, int limit) {
+        return movieSuggestIndex.suggest(q, limit);
+    }
+
+    /**
+     * 제목 검색은 메모리 색인에서 관련도 순 id 를 받아 해당 페이지 영화만 읽는다.
+     * 색인이 아직 준비되지 않았으면 기존 LIKE 검색을 쓴다.
+     */
+    private Page<Movie> searchTitles(String title, Pageable pageable) {
+        Optional<List<Long>> ranked = movieTitleIndex.search(title);
+        if (ranked.isEmpty()) {
+            return movieRepository.findByTitleContainingIgnoreCase(title, pageable);
         }
+        return pageOf(ranked.get(), pageable);
+    }
+
+    /**
+     * 제목/줄거리/배우/감독 전문 검색. 색인이 아직 없으면 제목 검색 결과만, 패싯 없이 돌려준다.
+     */
+    public MovieFullTextSearchResDto fullTextSearch(String q, GenreType genre, Integer page, Integer pageSize) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Optional<MovieFullTextResult> result = movieFullTextIndex.search(q, genre);
+        if (result.isEmpty()) {
+            return MovieFullTextSearchResDto.builder()
+                    .movies(new PageResDto<>(toMovieCardPage(searchTitles(q, pageable), false)))
+                    .genreFacets(List.of())
+                    .build();
+        }
+
+        List<GenreFacetResDto> facets = result.get().genreFacets().entrySet().stream()
+                .sorted(Map.Entry.<GenreType, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> GenreFacetResDto.builder().genre(entry.getKey()).count(entry.getValue()).build())
+                .toList();
+        return MovieFullTextSearchResDto.builder()
+                .movies(new PageResDto<>(toMovieCardPage(pageOf(result.get().movieIds(), pageable), false)))
+                .genreFacets(facets)
+                .build();
+    }
+
+    // 순서가 정해진 id 목록에서 해당 페이지 영화만 읽는다
+    private Page<Movie> pageOf(List<Long> ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        Map<Long, Movie> byId = movieRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        List<Movie> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    /**
+     * 영화 페이지를 카드 DTO 페이지로 변환한다.
+     * 감정 요약/평균 평점은 페이지 전체에 대해 한 번씩만 조회한다.
+     */
+    private Page<MovieSearchResDto> toMovieCardPage(Page<Movie> moviePage, boolean includeReleaseDate) {
+        MovieCardEnrichment enrichment = movieCardEnrichmentService.enrich(
+                moviePage.getContent().stream().map(Movie::getId).toList()
+        );
+        return moviePage.map(movie -> convertEntityToDto(movie, enrichment, includeReleaseDate));
+    }
 
+    private MovieSearchResDto convertEntityToDto(Movie movie, MovieCardEnrichment enrichment, boolean includeReleaseDate) {
         MovieSearchResDto movieSearchResDto = new MovieSearchResDto();
         movieSearchResDto.setId(movie.getId());
         movieSearchResDto.setTitle(movie.getTitle());
         movieSearchResDto.setPosterPath(movie.getPosterPath());
-        movieSearchResDto.setMainEmotion(mainEmotion);
-        movieSearchResDto.setMainEmotionValue(mainEmotionValue);
-        movieSearchResDto.setRatingAvg(rounded);
+        movieSearchResDto.setMainEmotion(enrichment.mainEmotion(movie.getId()));
+        movieSearchResDto.setMainEmotionValue(enrichment.mainEmotionValue(movie.getId()));
+        movieSearchResDto.setRatingAvg(enrichment.ratingAvg(movie.getId()));
+        if (includeReleaseDate) {
+            movieSearchResDto.setReleaseDate(movie.getReleaseDate());
+        }
         return movieSearchResDto;
     }
 
-    @Transactional
+    /**
+     * 영화 감정 요약 조회 (읽기 전용).
+     * 리뷰 작성/수정/삭제 시 MovieEmotionSummaryService 가 갱신한 movie_emotion_summary 행을 그대로 반환한다.
+     */
     public EmotionAvgDTO getMovieEmotionSummary(Long movieId) {
-        EmotionAvgDTO avg = emotionRepository.findAverageEmotionsByMovieId(movieId)
-                .orElseGet(() -> EmotionAvgDTO.builder()
-                        .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
-                        .repEmotionType(EmotionType.DISGUST)
-                        .build());
-
-        EmotionType rep = calculateRepEmotion(avg);
-        avg.setRepEmotionType(rep);
-
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
-
-        MovieEmotionSummary summary = movieEmotionSummaryRepository
-                .findByMovieId(movieId)
-                .orElseGet(() -> MovieEmotionSummary.builder()
-                        .movie(movie)
-                        .build());
-
-        summary.updateFromDTO(avg);
-        movieEmotionSummaryRepository.save(summary);
-        return avg;
+        return movieEmotionSummaryRepository.findByMovieId(movieId)
+                .map(MovieEmotionSummary::toEmotionAvgDTO)
+                .orElseGet(() -> {
+                    if (!movieRepository.existsById(movieId)) {
+                        throw new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage());
+                    }
+                    return EmotionAvgDTO.builder()
+                            .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
+                            .repEmotionType(EmotionType.NONE)
+                            .build();
+                });
     }
 
     EmotionType calculateRepEmotion(EmotionAvgDTO dto) {
@@ -272,7 +319,7 @@ public class MovieService {
             throw new NotFoundException("해당 장르의 영화가 없습니다: " + genreType.name());
         }
 
-        return new PageResDto<>(moviePage.map(this::convertEntityToRecommendedDto));
+        return new PageResDto<>(toMovieCardPage(moviePage, true));
     }
 
     public PageResDto<MovieSearchResDto> getRecommendedMoviesByPopularity(GenreType genreType, Integer page, Integer pageSize) {
@@ -294,7 +341,7 @@ public class MovieService {
             throw new NotFoundException("해당 장르의 영화가 없습니다: " + genreType.name());
         }
 
-        return new PageResDto<>(moviePage.map(this::convertEntityToRecommendedDto));
+        return new PageResDto<>(toMovieCardPage(moviePage, true));
     }
 
     public PageResDto<MovieSearchResDto> getMyWatchedMovies(Long userId, Integer page, Integer pageSize) {
@@ -302,37 +349,20 @@ public class MovieService {
 
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
-        Page<Review> moviePage = reviewRepository.findByMember(member, pageable);
-
-        Page<MovieSearchResDto> dto = moviePage.map(movieLike -> {
-            Movie movie = movieLike.getMovie();
-            EmotionAvgDTO avg = getMovieEmotionSummary(movie.getId());
-
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if (ratingAvg == null || ratingAvg == 0.00) {
-                rounded = BigDecimal.ZERO.setScale(2);
-            } else {
-                rounded = BigDecimal.valueOf(ratingAvg).setScale(2, RoundingMode.HALF_UP);
-            }
-
-            EmotionType mainEmotion = avg.getRepEmotionType();
-            Double mainEmotionValue = switch (mainEmotion) {
-                case JOY -> avg.getJoy();
-                case SADNESS -> avg.getSadness();
-                case ANGER -> avg.getAnger();
-                case FEAR -> avg.getFear();
-                case DISGUST -> avg.getDisgust();
-                default -> 0.0;
-            };
+        Page<Review> reviewPage = reviewRepository.findWithMovieByMember(member, pageable);
 
+        MovieCardEnrichment enrichment = movieCardEnrichmentService.enrich(
+                reviewPage.getContent().stream().map(review -> review.getMovie().getId()).toList()
+        );
+        Page<MovieSearchResDto> dto = reviewPage.map(review -> {
+            Movie movie = review.getMovie();
             return MovieSearchResDto.builder()
                     .id(movie.getId())
                     .posterPath(movie.getPosterPath())
                     .title(movie.getTitle())
-                    .mainEmotion(mainEmotion)
-                    .mainEmotionValue(mainEmotionValue)
-                    .ratingAvg(rounded)
+                    .mainEmotion(enrichment.mainEmotion(movie.getId()))
+                    .mainEmotionValue(enrichment.mainEmotionValue(movie.getId()))
+                    .ratingAvg(enrichment.ratingAvg(movie.getId()))
                     .build();
         });
         return new PageResDto<>(dto);
@@ -347,12 +377,6 @@ public class MovieService {
         return 0;
     }
 
-    private MovieSearchResDto convertEntityToRecommendedDto(Movie movie) {
-        MovieSearchResDto dto = convertEntityToDto(movie);
-        dto.setReleaseDate(movie.getReleaseDate());
-        return dto;
-    }
-
     private boolean isGenreDataEmpty() {
         return movieGenreRepository.count() == 0;
     }
@@ -0,0 +1,394 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.MovieSuggestResDto;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 영화 제목 자동완성 색인. 검색은 메모리만 보고 MySQL 에 가지 않는다.
+ * - 키는 공백/문장부호를 뺀 제목의 어절 시작 접미사(예: 반지의제왕두개의탑, 두개의탑, 탑)와 영문 제목이다
+ * - 한글 키는 초성 키(ㅂㅈㅇㅈㅇㄷㄱㅇㅌ)도 따로 두어 "ㄱㅅㄷ" 같은 초성 검색을 받는다
+ * - 정렬된 키 배열에서 이분 탐색으로 접두 범위를 찾고, 인기도 상위 K 개만 남긴다
+ * - 영화가 바뀌면 그 영화만 DB 에서 다시 읽고, 그 영화의 키만 정렬된 배열에 병합한다
+ *   (삭제로 빈 칸이 1/4 을 넘으면 메모리의 항목으로 배열을 다시 만든다)
+ */
+@Slf4j
+@Component
+public class MovieSuggestIndex {
+
+    static final int MAX_LIMIT = 20;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNGSEONG_JONGSEONG = 21 * 28;
+
+    private final MovieRepository movieRepository;
+    private final Timer suggestTimer;
+
+    // rebuild/refresh 만 synchronized 로 고치고, 검색은 volatile 스냅샷만 읽는다
+    private final Map<Long, Item> items = new HashMap<>();
+    // 영화 id -> 현재 스냅샷 docs 의 칸 번호. 삭제된 칸은 null 로 남는다
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private int tombstones;
+    private volatile Snapshot snapshot;
+
+    public MovieSuggestIndex(MovieRepository movieRepository, MeterRegistry meterRegistry) {
+        this.movieRepository = movieRepository;
+        this.suggestTimer = meterRegistry.timer("movie.search.suggest");
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 검색어로 시작하는 제목을 인기도 순으로 최대 limit 개 돌려준다.
+     * - 초성만 입력하면 초성 키에서 찾는다
+     * - 마지막 글자만 초성이면(반ㅈ) 앞부분으로 찾은 뒤 다음 글자 초성이 같은 제목만 남긴다
+     */
+    public List<MovieSuggestResDto> suggest(String query, int limit) {
+        Snapshot current = snapshot;
+        String normalized = MovieTitleIndex.normalize(query);
+        if (current == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(1, limit), MAX_LIMIT);
+        return suggestTimer.record(() -> current.find(normalized, size));
+    }
+
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        items.clear();
+        for (Object[] row : movieRepository.findAllSuggestRows()) {
+            Item item = Item.of(row);
+            items.put(item.id(), item);
+        }
+        resetSnapshot();
+        log.info("[MovieSuggestIndex] built movies={} keys={} elapsedMs={}",
+                items.size(), snapshot.keyCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        if (event.movieIds() == null || event.movieIds().isEmpty()) {
+            return;
+        }
+        try {
+            refresh(event.movieIds());
+        } catch (Exception e) {
+            log.warn("[MovieSuggestIndex] refresh failed ids={} error={}", event.movieIds(), e.getMessage());
+        }
+    }
+
+    // 바뀐 영화만 다시 읽는다. 다시 읽히지 않는 id 는 삭제된 것으로 보고 뺀다
+    public synchronized void refresh(Collection<Long> movieIds) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>(movieIds);
+        ids.forEach(items::remove);
+        Map<Long, Item> fresh = new HashMap<>();
+        for (Object[] row : movieRepository.findSuggestRowsByIdIn(ids)) {
+            Item item = Item.of(row);
+            items.put(item.id(), item);
+            fresh.put(item.id(), item);
+        }
+
+        // 기존 영화는 같은 칸을 고쳐 쓰고, 새 영화는 뒤에 붙인다
+        int appended = (int) fresh.keySet().stream().filter(id -> !slots.containsKey(id)).count();
+        Item[] docs = Arrays.copyOf(current.docs(), current.docs().length + appended);
+        boolean[] changed = new boolean[docs.length];
+        int next = current.docs().length;
+        for (Long id : ids) {
+            Item item = fresh.get(id);
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                if (item == null) {
+                    continue;
+                }
+                slot = next++;
+                slots.put(id, slot);
+            } else if (item == null) {
+                slots.remove(id);
+                tombstones++;
+            }
+            docs[slot] = item;
+            changed[slot] = true;
+        }
+
+        if (tombstones * 4 > docs.length) {
+            resetSnapshot();
+        } else {
+            snapshot = current.merge(docs, changed);
+        }
+    }
+
+    private void resetSnapshot() {
+        Snapshot fresh = Snapshot.of(items.values());
+        slots.clear();
+        for (int i = 0; i < fresh.docs().length; i++) {
+            slots.put(fresh.docs()[i].id(), i);
+        }
+        tombstones = 0;
+        snapshot = fresh;
+    }
+
+    static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    // 한글 음절은 초성으로 바꾸고 나머지 글자는 그대로 둔다
+    static String toChoseong(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            sb.append(choseongOf(value.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static char choseongOf(char c) {
+        if (c < HANGUL_BASE || c > HANGUL_LAST) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - HANGUL_BASE) / JUNGSEONG_JONGSEONG);
+    }
+
+    private static boolean hasHangul(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean allChoseong(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isChoseong(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 어절마다 그 어절부터 끝까지 붙인 문자열. "반지의 제왕 : 두 개의 탑" -> 반지의제왕두개의탑, 제왕두개의탑, ...
+    private static Set<String> wordSuffixes(String value) {
+        Set<String> suffixes = new LinkedHashSet<>();
+        if (value == null) {
+            return suffixes;
+        }
+        String[] words = value.trim().split("[\\s\\p{Z}\\p{P}]+");
+        for (int i = 0; i < words.length; i++) {
+            String suffix = MovieTitleIndex.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+            if (!suffix.isEmpty()) {
+                suffixes.add(suffix);
+            }
+        }
+        return suffixes;
+    }
+
+    private record Item(Long id, String title, String titleEn, String posterPath, double popularity) {
+        private static Item of(Object[] row) {
+            return new Item(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    row[4] == null ? 0.0 : ((Number) row[4]).doubleValue()
+            );
+        }
+
+        private MovieSuggestResDto toDto() {
+            return MovieSuggestResDto.builder()
+                    .id(id)
+                    .title(title)
+                    .titleEn(titleEn)
+                    .posterPath(posterPath)
+                    .build();
+        }
+    }
+
+    /**
+     * 한 시점의 불변 색인. keys 는 정렬되어 있고 owners[i] 는 keys[i] 를 가진 항목 번호다.
+     * 삭제된 항목의 docs 칸은 null 이며 그 칸을 가리키는 키는 없다.
+     */
+    private record Snapshot(Item[] docs, String[] keys, int[] owners, String[] choseongKeys, int[] choseongOwners) {
+
+        private static final Comparator<Item> RANK = Comparator.comparingDouble(Item::popularity).reversed()
+                .thenComparingInt(item -> item.title() == null ? Integer.MAX_VALUE : item.title().length())
+                .thenComparing(Item::id);
+
+        private static Snapshot of(Collection<Item> values) {
+            Item[] docs = values.toArray(new Item[0]);
+            List<Key> plain = new ArrayList<>();
+            List<Key> choseong = new ArrayList<>();
+            for (int i = 0; i < docs.length; i++) {
+                addKeys(docs[i], i, plain, choseong);
+            }
+            plain.sort(Comparator.comparing(Key::key));
+            choseong.sort(Comparator.comparing(Key::key));
+            return new Snapshot(
+                    docs,
+                    plain.stream().map(Key::key).toArray(String[]::new),
+                    plain.stream().mapToInt(Key::owner).toArray(),
+                    choseong.stream().map(Key::key).toArray(String[]::new),
+                    choseong.stream().mapToInt(Key::owner).toArray()
+            );
+        }
+
+        /**
+         * changed 칸의 옛 키를 빼고 그 칸의 새 항목 키만 정렬해 기존 배열과 병합한다. 나머지 키는 다시 만들거나 정렬하지 않는다.
+         */
+        private Snapshot merge(Item[] nextDocs, boolean[] changed) {
+            List<Key> plain = new ArrayList<>();
+            List<Key> choseong = new ArrayList<>();
+            for (int i = 0; i < nextDocs.length; i++) {
+                if (changed[i] && nextDocs[i] != null) {
+                    addKeys(nextDocs[i], i, plain, choseong);
+                }
+            }
+            plain.sort(Comparator.comparing(Key::key));
+            choseong.sort(Comparator.comparing(Key::key));
+            String[] nextKeys = new String[keys.length + plain.size()];
+            int[] nextOwners = new int[nextKeys.length];
+            int plainCount = mergeKeys(keys, owners, changed, plain, nextKeys, nextOwners);
+            String[] nextChoseongKeys = new String[choseongKeys.length + choseong.size()];
+            int[] nextChoseongOwners = new int[nextChoseongKeys.length];
+            int choseongCount = mergeKeys(choseongKeys, choseongOwners, changed, choseong, nextChoseongKeys, nextChoseongOwners);
+            return new Snapshot(
+                    nextDocs,
+                    Arrays.copyOf(nextKeys, plainCount),
+                    Arrays.copyOf(nextOwners, plainCount),
+                    Arrays.copyOf(nextChoseongKeys, choseongCount),
+                    Arrays.copyOf(nextChoseongOwners, choseongCount)
+            );
+        }
+
+        // 정렬된 두 키 목록을 한 번 훑어 합친다. 채운 개수를 돌려준다
+        private static int mergeKeys(String[] oldKeys, int[] oldOwners, boolean[] changed, List<Key> added,
+                                     String[] outKeys, int[] outOwners) {
+            int n = 0;
+            int j = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (changed[oldOwners[i]]) {
+                    continue;
+                }
+                while (j < added.size() && added.get(j).key().compareTo(oldKeys[i]) < 0) {
+                    outKeys[n] = added.get(j).key();
+                    outOwners[n++] = added.get(j++).owner();
+                }
+                outKeys[n] = oldKeys[i];
+                outOwners[n++] = oldOwners[i];
+            }
+            for (; j < added.size(); j++) {
+                outKeys[n] = added.get(j).key();
+                outOwners[n++] = added.get(j).owner();
+            }
+            return n;
+        }
+
+        private static void addKeys(Item item, int owner, List<Key> plain, List<Key> choseong) {
+            Set<String> titleKeys = wordSuffixes(item.title());
+            for (String key : titleKeys) {
+                plain.add(new Key(key, owner));
+                if (hasHangul(key)) {
+                    choseong.add(new Key(toChoseong(key), owner));
+                }
+            }
+            for (String key : wordSuffixes(item.titleEn())) {
+                if (!titleKeys.contains(key)) {
+                    plain.add(new Key(key, owner));
+                }
+            }
+        }
+
+        private int keyCount() {
+            return keys.length + choseongKeys.length;
+        }
+
+        private List<MovieSuggestResDto> find(String query, int limit) {
+            char last = query.charAt(query.length() - 1);
+            String head = query.substring(0, query.length() - 1);
+            if (allChoseong(query)) {
+                return collect(choseongKeys, choseongOwners, query, (char) 0, limit);
+            }
+            if (isChoseong(last)) {
+                return collect(keys, owners, head, last, limit);
+            }
+            return collect(keys, owners, query, (char) 0, limit);
+        }
+
+        /**
+         * prefix 로 시작하는 키의 항목 중 상위 limit 개. nextChoseong 이 있으면 prefix 다음 글자의 초성이 같아야 한다.
+         */
+        private List<MovieSuggestResDto> collect(String[] sortedKeys, int[] keyOwners, String prefix, char nextChoseong, int limit) {
+            // 가장 약한 후보가 머리에 오도록 순서를 뒤집은 힙
+            PriorityQueue<Item> top = new PriorityQueue<>(limit + 1, RANK.reversed());
+            for (int i = lowerBound(sortedKeys, prefix); i < sortedKeys.length && sortedKeys[i].startsWith(prefix); i++) {
+                if (nextChoseong != 0 && (sortedKeys[i].length() <= prefix.length()
+                        || choseongOf(sortedKeys[i].charAt(prefix.length())) != nextChoseong)) {
+                    continue;
+                }
+                Item candidate = docs[keyOwners[i]];
+                // 힙에서 밀려난 항목은 다시 와도 또 밀려나므로, 중복은 힙(limit 개) 안에서만 보면 된다
+                if (top.size() == limit && RANK.compare(candidate, top.peek()) >= 0) {
+                    continue;
+                }
+                if (contains(top, candidate)) {
+                    continue;
+                }
+                top.add(candidate);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Item> ranked = new ArrayList<>(top);
+            ranked.sort(RANK);
+            return ranked.stream().map(Item::toDto).toList();
+        }
+
+        private static boolean contains(PriorityQueue<Item> top, Item candidate) {
+            for (Item item : top) {
+                if (item == candidate) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int lowerBound(String[] sortedKeys, String prefix) {
+            int lo = 0;
+            int hi = sortedKeys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sortedKeys[mid].compareTo(prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    private record Key(String key, int owner) {
+    }
+}
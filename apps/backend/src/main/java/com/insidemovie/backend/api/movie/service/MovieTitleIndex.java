@@ -0,0 +1,246 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 제목/영문 제목 n-gram 역색인.
+ * - 공백/문장부호를 뺀 소문자 제목을 글자 단위 1-gram, 2-gram 으로 나눠 영화 id 목록에 붙인다
+ * - 검색어의 2-gram(한 글자면 1-gram)을 모두 가진 영화만 후보로 삼고, 일치/접두/포함 순으로 정렬한다
+ * - 기동 시 MovieSearchIndexRunner 가 전체를 만들고, 이후에는 MoviesChangedEvent 로 바뀐 영화만 고친다
+ */
+@Slf4j
+@Component
+public class MovieTitleIndex {
+
+    private final MovieRepository movieRepository;
+    private final Timer searchTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Doc> docs = new HashMap<>();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    public MovieTitleIndex(MovieRepository movieRepository, MeterRegistry meterRegistry) {
+        this.movieRepository = movieRepository;
+        this.searchTimer = meterRegistry.timer("movie.search.title-index");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 맞는 영화 id 를 관련도 순으로 돌려준다.
+     * 색인이 아직 없거나 검색어가 공백/문장부호뿐이면 empty 를 돌려 호출 쪽이 DB 검색으로 대신한다.
+     */
+    public Optional<List<Long>> search(String query) {
+        String normalized = normalize(query);
+        if (!ready || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(searchTimer.record(() -> rank(normalized)));
+    }
+
+    // 전체 재생성. 새 색인을 따로 만든 뒤 바꿔 끼워 검색은 그동안 기존 색인을 쓴다
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Doc> newDocs = new HashMap<>();
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        for (Object[] row : movieRepository.findAllTitles()) {
+            Doc doc = Doc.of(row);
+            newDocs.put(doc.id(), doc);
+            addPostings(newPostings, doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            docs = newDocs;
+            postings = newPostings;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[MovieTitleIndex] built movies={} grams={} elapsedMs={}",
+                newDocs.size(), newPostings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoviesChanged(MoviesChangedEvent event) {
+        if (event.movieIds() == null || event.movieIds().isEmpty()) {
+            return;
+        }
+        try {
+            reindex(event.movieIds());
+        } catch (Exception e) {
+            // 색인 갱신 실패가 저장한 쪽으로 번지지 않게 한다. 다음 재생성 때 맞춰진다
+            log.warn("[MovieTitleIndex] reindex failed ids={} error={}", event.movieIds(), e.getMessage());
+        }
+    }
+
+    // 바뀐 영화만 다시 읽어 고친다. 다시 읽히지 않는 id 는 삭제된 것으로 보고 뺀다
+    public synchronized void reindex(Collection<Long> movieIds) {
+        if (!ready) {
+            return;
+        }
+        Map<Long, Doc> fresh = new HashMap<>();
+        for (Object[] row : movieRepository.findTitlesByIdIn(new LinkedHashSet<>(movieIds))) {
+            Doc doc = Doc.of(row);
+            fresh.put(doc.id(), doc);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long movieId : movieIds) {
+                Doc old = docs.remove(movieId);
+                if (old != null) {
+                    removePostings(old);
+                }
+                Doc doc = fresh.get(movieId);
+                if (doc != null) {
+                    docs.put(movieId, doc);
+                    addPostings(postings, doc);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Long> rank(String query) {
+        Set<String> grams = grams(query, query.length() == 1 ? 1 : 2);
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            // 가장 짧은 목록을 돌면서 나머지 목록에 모두 있는 id 만 남긴다
+            lists.sort(Comparator.comparingInt(Set::size));
+            for (Long id : lists.get(0)) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(id);
+                }
+                if (inAll) {
+                    Doc doc = docs.get(id);
+                    hits.add(new Hit(id, Math.max(score(query, doc.title()), score(query, doc.titleEn()) - 1)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::id));
+        return hits.stream().map(Hit::id).toList();
+    }
+
+    /**
+     * 일치 100 > 접두 80 > 포함 60 > 글자쌍만 모두 포함 20 에, 검색어가 제목에서 차지하는 비율만큼 더한다.
+     */
+    private static double score(String query, String field) {
+        if (field.isEmpty()) {
+            return 0;
+        }
+        double base;
+        if (field.equals(query)) {
+            base = 100;
+        } else if (field.startsWith(query)) {
+            base = 80;
+        } else if (field.contains(query)) {
+            base = 60;
+        } else {
+            base = 20;
+        }
+        return base + 10.0 * Math.min(query.length(), field.length()) / field.length();
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, Doc doc) {
+        for (String gram : docGrams(doc)) {
+            target.computeIfAbsent(gram, key -> new HashSet<>()).add(doc.id());
+        }
+    }
+
+    private void removePostings(Doc doc) {
+        for (String gram : docGrams(doc)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(doc.id());
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> docGrams(Doc doc) {
+        Set<String> grams = new HashSet<>();
+        for (String field : List.of(doc.title(), doc.titleEn())) {
+            grams.addAll(grams(field, 1));
+            grams.addAll(grams(field, 2));
+        }
+        return grams;
+    }
+
+    private static Set<String> grams(String value, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= value.length(); i++) {
+            grams.add(value.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    // 기존 LIKE 검색처럼 공백을 무시하고, 문장부호와 대소문자 차이도 무시한다
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC)
+                .replaceAll("[\\s\\p{Z}\\p{P}]+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private record Doc(Long id, String title, String titleEn) {
+        private static Doc of(Object[] row) {
+            return new Doc(((Number) row[0]).longValue(), normalize((String) row[1]), normalize((String) row[2]));
+        }
+    }
+
+    private record Hit(Long id, double score) {
+    }
+}
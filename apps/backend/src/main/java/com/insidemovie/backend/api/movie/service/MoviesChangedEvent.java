@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.movie.service;
+
+import java.util.Collection;
+
+/**
+ * 영화 행이 추가되거나 수정되었음을 알리는 이벤트. 커밋 후 검색 색인과 상세 캐시가 해당 영화만 다시 만든다.
+ */
+public record MoviesChangedEvent(Collection<Long> movieIds) {
+}
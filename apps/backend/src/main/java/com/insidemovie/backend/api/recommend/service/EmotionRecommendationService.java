@@ -2,13 +2,14 @@ package com.insidemovie.backend.api.recommend.service;
 
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.api.recommend.dto.EmotionRequestDTO;
 import com.insidemovie.backend.api.recommend.dto.MovieRecommendationApiResponseDto;
 import com.insidemovie.backend.api.recommend.dto.MovieRecommendationDTO;
 import com.insidemovie.backend.api.recommend.dto.MovieSimilarityResDto;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.ExternalServiceException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
@@ -19,9 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -29,7 +30,7 @@ import java.util.List;
 public class EmotionRecommendationService {
 
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
     @Qualifier("fastApiRestClient")
     private final RestClient fastApiRestClient;
     private final MovieRepository movieRepository;
@@ -47,6 +48,8 @@ public class EmotionRecommendationService {
         }
 
         List<MovieRecommendationDTO> recommends = new ArrayList<>();
+        Map<Long, BigDecimal> ratingAvgs = movieRatingStatsService.getRatingAvgs(
+                response.getItems().stream().map(MovieSimilarityResDto::getMovieId).toList());
 
         for (MovieSimilarityResDto recommendMovie : response.getItems()) {
             Movie movie = movieRepository.findById(recommendMovie.getMovieId())
@@ -64,13 +67,7 @@ public class EmotionRecommendationService {
                 default -> 0;
             };
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movieEmotion.getMovieId());
-            BigDecimal rounded;
-            if (ratingAvg == null || ratingAvg == 0.00) {
-                rounded = BigDecimal.ZERO.setScale(2);
-            } else {
-                rounded = BigDecimal.valueOf(ratingAvg).setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratingAvgs.getOrDefault(movie.getId(), MovieRatingStats.EMPTY_AVG);
 
             MovieRecommendationDTO dto = MovieRecommendationDTO.builder()
                     .movieId(movie.getId())
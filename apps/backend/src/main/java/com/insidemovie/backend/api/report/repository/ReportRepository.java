@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
@@ -18,6 +19,10 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     // 동일 사용자가 동일 리뷰를 이미 신고했는지 확인
     boolean existsByReviewAndReporter(Review review, Member reporter);
 
+    // 리뷰 목록용 신고 상태 일괄 조회 [reviewId, status] (신고 순)
+    @Query("SELECT r.review.id, r.status FROM Report r WHERE r.review.id IN :reviewIds ORDER BY r.id")
+    List<Object[]> findStatusesByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
     // 관리자용 전체 신고 페이징 조회
     Page<Report> findAll(Pageable pageable);
 
@@ -1,6 +1,8 @@
 package com.insidemovie.backend.api.review.controller;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import com.insidemovie.backend.api.constant.ReviewSort;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.review.dto.ReviewCreateDTO;
 import com.insidemovie.backend.api.review.dto.ReviewCreatedResponseDTO;
@@ -47,7 +49,10 @@ public class ReviewController implements ReviewApi {
                 .buildAndExpand(reviewId)
                 .toUri();
         return ResponseEntity.created(location)
-                .body(ReviewCreatedResponseDTO.builder().reviewId(reviewId).build());
+                .body(ReviewCreatedResponseDTO.builder()
+                        .reviewId(reviewId)
+                        .emotionStatus(EmotionStatus.PENDING)
+                        .build());
     }
 
     @GetMapping("/movies/{movieId}/reviews")
@@ -55,10 +60,23 @@ public class ReviewController implements ReviewApi {
             @PathVariable Long movieId,
             @RequestParam(defaultValue = "LATEST") ReviewSort sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal Jwt jwt
     ) {
         Pageable pageable = PageRequest.of(page, size, sort.toSort());
-        return ResponseEntity.ok(reviewService.getReviewsByMovie(movieId, pageable));
+        return ResponseEntity.ok(reviewService.getReviewsByMovie(movieId, pageable, currentUserIdResolver.resolveOptional(jwt)));
+    }
+
+    @GetMapping("/movies/{movieId}/reviews/feed")
+    public ResponseEntity<CursorPageResDto<ReviewResponseDTO>> getReviewFeedByMovie(
+            @PathVariable Long movieId,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(reviewService.getReviewFeedByMovie(
+                movieId, sort, cursor, size, currentUserIdResolver.resolveOptional(jwt)));
     }
 
     @GetMapping("/movies/{movieId}/reviews/mine")
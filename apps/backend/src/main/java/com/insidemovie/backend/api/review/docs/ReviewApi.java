@@ -1,6 +1,7 @@
 package com.insidemovie.backend.api.review.docs;
 
 import com.insidemovie.backend.api.constant.ReviewSort;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.review.dto.ReviewCreateDTO;
 import com.insidemovie.backend.api.review.dto.ReviewCreatedResponseDTO;
@@ -40,7 +41,19 @@ public interface ReviewApi {
             @PathVariable Long movieId,
             @RequestParam(defaultValue = "LATEST") ReviewSort sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal Jwt jwt
+    );
+
+    @Operation(summary = "Get reviews by movie (cursor)",
+            description = "Pass nextCursor from the previous response as cursor to read the next page.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    ResponseEntity<CursorPageResDto<ReviewResponseDTO>> getReviewFeedByMovie(
+            @PathVariable Long movieId,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal Jwt jwt
     );
 
     @Operation(summary = "Get my review for movie")
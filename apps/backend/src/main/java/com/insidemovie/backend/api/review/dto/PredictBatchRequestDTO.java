@@ -0,0 +1,16 @@
+package com.insidemovie.backend.api.review.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PredictBatchRequestDTO {
+    private final List<String> texts;
+    private final String aggregation;
+
+    public PredictBatchRequestDTO(List<String> texts, String aggregation) {
+        this.texts = texts;
+        this.aggregation = aggregation;
+    }
+}
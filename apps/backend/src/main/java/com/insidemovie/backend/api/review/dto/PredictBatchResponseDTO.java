@@ -0,0 +1,24 @@
+package com.insidemovie.backend.api.review.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class PredictBatchResponseDTO {
+    private String aggregation;
+    private int count;
+    private List<Item> items;
+    private Instant analyzedAt;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Item {
+        private String text;
+        private Map<String, Double> probabilities;
+    }
+}
@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.review.dto;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,4 +9,5 @@ import lombok.Getter;
 public class ReviewCreatedResponseDTO {
 
     private Long reviewId;
+    private EmotionStatus emotionStatus;
 }
@@ -0,0 +1,48 @@
+package com.insidemovie.backend.api.review.dto;
+
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.common.exception.BadRequestException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 커서. 마지막으로 받은 리뷰의 정렬 키(createdAt, likeCount)와 id 를 담는다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record ReviewCursor(LocalDateTime createdAt, long likeCount, long id) {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지 조회용 경계값
+    public static final ReviewCursor FIRST_DESC = new ReviewCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, Long.MAX_VALUE);
+    public static final ReviewCursor FIRST_ASC = new ReviewCursor(LocalDateTime.of(1, 1, 1, 0, 0), Long.MIN_VALUE, Long.MIN_VALUE);
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getLikeCount(), review.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + likeCount + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ReviewCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.review.dto;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.constant.ReportStatus;
 import lombok.Builder;
@@ -31,6 +32,7 @@ public class ReviewResponseDTO {
     private Long movieId;
 
     private EmotionDTO emotion; // 감정 상태 DTO
+    private EmotionStatus emotionStatus; // 감정 분석 상태 (PENDING 이면 emotion 은 이전 값 또는 null)
 
     private boolean isReported;
     private boolean isConcealed;
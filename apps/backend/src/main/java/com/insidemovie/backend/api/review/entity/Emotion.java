@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Entity
 @Builder
 @Getter
@@ -28,4 +30,24 @@ public class Emotion {
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "review_id", nullable = false, unique = true)
     private Review review;
+
+    // 재분석 결과로 값을 덮어쓴다 (review_id 유니크 제약 때문에 삭제 후 재삽입하지 않음)
+    public void updateProbabilities(Map<String, Double> probabilities) {
+        this.joy = probabilities.getOrDefault("joy", 0.0);
+        this.sadness = probabilities.getOrDefault("sadness", 0.0);
+        this.anger = probabilities.getOrDefault("anger", 0.0);
+        this.fear = probabilities.getOrDefault("fear", 0.0);
+        this.disgust = probabilities.getOrDefault("disgust", 0.0);
+    }
+
+    // 요약 증분 계산용 현재 값 복사본 (영속화하지 않음)
+    public Emotion snapshot() {
+        return Emotion.builder()
+                .joy(joy)
+                .sadness(sadness)
+                .anger(anger)
+                .fear(fear)
+                .disgust(disgust)
+                .build();
+    }
 }
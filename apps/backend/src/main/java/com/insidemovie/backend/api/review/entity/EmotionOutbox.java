@@ -0,0 +1,66 @@
+package com.insidemovie.backend.api.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 분석 대기 중인 리뷰 (transactional outbox).
+ * 리뷰 저장과 같은 트랜잭션에서 기록되고, 워커가 모델 호출 후 Emotion 을 저장하면 삭제된다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "emotion_outbox",
+        indexes = @Index(name = "idx_emotion_outbox_next_attempt", columnList = "next_attempt_at")
+)
+public class EmotionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "emotion_outbox_id")
+    private Long id;
+
+    @Column(name = "review_id", nullable = false, unique = true)
+    private Long reviewId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각. 워커가 가져갈 때 점유 만료 시각으로 미뤄 둔다
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static EmotionOutbox pending(Long reviewId, LocalDateTime now) {
+        return EmotionOutbox.builder()
+                .reviewId(reviewId)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .enqueuedAt(now)
+                .build();
+    }
+
+    // 리뷰 내용이 다시 바뀌면 처음부터 다시 분석
+    public void reset(LocalDateTime now) {
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.enqueuedAt = now;
+        this.lastError = null;
+    }
+
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
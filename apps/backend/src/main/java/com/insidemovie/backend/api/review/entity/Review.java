@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.review.entity;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.report.entity.Report;
@@ -7,6 +8,7 @@ import com.insidemovie.backend.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +16,15 @@ import java.util.List;
 @Entity
 @Builder
 @Getter
-@Table(name = "review")
+@Table(
+        name = "review",
+        indexes = {
+                // 커서 기반 목록 조회용 (정렬 키 + id)
+                @Index(name = "idx_review_movie_created", columnList = "movie_id, is_concealed, created_at, review_id"),
+                @Index(name = "idx_review_movie_like", columnList = "movie_id, is_concealed, like_count, review_id"),
+                @Index(name = "idx_review_member_created", columnList = "member_id, created_at, review_id")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Review extends BaseTimeEntity {
@@ -42,6 +52,11 @@ public class Review extends BaseTimeEntity {
     @Column(name = "is_concealed", nullable = false)
     private boolean isConcealed = false;  // 삭제여부
 
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "emotion_status", length = 20)
+    private EmotionStatus emotionStatus = EmotionStatus.COMPLETE;  // 감정 분석 상태
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -61,6 +76,19 @@ public class Review extends BaseTimeEntity {
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Report> reports = new ArrayList<>();
 
+    // 공백/유니코드 정규화 차이만 있는 수정은 같은 내용으로 본다 (감정 재분석 불필요)
+    public boolean hasSameContent(String other) {
+        return normalizeContent(content).equals(normalizeContent(other));
+    }
+
+    // 감정 분석 입력 기준 정규화. 감정 예측 캐시 키도 이 값으로 만든다
+    public static String normalizeContent(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+    }
+
     public void modify(String content, double rating, boolean spoiler, LocalDateTime watchedAt) {
         this.content = content;
         this.rating = rating;
@@ -78,4 +106,21 @@ public class Review extends BaseTimeEntity {
         this.isConcealed = true;
     }
 
+    // 컬럼 추가 이전에 작성된 리뷰는 분석이 끝난 것으로 본다
+    public EmotionStatus getEmotionStatus() {
+        return emotionStatus == null ? EmotionStatus.COMPLETE : emotionStatus;
+    }
+
+    public void markEmotionPending() {
+        this.emotionStatus = EmotionStatus.PENDING;
+    }
+
+    public void markEmotionComplete() {
+        this.emotionStatus = EmotionStatus.COMPLETE;
+    }
+
+    public void markEmotionFailed() {
+        this.emotionStatus = EmotionStatus.FAILED;
+    }
+
 }
@@ -0,0 +1,149 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.review.entity.Review;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 감정 예측 결과 캐시. 정규화한 리뷰 내용의 해시와 모델 이름으로 키를 만든다.
+ * - 1차: 프로세스 내 LRU (max-entries 로 크기 제한)
+ * - 2차: Redis (선택, redis-enabled). 장애 시 캐시 미스로 처리한다
+ */
+@Slf4j
+@Component
+public class EmotionPredictionCache {
+
+    private static final TypeReference<Map<String, Double>> PROBABILITIES_TYPE = new TypeReference<>() {};
+
+    private final EmotionPredictionProperties.Cache properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Map<String, Double>> local;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public EmotionPredictionCache(
+            EmotionPredictionProperties properties,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties.getCache();
+        this.redisTemplate = this.properties.isRedisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.objectMapper = objectMapper;
+
+        int maxEntries = Math.max(0, this.properties.getMaxEntries());
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Double>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        meterRegistry.gauge("review.emotion.prediction.cache.size", this, EmotionPredictionCache::localSize);
+        this.localHitCounter = meterRegistry.counter("review.emotion.prediction.cache", "result", "hit", "tier", "local");
+        this.redisHitCounter = meterRegistry.counter("review.emotion.prediction.cache", "result", "hit", "tier", "redis");
+        this.missCounter = meterRegistry.counter("review.emotion.prediction.cache", "result", "miss", "tier", "none");
+    }
+
+    public Optional<Map<String, Double>> get(String key) {
+        Map<String, Double> cached;
+        synchronized (local) {
+            cached = local.get(key);
+        }
+        if (cached != null) {
+            localHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        cached = readRedis(key);
+        if (cached != null) {
+            redisHitCounter.increment();
+            putLocal(key, cached);
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, Map<String, Double> probabilities) {
+        Map<String, Double> value = Map.copyOf(probabilities);
+        putLocal(key, value);
+        writeRedis(key, value);
+    }
+
+    /**
+     * 캐시 키: Review.normalizeContent 로 정리한 내용의 SHA-256 + 모델 이름.
+     */
+    public static String key(String text, String model) {
+        return model + ":" + sha256(Review.normalizeContent(text));
+    }
+
+    int localSize() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    private void putLocal(String key, Map<String, Double> value) {
+        synchronized (local) {
+            local.put(key, value);
+        }
+    }
+
+    private Map<String, Double> readRedis(String key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(properties.getRedisKeyPrefix() + key);
+            return json == null ? null : objectMapper.readValue(json, PROBABILITIES_TYPE);
+        } catch (Exception e) {
+            log.debug("[EmotionPredictionCache] redis read failed key={} reason={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Map<String, Double> value) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                    properties.getRedisKeyPrefix() + key,
+                    objectMapper.writeValueAsString(value),
+                    Duration.ofHours(properties.getRedisTtlHours())
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("[EmotionPredictionCache] redis write failed key={} reason={}", key, e.getMessage());
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import com.insidemovie.backend.api.review.dto.PredictBatchRequestDTO;
+import com.insidemovie.backend.api.review.dto.PredictBatchResponseDTO;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FastAPI 감정 예측 호출을 짧은 시간 동안 모아 한 번의 배치 호출로 보내는 클라이언트.
+ * - 첫 요청이 들어온 뒤 max-wait-ms 동안 또는 max-batch-size 만큼 요청을 모은다
+ * - 동시에 보내는 배치 수는 concurrency 로 제한한다
+ * - 배치 호출 지연시간과 배치 크기를 히스토그램으로 기록한다
+ * - 같은 내용은 캐시된 결과를 쓰고, 이미 요청 중인 내용은 그 결과를 함께 기다린다
+ */
+@Slf4j
+@Component
+public class EmotionPredictionClient {
+
+    static final String BATCH_PATH = "/api/v1/emotion-prediction-batches";
+    private static final String EMOTION_MODEL = "overall_avg";
+
+    private final RestClient fastApiRestClient;
+    private final EmotionPredictionProperties properties;
+    private final EmotionPredictionCache cache;
+
+    // 캐시 키 -> 대기/전송 중인 요청
+    private final Map<String, CompletableFuture<Map<String, Double>>> inFlight = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingPrediction> queue = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final ExecutorService senders;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final Timer batchSuccessTimer;
+    private final Timer batchFailureTimer;
+    private final Timer waitTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failedCounter;
+
+    public EmotionPredictionClient(
+            @Qualifier("fastApiRestClient") RestClient fastApiRestClient,
+            EmotionPredictionProperties properties,
+            EmotionPredictionCache cache,
+            MeterRegistry meterRegistry
+    ) {
+        this.fastApiRestClient = fastApiRestClient;
+        this.properties = properties;
+        this.cache = cache;
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        this.permits = new Semaphore(concurrency);
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "emotion-prediction-batch-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("review.emotion.prediction.queue", queue, BlockingQueue::size);
+        this.batchSuccessTimer = Timer.builder("review.emotion.prediction.batch")
+                .tag("outcome", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchFailureTimer = Timer.builder("review.emotion.prediction.batch")
+                .tag("outcome", "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("review.emotion.prediction.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("review.emotion.prediction.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failedCounter = meterRegistry.counter("review.emotion.prediction.failed");
+
+        this.dispatcher = new Thread(this::dispatchLoop, "emotion-prediction-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 텍스트 하나의 감정 확률을 요청하고 결과를 기다린다.
+     * 같은 시점의 다른 요청들과 묶여 한 번의 배치 호출로 전송된다.
+     */
+    public Map<String, Double> predict(String text) {
+        CompletableFuture<Map<String, Double>> future = submit(text);
+        try {
+            return future.get(properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ExternalServiceException externalServiceException) {
+                throw externalServiceException;
+            }
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        } catch (TimeoutException e) {
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        }
+    }
+
+    /**
+     * 감정 예측 요청을 대기열에 넣는다. 여러 건을 한꺼번에 넣으면 배치 크기만큼 묶여 처리된다.
+     */
+    public CompletableFuture<Map<String, Double>> submit(String text) {
+        if (text == null || text.isBlank()) {
+            return CompletableFuture.failedFuture(
+                    new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage()));
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(
+                    new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage()));
+        }
+
+        String cacheKey = EmotionPredictionCache.key(text, EMOTION_MODEL);
+        Optional<Map<String, Double>> cached = cache.get(cacheKey);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        CompletableFuture<Map<String, Double>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, Double>> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            return existing;
+        }
+        future.whenComplete((result, error) -> inFlight.remove(cacheKey, future));
+        queue.add(new PendingPrediction(text, cacheKey, System.nanoTime(), future));
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(1));
+        senders.shutdown();
+        if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+        List<PendingPrediction> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage())));
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PendingPrediction> batch = collectBatch();
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                permits.acquire();
+                try {
+                    senders.execute(() -> {
+                        try {
+                            send(batch);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    fail(batch, e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingPrediction> collectBatch() throws InterruptedException {
+        PendingPrediction first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        int maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        List<PendingPrediction> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getMaxWaitMs()));
+        while (batch.size() < maxBatchSize) {
+            // 이미 쌓여 있는 요청은 기다리지 않고 바로 담는다
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingPrediction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingPrediction> batch) {
+        long dispatchedAt = System.nanoTime();
+        batch.forEach(pending -> waitTimer.record(dispatchedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(batch.size());
+
+        List<String> texts = batch.stream().map(PendingPrediction::text).toList();
+        PredictBatchResponseDTO response;
+        try {
+            response = fastApiRestClient.post()
+                    .uri(BATCH_PATH)
+                    .body(new PredictBatchRequestDTO(texts, EMOTION_MODEL))
+                    .retrieve()
+                    .body(PredictBatchResponseDTO.class);
+        } catch (RuntimeException e) {
+            batchFailureTimer.record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+            log.warn("[EmotionPrediction] batch request failed size={} reason={}", batch.size(), e.getMessage());
+            fail(batch, e);
+            return;
+        }
+
+        if (response == null || response.getItems() == null || response.getItems().size() != batch.size()) {
+            batchFailureTimer.record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+            log.warn("[EmotionPrediction] invalid batch response size={}", batch.size());
+            fail(batch, null);
+            return;
+        }
+        batchSuccessTimer.record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Double> probabilities = response.getItems().get(i).getProbabilities();
+            if (probabilities == null || probabilities.isEmpty()) {
+                fail(List.of(batch.get(i)), null);
+            } else {
+                PendingPrediction pending = batch.get(i);
+                cache.put(pending.cacheKey(), probabilities);
+                inFlight.remove(pending.cacheKey(), pending.future());
+                pending.future().complete(probabilities);
+            }
+        }
+    }
+
+    private void fail(List<PendingPrediction> batch, Exception cause) {
+        failedCounter.increment(batch.size());
+        batch.forEach(pending -> {
+            ExternalServiceException exception =
+                    new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+            if (cause != null) {
+                exception.addSuppressed(cause);
+            }
+            // 재시도가 실패한 요청을 다시 받지 않도록 먼저 제거
+            inFlight.remove(pending.cacheKey(), pending.future());
+            pending.future().completeExceptionally(exception);
+        });
+    }
+
+    private record PendingPrediction(
+            String text,
+            String cacheKey,
+            long enqueuedAt,
+            CompletableFuture<Map<String, Double>> future
+    ) {
+    }
+}
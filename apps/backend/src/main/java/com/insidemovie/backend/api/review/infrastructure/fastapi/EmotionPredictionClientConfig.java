@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EmotionPredictionProperties.class)
+public class EmotionPredictionClientConfig {
+}
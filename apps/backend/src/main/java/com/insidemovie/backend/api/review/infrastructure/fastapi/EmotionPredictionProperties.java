@@ -0,0 +1,32 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "review.emotion-prediction")
+public class EmotionPredictionProperties {
+    // 한 번의 배치 호출에 담는 최대 텍스트 수 (AI 서버 제한 64)
+    private int maxBatchSize = 32;
+    // 첫 요청 이후 다른 요청을 모으기 위해 기다리는 시간
+    private long maxWaitMs = 20;
+    // 동시에 AI 서버로 보내는 배치 수
+    private int concurrency = 2;
+    // 호출자가 결과를 기다리는 최대 시간
+    private long timeoutMs = 10000;
+
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // 프로세스 내 캐시 최대 항목 수 (LRU)
+        private int maxEntries = 10000;
+        // Redis 2차 캐시 사용 여부 (여러 인스턴스가 결과를 공유)
+        private boolean redisEnabled = false;
+        private long redisTtlHours = 168;
+        private String redisKeyPrefix = "emotion:prediction:";
+    }
+}
@@ -0,0 +1,42 @@
+package com.insidemovie.backend.api.review.repository;
+
+import com.insidemovie.backend.api.review.entity.EmotionOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmotionOutboxRepository extends JpaRepository<EmotionOutbox, Long> {
+
+    Optional<EmotionOutbox> findByReviewId(Long reviewId);
+
+    // 워커 완료 처리와 리뷰 수정이 같은 행을 동시에 바꾸지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM EmotionOutbox o WHERE o.id = :id")
+    Optional<EmotionOutbox> findForUpdateById(@Param("id") Long id);
+
+    // 처리 시각이 된 항목을 오래된 순으로 조회
+    @Query("SELECT o FROM EmotionOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<EmotionOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 점유: 아직 아무도 가져가지 않은 경우에만 다음 처리 시각을 점유 만료 시각으로 미룬다
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE EmotionOutbox o
+           SET o.nextAttemptAt = :leaseUntil
+         WHERE o.id = :id
+           AND o.nextAttemptAt <= :now
+    """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM EmotionOutbox o WHERE o.reviewId = :reviewId")
+    void deleteByReviewId(@Param("reviewId") Long reviewId);
+}
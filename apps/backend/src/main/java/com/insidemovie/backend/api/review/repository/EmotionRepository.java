@@ -1,13 +1,11 @@
 package com.insidemovie.backend.api.review.repository;
 
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO;
 import com.insidemovie.backend.api.review.entity.Emotion;
-import com.insidemovie.backend.api.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,9 +42,38 @@ public interface EmotionRepository extends JpaRepository<Emotion, Long> {
     """)
     Optional<EmotionAvgDTO> findAverageEmotionsByMovieId(@Param("movieId") Long movieId);
 
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("DELETE FROM Emotion e WHERE e.review = :review")
-    void deleteByReview(@Param("review") Review review);
+    // 영화의 감정 합계/개수 (movie_emotion_summary 누적값 초기화 및 재구성용)
+    @Query("""
+        SELECT new com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO(
+            e.review.movie.id,
+            COUNT(e),
+            COALESCE(SUM(e.joy), 0.0),
+            COALESCE(SUM(e.sadness), 0.0),
+            COALESCE(SUM(e.anger), 0.0),
+            COALESCE(SUM(e.fear), 0.0),
+            COALESCE(SUM(e.disgust), 0.0)
+        )
+        FROM Emotion e
+        WHERE e.review.movie.id = :movieId
+        GROUP BY e.review.movie.id
+    """)
+    Optional<MovieEmotionTotalsDTO> findTotalsByMovieId(@Param("movieId") Long movieId);
+
+    // 전체 영화의 감정 합계/개수 (관리자 재구성용)
+    @Query("""
+        SELECT new com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO(
+            e.review.movie.id,
+            COUNT(e),
+            COALESCE(SUM(e.joy), 0.0),
+            COALESCE(SUM(e.sadness), 0.0),
+            COALESCE(SUM(e.anger), 0.0),
+            COALESCE(SUM(e.fear), 0.0),
+            COALESCE(SUM(e.disgust), 0.0)
+        )
+        FROM Emotion e
+        GROUP BY e.review.movie.id
+    """)
+    List<MovieEmotionTotalsDTO> findTotalsGroupByMovie();
 
     /**
      * 주어진 영화 ID 목록에 속하는 모든 Emotion 레코드의
@@ -6,6 +6,7 @@ import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -81,8 +83,84 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Object[]> countReviewsMonthly(@Param("start") LocalDateTime start,
                                        @Param("end") LocalDateTime end);
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.movie.id =:movieId")
-    Double findAverageByMovieId(@Param("movieId") Long movieId);
+    // 영화별 평점 누적값 (movieId, count, sum) - movie_rating_stats 재계산용
+    @Query("""
+        SELECT r.movie.id, COUNT(r), SUM(r.rating)
+        FROM Review r
+        WHERE r.movie.id = :movieId
+        GROUP BY r.movie.id
+    """)
+    List<Object[]> findRatingTotalsByMovieId(@Param("movieId") Long movieId);
+
+    // 리뷰가 하나라도 있는 영화 id - movie_rating_stats 재검증 대상
+    @Query("SELECT DISTINCT r.movie.id FROM Review r")
+    List<Long> findRatedMovieIds();
+
+    // 리뷰 목록 응답용: 작성자, 작성자 감정 요약, 리뷰 감정을 한 번에 조회 (행마다 추가 조회 방지)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query(value = "SELECT r FROM Review r WHERE r.movie = :movie AND r.isConcealed = false",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.movie = :movie AND r.isConcealed = false")
+    Page<Review> findVisibleWithDetailsByMovie(@Param("movie") Movie movie, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query(value = "SELECT r FROM Review r WHERE r.member = :member",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.member = :member")
+    Page<Review> findWithDetailsByMember(@Param("member") Member member, Pageable pageable);
+
+    // 커서 기반 목록 조회: 정렬 키 + id 로 마지막 행 다음부터 읽는다 (COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie = :movie AND r.isConcealed = false
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<Review> findVisibleByMovieCreatedBefore(@Param("movie") Movie movie,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie = :movie AND r.isConcealed = false
+          AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+        ORDER BY r.createdAt ASC, r.id ASC
+    """)
+    List<Review> findVisibleByMovieCreatedAfter(@Param("movie") Movie movie,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie = :movie AND r.isConcealed = false
+          AND (r.likeCount < :likeCount OR (r.likeCount = :likeCount AND r.id < :id))
+        ORDER BY r.likeCount DESC, r.id DESC
+    """)
+    List<Review> findVisibleByMovieLikeCountBefore(@Param("movie") Movie movie,
+                                                   @Param("likeCount") long likeCount,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.member = :member
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<Review> findByMemberCreatedBefore(@Param("member") Member member,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // 내가 본 영화 목록용: 영화까지 한 번에 조회
+    @EntityGraph(attributePaths = "movie")
+    @Query(value = "SELECT r FROM Review r WHERE r.member = :member",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.member = :member")
+    Page<Review> findWithMovieByMember(@Param("member") Member member, Pageable pageable);
 
     /**
      * 특정 영화에 달린 모든 리뷰의 감정 점수를 평균 내고,
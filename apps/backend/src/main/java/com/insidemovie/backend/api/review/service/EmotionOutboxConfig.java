@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.review.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EmotionOutboxProperties.class)
+public class EmotionOutboxConfig {
+}
@@ -0,0 +1,23 @@
+package com.insidemovie.backend.api.review.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "review.emotion-outbox")
+public class EmotionOutboxProperties {
+    // 동시에 처리하는 배치 수
+    private int concurrency = 2;
+    // 한 번에 가져가는 outbox 항목 수
+    private int batchSize = 32;
+    // outbox 확인 주기
+    private long pollIntervalMs = 200;
+    // 이 횟수만큼 실패하면 FAILED 로 표시하고 재시도하지 않음
+    private int maxAttempts = 5;
+    // 재시도 대기시간 (실패 횟수에 따라 2배씩 증가)
+    private long retryBackoffMs = 2000;
+    // 워커가 가져간 항목을 다른 워커가 다시 가져가지 않도록 점유하는 시간
+    private long leaseMs = 60000;
+}
@@ -0,0 +1,150 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.review.infrastructure.fastapi.EmotionPredictionClient;
+import com.insidemovie.backend.api.review.service.ReviewEmotionService.PendingAnalysis;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * emotion_outbox 를 비우는 워커.
+ * - 처리 시각이 된 항목을 배치 단위로 점유하고, 배치 안의 리뷰를 한꺼번에 감정 예측 요청한다
+ * - 결과 반영은 리뷰마다 짧은 트랜잭션으로 처리해 모델 호출 동안 DB 커넥션을 잡지 않는다
+ * - 동시에 실행되는 배치 수를 제한한다
+ */
+@Slf4j
+@Component
+public class EmotionOutboxWorker {
+
+    private final ReviewEmotionService reviewEmotionService;
+    private final EmotionPredictionClient emotionPredictionClient;
+    private final EmotionOutboxProperties properties;
+
+    private final Semaphore permits;
+    private final ExecutorService workers;
+
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final Counter completedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmotionOutboxWorker(
+            ReviewEmotionService reviewEmotionService,
+            EmotionPredictionClient emotionPredictionClient,
+            EmotionOutboxProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.reviewEmotionService = reviewEmotionService;
+        this.emotionPredictionClient = emotionPredictionClient;
+        this.properties = properties;
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        this.permits = new Semaphore(concurrency);
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "emotion-outbox-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchTimer = meterRegistry.timer("review.emotion.outbox.batch");
+        this.lagTimer = meterRegistry.timer("review.emotion.outbox.lag");
+        this.completedCounter = meterRegistry.counter("review.emotion.outbox.completed");
+        this.retriedCounter = meterRegistry.counter("review.emotion.outbox.retried");
+        this.failedCounter = meterRegistry.counter("review.emotion.outbox.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${review.emotion-outbox.poll-interval-ms:200}")
+    public void drain() {
+        while (permits.tryAcquire()) {
+            List<PendingAnalysis> batch;
+            try {
+                batch = reviewEmotionService.claimDue(Math.max(1, properties.getBatchSize()));
+            } catch (RuntimeException e) {
+                permits.release();
+                log.warn("[EmotionOutbox] claim failed reason={}", e.getMessage());
+                return;
+            }
+            if (batch.isEmpty()) {
+                permits.release();
+                return;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        processBatch(batch);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 종료 중 등으로 실행 불가 시 점유 만료 후 다시 처리된다
+                permits.release();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    void processBatch(List<PendingAnalysis> batch) {
+        batchTimer.record(() -> {
+            // 배치 전체를 먼저 제출해 예측 클라이언트가 한 번의 호출로 묶을 수 있게 한다
+            List<CompletableFuture<Map<String, Double>>> futures = batch.stream()
+                    .map(analysis -> emotionPredictionClient.submit(analysis.content()))
+                    .toList();
+
+            for (int i = 0; i < batch.size(); i++) {
+                PendingAnalysis analysis = batch.get(i);
+                try {
+                    Map<String, Double> probabilities = futures.get(i).join();
+                    if (reviewEmotionService.complete(analysis, probabilities)) {
+                        completedCounter.increment();
+                        lagTimer.record(Duration.between(analysis.enqueuedAt(), LocalDateTime.now()));
+                    }
+                } catch (CompletionException e) {
+                    recordFailure(analysis, e.getCause() != null ? e.getCause() : e);
+                } catch (RuntimeException e) {
+                    recordFailure(analysis, e);
+                }
+            }
+        });
+    }
+
+    private void recordFailure(PendingAnalysis analysis, Throwable cause) {
+        try {
+            if (reviewEmotionService.recordFailure(analysis, cause.getMessage())) {
+                failedCounter.increment();
+            } else {
+                retriedCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            // 기록 실패 시 점유 만료 후 다시 처리된다
+            log.warn("[EmotionOutbox] failure bookkeeping failed reviewId={} reason={}",
+                    analysis.reviewId(), e.getMessage());
+        }
+    }
+}
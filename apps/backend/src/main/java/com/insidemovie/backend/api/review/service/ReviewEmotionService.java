@@ -0,0 +1,160 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.entity.EmotionOutbox;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.EmotionOutboxRepository;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 감정 분석 outbox 관리.
+ * 리뷰 쓰기 트랜잭션에서는 outbox 에 기록만 하고, 모델 호출 결과 반영은 워커가 짧은 트랜잭션으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewEmotionService {
+
+    private final ReviewRepository reviewRepository;
+    private final EmotionRepository emotionRepository;
+    private final EmotionOutboxRepository emotionOutboxRepository;
+    private final MovieEmotionSummaryService movieEmotionSummaryService;
+    private final EmotionOutboxProperties properties;
+
+    /**
+     * 리뷰 감정 분석 요청. 리뷰 저장/수정 트랜잭션 안에서 호출한다.
+     */
+    @Transactional
+    public void requestAnalysis(Review review) {
+        review.markEmotionPending();
+        LocalDateTime now = LocalDateTime.now();
+        emotionOutboxRepository.findByReviewId(review.getId())
+                .ifPresentOrElse(
+                        outbox -> outbox.reset(now),
+                        () -> emotionOutboxRepository.save(EmotionOutbox.pending(review.getId(), now))
+                );
+    }
+
+    @Transactional
+    public void cancelAnalysis(Long reviewId) {
+        emotionOutboxRepository.deleteByReviewId(reviewId);
+    }
+
+    /**
+     * 처리 시각이 된 outbox 항목을 점유하고, 분석할 리뷰 내용과 함께 돌려준다.
+     */
+    @Transactional
+    public List<PendingAnalysis> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(properties.getLeaseMs() * 1_000_000L);
+
+        List<EmotionOutbox> claimed = new ArrayList<>();
+        for (EmotionOutbox outbox : emotionOutboxRepository.findDue(now, PageRequest.of(0, limit))) {
+            if (emotionOutboxRepository.claim(outbox.getId(), now, leaseUntil) == 1) {
+                claimed.add(outbox);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Review> reviewsById = reviewRepository.findAllById(
+                        claimed.stream().map(EmotionOutbox::getReviewId).toList()
+                ).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        List<PendingAnalysis> pending = new ArrayList<>(claimed.size());
+        for (EmotionOutbox outbox : claimed) {
+            Review review = reviewsById.get(outbox.getReviewId());
+            if (review == null) {
+                // 이미 삭제된 리뷰
+                emotionOutboxRepository.deleteById(outbox.getId());
+                continue;
+            }
+            pending.add(new PendingAnalysis(outbox.getId(), review.getId(), review.getContent(), outbox.getEnqueuedAt()));
+        }
+        return pending;
+    }
+
+    /**
+     * 모델 결과를 Emotion 에 반영하고 영화 감정 요약에 증분을 적용한다.
+     * 분석하는 사이 리뷰 내용이 바뀌었다면 반영하지 않고 다음 처리에 맡긴다.
+     *
+     * @return 반영했으면 true
+     */
+    @Transactional
+    public boolean complete(PendingAnalysis analysis, Map<String, Double> probabilities) {
+        EmotionOutbox outbox = emotionOutboxRepository.findForUpdateById(analysis.outboxId()).orElse(null);
+        if (outbox == null) {
+            return false;
+        }
+        Review review = reviewRepository.findById(analysis.reviewId()).orElse(null);
+        if (review == null) {
+            emotionOutboxRepository.delete(outbox);
+            return false;
+        }
+        if (!Objects.equals(review.getContent(), analysis.content())) {
+            return false;
+        }
+
+        Emotion previous = null;
+        Emotion current = emotionRepository.findByReviewId(review.getId()).orElse(null);
+        if (current != null) {
+            previous = current.snapshot();
+            current.updateProbabilities(probabilities);
+        } else {
+            current = Emotion.builder().review(review).build();
+            current.updateProbabilities(probabilities);
+            current = emotionRepository.save(current);
+        }
+
+        review.markEmotionComplete();
+        emotionOutboxRepository.delete(outbox);
+        movieEmotionSummaryService.applyEmotionChange(review.getMovie().getId(), previous, current);
+        return true;
+    }
+
+    /**
+     * 모델 호출 실패 기록. 최대 시도 횟수를 넘기면 리뷰를 FAILED 로 표시하고 outbox 에서 제거한다.
+     *
+     * @return 더 이상 재시도하지 않으면 true
+     */
+    @Transactional
+    public boolean recordFailure(PendingAnalysis analysis, String error) {
+        EmotionOutbox outbox = emotionOutboxRepository.findForUpdateById(analysis.outboxId()).orElse(null);
+        if (outbox == null) {
+            return false;
+        }
+
+        int attempts = outbox.getAttempts() + 1;
+        if (attempts >= Math.max(1, properties.getMaxAttempts())) {
+            reviewRepository.findById(analysis.reviewId()).ifPresent(Review::markEmotionFailed);
+            emotionOutboxRepository.delete(outbox);
+            log.warn("[ReviewEmotion] emotion analysis gave up reviewId={} attempts={} reason={}",
+                    analysis.reviewId(), attempts, error);
+            return true;
+        }
+
+        long backoffMs = properties.getRetryBackoffMs() << Math.min(attempts - 1, 10);
+        outbox.recordFailure(error, LocalDateTime.now().plusNanos(backoffMs * 1_000_000L));
+        return false;
+    }
+
+    public record PendingAnalysis(Long outboxId, Long reviewId, String content, LocalDateTime enqueuedAt) {
+    }
+}
@@ -1,16 +1,19 @@
 package com.insidemovie.backend.api.review.service;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
-import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
 import com.insidemovie.backend.api.member.service.MemberPolicyService;
+import com.insidemovie.backend.api.constant.ReviewSort;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.constant.ReportStatus;
 import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
-import com.insidemovie.backend.api.movie.service.MovieService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import com.insidemovie.backend.api.constant.ReportStatus;
+import com.insidemovie.backend.api.report.repository.ReportRepository;
 import com.insidemovie.backend.api.review.dto.*;
 import com.insidemovie.backend.api.review.entity.Emotion;
 import com.insidemovie.backend.api.review.entity.Review;
@@ -19,59 +22,70 @@ import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.BadRequestException;
-import com.insidemovie.backend.common.exception.ExternalServiceException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.exception.UnAuthorizedException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewService {
 
-    private static final String EMOTION_MODEL = "overall_avg";
-
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
     private final MovieRepository movieRepository;
-    @Qualifier("fastApiRestClient")
-    private final RestClient fastApiRestClient;
+    private final ReviewEmotionService reviewEmotionService;
     private final EmotionRepository emotionRepository;
     private final MemberPolicyService memberPolicyService;
-    private final MovieService movieService;
-    private final MemberEmotionSummaryRepository memberEmotionSummaryRepository;
+    private final ReportRepository reportRepository;
     private final MovieEmotionSummaryService movieEmotionSummaryService;
+    private final MovieRatingStatsService movieRatingStatsService;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     // 리뷰 작성
     @Transactional
     public Long createReview(Long movieId, ReviewCreateDTO reviewCreateDTO, Long userId) {
-        return createReviewInternal(movieId, reviewCreateDTO, userId, false);
+        return createReviewInternal(movieId, reviewCreateDTO, userId, null);
     }
 
+    /**
+     * 시드용 리뷰 작성. 시드 서비스가 미리 배치로 받아 온 감정 확률을 사용하고,
+     * 예측에 실패해 없으면 평점 기반 대체 감정을 사용한다.
+     */
     @Transactional
-    public Long createReviewForSeed(Long movieId, ReviewCreateDTO reviewCreateDTO, Long userId) {
-        return createReviewInternal(movieId, reviewCreateDTO, userId, true);
+    public Long createReviewForSeed(
+            Long movieId,
+            ReviewCreateDTO reviewCreateDTO,
+            Long userId,
+            Map<String, Double> predictedProbabilities
+    ) {
+        Map<String, Double> probabilities = predictedProbabilities == null || predictedProbabilities.isEmpty()
+                ? buildFallbackEmotionProbabilities(reviewCreateDTO.getRating())
+                : predictedProbabilities;
+        return createReviewInternal(movieId, reviewCreateDTO, userId, probabilities);
     }
 
     private Long createReviewInternal(
             Long movieId,
             ReviewCreateDTO reviewCreateDTO,
             Long userId,
-            boolean allowFallbackEmotion
+            Map<String, Double> predictedProbabilities
     ) {
         Member member = memberPolicyService.getActiveMemberById(userId);
 
@@ -94,40 +108,68 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        movieRatingStatsService.applyRatingChange(movieId, null, savedReview.getRating());
 
-        Map<String, Double> probabilities = requestEmotionProbabilities(
-                savedReview.getContent(),
-                reviewCreateDTO.getRating(),
-                allowFallbackEmotion,
-                movieId,
-                userId
-        );
-        saveEmotion(savedReview, probabilities);
+        if (predictedProbabilities == null) {
+            // 감정 분석은 커밋 후 outbox 워커가 처리 (모델 호출 동안 트랜잭션을 잡지 않음)
+            reviewEmotionService.requestAnalysis(savedReview);
+            return savedReview.getId();
+        }
+
+        Emotion savedEmotion = saveEmotion(savedReview, predictedProbabilities);
 
-        // 리뷰 등록 후 영화 감정 요약 업데이트
-        movieService.getMovieEmotionSummary(movieId);
-        movieEmotionSummaryService.recalcMovieSummary(movieId);
+        // 리뷰 등록 후 영화 감정 요약 업데이트 (증분 반영)
+        movieEmotionSummaryService.applyEmotionChange(movieId, null, savedEmotion);
         return savedReview.getId();
     }
 
-    // 영화별 리뷰 목록 조회
+    // 영화별 리뷰 목록 조회. currentUserId 는 비로그인이면 null
     @Transactional
     public PageResDto<ReviewResponseDTO> getReviewsByMovie(
             Long movieId,
-            Pageable pageable
+            Pageable pageable,
+            Long currentUserId
     ) {
 
         Movie movie = movieRepository.findById(movieId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
 
-        Long currentUserId = null;
-
-        Page<Review> reviewPage = reviewRepository.findByMovieAndIsConcealedFalse(movie, pageable);
+        Page<Review> reviewPage = reviewRepository.findVisibleWithDetailsByMovie(movie, pageable);
+        return new PageResDto<>(toResponsePage(reviewPage, currentUserId));
+    }
 
-        final Long uid = currentUserId;
-        Page<ReviewResponseDTO> dtoPage = reviewPage.map(r -> toResponseDTO(r, uid));
+    /**
+     * 영화 리뷰 목록 (커서 기반). 정렬 키와 id 로 이어 읽어 깊은 페이지도 일정한 비용으로 조회한다.
+     * 한 건을 더 읽어 다음 페이지 존재 여부를 판단하고 COUNT 쿼리는 실행하지 않는다.
+     */
+    @Transactional
+    public CursorPageResDto<ReviewResponseDTO> getReviewFeedByMovie(
+            Long movieId,
+            ReviewSort sort,
+            String cursor,
+            int size,
+            Long currentUserId
+    ) {
+        Movie movie = movieRepository.findById(movieId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
 
-        return new PageResDto<>(dtoPage);
+        int limit = clampCursorPageSize(size);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<Review> reviews = switch (sort) {
+            case OLDEST -> {
+                ReviewCursor after = cursor == null ? ReviewCursor.FIRST_ASC : ReviewCursor.decode(cursor);
+                yield reviewRepository.findVisibleByMovieCreatedAfter(movie, after.createdAt(), after.id(), fetch);
+            }
+            case POPULAR -> {
+                ReviewCursor before = cursor == null ? ReviewCursor.FIRST_DESC : ReviewCursor.decode(cursor);
+                yield reviewRepository.findVisibleByMovieLikeCountBefore(movie, before.likeCount(), before.id(), fetch);
+            }
+            case LATEST -> {
+                ReviewCursor before = cursor == null ? ReviewCursor.FIRST_DESC : ReviewCursor.decode(cursor);
+                yield reviewRepository.findVisibleByMovieCreatedBefore(movie, before.createdAt(), before.id(), fetch);
+            }
+        };
+        return toCursorPage(reviews, limit, currentUserId);
     }
 
     // 내 리뷰 단건 조회
@@ -144,7 +186,8 @@ public class ReviewService {
         Review review = reviewRepository.findByMemberAndMovie(member, movie)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW_EXCEPTION.getMessage()));
 
-        return toResponseDTO(review, member.getId());
+        ReviewViewerFlags flags = loadViewerFlags(List.of(review.getId()), member.getId());
+        return toResponseDTO(review, member.getId(), flags);
     }
 
     // 리뷰 수정
@@ -160,6 +203,12 @@ public class ReviewService {
             throw new UnAuthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
         }
 
+        // 내용이 그대로면 기존 감정을 유지 (평점/스포일러/관람일만 바뀐 경우). 분석 실패 상태는 다시 요청
+        boolean reanalyze = !review.hasSameContent(reviewUpdateDTO.getContent())
+                || review.getEmotionStatus() == EmotionStatus.FAILED;
+
+        double previousRating = review.getRating();
+
         // 리뷰 수정
         review.modify(
                 reviewUpdateDTO.getContent(),
@@ -168,41 +217,13 @@ public class ReviewService {
                 reviewUpdateDTO.getWatchedAt()
         );
 
-        // 기존 감정 삭제 (Emotion 테이블에서)
-        emotionRepository.deleteByReview(review);
-
-        // 새로운 감정 분석 요청
-        try {
-            PredictRequestDTO request = new PredictRequestDTO(reviewUpdateDTO.getContent(), "overall_avg");
-            PredictResponseDTO response = fastApiRestClient.post()
-                    .uri("/api/v1/emotion-predictions")
-                    .body(request)
-                    .retrieve()
-                    .body(PredictResponseDTO.class);
-
-            if (response == null || response.getProbabilities() == null) {
-                throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-            }
-
-            Map<String, Double> probabilities = response.getProbabilities();
-
-            Emotion newEmotion = Emotion.builder()
-                    .anger(probabilities.getOrDefault("anger", 0.0))
-                    .fear(probabilities.getOrDefault("fear", 0.0))
-                    .joy(probabilities.getOrDefault("joy", 0.0))
-                    .disgust(probabilities.getOrDefault("disgust", 0.0))
-                    .sadness(probabilities.getOrDefault("sadness", 0.0))
-                    .review(review)
-                    .build();
-
-            emotionRepository.save(newEmotion);
-            movieEmotionSummaryService.recalcMovieSummary(review.getMovie().getId());
-
-            // 영화 감정 요약 갱신
-            movieService.getMovieEmotionSummary(review.getMovie().getId());
+        if (Double.compare(previousRating, review.getRating()) != 0) {
+            movieRatingStatsService.applyRatingChange(review.getMovie().getId(), previousRating, review.getRating());
+        }
 
-        } catch (RestClientException e) {
-            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        if (reanalyze) {
+            // 감정 재분석 요청. 기존 Emotion 은 새 결과가 반영될 때까지 유지된다
+            reviewEmotionService.requestAnalysis(review);
         }
     }
 
@@ -219,10 +240,16 @@ public class ReviewService {
             throw new UnAuthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
         }
 
+        Long movieId = review.getMovie().getId();
+        Emotion previousEmotion = review.getEmotion();
+
+        reviewEmotionService.cancelAnalysis(reviewId);  // 대기 중인 감정 분석 취소
         reviewLikeRepository.deleteByReviewId(reviewId);  // 좋아요 삭제
         reviewRepository.delete(review);  // 리뷰 삭제
-        movieService.getMovieEmotionSummary(review.getMovie().getId());
-        movieEmotionSummaryService.recalcMovieSummary(review.getMovie().getId());
+        movieRatingStatsService.applyRatingChange(movieId, review.getRating(), null);
+        if (previousEmotion != null) {
+            movieEmotionSummaryService.applyEmotionChange(movieId, previousEmotion, null);
+        }
     }
 
     // 좋아요 토글
@@ -288,54 +315,78 @@ public class ReviewService {
 
         Member member = memberPolicyService.getMemberById(userId);
 
-        Page<Review> myReviews = reviewRepository.findByMember(member, pageable);
-        Long currentUserId = member.getId();
-        Page<ReviewResponseDTO> dto = myReviews.map(review -> toResponseDTO(review, currentUserId));
+        Page<Review> myReviews = reviewRepository.findWithDetailsByMember(member, pageable);
+        return new PageResDto<>(toResponsePage(myReviews, member.getId()));
+    }
+
+    // 내가 작성한 리뷰 목록 (커서 기반, 최신순)
+    @Transactional
+    public CursorPageResDto<ReviewResponseDTO> getMyReviewFeed(Long userId, String cursor, int size) {
+        Member member = memberPolicyService.getMemberById(userId);
 
-        return new PageResDto<>(dto);
+        int limit = clampCursorPageSize(size);
+        ReviewCursor before = cursor == null ? ReviewCursor.FIRST_DESC : ReviewCursor.decode(cursor);
+        List<Review> reviews = reviewRepository.findByMemberCreatedBefore(
+                member, before.createdAt(), before.id(), PageRequest.of(0, limit + 1));
+        return toCursorPage(reviews, limit, member.getId());
     }
 
-    private ReviewResponseDTO toResponseDTO(Review review, Long currentUserId) {
-        boolean myReview = currentUserId != null && review.getMember().getId().equals(currentUserId);
-        boolean myLike = currentUserId != null &&
-                reviewLikeRepository.existsByReview_IdAndMember_Id(review.getId(), currentUserId);
+    private CursorPageResDto<ReviewResponseDTO> toCursorPage(List<Review> fetched, int limit, Long currentUserId) {
+        boolean hasNext = fetched.size() > limit;
+        List<Review> reviews = hasNext ? fetched.subList(0, limit) : fetched;
 
-        ReportStatus reportStatus = review.getReports().stream()
-                .map(com.insidemovie.backend.api.report.entity.Report::getStatus)
-                .findFirst()
-                .orElse(null);
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
+        ReviewViewerFlags flags = loadViewerFlags(reviewIds, currentUserId);
+        List<ReviewResponseDTO> content = reviews.stream()
+                .map(review -> toResponseDTO(review, currentUserId, flags))
+                .toList();
+
+        String nextCursor = hasNext ? ReviewCursor.of(reviews.get(reviews.size() - 1)).encode() : null;
+        return new CursorPageResDto<>(content, content.size(), nextCursor, hasNext);
+    }
+
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    // 페이지 단위로 좋아요/신고 상태를 한 번에 조회한 뒤 DTO 변환
+    private Page<ReviewResponseDTO> toResponsePage(Page<Review> reviewPage, Long currentUserId) {
+        List<Long> reviewIds = reviewPage.getContent().stream().map(Review::getId).toList();
+        ReviewViewerFlags flags = loadViewerFlags(reviewIds, currentUserId);
+        return reviewPage.map(review -> toResponseDTO(review, currentUserId, flags));
+    }
+
+    private ReviewViewerFlags loadViewerFlags(List<Long> reviewIds, Long currentUserId) {
+        if (reviewIds.isEmpty()) {
+            return new ReviewViewerFlags(Set.of(), Map.of());
+        }
+
+        Set<Long> likedReviewIds = currentUserId == null
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewIds(currentUserId, reviewIds));
+
+        // 리뷰당 첫 번째 신고의 상태
+        Map<Long, ReportStatus> reportStatuses = new HashMap<>();
+        for (Object[] row : reportRepository.findStatusesByReviewIds(reviewIds)) {
+            reportStatuses.putIfAbsent((Long) row[0], (ReportStatus) row[1]);
+        }
+        return new ReviewViewerFlags(likedReviewIds, reportStatuses);
+    }
+
+    private ReviewResponseDTO toResponseDTO(Review review, Long currentUserId, ReviewViewerFlags flags) {
+        boolean myReview = currentUserId != null && review.getMember().getId().equals(currentUserId);
+        boolean myLike = flags.likedReviewIds().contains(review.getId());
+        ReportStatus reportStatus = flags.reportStatuses().get(review.getId());
 
         // 리뷰 자체 감정
-        EmotionDTO emotionDTO = emotionRepository.findByReviewId(review.getId())
-                .map(e -> {
-                    Map<String, Double> probs = Map.of(
-                            "anger", e.getAnger(),
-                            "fear", e.getFear(),
-                            "joy", e.getJoy(),
-                            "disgust", e.getDisgust(),
-                            "sadness", e.getSadness()
-                    );
-                    String rep = probs.entrySet().stream()
-                            .max(Map.Entry.comparingByValue())
-                            .map(Map.Entry::getKey)
-                            .orElse("disgust");
-                    return EmotionDTO.builder()
-                            .anger(probs.get("anger"))
-                            .fear(probs.get("fear"))
-                            .joy(probs.get("joy"))
-                            .disgust(probs.get("disgust"))
-                            .sadness(probs.get("sadness"))
-                            .repEmotion(rep)
-                            .build();
-                })
+        EmotionDTO emotionDTO = Optional.ofNullable(review.getEmotion())
+                .map(this::toEmotionDTO)
                 .orElse(null);
 
-        EmotionType memberEmotionType = memberEmotionSummaryRepository
-                .findByMemberId(review.getMember().getId())
+        EmotionType memberEmotionType = Optional.ofNullable(review.getMember().getEmotionSummary())
                 .map(MemberEmotionSummary::getRepEmotionType)
                 .orElse(EmotionType.NONE);
 
-
         return ReviewResponseDTO.builder()
                 .reviewId(review.getId())
                 .content(review.getContent())
@@ -354,38 +405,30 @@ public class ReviewService {
                 .isReported(review.isReported())
                 .isConcealed(review.isConcealed())
                 .reportStatus(reportStatus)
+                .emotionStatus(review.getEmotionStatus())
                 .build();
     }
 
-    private Map<String, Double> requestEmotionProbabilities(
-            String reviewContent,
-            double rating,
-            boolean allowFallbackEmotion,
-            Long movieId,
-            Long userId
-    ) {
-        try {
-            PredictRequestDTO request = new PredictRequestDTO(reviewContent, EMOTION_MODEL);
-            PredictResponseDTO response = fastApiRestClient.post()
-                    .uri("/api/v1/emotion-predictions")
-                    .body(request)
-                    .retrieve()
-                    .body(PredictResponseDTO.class);
-            if (response == null || response.getProbabilities() == null || response.getProbabilities().isEmpty()) {
-                throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-            }
-            return response.getProbabilities();
-        } catch (RestClientException | ExternalServiceException e) {
-            if (!allowFallbackEmotion) {
-                if (e instanceof ExternalServiceException externalServiceException) {
-                    throw externalServiceException;
-                }
-                throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-            }
-            log.warn("[ReviewService] FastAPI unavailable while seeding. fallback emotion is used. movieId={} userId={} reason={}",
-                    movieId, userId, e.getMessage());
-            return buildFallbackEmotionProbabilities(rating);
-        }
+    private EmotionDTO toEmotionDTO(Emotion e) {
+        Map<String, Double> probs = Map.of(
+                "anger", e.getAnger(),
+                "fear", e.getFear(),
+                "joy", e.getJoy(),
+                "disgust", e.getDisgust(),
+                "sadness", e.getSadness()
+        );
+        String rep = probs.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("disgust");
+        return EmotionDTO.builder()
+                .anger(probs.get("anger"))
+                .fear(probs.get("fear"))
+                .joy(probs.get("joy"))
+                .disgust(probs.get("disgust"))
+                .sadness(probs.get("sadness"))
+                .repEmotion(rep)
+                .build();
     }
 
     private Map<String, Double> buildFallbackEmotionProbabilities(double rating) {
@@ -401,7 +444,7 @@ public class ReviewService {
         );
     }
 
-    private void saveEmotion(Review review, Map<String, Double> probabilities) {
+    private Emotion saveEmotion(Review review, Map<String, Double> probabilities) {
         Emotion emotion = Emotion.builder()
                 .anger(probabilities.getOrDefault("anger", 0.0))
                 .fear(probabilities.getOrDefault("fear", 0.0))
@@ -410,6 +453,9 @@ public class ReviewService {
                 .sadness(probabilities.getOrDefault("sadness", 0.0))
                 .review(review)
                 .build();
-        emotionRepository.save(emotion);
+        return emotionRepository.save(emotion);
+    }
+
+    private record ReviewViewerFlags(Set<Long> likedReviewIds, Map<Long, ReportStatus> reportStatuses) {
     }
 }
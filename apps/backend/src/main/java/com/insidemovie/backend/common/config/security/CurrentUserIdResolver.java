@@ -18,4 +18,9 @@ public class CurrentUserIdResolver {
             throw new UnAuthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
         }
     }
+
+    // 비로그인도 허용하는 조회용. 토큰이 없으면 null
+    public Long resolveOptional(Jwt jwt) {
+        return jwt == null ? null : resolve(jwt);
+    }
 }
@@ -65,10 +65,14 @@ public class SecurityConfig {
             "/api/v1/movies/*",
             "/api/v1/movies/*/emotions",
             "/api/v1/movies/*/emotion-summary",
+            "/api/v1/movies/*/people",
             "/api/v1/movies/*/reviews",
+            "/api/v1/movies/*/reviews/feed",
             "/api/v1/matches/current",
             "/api/v1/matches/winners",
             "/api/v1/boxoffice/**",
+            "/api/v1/people",
+            "/api/v1/people/*/movies",
             "/api/v1/users/nickname-availability",
             "/api/v1/auth/demo-accounts"
     };
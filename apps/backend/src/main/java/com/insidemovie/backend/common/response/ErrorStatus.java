@@ -29,6 +29,8 @@ public enum ErrorStatus {
     DUPLICATE_REPORT_EXCEPTION(HttpStatus.BAD_REQUEST, "이미 신고한 리뷰입니다."),
     BAD_REQUEST_ALREADY_LOGOUT(HttpStatus.BAD_REQUEST, "이미 로그아웃 된 사용자입니다."),
     DUPLICATE_VOTE_EXCEPTION(HttpStatus.BAD_REQUEST, "이미 투표한 사용자입니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다."),
+    INVALID_TREND_WINDOW_EXCEPTION(HttpStatus.BAD_REQUEST, "박스오피스 추이 조회 기간이 올바르지 않습니다."),
 
     /** 401 UNAUTHORIZED */
     USER_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
@@ -51,6 +53,7 @@ public enum ErrorStatus {
     NOT_FOUND_MOVIE_EMOTION(HttpStatus.NOT_FOUND, "영화의 감정 정보가 없습니다."),
     NOT_FOUND_MATCH(HttpStatus.NOT_FOUND, "최근 매치를 찾을 수 없습니다."),
     NOT_FOUND_WINNER(HttpStatus.NOT_FOUND, "우승 영화 검색에 실패하였습니다."),
+    NOT_FOUND_PERSON_EXCEPTION(HttpStatus.NOT_FOUND, "존재하지 않는 영화인 입니다."),
 
     /** 500 SERVER_ERROR */
     FAIL_UPLOAD_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"파일 업로드 실패하였습니다."),
@@ -58,6 +61,7 @@ public enum ErrorStatus {
     /** 503 ERROR */
     EXTERNAL_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "외부 감정 분석 서비스 호출에 실패하였습니다."),
     EXTERNAL_RECOMMEND_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "외부 영화 추천 서비스 호출에 실패하였습니다."),
+    EXTERNAL_KOBIS_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "영화진흥위원회 박스오피스 API 호출에 실패하였습니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -6,6 +6,7 @@ import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.review.infrastructure.fastapi.EmotionPredictionClient;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.api.review.service.ReviewService;
 import org.junit.jupiter.api.Test;
@@ -16,11 +17,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +44,8 @@ class ReviewAiSeedServiceTest {
     @Mock
     private ReviewService reviewService;
     @Mock
+    private EmotionPredictionClient emotionPredictionClient;
+    @Mock
     private DemoReviewFixtureLoader fixtureLoader;
 
     @InjectMocks
@@ -75,7 +81,9 @@ class ReviewAiSeedServiceTest {
         when(memberRepository.findByEmail(general.email())).thenReturn(Optional.of(member));
         when(movieRepository.findByKoficId("20261150")).thenReturn(Optional.of(movie));
         when(reviewRepository.findByMemberAndMovie(member, movie)).thenReturn(Optional.empty());
-        when(reviewService.createReviewForSeed(eq(1L), any(), eq(11L))).thenReturn(1L);
+        Map<String, Double> prediction = Map.of("joy", 80.0, "sadness", 5.0, "anger", 5.0, "fear", 5.0, "disgust", 5.0);
+        when(emotionPredictionClient.submit("테스트 리뷰")).thenReturn(CompletableFuture.completedFuture(prediction));
+        when(reviewService.createReviewForSeed(eq(1L), any(), eq(11L), eq(prediction))).thenReturn(1L);
 
         ReviewAiSeedReport report = reviewAiSeedService.seed(false, reviewProperties);
 
@@ -85,7 +93,7 @@ class ReviewAiSeedServiceTest {
         assertThat(report.getFailedReviews()).isZero();
         assertThat(report.getFixtureLoadedRows()).isEqualTo(1);
         assertThat(report.getFixtureInvalidRows()).isZero();
-        verify(reviewService, times(1)).createReviewForSeed(eq(1L), any(), eq(11L));
+        verify(reviewService, times(1)).createReviewForSeed(eq(1L), any(), eq(11L), eq(prediction));
     }
 
     @Test
@@ -123,6 +131,49 @@ class ReviewAiSeedServiceTest {
 
         assertThat(report.getRequestedReviews()).isEqualTo(1);
         assertThat(report.getCreatedReviews()).isEqualTo(1);
-        verify(reviewService, never()).createReviewForSeed(eq(3L), any(), eq(7L));
+        verify(reviewService, never()).createReviewForSeed(eq(3L), any(), eq(7L), any());
+        verify(emotionPredictionClient, never()).submit(any());
+    }
+
+    @Test
+    void shouldRetryPredictionAndFallBackWhenFastApiKeepsFailing() {
+        DemoAccountCatalogService.DemoAccountDefinition general = new DemoAccountCatalogService.DemoAccountDefinition(
+                "general-01", "general01@demo.insidemovie.local", "일반01", "일반 계정 01", "GENERAL",
+                EmotionType.JOY, 0.6f, 0.1f, 0.1f, 0.1f, 0.1f
+        );
+
+        DemoReviewSeedRow row = DemoReviewSeedRow.builder()
+                .accountKey("general-01")
+                .movieKoficId("20261150")
+                .rating(2.0)
+                .spoiler(false)
+                .watchedAt(LocalDateTime.parse("2025-01-04T11:07:00"))
+                .content("테스트 리뷰")
+                .build();
+
+        DemoDataBackfillProperties.Review reviewProperties = new DemoDataBackfillProperties.Review();
+        reviewProperties.setFixturePath("seed/demo-reviews.v1.jsonl");
+        reviewProperties.setTargetPerAccount(20);
+        reviewProperties.setMaxContentLen(260);
+
+        Member member = Member.builder().id(11L).email(general.email()).isBanned(false).build();
+        Movie movie = Movie.builder().id(1L).koficId("20261150").title("점보").build();
+
+        when(demoAccountCatalogService.getGeneralAccountDefinitions()).thenReturn(List.of(general));
+        when(fixtureLoader.load("seed/demo-reviews.v1.jsonl", 260))
+                .thenReturn(new DemoReviewFixtureLoadResult(List.of(row), 0));
+        when(memberRepository.findByEmail(general.email())).thenReturn(Optional.of(member));
+        when(movieRepository.findByKoficId("20261150")).thenReturn(Optional.of(movie));
+        when(reviewRepository.findByMemberAndMovie(member, movie)).thenReturn(Optional.empty());
+        when(emotionPredictionClient.submit("테스트 리뷰"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+        when(reviewService.createReviewForSeed(eq(1L), any(), eq(11L), isNull())).thenReturn(1L);
+
+        ReviewAiSeedReport report = reviewAiSeedService.seed(false, reviewProperties);
+
+        assertThat(report.getCreatedReviews()).isEqualTo(1);
+        assertThat(report.getFailedReviews()).isZero();
+        verify(emotionPredictionClient, times(3)).submit("테스트 리뷰");
+        verify(reviewService, times(1)).createReviewForSeed(eq(1L), any(), eq(11L), isNull());
     }
 }
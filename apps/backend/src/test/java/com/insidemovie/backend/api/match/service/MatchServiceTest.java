@@ -8,15 +8,17 @@ import com.insidemovie.backend.api.match.repository.VoteRepository;
 import com.insidemovie.backend.api.member.service.MemberPolicyService;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,7 +38,7 @@ class MatchServiceTest {
     @Mock
     private MemberPolicyService memberPolicyService;
     @Mock
-    private ReviewRepository reviewRepository;
+    private MovieRatingStatsService movieRatingStatsService;
 
     @InjectMocks
     private MatchService matchService;
@@ -67,7 +69,8 @@ class MatchServiceTest {
                 .thenReturn(List.of(orphanWinnerMatch, validWinnerMatch));
         when(movieRepository.findById(200L)).thenReturn(Optional.empty());
         when(movieRepository.findById(201L)).thenReturn(Optional.of(winnerMovie));
-        when(reviewRepository.findAverageByMovieId(201L)).thenReturn(4.256d);
+        when(movieRatingStatsService.getRatingAvgs(List.of(200L, 201L)))
+                .thenReturn(Map.of(201L, new BigDecimal("4.26")));
 
         List<WinnerHistoryDto> result = matchService.getWinnerHistory();
 
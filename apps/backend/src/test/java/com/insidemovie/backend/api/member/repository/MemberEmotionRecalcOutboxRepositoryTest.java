@@ -0,0 +1,51 @@
+package com.insidemovie.backend.api.member.repository;
+
+import com.insidemovie.backend.api.member.entity.MemberEmotionRecalcOutbox;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MemberEmotionRecalcOutboxRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MemberEmotionRecalcOutboxRepository outboxRepository;
+
+    @Test
+    void enqueueAll_shouldCoalesceMembersAndKeepRowsRequestedAgainDuringProcessing() {
+        // 컬럼 정밀도(마이크로초)에서 반올림되어 조회 시각보다 늦게 저장되지 않도록 맞춘다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        outboxRepository.enqueueAll(List.of(1L, 2L, 3L), now);
+        outboxRepository.enqueueAll(List.of(2L, 3L), now);
+        em.clear();
+
+        List<MemberEmotionRecalcOutbox> due = outboxRepository.findDue(now, PageRequest.of(0, 10));
+        assertThat(due).extracting(MemberEmotionRecalcOutbox::getMemberId).containsExactly(1L, 2L, 3L);
+        assertThat(due).extracting(MemberEmotionRecalcOutbox::getRequestSeq).containsExactly(0, 1, 1);
+
+        MemberEmotionRecalcOutbox first = due.get(0);
+        assertThat(outboxRepository.claim(first.getId(), now, now.plusMinutes(1))).isEqualTo(1);
+        assertThat(outboxRepository.claim(first.getId(), now, now.plusMinutes(1))).isZero();
+
+        // 처리하는 동안 다시 요청되면 삭제하지 않는다
+        outboxRepository.enqueueAll(List.of(1L), now);
+        assertThat(outboxRepository.deleteIfUnchanged(first.getId(), first.getRequestSeq())).isZero();
+        assertThat(outboxRepository.deleteIfUnchanged(first.getId(), first.getRequestSeq() + 1)).isEqualTo(1);
+        assertThat(outboxRepository.count()).isEqualTo(2L);
+        assertThat(outboxRepository.findOldestEnqueuedAt()).isPresent();
+    }
+}
@@ -0,0 +1,75 @@
+package com.insidemovie.backend.api.member.repository;
+
+import com.insidemovie.backend.api.constant.Authority;
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.member.dto.emotion.MemberEmotionTotalsDTO;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.MovieLike;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MemberEmotionSummaryRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MemberEmotionSummaryRepository memberEmotionSummaryRepository;
+
+    @Test
+    void aggregateLikedMovieTotals_shouldSumLikedMoviesAndCountMoviesWithoutSummaryAsZero() {
+        Member member = persist(Member.builder().email("a@test.com").nickname("회원").authority(Authority.ROLE_USER).build());
+        Member other = persist(Member.builder().email("b@test.com").nickname("다른 회원").authority(Authority.ROLE_USER).build());
+        Movie joyful = persist(Movie.builder().title("즐거운 영화").build());
+        Movie sad = persist(Movie.builder().title("슬픈 영화").build());
+        Movie unrated = persist(Movie.builder().title("요약 없는 영화").build());
+        em.persist(summary(joyful, 0.8f, 0.1f));
+        em.persist(summary(sad, 0.1f, 0.7f));
+        em.persist(MovieLike.builder().member(member).movie(joyful).build());
+        em.persist(MovieLike.builder().member(member).movie(sad).build());
+        em.persist(MovieLike.builder().member(member).movie(unrated).build());
+        em.persist(MovieLike.builder().member(other).movie(joyful).build());
+        em.flush();
+
+        MemberEmotionTotalsDTO totals = memberEmotionSummaryRepository.aggregateLikedMovieTotals(member.getId());
+
+        assertThat(totals.getLikedMovieCount()).isEqualTo(3L);
+        assertThat(totals.getJoySum()).isCloseTo(0.9, within(1e-6));
+        assertThat(totals.getSadnessSum()).isCloseTo(0.8, within(1e-6));
+        assertThat(totals.getAngerSum()).isZero();
+    }
+
+    @Test
+    void aggregateLikedMovieTotals_shouldReturnZeroTotalsWithoutLikes() {
+        Member member = persist(Member.builder().email("c@test.com").nickname("새 회원").authority(Authority.ROLE_USER).build());
+
+        MemberEmotionTotalsDTO totals = memberEmotionSummaryRepository.aggregateLikedMovieTotals(member.getId());
+
+        assertThat(totals.getLikedMovieCount()).isZero();
+        assertThat(totals.getJoySum()).isZero();
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+
+    private static MovieEmotionSummary summary(Movie movie, float joy, float sadness) {
+        return MovieEmotionSummary.builder()
+                .movie(movie)
+                .joy(joy).sadness(sadness).anger(0f).fear(0f).disgust(0f)
+                .dominantEmotion(joy >= sadness ? EmotionType.JOY : EmotionType.SADNESS)
+                .build();
+    }
+}
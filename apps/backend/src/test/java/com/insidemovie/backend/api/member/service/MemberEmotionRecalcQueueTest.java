@@ -0,0 +1,127 @@
+package com.insidemovie.backend.api.member.service;
+
+import com.insidemovie.backend.api.member.entity.MemberEmotionRecalcOutbox;
+import com.insidemovie.backend.api.member.repository.MemberEmotionRecalcOutboxRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberEmotionRecalcQueueTest {
+
+    @Mock
+    private MemberEmotionSummaryService memberEmotionSummaryService;
+    @Mock
+    private MemberEmotionRecalcOutboxRepository outboxRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void enqueueAll_shouldRecordRequestsInOutbox() {
+        MemberEmotionRecalcQueue queue = newQueue(2);
+        when(outboxRepository.count()).thenReturn(3L);
+
+        queue.enqueueAll(List.of(1L, 2L, 3L));
+        queue.enqueueAll(List.of());
+
+        verify(outboxRepository, times(1)).enqueueAll(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("member.emotion.recalc.backlog").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void drain_shouldRecalcClaimedMembersInBatchesAndKeepReRequestedRows() throws Exception {
+        MemberEmotionRecalcQueue queue = newQueue(2);
+        when(outboxRepository.findDue(any(), any()))
+                .thenReturn(List.of(outbox(11L, 1L, 0), outbox(12L, 2L, 0)))
+                .thenReturn(List.of(outbox(13L, 3L, 1)))
+                .thenReturn(List.of());
+        when(outboxRepository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(outboxRepository.deleteIfUnchanged(anyLong(), anyInt())).thenReturn(1);
+        // 처리 중 다시 요청된 회원
+        when(outboxRepository.deleteIfUnchanged(12L, 0)).thenReturn(0);
+
+        drainUntilIdle(queue);
+
+        verify(memberEmotionSummaryService, times(1)).recalcMemberSummary(1L);
+        verify(memberEmotionSummaryService, times(1)).recalcMemberSummary(2L);
+        verify(memberEmotionSummaryService, times(1)).recalcMemberSummary(3L);
+        verify(outboxRepository).deleteIfUnchanged(13L, 1);
+        verify(outboxRepository).release(eq(12L), any());
+        verify(outboxRepository, never()).release(eq(11L), any());
+        assertThat(meterRegistry.get("member.emotion.recalc.processed").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void drain_shouldRetryPerMemberAndDropDeletedMembers() throws Exception {
+        MemberEmotionRecalcQueue queue = newQueue(10);
+        when(outboxRepository.findDue(any(), any()))
+                .thenReturn(List.of(outbox(11L, 1L, 0), outbox(12L, 2L, 0), outbox(13L, 3L, 0)))
+                .thenReturn(List.of());
+        when(outboxRepository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(outboxRepository.deleteIfUnchanged(anyLong(), anyInt())).thenReturn(1);
+        // 회원 1 은 정상 처리되어야 하므로 인자별 스텁을 lenient 로 둔다
+        lenient().doThrow(new NotFoundException("Member not found: 2")).when(memberEmotionSummaryService).recalcMemberSummary(2L);
+        lenient().doThrow(new IllegalStateException("deadlock")).when(memberEmotionSummaryService).recalcMemberSummary(3L);
+
+        drainUntilIdle(queue);
+
+        verify(outboxRepository, times(2)).deleteIfUnchanged(11L, 0);
+        verify(outboxRepository).deleteIfUnchanged(12L, 0);
+        // 실패한 회원은 점유가 끝난 뒤 다시 처리되도록 남긴다
+        verify(outboxRepository, never()).deleteIfUnchanged(13L, 0);
+        assertThat(meterRegistry.get("member.emotion.recalc.processed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.emotion.recalc.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private MemberEmotionRecalcQueue newQueue(int batchSize) {
+        MemberEmotionRecalcProperties properties = new MemberEmotionRecalcProperties();
+        properties.setConcurrency(1);
+        properties.setBatchSize(batchSize);
+        return new MemberEmotionRecalcQueue(
+                memberEmotionSummaryService,
+                outboxRepository,
+                transactionManager,
+                properties,
+                meterRegistry
+        );
+    }
+
+    private void drainUntilIdle(MemberEmotionRecalcQueue queue) throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            queue.drain();
+            Thread.sleep(10);
+        }
+        queue.shutdown();
+    }
+
+    private MemberEmotionRecalcOutbox outbox(Long id, Long memberId, int requestSeq) {
+        LocalDateTime now = LocalDateTime.now();
+        return MemberEmotionRecalcOutbox.builder()
+                .id(id)
+                .memberId(memberId)
+                .requestSeq(requestSeq)
+                .nextAttemptAt(now)
+                .enqueuedAt(now)
+                .build();
+    }
+}
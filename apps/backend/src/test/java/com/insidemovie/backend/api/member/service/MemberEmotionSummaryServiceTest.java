@@ -0,0 +1,104 @@
+package com.insidemovie.backend.api.member.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.member.dto.emotion.MemberEmotionTotalsDTO;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
+import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
+import com.insidemovie.backend.api.member.repository.MemberRepository;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberEmotionSummaryServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private MemberEmotionSummaryRepository memberEmotionSummaryRepository;
+    @Mock
+    private MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+
+    @InjectMocks
+    private MemberEmotionSummaryService memberEmotionSummaryService;
+
+    private final Member member = Member.builder().nickname("회원").build();
+
+    @Test
+    void applyLikeChange_shouldAddLikedMovieToTotals() {
+        // 기존 좋아요 1편: joy 0.2
+        MemberEmotionSummary summary = summaryWithTotals(new MemberEmotionTotalsDTO(1L, 0.2, 0.0, 0.0, 0.0, 0.0));
+        when(memberEmotionSummaryRepository.findForUpdateByMemberId(1L)).thenReturn(Optional.of(summary));
+        when(movieEmotionSummaryRepository.findByMovieId(10L)).thenReturn(Optional.of(movieSummary(0.8f, 0.2f)));
+
+        memberEmotionSummaryService.applyLikeChange(1L, 10L, true);
+
+        assertThat(summary.getLikedMovieCount()).isEqualTo(2L);
+        assertThat(summary.getJoy()).isCloseTo(0.5f, within(1e-6f));
+        assertThat(summary.getSadness()).isCloseTo(0.1f, within(1e-6f));
+        assertThat(summary.getRepEmotionType()).isEqualTo(EmotionType.JOY);
+        verify(memberEmotionSummaryRepository, never()).aggregateLikedMovieTotals(anyLong());
+        verify(memberEmotionSummaryRepository).save(summary);
+    }
+
+    @Test
+    void applyLikeChange_shouldRecalculateOnUnlikeInsteadOfSubtractingCurrentSummary() {
+        // 좋아요 당시 joy 0.8 로 더해졌지만 지금 영화 요약은 sadness 쪽으로 바뀌었다
+        MemberEmotionSummary summary = summaryWithTotals(new MemberEmotionTotalsDTO(2L, 1.0, 0.2, 0.0, 0.0, 0.0));
+        when(memberEmotionSummaryRepository.findForUpdateByMemberId(1L)).thenReturn(Optional.of(summary));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberEmotionSummaryRepository.aggregateLikedMovieTotals(1L))
+                .thenReturn(new MemberEmotionTotalsDTO(1L, 0.2, 0.0, 0.0, 0.0, 0.0));
+
+        memberEmotionSummaryService.applyLikeChange(1L, 10L, false);
+
+        assertThat(summary.getLikedMovieCount()).isEqualTo(1L);
+        assertThat(summary.getJoySum()).isEqualTo(0.2);
+        assertThat(summary.getSadnessSum()).isEqualTo(0.0);
+        assertThat(summary.getRepEmotionType()).isEqualTo(EmotionType.JOY);
+        verify(movieEmotionSummaryRepository, never()).findByMovieId(anyLong());
+        verify(memberEmotionSummaryRepository).save(summary);
+    }
+
+    @Test
+    void applyLikeChange_shouldRecalculateWhenTotalsAreMissing() {
+        MemberEmotionSummary legacy = MemberEmotionSummary.builder().member(member).build();
+        when(memberEmotionSummaryRepository.findForUpdateByMemberId(1L)).thenReturn(Optional.of(legacy));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberEmotionSummaryRepository.aggregateLikedMovieTotals(1L))
+                .thenReturn(new MemberEmotionTotalsDTO(0L, 0.0, 0.0, 0.0, 0.0, 0.0));
+
+        memberEmotionSummaryService.applyLikeChange(1L, 10L, true);
+
+        assertThat(legacy.hasTotals()).isTrue();
+        assertThat(legacy.getRepEmotionType()).isEqualTo(EmotionType.NONE);
+        verify(movieEmotionSummaryRepository, never()).findByMovieId(anyLong());
+    }
+
+    private MemberEmotionSummary summaryWithTotals(MemberEmotionTotalsDTO totals) {
+        MemberEmotionSummary summary = MemberEmotionSummary.builder().member(member).build();
+        summary.resetTotals(totals);
+        return summary;
+    }
+
+    private static MovieEmotionSummary movieSummary(float joy, float sadness) {
+        return MovieEmotionSummary.builder()
+                .joy(joy).sadness(sadness).anger(0f).fear(0f).disgust(0f)
+                .dominantEmotion(EmotionType.JOY)
+                .build();
+    }
+}
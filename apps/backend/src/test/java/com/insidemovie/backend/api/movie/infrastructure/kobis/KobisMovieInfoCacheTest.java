@@ -0,0 +1,113 @@
+package com.insidemovie.backend.api.movie.infrastructure.kobis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.movie.entity.KobisMovieInfoCacheEntry;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.KobisMovieInfoCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KobisMovieInfoCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KobisMovieInfo info = new KobisMovieInfo(
+            "20020234", "반지의 제왕 : 두 개의 탑", "The Lord of the Rings: The Two Towers", "20021219", 2002, 179,
+            "미국", List.of("피터 잭슨"), List.of("일라이저 우드"), "12세관람가", List.of("액션", "어드벤처"));
+
+    private KobisMovieInfoClient client;
+    private KobisMovieInfoCacheRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(KobisMovieInfoClient.class);
+        repository = mock(KobisMovieInfoCacheRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void fetchMovieInfo_shouldServeFreshEntryWithoutCallingKobis() throws Exception {
+        KobisMovieInfoCacheEntry entry = entry(objectMapper.writeValueAsString(info), LocalDateTime.now().minusDays(1));
+        when(repository.findByMovieCd("20020234")).thenReturn(Optional.of(entry));
+        RequestRateLimiter limiter = new RequestRateLimiter(0);
+
+        Optional<KobisMovieInfo> result = newCache(true).fetchMovieInfo("20020234", limiter);
+
+        assertThat(result).contains(info);
+        verify(client, never()).fetchMovieInfo(anyString());
+        verify(repository, never()).upsert(anyString(), anyString(), any());
+        assertThat(limiter.acquiredCount()).isZero();
+        assertThat(meterRegistry.counter("kobis.movieinfo.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fetchMovieInfo_shouldRefetchAndUpsertExpiredEntry() throws Exception {
+        KobisMovieInfoCacheEntry entry = entry(objectMapper.writeValueAsString(info), LocalDateTime.now().minusDays(31));
+        when(repository.findByMovieCd("20020234")).thenReturn(Optional.of(entry));
+        when(client.fetchMovieInfo("20020234")).thenReturn(Optional.of(info));
+        RequestRateLimiter limiter = new RequestRateLimiter(0);
+
+        Optional<KobisMovieInfo> result = newCache(true).fetchMovieInfo("20020234", limiter);
+
+        assertThat(result).contains(info);
+        assertThat(limiter.acquiredCount()).isEqualTo(1);
+        verify(repository).upsert(eq("20020234"), eq(objectMapper.writeValueAsString(info)), any(LocalDateTime.class));
+        assertThat(meterRegistry.counter("kobis.movieinfo.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fetchMovieInfo_shouldNotStoreEmptyResult() {
+        when(repository.findByMovieCd("20250000")).thenReturn(Optional.empty());
+        when(client.fetchMovieInfo("20250000")).thenReturn(Optional.empty());
+
+        Optional<KobisMovieInfo> result = newCache(true).fetchMovieInfo("20250000");
+
+        assertThat(result).isEmpty();
+        verify(repository, never()).upsert(anyString(), anyString(), any());
+    }
+
+    @Test
+    void fetchMovieInfo_shouldFallBackToKobisWhenEntryIsUnreadable() {
+        KobisMovieInfoCacheEntry entry = entry("{broken", LocalDateTime.now());
+        when(repository.findByMovieCd("20020234")).thenReturn(Optional.of(entry));
+        when(client.fetchMovieInfo("20020234")).thenReturn(Optional.of(info));
+
+        assertThat(newCache(true).fetchMovieInfo("20020234")).contains(info);
+        verify(repository).upsert(eq("20020234"), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void fetchMovieInfo_shouldBypassTableWhenDisabled() {
+        when(client.fetchMovieInfo("20020234")).thenReturn(Optional.of(info));
+
+        assertThat(newCache(false).fetchMovieInfo("20020234")).contains(info);
+        verify(repository, never()).findByMovieCd(anyString());
+        verify(repository, never()).upsert(anyString(), anyString(), any());
+    }
+
+    private KobisMovieInfoCache newCache(boolean enabled) {
+        return new KobisMovieInfoCache(client, repository, objectMapper, meterRegistry, enabled, 30);
+    }
+
+    private static KobisMovieInfoCacheEntry entry(String payload, LocalDateTime fetchedAt) {
+        KobisMovieInfoCacheEntry entry = mock(KobisMovieInfoCacheEntry.class);
+        when(entry.getPayload()).thenReturn(payload);
+        when(entry.getFetchedAt()).thenReturn(fetchedAt);
+        return entry;
+    }
+}
@@ -0,0 +1,68 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeNumbers;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DailyBoxOfficeRepositoryTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 7, 1);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DailyBoxOfficeRepository dailyBoxOfficeRepository;
+
+    @Test
+    void findAllSortedByTargetDate_shouldPutUnparsedRanksLast() {
+        dailyBoxOfficeRepository.upsertAll(List.of(row("M3", "-"), row("M2", "2"), row("M1", "1")));
+
+        List<DailyBoxOfficeEntity> sorted = dailyBoxOfficeRepository.findAllSortedByTargetDate(TARGET_DATE);
+
+        assertThat(sorted).extracting(DailyBoxOfficeEntity::getMovieCd).containsExactly("M1", "M2", "M3");
+        assertThat(sorted.get(2).getMovieRankNum()).isEqualTo(BoxOfficeNumbers.UNPARSED_RANK);
+    }
+
+    @Test
+    void fillNumericColumns_shouldStoreSentinelForUnparsedRankAndNotReadItAgain() {
+        em.persist(row("M1", "1"));
+        em.persist(row("M2", ""));
+        em.flush();
+        jdbcTemplate.update("update daily_box_office set movie_rank_num = null");
+
+        BoxOfficeNumericFill first = dailyBoxOfficeRepository.fillNumericColumns(0L, 10);
+        BoxOfficeNumericFill second = dailyBoxOfficeRepository.fillNumericColumns(0L, 10);
+
+        assertThat(first.rows()).isEqualTo(2);
+        assertThat(first.unparsedRanks()).isEqualTo(1);
+        assertThat(second.rows()).isZero();
+        assertThat(jdbcTemplate.queryForList(
+                "select movie_rank_num from daily_box_office order by movie_rank_num", Integer.class))
+                .containsExactly(1, BoxOfficeNumbers.UNPARSED_RANK);
+    }
+
+    private DailyBoxOfficeEntity row(String movieCd, String movieRank) {
+        return DailyBoxOfficeEntity.builder()
+                .targetDate(TARGET_DATE)
+                .movieCd(movieCd)
+                .movieName("영화 " + movieCd)
+                .movieRank(movieRank)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MovieEmotionSummaryRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+
+    @Test
+    void insertIfAbsent_shouldCreateOneEmptyRowAndKeepExistingTotals() {
+        Movie movie = Movie.builder().title("첫 리뷰 영화").build();
+        em.persist(movie);
+        em.flush();
+
+        movieEmotionSummaryRepository.insertIfAbsent(movie.getId());
+        MovieEmotionSummary created = movieEmotionSummaryRepository.findForUpdateByMovieId(movie.getId()).orElseThrow();
+        assertThat(created.hasTotals()).isFalse();
+
+        em.createNativeQuery("update movie_emotion_summary set review_count = 3 where movie_id = :movieId")
+                .setParameter("movieId", movie.getId())
+                .executeUpdate();
+        movieEmotionSummaryRepository.insertIfAbsent(movie.getId());
+        em.clear();
+
+        assertThat(movieEmotionSummaryRepository.findByMovieId(movie.getId()))
+                .get().extracting(MovieEmotionSummary::getReviewCount).isEqualTo(3L);
+        assertThat(movieEmotionSummaryRepository.count()).isEqualTo(1L);
+    }
+}
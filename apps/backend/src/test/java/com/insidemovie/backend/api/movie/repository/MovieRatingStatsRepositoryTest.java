@@ -0,0 +1,44 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MovieRatingStatsRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MovieRatingStatsRepository movieRatingStatsRepository;
+
+    @Test
+    void insertIfAbsent_shouldCreateUncomputedRowOnceAndKeepExistingTotals() {
+        Movie movie = Movie.builder().title("첫 평점 영화").build();
+        em.persist(movie);
+        em.flush();
+
+        movieRatingStatsRepository.insertIfAbsent(movie.getId());
+        MovieRatingStats created = movieRatingStatsRepository.findForUpdateByMovieId(movie.getId()).orElseThrow();
+        assertThat(created.isUncomputed()).isTrue();
+
+        created.reset(2L, 7.0);
+        em.flush();
+        movieRatingStatsRepository.insertIfAbsent(movie.getId());
+        em.clear();
+
+        MovieRatingStats reloaded = movieRatingStatsRepository.findById(movie.getId()).orElseThrow();
+        assertThat(reloaded.getReviewCount()).isEqualTo(2L);
+        assertThat(reloaded.getRatingAvg()).isEqualByComparingTo("3.50");
+        assertThat(movieRatingStatsRepository.findAllMovieIds()).containsExactly(movie.getId());
+    }
+}
@@ -0,0 +1,275 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeRequestDTO;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoxOfficeHistoryBackfillServiceTest {
+
+    private final BoxOfficeRequestDTO req = BoxOfficeRequestDTO.builder().itemPerPage(10).weekGb("0").build();
+
+    private BoxOfficeHistoryWriter historyWriter;
+    private ApplicationEventPublisher eventPublisher;
+    private BoxOfficeHistoryProperties properties;
+    private HttpServer kobisStub;
+
+    @BeforeEach
+    void setUp() {
+        historyWriter = mock(BoxOfficeHistoryWriter.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        properties = new BoxOfficeHistoryProperties();
+        properties.setConcurrency(3);
+        properties.setRequestsPerSecond(0);
+        properties.setMaxAttempts(2);
+        properties.setRetryBackoffMs(0);
+        when(historyWriter.completedPeriods(any(), anyCollection())).thenReturn(Set.of());
+        when(historyWriter.writeDaily(anyMap(), anySet())).thenAnswer(invocation -> rowCount(invocation.getArgument(0)));
+        when(historyWriter.writeWeekly(anyMap(), anySet())).thenAnswer(invocation -> rowCount(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (kobisStub != null) {
+            kobisStub.stop(0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void backfill_shouldFetchFromKobisStubWithRetriesAndCommitPerChunk() throws IOException {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        startKobisStub(exchange -> {
+            String targetDt = query(exchange, "targetDt");
+            int call = calls.computeIfAbsent(targetDt, key -> new AtomicInteger()).incrementAndGet();
+            if (targetDt.equals("20250102") && call == 1) {
+                respond(exchange, 500, "{}");
+            } else if (targetDt.equals("20250103")) {
+                respond(exchange, 200, "{\"faultInfo\":{\"message\":\"limit exceeded\",\"errorCode\":\"320011\"}}");
+            } else {
+                respond(exchange, 200, dailyJson(targetDt));
+            }
+        });
+
+        BoxOfficeHistoryBackfillReport report = newService(stubbedBoxOfficeService())
+                .backfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 4), req, true, false, 2);
+
+        ArgumentCaptor<Map<String, List<DailyBoxOfficeEntity>>> chunks = ArgumentCaptor.forClass(Map.class);
+        verify(historyWriter, times(2)).writeDaily(chunks.capture(), anySet());
+        assertThat(chunks.getAllValues().get(0)).containsOnlyKeys("20250101:10", "20250102:10");
+        // 계속 실패한 1/3 은 체크포인트 없이 빠진다
+        assertThat(chunks.getAllValues().get(1)).containsOnlyKeys("20250104:10");
+        assertThat(chunks.getAllValues().get(1).get("20250104:10"))
+                .extracting(DailyBoxOfficeEntity::getTargetDate)
+                .containsOnly(LocalDate.of(2025, 1, 4));
+
+        assertThat(report.getRequestedDays()).isEqualTo(4);
+        assertThat(report.getFailedDays()).isEqualTo(1);
+        assertThat(report.getDailyRows()).isEqualTo(6);
+        assertThat(report.getRequests()).isEqualTo(6);
+        assertThat(report.getRetries()).isEqualTo(2);
+        assertThat(report.getChunks()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new BoxOfficeIngestedEvent(Kind.DAILY));
+    }
+
+    @Test
+    void backfill_shouldSkipCheckpointedPeriods() {
+        BoxOfficeService boxOfficeService = mock(BoxOfficeService.class);
+        when(boxOfficeService.fetchDailyFromApi(any(LocalDate.class), eq(10)))
+                .thenAnswer(invocation -> List.of(daily(invocation.getArgument(0))));
+        when(historyWriter.completedPeriods(eq(Kind.DAILY), anyCollection())).thenReturn(Set.of("20250101:10", "20250102:10"));
+
+        BoxOfficeHistoryBackfillReport report = newService(boxOfficeService)
+                .backfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), req, true, false, 7);
+
+        verify(boxOfficeService, never()).fetchDailyFromApi(LocalDate.of(2025, 1, 1), 10);
+        verify(boxOfficeService).fetchDailyFromApi(LocalDate.of(2025, 1, 3), 10);
+        assertThat(report.getSkippedDays()).isEqualTo(2);
+        assertThat(report.getDailyRows()).isEqualTo(1);
+    }
+
+    @Test
+    void backfill_shouldRespectRequestsPerSecond() {
+        properties.setRequestsPerSecond(20);
+        BoxOfficeService boxOfficeService = mock(BoxOfficeService.class);
+        when(boxOfficeService.fetchDailyFromApi(any(LocalDate.class), eq(10)))
+                .thenAnswer(invocation -> List.of(daily(invocation.getArgument(0))));
+
+        BoxOfficeHistoryBackfillReport report = newService(boxOfficeService)
+                .backfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 6), req, true, false, 7);
+
+        // 6건을 초당 20건으로 보내면 첫 호출 이후 최소 250ms
+        assertThat(report.getRequests()).isEqualTo(6);
+        assertThat(report.getElapsedMs()).isGreaterThanOrEqualTo(240);
+    }
+
+    @Test
+    void backfill_shouldFetchEachOverlappingWeekBySunday() {
+        BoxOfficeService boxOfficeService = mock(BoxOfficeService.class);
+        when(boxOfficeService.fetchWeeklyFromApi(any(LocalDate.class), eq("0"), eq(10), any()))
+                .thenReturn(List.of(WeeklyBoxOfficeEntity.builder().movieCd("A").build()));
+
+        // 2025-01-01(수) ~ 2025-01-13(월): 1/5, 1/12, 1/19 가 속한 세 주
+        BoxOfficeHistoryBackfillReport report = newService(boxOfficeService)
+                .backfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 13), req, false, true, 7);
+
+        verify(boxOfficeService).fetchWeeklyFromApi(LocalDate.of(2025, 1, 5), "0", 10, "2025IW01");
+        verify(boxOfficeService).fetchWeeklyFromApi(LocalDate.of(2025, 1, 12), "0", 10, "2025IW02");
+        verify(boxOfficeService).fetchWeeklyFromApi(LocalDate.of(2025, 1, 19), "0", 10, "2025IW03");
+        assertThat(report.getRequestedWeeks()).isEqualTo(3);
+        assertThat(report.getWeeklyRows()).isEqualTo(3);
+        verify(historyWriter, never()).writeDaily(anyMap(), anySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void backfill_shouldNotCheckpointTodayOrCurrentWeek() {
+        BoxOfficeService boxOfficeService = mock(BoxOfficeService.class);
+        when(boxOfficeService.fetchDailyFromApi(any(LocalDate.class), eq(10))).thenReturn(List.of());
+        when(boxOfficeService.fetchWeeklyFromApi(any(LocalDate.class), eq("0"), eq(10), any())).thenReturn(List.of());
+        BoxOfficeHistoryBackfillService service = newService(boxOfficeService);
+        service.today = () -> LocalDate.of(2025, 1, 8);  // 수요일
+
+        service.backfill(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 9), req, true, true, 7);
+
+        // 오늘(1/8)과 미래(1/9), 이번 주(1/12 가 속한 주)는 0건이어도 끝난 기간이 아니다
+        ArgumentCaptor<Set<String>> dailyClosed = ArgumentCaptor.forClass(Set.class);
+        verify(historyWriter).writeDaily(anyMap(), dailyClosed.capture());
+        assertThat(dailyClosed.getValue()).containsExactlyInAnyOrder("20250106:10", "20250107:10");
+
+        ArgumentCaptor<Map<String, List<WeeklyBoxOfficeEntity>>> weekly = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Set<String>> weeklyClosed = ArgumentCaptor.forClass(Set.class);
+        verify(historyWriter).writeWeekly(weekly.capture(), weeklyClosed.capture());
+        assertThat(weekly.getValue()).containsOnlyKeys("2025IW02:0:10");
+        assertThat(weeklyClosed.getValue()).isEmpty();
+    }
+
+    @Test
+    void backfill_shouldKeyWeeklyCheckpointsByWeekGb() {
+        BoxOfficeService boxOfficeService = mock(BoxOfficeService.class);
+        when(boxOfficeService.fetchWeeklyFromApi(any(LocalDate.class), any(), eq(10), any()))
+                .thenReturn(List.of(WeeklyBoxOfficeEntity.builder().movieCd("A").build()));
+        // 주말(weekGb=1) 체크포인트는 주간(weekGb=0) 백필을 건너뛰게 하지 않는다
+        when(historyWriter.completedPeriods(eq(Kind.WEEKLY), anyCollection())).thenReturn(Set.of("2025IW02:1:10"));
+
+        BoxOfficeHistoryBackfillReport report = newService(boxOfficeService)
+                .backfill(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 12), req, false, true, 7);
+
+        verify(boxOfficeService).fetchWeeklyFromApi(LocalDate.of(2025, 1, 12), "0", 10, "2025IW02");
+        assertThat(report.getSkippedWeeks()).isZero();
+    }
+
+    private BoxOfficeHistoryBackfillService newService(BoxOfficeService boxOfficeService) {
+        return new BoxOfficeHistoryBackfillService(boxOfficeService, historyWriter, properties, eventPublisher);
+    }
+
+    // 실제 BoxOfficeService 의 KOBIS 호출/파싱을 로컬 스텁 서버로 돌린다
+    private BoxOfficeService stubbedBoxOfficeService() {
+        RestClient kobisRestClient = RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + kobisStub.getAddress().getPort())
+                .build();
+        return new BoxOfficeService(
+                new ObjectMapper(),
+                mock(DailyBoxOfficeRepository.class),
+                mock(WeeklyBoxOfficeRepository.class),
+                mock(MovieRepository.class),
+                mock(MovieGenreRepository.class),
+                mock(MovieEmotionSummaryRepository.class),
+                mock(MovieRatingStatsService.class),
+                mock(MoviePersonService.class),
+                mock(MovieListColumnParser.class),
+                eventPublisher,
+                kobisRestClient
+        );
+    }
+
+    private void startKobisStub(StubHandler handler) throws IOException {
+        kobisStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        kobisStub.createContext("/boxoffice/searchDailyBoxOfficeList.json", exchange -> {
+            try (exchange) {
+                handler.handle(exchange);
+            }
+        });
+        kobisStub.setExecutor(Executors.newFixedThreadPool(4));
+        kobisStub.start();
+    }
+
+    private static String dailyJson(String targetDt) {
+        return """
+                {"boxOfficeResult":{"boxofficeType":"일별 박스오피스","showRange":"%s~%s","dailyBoxOfficeList":[
+                  {"rnum":"1","rank":"1","rankInten":"0","rankOldAndNew":"OLD","movieCd":"20240001","movieNm":"첫번째","openDt":"2024-12-01","audiCnt":"1000","audiAcc":"50000","scrnCnt":"900","showCnt":"4000"},
+                  {"rnum":"2","rank":"2","rankInten":"1","rankOldAndNew":"NEW","movieCd":"20240002","movieNm":"두번째","openDt":"2024-12-24","audiCnt":"800","audiAcc":"8000","scrnCnt":"700","showCnt":"3000"}
+                ]}}
+                """.formatted(targetDt, targetDt);
+    }
+
+    private static String query(HttpExchange exchange, String name) {
+        for (String pair : exchange.getRequestURI().getQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv[0].equals(name)) {
+                return kv.length > 1 ? kv[1] : "";
+            }
+        }
+        return "";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int rowCount(Map<String, ? extends List<?>> rowsByPeriod) {
+        return rowsByPeriod.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static DailyBoxOfficeEntity daily(LocalDate day) {
+        return DailyBoxOfficeEntity.builder().targetDate(day).movieCd("A").build();
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,74 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeNumbers;
+import com.insidemovie.backend.api.movie.repository.BoxOfficeNumericFill;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BoxOfficeNumericBackfillServiceTest {
+
+    @Mock
+    private DailyBoxOfficeRepository dailyRepo;
+    @Mock
+    private WeeklyBoxOfficeRepository weeklyRepo;
+
+    @InjectMocks
+    private BoxOfficeNumericBackfillService backfillService;
+
+    @Test
+    void backfill_shouldContinueFromLastIdUntilNothingLeft() {
+        when(dailyRepo.fillNumericColumns(0L, BoxOfficeNumericBackfillService.BATCH_SIZE))
+                .thenReturn(new BoxOfficeNumericFill(1000, 1200L, 2));
+        when(dailyRepo.fillNumericColumns(1200L, BoxOfficeNumericBackfillService.BATCH_SIZE))
+                .thenReturn(new BoxOfficeNumericFill(15, 1300L, 1));
+        when(dailyRepo.fillNumericColumns(1300L, BoxOfficeNumericBackfillService.BATCH_SIZE))
+                .thenReturn(new BoxOfficeNumericFill(0, 1300L, 0));
+        when(weeklyRepo.fillNumericColumns(anyLong(), anyInt())).thenReturn(new BoxOfficeNumericFill(0, 0L, 0));
+
+        BoxOfficeNumericBackfillReport report = backfillService.backfill();
+
+        assertThat(report.getDailyRows()).isEqualTo(1015);
+        assertThat(report.getDailyUnparsedRanks()).isEqualTo(3);
+        assertThat(report.getWeeklyRows()).isZero();
+        verify(weeklyRepo).fillNumericColumns(0L, BoxOfficeNumericBackfillService.BATCH_SIZE);
+    }
+
+    @Test
+    void backfill_shouldDropLegacyIndexesAndKeepFillingWhenDropFails() {
+        when(dailyRepo.dropLegacyRankIndex()).thenReturn(true);
+        when(weeklyRepo.dropLegacyRankIndex()).thenThrow(new BadSqlGrammarException("drop", "alter table", new SQLException()));
+        when(dailyRepo.fillNumericColumns(anyLong(), anyInt())).thenReturn(new BoxOfficeNumericFill(0, 0L, 0));
+        when(weeklyRepo.fillNumericColumns(anyLong(), anyInt())).thenReturn(new BoxOfficeNumericFill(0, 0L, 0));
+
+        BoxOfficeNumericBackfillReport report = backfillService.backfill();
+
+        assertThat(report.getDroppedIndexes()).isEqualTo(1);
+        verify(weeklyRepo).fillNumericColumns(0L, BoxOfficeNumericBackfillService.BATCH_SIZE);
+    }
+
+    @Test
+    void numbers_shouldParseKobisFormattedValues() {
+        assertThat(BoxOfficeNumbers.toLong("1,234,567")).isEqualTo(1_234_567L);
+        assertThat(BoxOfficeNumbers.toInt(" 3 ")).isEqualTo(3);
+        assertThat(BoxOfficeNumbers.toLong("")).isNull();
+        assertThat(BoxOfficeNumbers.toLong("-")).isNull();
+        assertThat(BoxOfficeNumbers.toInt("99999999999")).isNull();
+        assertThat(BoxOfficeNumbers.toRank("2")).isEqualTo(2);
+        assertThat(BoxOfficeNumbers.toRank("-")).isEqualTo(BoxOfficeNumbers.UNPARSED_RANK);
+    }
+}
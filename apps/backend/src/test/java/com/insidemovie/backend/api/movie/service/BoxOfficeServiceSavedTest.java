@@ -0,0 +1,125 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoxOfficeServiceSavedTest {
+
+    private DailyBoxOfficeRepository dailyRepo;
+    private MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+    private MovieRatingStatsService movieRatingStatsService;
+    private BoxOfficeService boxOfficeService;
+
+    @BeforeEach
+    void setUp() {
+        dailyRepo = mock(DailyBoxOfficeRepository.class);
+        movieEmotionSummaryRepository = mock(MovieEmotionSummaryRepository.class);
+        movieRatingStatsService = mock(MovieRatingStatsService.class);
+        boxOfficeService = new BoxOfficeService(
+                new ObjectMapper(),
+                dailyRepo,
+                mock(WeeklyBoxOfficeRepository.class),
+                mock(MovieRepository.class),
+                mock(MovieGenreRepository.class),
+                movieEmotionSummaryRepository,
+                movieRatingStatsService,
+                mock(MoviePersonService.class),
+                mock(MovieListColumnParser.class),
+                mock(ApplicationEventPublisher.class),
+                mock(RestClient.class)
+        );
+    }
+
+    @Test
+    void getSavedDailyBoxOffice_shouldLoadEmotionSummariesInOneQuery() {
+        LocalDate date = LocalDate.of(2025, 7, 1);
+        when(dailyRepo.findAllSortedByTargetDate(date)).thenReturn(List.of(
+                row(date, "1", Movie.builder().id(1L).title("기생충").build()),
+                row(date, "2", Movie.builder().id(2L).title("살인의 추억").build()),
+                row(date, "3", null)
+        ));
+        when(movieRatingStatsService.getRatingAvgs(any())).thenReturn(new HashMap<>());
+        when(movieEmotionSummaryRepository.findByMovieIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                MovieEmotionSummary.builder()
+                        .movieId(1L)
+                        .joy(0.7f).sadness(0.1f).fear(0.1f).anger(0.05f).disgust(0.05f)
+                        .dominantEmotion(EmotionType.JOY)
+                        .build()
+        ));
+
+        BoxOfficeListDTO<DailyBoxOfficeResponseDTO> result = boxOfficeService.getSavedDailyBoxOffice("20250701", 10);
+
+        assertThat(result.getItems()).extracting(DailyBoxOfficeResponseDTO::getMainEmotion)
+                .containsExactly(EmotionType.JOY, EmotionType.NONE, EmotionType.NONE);
+        assertThat(result.getItems().get(0).getMainEmotionValue()).isEqualTo((double) 0.7f);
+        verify(movieEmotionSummaryRepository, times(1)).findByMovieIdIn(List.of(1L, 2L));
+        verify(movieEmotionSummaryRepository, never()).findByMovieId(anyLong());
+    }
+
+    @Test
+    void withLiveDailyStats_shouldReplaceRatingAndEmotionFromCurrentStats() {
+        DailyBoxOfficeResponseDTO matched = DailyBoxOfficeResponseDTO.builder()
+                .movieId(1L).title("기생충").ratingAvg(3.0).mainEmotion(EmotionType.NONE).mainEmotionValue(0.0).build();
+        DailyBoxOfficeResponseDTO unmatched = DailyBoxOfficeResponseDTO.builder()
+                .title("미매칭 영화").ratingAvg(0.0).mainEmotion(EmotionType.NONE).mainEmotionValue(0.0).build();
+        BoxOfficeListDTO<DailyBoxOfficeResponseDTO> cached = BoxOfficeListDTO.<DailyBoxOfficeResponseDTO>builder()
+                .targetDt("20250701").items(List.of(matched, unmatched)).build();
+        Map<Long, BigDecimal> ratingAvgs = new HashMap<>();
+        ratingAvgs.put(1L, new BigDecimal("4.25"));
+        when(movieRatingStatsService.getRatingAvgs(List.of(1L))).thenReturn(ratingAvgs);
+        when(movieEmotionSummaryRepository.findByMovieIdIn(List.of(1L))).thenReturn(List.of(
+                MovieEmotionSummary.builder()
+                        .movieId(1L)
+                        .joy(0.1f).sadness(0.6f).fear(0.1f).anger(0.1f).disgust(0.1f)
+                        .dominantEmotion(EmotionType.SADNESS)
+                        .build()
+        ));
+
+        BoxOfficeListDTO<DailyBoxOfficeResponseDTO> live = boxOfficeService.withLiveDailyStats(cached);
+
+        assertThat(live.getTargetDt()).isEqualTo("20250701");
+        assertThat(live.getItems()).extracting(DailyBoxOfficeResponseDTO::getRatingAvg).containsExactly(4.25, 0.0);
+        assertThat(live.getItems()).extracting(DailyBoxOfficeResponseDTO::getMainEmotion)
+                .containsExactly(EmotionType.SADNESS, EmotionType.NONE);
+        assertThat(live.getItems().get(0).getMainEmotionValue()).isEqualTo((double) 0.6f);
+        assertThat(live.getItems().get(1).getTitle()).isEqualTo("미매칭 영화");
+    }
+
+    private static DailyBoxOfficeEntity row(LocalDate date, String rank, Movie movie) {
+        return DailyBoxOfficeEntity.builder()
+                .targetDate(date)
+                .movieRank(rank)
+                .movieName(movie != null ? movie.getTitle() : "미매칭 영화")
+                .movie(movie)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BaseBoxOfficeItemDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeSnapshot;
+import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoxOfficeSnapshotServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BoxOfficeService boxOfficeService;
+    private BoxOfficeSnapshotProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        boxOfficeService = mock(BoxOfficeService.class);
+        properties = new BoxOfficeSnapshotProperties();
+        when(boxOfficeService.getSavedDailyBoxOffice("20250801", 10)).thenReturn(daily("20250801", "1"));
+        when(boxOfficeService.withLiveDailyStats(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(boxOfficeService.withLiveWeeklyStats(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void getDaily_shouldServeSameSnapshotUntilInvalidated() {
+        BoxOfficeSnapshotService service = newService(null);
+
+        BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> first = service.getDaily("20250801", 10);
+        BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> second = service.getDaily("20250801", 10);
+
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        verify(boxOfficeService, times(1)).getSavedDailyBoxOffice("20250801", 10);
+        assertThat(meterRegistry.get("boxoffice.snapshot").tag("result", "hit").tag("tier", "local").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void etag_shouldFollowBodyContent() {
+        BoxOfficeSnapshotService service = newService(null);
+        String before = service.getDaily("20250801", 10).etag();
+
+        service.invalidate(Kind.DAILY);
+        assertThat(service.getDaily("20250801", 10).etag()).isEqualTo(before);
+
+        when(boxOfficeService.getSavedDailyBoxOffice("20250801", 10)).thenReturn(daily("20250801", "2"));
+        service.invalidate(Kind.DAILY);
+        assertThat(service.getDaily("20250801", 10).etag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void getDaily_shouldOverlayLiveStatsAndHashFinalBody() {
+        BoxOfficeSnapshotService service = newService(null);
+        doAnswer(invocation -> withRating(invocation.getArgument(0), 3.5)).when(boxOfficeService).withLiveDailyStats(any());
+        BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> before = service.getDaily("20250801", 10);
+
+        // 리뷰 작성으로 평점이 바뀌면 스냅샷을 다시 만들지 않아도 본문과 ETag 가 따라간다
+        doAnswer(invocation -> withRating(invocation.getArgument(0), 4.0)).when(boxOfficeService).withLiveDailyStats(any());
+        BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> after = service.getDaily("20250801", 10);
+
+        assertThat(before.body().getItems().get(0).getRatingAvg()).isEqualTo(3.5);
+        assertThat(after.body().getItems().get(0).getRatingAvg()).isEqualTo(4.0);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(boxOfficeService, times(1)).getSavedDailyBoxOffice("20250801", 10);
+    }
+
+    @Test
+    void onMoviesChanged_shouldDropBothKinds() {
+        when(boxOfficeService.getSavedWeeklyBoxOffice(null, "0", 10))
+                .thenReturn(BoxOfficeListDTO.<WeeklyBoxOfficeResponseDTO>builder().boxofficeType("WEEKLY").items(List.of()).build());
+        BoxOfficeSnapshotService service = newService(null);
+        service.getDaily("20250801", 10);
+        service.getWeekly(null, "0", 10);
+
+        service.onMoviesChanged(new MoviesChangedEvent(List.of(1L)));
+        service.getDaily("20250801", 10);
+        service.getWeekly(null, "0", 10);
+
+        verify(boxOfficeService, times(2)).getSavedDailyBoxOffice("20250801", 10);
+        verify(boxOfficeService, times(2)).getSavedWeeklyBoxOffice(null, "0", 10);
+    }
+
+    @Test
+    void onIngested_shouldOnlyDropSnapshotsOfThatKind() {
+        when(boxOfficeService.getSavedWeeklyBoxOffice(null, "0", 10))
+                .thenReturn(BoxOfficeListDTO.<WeeklyBoxOfficeResponseDTO>builder().boxofficeType("WEEKLY").items(List.of()).build());
+        BoxOfficeSnapshotService service = newService(null);
+        service.getDaily("20250801", 10);
+        service.getWeekly(null, "0", 10);
+
+        service.onIngested(new BoxOfficeIngestedEvent(Kind.WEEKLY));
+        service.getDaily("20250801", 10);
+
+        verify(boxOfficeService, times(1)).getSavedDailyBoxOffice("20250801", 10);
+        // 무효화 직후 기본 주간 조회를 다시 만든다
+        verify(boxOfficeService, times(2)).getSavedWeeklyBoxOffice(null, "0", 10);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void redisTier_shouldRoundTripRowsJson() throws Exception {
+        properties.setRedisEnabled(true);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+
+        when(ops.get("boxoffice:snapshot:rows:DAILY:0:20250801:10"))
+                .thenReturn(objectMapper.writeValueAsString(daily("20250801", "1")));
+
+        BoxOfficeSnapshot<DailyBoxOfficeResponseDTO> loaded = newService(redisTemplate).getDaily("20250801", 10);
+
+        assertThat(loaded.body().getItems()).hasSize(1);
+        assertThat(loaded.body().getItems().get(0).getBase().getRank()).isEqualTo("1");
+        verify(boxOfficeService, never()).getSavedDailyBoxOffice(anyString(), any(Integer.class));
+        verify(ops, never()).set(anyString(), anyString(), any(Duration.class));
+        // ETag 는 Redis 에 두지 않고 최종 본문으로 계산한다
+        assertThat(loaded.etag()).isEqualTo(newService(null).getDaily("20250801", 10).etag());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void invalidate_shouldBumpSharedVersionInRedis() {
+        properties.setRedisEnabled(true);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.get("boxoffice:snapshot:version:DAILY")).thenReturn("3");
+
+        BoxOfficeSnapshotService service = newService(redisTemplate);
+        service.getDaily("20250801", 10);
+        service.invalidate(Kind.DAILY);
+
+        verify(ops).set(eq("boxoffice:snapshot:rows:DAILY:3:20250801:10"), anyString(), eq(Duration.ofHours(48)));
+        verify(ops).increment("boxoffice:snapshot:version:DAILY");
+    }
+
+    private BoxOfficeSnapshotService newService(StringRedisTemplate redisTemplate) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        return new BoxOfficeSnapshotService(boxOfficeService, properties, provider, objectMapper, meterRegistry);
+    }
+
+    private static BoxOfficeListDTO<DailyBoxOfficeResponseDTO> withRating(
+            BoxOfficeListDTO<DailyBoxOfficeResponseDTO> list, double ratingAvg) {
+        return list.toBuilder()
+                .items(list.getItems().stream().map(item -> item.toBuilder().ratingAvg(ratingAvg).build()).toList())
+                .build();
+    }
+
+    private static BoxOfficeListDTO<DailyBoxOfficeResponseDTO> daily(String targetDt, String rank) {
+        DailyBoxOfficeResponseDTO item = DailyBoxOfficeResponseDTO.builder()
+                .movieId(1L)
+                .title("테스트 영화")
+                .base(BaseBoxOfficeItemDTO.builder().rank(rank).movieCd("20250001").build())
+                .build();
+        return BoxOfficeListDTO.<DailyBoxOfficeResponseDTO>builder()
+                .boxofficeType("DAILY")
+                .targetDt(targetDt)
+                .items(List.of(item))
+                .build();
+    }
+}
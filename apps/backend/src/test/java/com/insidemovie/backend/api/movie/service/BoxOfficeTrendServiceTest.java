@@ -0,0 +1,129 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeTrendMetric;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeMovieTrendDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTopMoviesDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.BoxOfficeIngestedEvent.Kind;
+import com.insidemovie.backend.common.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoxOfficeTrendServiceTest {
+
+    private static final LocalDate LATEST = LocalDate.of(2025, 8, 10);
+
+    private DailyBoxOfficeRepository dailyRepo;
+    private MovieRepository movieRepository;
+    private BoxOfficeTrendService service;
+
+    @BeforeEach
+    void setUp() {
+        dailyRepo = mock(DailyBoxOfficeRepository.class);
+        movieRepository = mock(MovieRepository.class);
+        service = new BoxOfficeTrendService(dailyRepo, movieRepository, new SimpleMeterRegistry());
+        when(dailyRepo.findLatestTargetDate()).thenReturn(Optional.of(LATEST));
+    }
+
+    @Test
+    void getTopMovies_shouldUseLatestDayAsWindowEndAndMapMovieIds() {
+        when(dailyRepo.findTopMoviesByAudience(LocalDate.of(2025, 8, 4), LATEST, 2)).thenReturn(List.of(
+                new Object[]{"A", "첫번째", new BigDecimal("7000"), new BigDecimal("70000"), 7L, 1, 1L},
+                new Object[]{"B", "두번째", new BigDecimal("3500"), new BigDecimal("35000"), 5L, 2, 2L}
+        ));
+        when(movieRepository.findByKoficIdIn(anyCollection())).thenReturn(List.of(movie(11L, "A")));
+
+        BoxOfficeTopMoviesDTO top = service.getTopMovies(null, 7, 2, BoxOfficeTrendMetric.AUDIENCE);
+
+        assertThat(top.getFrom()).isEqualTo("20250804");
+        assertThat(top.getTo()).isEqualTo("20250810");
+        assertThat(top.getItems()).extracting("movieCd").containsExactly("A", "B");
+        assertThat(top.getItems().get(0).getMovieId()).isEqualTo(11L);
+        assertThat(top.getItems().get(0).getAudience()).isEqualTo(7000L);
+        assertThat(top.getItems().get(1).getMovieId()).isNull();
+        assertThat(top.getItems().get(1).getDaysOnChart()).isEqualTo(5);
+        verify(dailyRepo, never()).findTopMoviesBySales(LocalDate.of(2025, 8, 4), LATEST, 2);
+    }
+
+    @Test
+    void getTopMovies_shouldNotCacheLoadSpanningInvalidation() {
+        // 집계 도중 새 일간 데이터가 커밋되면 그 결과는 캐시에 남기지 않는다
+        when(dailyRepo.findTopMoviesBySales(LocalDate.of(2025, 7, 12), LATEST, 10)).thenAnswer(invocation -> {
+            service.onIngested(new BoxOfficeIngestedEvent(Kind.DAILY));
+            return List.of();
+        });
+
+        service.getTopMovies(null, 30, 10, BoxOfficeTrendMetric.SALES);
+        service.getTopMovies("20250810", 30, 10, BoxOfficeTrendMetric.SALES);
+
+        verify(dailyRepo, times(2)).findTopMoviesBySales(LocalDate.of(2025, 7, 12), LATEST, 10);
+    }
+
+    @Test
+    void getTopMovies_shouldBeCachedPerWindowUntilDailyIngest() {
+        when(dailyRepo.findTopMoviesBySales(LocalDate.of(2025, 7, 12), LATEST, 10)).thenReturn(List.of());
+
+        service.getTopMovies(null, 30, 10, BoxOfficeTrendMetric.SALES);
+        service.getTopMovies("20250810", 30, 10, BoxOfficeTrendMetric.SALES);
+        service.onIngested(new BoxOfficeIngestedEvent(Kind.WEEKLY));
+        service.getTopMovies(null, 30, 10, BoxOfficeTrendMetric.SALES);
+        verify(dailyRepo, times(1)).findTopMoviesBySales(LocalDate.of(2025, 7, 12), LATEST, 10);
+
+        service.onIngested(new BoxOfficeIngestedEvent(Kind.DAILY));
+        service.getTopMovies(null, 30, 10, BoxOfficeTrendMetric.SALES);
+        verify(dailyRepo, times(2)).findTopMoviesBySales(LocalDate.of(2025, 7, 12), LATEST, 10);
+        verify(dailyRepo, times(2)).findLatestTargetDate();
+    }
+
+    @Test
+    void getMovieTrend_shouldMapSeriesAndTotals() {
+        when(dailyRepo.findTrendByMovieCd("A", LocalDate.of(2025, 8, 9), LATEST)).thenReturn(List.of(
+                new Object[]{Date.valueOf("2025-08-09"), "첫번째", 2, 1000L, 10000L, 5000L, new BigDecimal("1000.0000")},
+                new Object[]{LocalDate.of(2025, 8, 10), "첫번째", 1, 3000L, null, 8000L, 2000.0}
+        ));
+
+        BoxOfficeMovieTrendDTO trend = service.getMovieTrend("A", null, 2);
+
+        assertThat(trend.getPoints()).extracting("targetDt").containsExactly("20250809", "20250810");
+        assertThat(trend.getPoints().get(1).getAudiCntAvg7()).isEqualTo(2000.0);
+        assertThat(trend.getPoints().get(1).getSalesAmt()).isNull();
+        assertThat(trend.getTotalAudience()).isEqualTo(4000L);
+        assertThat(trend.getTotalSales()).isEqualTo(10000L);
+        assertThat(trend.getMovieNm()).isEqualTo("첫번째");
+    }
+
+    @Test
+    void window_shouldRejectOutOfRangeDaysAndBadDate() {
+        assertThatThrownBy(() -> service.getTopMovies(null, 0, 10, BoxOfficeTrendMetric.AUDIENCE))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.getMovieTrend("A", null, BoxOfficeTrendService.MAX_DAYS + 1))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.getMovieTrend("A", "2025-08-10", 7))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static Movie movie(Long id, String koficId) {
+        Movie movie = Movie.builder().koficId(koficId).build();
+        ReflectionTestUtils.setField(movie, "id", id);
+        return movie;
+    }
+}
@@ -0,0 +1,100 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.infrastructure.kmdb.KmdbMovieClient;
+import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KmdbCandidateMatcherTest {
+
+    private static final String TITLE = "반지의 제왕 : 두 개의 탑";
+    private static final String TITLE_EN = "The Lord of the Rings: The Two Towers";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Movie movie = Movie.builder().id(1L).koficId("20020234").title(TITLE).build();
+    private final KobisMovieInfo info = new KobisMovieInfo(
+            "20020234", TITLE, TITLE_EN, "20021219", 2002, 179, "미국",
+            List.of("피터 잭슨"), List.of(), "12세관람가", List.of("액션"));
+
+    private KmdbMovieClient kmdbMovieClient;
+    private KmdbCandidateMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        kmdbMovieClient = mock(KmdbMovieClient.class);
+        matcher = new KmdbCandidateMatcher(kmdbMovieClient, meterRegistry);
+        when(kmdbMovieClient.searchMovieCandidates(anyString(), any(), anyString(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void match_shouldStopAfterFirstConfidentCandidateWithPoster() {
+        when(kmdbMovieClient.searchMovieCandidates(TITLE, 2002, "피터 잭슨", 20))
+                .thenReturn(List.of(candidate(TITLE, 2002, "http://poster.example/a.jpg")));
+
+        KmdbMatchResult result = matcher.match(info, movie);
+
+        assertThat(result.matched()).isTrue();
+        assertThat(result.tier()).isEqualTo(KmdbQueryTier.TITLE_YEAR_DIRECTOR);
+        assertThat(result.queries()).isEqualTo(1);
+        verify(kmdbMovieClient, times(1)).searchMovieCandidates(anyString(), any(), anyString(), anyInt());
+        assertThat(meterRegistry.get("movie.kmdb.match").tag("tier", "TITLE_YEAR_DIRECTOR").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void match_shouldKeepSearchingWhileBestCandidateHasNoPoster() {
+        when(kmdbMovieClient.searchMovieCandidates(TITLE, 2002, "피터 잭슨", 20))
+                .thenReturn(List.of(candidate("반지의 제왕", 2002, "")));
+        when(kmdbMovieClient.searchMovieCandidates(TITLE_EN, null, "", 20))
+                .thenReturn(List.of(candidate(TITLE, 2002, "http://poster.example/en.jpg")));
+
+        KmdbMatchResult result = matcher.match(info, movie);
+
+        // min-score 는 넘었지만 포스터가 없어 계속 검색하고, 더 나은 후보가 나온 단계를 기록한다
+        assertThat(result.candidate().posterPath()).isEqualTo("http://poster.example/en.jpg");
+        assertThat(result.tier()).isEqualTo(KmdbQueryTier.TITLE_EN);
+        assertThat(result.queries()).isEqualTo(5);
+    }
+
+    @Test
+    void match_shouldRunWholeCascadeWhenEarlyStopDisabled() {
+        ReflectionTestUtils.setField(matcher, "earlyStop", false);
+        when(kmdbMovieClient.searchMovieCandidates(TITLE, 2002, "피터 잭슨", 20))
+                .thenReturn(List.of(candidate(TITLE, 2002, "http://poster.example/a.jpg")));
+
+        KmdbMatchResult result = matcher.match(info, movie);
+
+        // 제목에 ':' 가 있어 정규화 제목 검색 2회까지 모두 7회
+        assertThat(result.queries()).isEqualTo(KmdbQueryTier.values().length);
+        assertThat(result.tier()).isEqualTo(KmdbQueryTier.TITLE_YEAR_DIRECTOR);
+    }
+
+    @Test
+    void match_shouldReportNoCandidates() {
+        KmdbMatchResult result = matcher.match(null, Movie.builder().id(2L).title("없는 영화").build());
+
+        assertThat(result.matched()).isFalse();
+        assertThat(result.candidates()).isZero();
+        assertThat(result.tierName()).isEqualTo("NONE");
+        assertThat(result.queries()).isEqualTo(2);
+    }
+
+    private static KmdbMovieCandidate candidate(String title, Integer year, String posterPath) {
+        return new KmdbMovieCandidate(title, TITLE_EN, year, List.of("피터 잭슨"), posterPath, "", "줄거리");
+    }
+}
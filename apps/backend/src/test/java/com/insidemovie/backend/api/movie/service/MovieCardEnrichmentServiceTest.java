@@ -0,0 +1,68 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieCardEnrichmentServiceTest {
+
+    @Mock
+    private MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+    @Mock
+    private MovieRatingStatsService movieRatingStatsService;
+
+    @InjectMocks
+    private MovieCardEnrichmentService movieCardEnrichmentService;
+
+    @Test
+    void enrich_shouldResolveWholePageWithOneQueryEach() {
+        MovieEmotionSummary summary = MovieEmotionSummary.builder()
+                .movieId(1L)
+                .dominantEmotion(EmotionType.SADNESS)
+                .joy(0.1f)
+                .sadness(0.6f)
+                .anger(0.1f)
+                .fear(0.1f)
+                .disgust(0.1f)
+                .build();
+        when(movieEmotionSummaryRepository.findByMovieIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(summary));
+        when(movieRatingStatsService.getRatingAvgs(List.of(1L, 2L, 3L)))
+                .thenReturn(Map.of(1L, new BigDecimal("3.46")));
+
+        MovieCardEnrichment enrichment = movieCardEnrichmentService.enrich(List.of(1L, 2L, 3L, 1L));
+
+        assertThat(enrichment.mainEmotion(1L)).isEqualTo(EmotionType.SADNESS);
+        assertThat(enrichment.mainEmotionValue(1L)).isEqualTo(0.6f);
+        assertThat(enrichment.ratingAvg(1L)).isEqualByComparingTo("3.46");
+        assertThat(enrichment.mainEmotion(2L)).isEqualTo(EmotionType.NONE);
+        assertThat(enrichment.mainEmotionValue(2L)).isZero();
+        assertThat(enrichment.ratingAvg(3L)).isEqualByComparingTo("0.00");
+        verify(movieEmotionSummaryRepository, times(1)).findByMovieIdIn(anyCollection());
+        verify(movieRatingStatsService, times(1)).getRatingAvgs(anyCollection());
+    }
+
+    @Test
+    void enrich_shouldSkipQueriesForEmptyPage() {
+        MovieCardEnrichment enrichment = movieCardEnrichmentService.enrich(List.of());
+
+        assertThat(enrichment.mainEmotion(1L)).isEqualTo(EmotionType.NONE);
+        verifyNoInteractions(movieEmotionSummaryRepository, movieRatingStatsService);
+    }
+}
@@ -0,0 +1,103 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieDetailCacheTest {
+
+    private MovieDetailCacheProperties properties;
+    private MovieDetailCache cache;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new MovieDetailCacheProperties();
+        cache = new MovieDetailCache(properties, new SimpleMeterRegistry());
+        cache.clock = now::get;
+    }
+
+    @Test
+    void get_shouldLoadOnceUntilTtlExpires() {
+        MovieDetailResDto first = cache.get(1L, () -> load(1L));
+        MovieDetailResDto second = cache.get(1L, () -> load(1L));
+        now.addAndGet(properties.getTtlMinutes() * 60_000L);
+        cache.get(1L, () -> load(1L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedByWeight() {
+        long weight = MovieDetailCache.estimateWeight(detail(1L));
+        properties.setMaxWeightBytes(weight * 2);
+
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+        cache.get(1L, () -> load(1L));
+        cache.get(3L, () -> load(3L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.weightBytes()).isEqualTo(weight * 2);
+        cache.get(1L, () -> load(1L));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, () -> load(2L));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void get_shouldNotStoreResultLoadedAcrossInvalidation() {
+        cache.get(1L, () -> {
+            cache.onMoviesChanged(new MoviesChangedEvent(List.of(1L)));
+            return load(1L);
+        });
+        cache.get(1L, () -> load(1L));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_shouldDropOnlyChangedMovies() {
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+
+        cache.onRatingChanged(new MovieRatingChangedEvent(List.of(2L)));
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get(1L, () -> load(1L));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldBypassWhenDisabled() {
+        properties.setEnabled(false);
+
+        cache.get(1L, () -> load(1L));
+        cache.get(1L, () -> load(1L));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private MovieDetailResDto load(Long id) {
+        loads.incrementAndGet();
+        return detail(id);
+    }
+
+    private static MovieDetailResDto detail(Long id) {
+        MovieDetailResDto dto = new MovieDetailResDto();
+        dto.setId(id);
+        dto.setTitle("영화" + id);
+        dto.setActors(List.of("배우"));
+        return dto;
+    }
+}
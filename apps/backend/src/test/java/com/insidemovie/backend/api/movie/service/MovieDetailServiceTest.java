@@ -3,11 +3,15 @@ package com.insidemovie.backend.api.movie.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
 import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.member.repository.MemberRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -18,6 +22,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,26 +37,94 @@ class MovieDetailServiceTest {
     @Mock
     private MovieLikeRepository movieLikeRepository;
     @Mock
-    private MemberRepository memberRepository;
+    private MovieRatingStatsService movieRatingStatsService;
     @Mock
-    private ReviewRepository reviewRepository;
+    private MoviePersonRepository moviePersonRepository;
+    @Mock
+    private PersonRepository personRepository;
 
-    @Test
-    void getMovieDetail_shouldUseDefaultOverviewWhenBlank() {
-        MovieDetailService movieDetailService = new MovieDetailService(
-                new ObjectMapper(),
+    private MovieDetailCache movieDetailCache;
+    private MovieDetailService movieDetailService;
+
+    @BeforeEach
+    void setUp() {
+        MovieListColumnParser parser = new MovieListColumnParser(new ObjectMapper());
+        movieDetailCache = new MovieDetailCache(new MovieDetailCacheProperties(), new SimpleMeterRegistry());
+        movieDetailService = new MovieDetailService(
                 movieRepository,
                 movieGenreRepository,
                 movieLikeRepository,
-                memberRepository,
-                reviewRepository
+                movieRatingStatsService,
+                new MoviePersonService(moviePersonRepository, personRepository, movieRepository, parser),
+                parser,
+                movieDetailCache
         );
+    }
+
+    @Test
+    void getMovieDetail_shouldUseDefaultOverviewWhenBlank() {
+        stubMovie(movie(" "));
+
+        MovieDetailResDto response = movieDetailService.getMovieDetail(1L);
+
+        assertThat(response.getOverview()).isEqualTo("시놉시스 준비 중입니다.");
+        assertThat(response.getPosterPath()).isNull();
+        assertThat(response.getActors()).isEmpty();
+        assertThat(response.getOttProviders()).isEmpty();
+    }
+
+    @Test
+    void getMovieDetail_shouldServeRepeatViewsFromCacheAndOverlayLikePerUser() {
+        stubMovie(movie("줄거리"));
+        when(movieLikeRepository.existsByMovie_IdAndMember_Id(1L, 7L)).thenReturn(true);
+        when(movieLikeRepository.existsByMovie_IdAndMember_Id(1L, 8L)).thenReturn(false);
+
+        MovieDetailResDto anonymous = movieDetailService.getMovieDetail(1L);
+        MovieDetailResDto liked = movieDetailService.getMovieDetail(1L, 7L);
+        MovieDetailResDto notLiked = movieDetailService.getMovieDetail(1L, 8L);
+
+        verify(movieRepository, times(1)).findById(1L);
+        verify(movieRatingStatsService, times(1)).getRatingAvg(1L);
+        assertThat(anonymous.getIsLike()).isFalse();
+        assertThat(liked.getIsLike()).isTrue();
+        assertThat(notLiked.getIsLike()).isFalse();
+        assertThat(liked.getTitle()).isEqualTo("테스트 영화");
+        assertThat(liked).isNotSameAs(notLiked);
+    }
+
+    @Test
+    void getMovieDetail_shouldReloadAfterRatingChanged() {
+        stubMovie(movie("줄거리"));
+
+        movieDetailService.getMovieDetail(1L);
+        movieDetailCache.onRatingChanged(new MovieRatingChangedEvent(List.of(1L)));
+        movieDetailService.getMovieDetail(1L);
+
+        verify(movieRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getMovieDetail_shouldNotCacheMissingMovie() {
+        when(movieRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> movieDetailService.getMovieDetail(2L)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> movieDetailService.getMovieDetail(2L, 7L)).isInstanceOf(NotFoundException.class);
+        verify(movieRepository, times(2)).findById(2L);
+    }
+
+    private void stubMovie(Movie movie) {
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieGenreRepository.findByMovieId(1L)).thenReturn(List.of());
+        when(moviePersonRepository.findCreditNameRowsByMovieIdIn(List.of(1L))).thenReturn(List.of());
+        when(movieRatingStatsService.getRatingAvg(1L)).thenReturn(MovieRatingStats.EMPTY_AVG);
+    }
 
-        Movie movie = Movie.builder()
+    private static Movie movie(String overview) {
+        return Movie.builder()
                 .id(1L)
                 .title("테스트 영화")
                 .titleEn("Test Movie")
-                .overview(" ")
+                .overview(overview)
                 .posterPath(null)
                 .backdropPath(null)
                 .originalLanguage("한국")
@@ -61,14 +136,5 @@ class MovieDetailServiceTest {
                 .status("RELEASED")
                 .releaseDate(LocalDate.of(2025, 1, 1))
                 .build();
-
-        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
-        when(movieGenreRepository.findByMovieId(1L)).thenReturn(List.of());
-        when(reviewRepository.findAverageByMovieId(1L)).thenReturn(null);
-
-        MovieDetailResDto response = movieDetailService.getMovieDetail(1L);
-
-        assertThat(response.getOverview()).isEqualTo("시놉시스 준비 중입니다.");
-        assertThat(response.getPosterPath()).isNull();
     }
 }
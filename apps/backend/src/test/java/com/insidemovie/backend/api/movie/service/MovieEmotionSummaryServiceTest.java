@@ -0,0 +1,130 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.member.service.MemberEmotionRecalcQueue;
+import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionTotalsDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieEmotionSummaryServiceTest {
+
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private MovieEmotionSummaryRepository summaryRepository;
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private MovieLikeRepository movieLikeRepository;
+    @Mock
+    private MemberEmotionRecalcQueue memberEmotionRecalcQueue;
+    @Mock
+    private MovieService movieService;
+
+    private MovieEmotionSummaryService movieEmotionSummaryService;
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        movieEmotionSummaryService = new MovieEmotionSummaryService(
+                emotionRepository,
+                summaryRepository,
+                movieRepository,
+                movieLikeRepository,
+                memberEmotionRecalcQueue,
+                movieService
+        );
+        movie = Movie.builder().id(1L).title("테스트 영화").build();
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(movieLikeRepository.findMemberIdsByMovieId(1L)).thenReturn(List.of(10L, 11L));
+        when(movieService.calculateRepEmotion(any())).thenReturn(EmotionType.JOY);
+    }
+
+    @Test
+    void applyEmotionChange_shouldApplyDeltaWithoutFullScan() {
+        MovieEmotionSummary summary = MovieEmotionSummary.builder()
+                .movieId(1L)
+                .movie(movie)
+                .reviewCount(2L)
+                .joySum(1.0).sadnessSum(0.4).angerSum(0.2).fearSum(0.2).disgustSum(0.2)
+                .build();
+        when(summaryRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.of(summary));
+
+        Emotion previous = emotion(0.5, 0.2, 0.1, 0.1, 0.1);
+        Emotion updated = emotion(0.9, 0.0, 0.0, 0.1, 0.0);
+        movieEmotionSummaryService.applyEmotionChange(1L, previous, updated);
+
+        assertThat(summary.getReviewCount()).isEqualTo(2L);
+        assertThat(summary.getJoySum()).isCloseTo(1.4, within(1e-9));
+        assertThat(summary.getJoy()).isCloseTo(0.7f, within(1e-6f));
+        assertThat(summary.getDominantEmotion()).isEqualTo(EmotionType.JOY);
+        verify(emotionRepository, never()).findTotalsByMovieId(any());
+        verify(memberEmotionRecalcQueue).enqueueAll(List.of(10L, 11L));
+    }
+
+    @Test
+    void applyEmotionChange_shouldRebuildWhenTotalsMissing() {
+        MovieEmotionSummary legacy = MovieEmotionSummary.builder()
+                .movieId(1L)
+                .movie(movie)
+                .joy(0.5f).sadness(0.5f).anger(0f).fear(0f).disgust(0f)
+                .build();
+        when(summaryRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.of(legacy));
+        when(emotionRepository.findTotalsByMovieId(1L))
+                .thenReturn(Optional.of(new MovieEmotionTotalsDTO(1L, 4L, 2.0, 1.0, 0.4, 0.4, 0.2)));
+
+        movieEmotionSummaryService.applyEmotionChange(1L, null, emotion(0.5, 0.25, 0.1, 0.1, 0.05));
+
+        assertThat(legacy.hasTotals()).isTrue();
+        assertThat(legacy.getReviewCount()).isEqualTo(4L);
+        assertThat(legacy.getSadness()).isCloseTo(0.25f, within(1e-6f));
+        verify(summaryRepository).save(legacy);
+    }
+
+    @Test
+    void applyEmotionChange_shouldInsertIfAbsentThenRebuildLockedRow() {
+        MovieEmotionSummary created = MovieEmotionSummary.builder().movieId(1L).movie(movie).build();
+        when(summaryRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(created));
+        when(emotionRepository.findTotalsByMovieId(1L))
+                .thenReturn(Optional.of(new MovieEmotionTotalsDTO(1L, 1L, 0.6, 0.1, 0.1, 0.1, 0.1)));
+
+        movieEmotionSummaryService.applyEmotionChange(1L, null, emotion(0.6, 0.1, 0.1, 0.1, 0.1));
+
+        verify(summaryRepository).insertIfAbsent(1L);
+        assertThat(created.getReviewCount()).isEqualTo(1L);
+        assertThat(created.getJoy()).isCloseTo(0.6f, within(1e-6f));
+        verify(summaryRepository).save(created);
+    }
+
+    private Emotion emotion(double joy, double sadness, double anger, double fear, double disgust) {
+        return Emotion.builder()
+                .joy(joy)
+                .sadness(sadness)
+                .anger(anger)
+                .fear(fear)
+                .disgust(disgust)
+                .build();
+    }
+}
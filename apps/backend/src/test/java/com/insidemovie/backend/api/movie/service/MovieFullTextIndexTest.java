@@ -0,0 +1,153 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.constant.PersonRole;
+import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MovieFullTextIndexTest {
+
+    private MovieRepository movieRepository;
+    private MovieGenreRepository movieGenreRepository;
+    private MoviePersonRepository moviePersonRepository;
+    private MovieFullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository = mock(MovieRepository.class);
+        movieGenreRepository = mock(MovieGenreRepository.class);
+        moviePersonRepository = mock(MoviePersonRepository.class);
+        when(movieRepository.findAllSearchDocuments()).thenReturn(List.of(
+                doc(1L, "기생충", "Parasite", "전원 백수인 기택네 장남 기우가 박사장네 과외 선생이 된다.",
+                        "[\"송강호\",\"이선균\",\"조여정\"]", "[\"봉준호\"]"),
+                doc(2L, "살인의 추억", "Memories of Murder", "1986년 경기도, 연쇄 살인 사건을 쫓는 형사들.",
+                        "[\"송강호\",\"김상경\"]", "[\"봉준호\"]"),
+                doc(3L, "액트 오브 킬링", "The Act of Killing", "인도네시아 학살 가해자들이 직접 재연하는 다큐멘터리.",
+                        "[]", "[\"조슈아 오펜하이머\"]"),
+                doc(4L, "송강", null, "송강 이라는 이름의 강아지 이야기", null, null)
+        ));
+        when(movieGenreRepository.findAllMovieIdAndGenre()).thenReturn(List.of(
+                genre(1L, GenreType.드라마),
+                genre(1L, GenreType.스릴러),
+                genre(2L, GenreType.범죄),
+                genre(2L, GenreType.드라마),
+                genre(3L, GenreType.다큐멘터리)
+        ));
+        MoviePersonService moviePersonService = new MoviePersonService(
+                moviePersonRepository,
+                mock(PersonRepository.class),
+                movieRepository,
+                new MovieListColumnParser(new ObjectMapper())
+        );
+        index = new MovieFullTextIndex(
+                movieRepository, movieGenreRepository, moviePersonService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void search_shouldBeEmptyUntilBuilt() {
+        assertThat(index.search("송강호", null)).isEmpty();
+    }
+
+    @Test
+    void search_shouldFallBackToLegacyColumnsWithoutMoviePerson() {
+        index.rebuild();
+
+        MovieFullTextResult result = index.search("송강호", null).orElseThrow();
+
+        // "송강" 만 가진 4 는 2-gram 중 강호가 없어 빠진다
+        assertThat(result.movieIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("봉준호", null).orElseThrow().movieIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void search_shouldPreferMoviePersonOverLegacyColumns() {
+        // 1 은 movie_person 이 백필돼 있어 기존 컬럼 대신 그 출연진으로 색인된다
+        when(moviePersonRepository.findAllCreditNameRows()).thenReturn(List.of(
+                credit(1L, "최우식", PersonRole.ACTOR),
+                credit(1L, "봉준호", PersonRole.DIRECTOR)
+        ));
+        index.rebuild();
+
+        assertThat(index.search("최우식", null).orElseThrow().movieIds()).containsExactly(1L);
+        assertThat(index.search("이선균", null).orElseThrow().movieIds()).isEmpty();
+        assertThat(index.search("봉준호", null).orElseThrow().movieIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void search_shouldBoostTitleOverOverview() {
+        index.rebuild();
+
+        // 4 는 제목이 "송강", 1/2 는 배우에만 "송강"
+        assertThat(index.search("송강", null).orElseThrow().movieIds().get(0)).isEqualTo(4L);
+        assertThat(index.search("murder", null).orElseThrow().movieIds()).containsExactly(2L);
+    }
+
+    @Test
+    void search_shouldNotTreatSyllableAsGenre() {
+        index.rebuild();
+
+        // "액" 은 액션 장르가 아니라 제목 "액트 오브 킬링" 에 걸린다
+        assertThat(index.search("액", null).orElseThrow().movieIds()).containsExactly(3L);
+    }
+
+    @Test
+    void search_shouldFilterByGenreAndCountFacetsBeforeFilter() {
+        index.rebuild();
+
+        MovieFullTextResult result = index.search("송강호", GenreType.범죄).orElseThrow();
+
+        assertThat(result.movieIds()).containsExactly(2L);
+        assertThat(result.genreFacets()).isEqualTo(Map.of(
+                GenreType.드라마, 2,
+                GenreType.스릴러, 1,
+                GenreType.범죄, 1
+        ));
+    }
+
+    @Test
+    void refresh_shouldReindexChangedMoviesAndGenres() {
+        index.rebuild();
+        when(movieRepository.findSearchDocumentsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                doc(3L, "액트 오브 킬링", "The Act of Killing", "다큐멘터리", "[]", null)
+        ));
+        when(movieGenreRepository.findMovieIdAndGenreByMovieIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                genre(3L, GenreType.범죄)
+        ));
+
+        when(moviePersonRepository.findCreditNameRowsByMovieIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                credit(3L, "송강호", PersonRole.ACTOR)
+        ));
+
+        index.onMoviesChanged(new MoviesChangedEvent(List.of(2L, 3L)));
+
+        MovieFullTextResult result = index.search("송강호", GenreType.범죄).orElseThrow();
+        assertThat(result.movieIds()).containsExactly(3L);
+        assertThat(result.genreFacets()).containsEntry(GenreType.드라마, 1).containsEntry(GenreType.범죄, 1);
+    }
+
+    private static Object[] doc(Long id, String title, String titleEn, String overview, String actors, String directors) {
+        return new Object[]{id, title, titleEn, overview, actors, directors};
+    }
+
+    private static Object[] credit(Long movieId, String name, PersonRole role) {
+        return new Object[]{movieId, name, role};
+    }
+
+    private static Object[] genre(Long movieId, GenreType genreType) {
+        return new Object[]{movieId, genreType};
+    }
+}
@@ -3,7 +3,7 @@ package com.insidemovie.backend.api.movie.service;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieGenre;
-import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoClient;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
@@ -13,6 +13,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,9 +35,11 @@ class MovieGenreBackfillServiceTest {
     @Mock
     private MovieGenreRepository movieGenreRepository;
     @Mock
-    private KobisMovieInfoClient kobisMovieInfoClient;
+    private KobisMovieInfoCache kobisMovieInfoCache;
     @Mock
     private GenreMappingService genreMappingService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private MovieGenreBackfillService movieGenreBackfillService;
@@ -55,7 +58,7 @@ class MovieGenreBackfillServiceTest {
 
         when(movieRepository.findAllByKoficIdIsNotNull()).thenReturn(List.of(movie));
         when(movieGenreRepository.count()).thenReturn(0L, 1L);
-        when(kobisMovieInfoClient.fetchMovieInfo("20240001")).thenReturn(Optional.of(info));
+        when(kobisMovieInfoCache.fetchMovieInfo("20240001")).thenReturn(Optional.of(info));
         when(genreMappingService.mapGenres(info.genres())).thenReturn(Set.of(GenreType.로맨스));
 
         MovieGenreBackfillReport report = movieGenreBackfillService.backfill(false);
@@ -73,6 +76,7 @@ class MovieGenreBackfillServiceTest {
         assertThat(report.getMappedGenreRows()).isEqualTo(1);
         assertThat(report.getInitialGenreRows()).isEqualTo(0L);
         assertThat(report.getFinalGenreRows()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(new MoviesChangedEvent(List.of(1L)));
     }
 
     @Test
@@ -85,7 +89,7 @@ class MovieGenreBackfillServiceTest {
 
         when(movieRepository.findAllByKoficIdIsNotNull()).thenReturn(List.of(movie));
         when(movieGenreRepository.count()).thenReturn(5L);
-        when(kobisMovieInfoClient.fetchMovieInfo("20240001")).thenReturn(Optional.of(info));
+        when(kobisMovieInfoCache.fetchMovieInfo("20240001")).thenReturn(Optional.of(info));
         when(genreMappingService.mapGenres(eq(info.genres()))).thenReturn(Set.of(GenreType.액션));
 
         MovieGenreBackfillReport report = movieGenreBackfillService.backfill(true);
@@ -1,23 +1,35 @@
 package com.insidemovie.backend.api.movie.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieBackfillCheckpoint;
 import com.insidemovie.backend.api.movie.infrastructure.kmdb.KmdbMovieClient;
 import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoClient;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.KobisMovieInfoCacheRepository;
+import com.insidemovie.backend.api.movie.repository.MovieBackfillCheckpointRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,10 +44,29 @@ class MovieMetadataBackfillServiceTest {
     private KobisMovieInfoClient kobisMovieInfoClient;
     @Mock
     private KmdbMovieClient kmdbMovieClient;
+    @Mock
+    private MovieBackfillCheckpointRepository checkpointRepository;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MovieMetadataBackfillProperties properties;
     private MovieMetadataBackfillService movieMetadataBackfillService;
 
+    @BeforeEach
+    void setUp() {
+        properties = new MovieMetadataBackfillProperties();
+        properties.setKobisRequestsPerSecond(0);
+        properties.setKmdbRequestsPerSecond(0);
+        movieMetadataBackfillService = new MovieMetadataBackfillService(
+                movieRepository,
+                new KobisMovieInfoCache(kobisMovieInfoClient, mock(KobisMovieInfoCacheRepository.class),
+                        new ObjectMapper(), meterRegistry, false, 30),
+                new KmdbCandidateMatcher(kmdbMovieClient, meterRegistry),
+                new MovieMetadataWriter(movieRepository, checkpointRepository, mock(ApplicationEventPublisher.class)),
+                properties,
+                meterRegistry
+        );
+    }
+
     @Test
     void backfill_shouldUpdateMissingMetadataOnly() {
         Movie movie = Movie.builder()
@@ -71,7 +102,9 @@ class MovieMetadataBackfillServiceTest {
                 "운명을 건 최후의 전쟁이 시작된다."
         );
 
-        when(movieRepository.findAllByKoficIdIsNotNullAndMetadataMissing()).thenReturn(List.of(movie));
+        when(movieRepository.findMetadataMissingAfter(0L, PageRequest.of(0, 50))).thenReturn(List.of(movie));
+        when(movieRepository.findAllById(List.of(movie.getId()))).thenReturn(List.of(movie));
+        when(checkpointRepository.save(any(MovieBackfillCheckpoint.class))).then(returnsFirstArg());
         when(kobisMovieInfoClient.fetchMovieInfo("20020234")).thenReturn(Optional.of(info));
         when(kmdbMovieClient.searchMovieCandidates("반지의 제왕 : 두 개의 탑", 2002, "피터 잭슨", 20))
                 .thenReturn(List.of(candidate));
@@ -122,7 +155,7 @@ class MovieMetadataBackfillServiceTest {
                 "시놉시스"
         );
 
-        when(movieRepository.findAllByKoficIdIsNotNullAndMetadataMissing()).thenReturn(List.of(movie));
+        when(movieRepository.findMetadataMissingAfter(0L, PageRequest.of(0, 50))).thenReturn(List.of(movie));
         when(kobisMovieInfoClient.fetchMovieInfo("20241266")).thenReturn(Optional.of(info));
         when(kmdbMovieClient.searchMovieCandidates("대가족", 2024, "양우석", 20))
                 .thenReturn(List.of(candidate));
@@ -171,7 +204,9 @@ class MovieMetadataBackfillServiceTest {
                 ""
         );
 
-        when(movieRepository.findAllByKoficIdIsNotNullAndMetadataMissing()).thenReturn(List.of(movie));
+        when(movieRepository.findMetadataMissingAfter(0L, PageRequest.of(0, 50))).thenReturn(List.of(movie));
+        when(movieRepository.findAllById(List.of(movie.getId()))).thenReturn(List.of(movie));
+        when(checkpointRepository.save(any(MovieBackfillCheckpoint.class))).then(returnsFirstArg());
         when(kobisMovieInfoClient.fetchMovieInfo("20020234")).thenReturn(Optional.of(info));
         when(kmdbMovieClient.searchMovieCandidates("반지의 제왕 : 두 개의 탑", 2002, "피터 잭슨", 20))
                 .thenReturn(List.of(relaxedCandidate));
@@ -183,4 +218,57 @@ class MovieMetadataBackfillServiceTest {
         assertThat(report.getUpdatedPosterCount()).isEqualTo(1);
         assertThat(report.getIgnoredMovies()).isEqualTo(0);
     }
+
+    @Test
+    void backfill_shouldCommitPerChunkAndResumeAfterCheckpoint() {
+        properties.setChunkSize(2);
+        Movie first = Movie.builder().id(11L).koficId("A").title("첫번째").build();
+        Movie second = Movie.builder().id(12L).koficId("B").title("두번째").build();
+        Movie third = Movie.builder().id(13L).koficId("C").title("세번째").build();
+        MovieBackfillCheckpoint checkpoint = MovieBackfillCheckpoint.of(MovieMetadataBackfillService.JOB);
+        checkpoint.advance(10L, 10);
+
+        when(checkpointRepository.findByJob(MovieMetadataBackfillService.JOB)).thenReturn(Optional.of(checkpoint));
+        when(movieRepository.findMetadataMissingAfter(10L, PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+        when(movieRepository.findMetadataMissingAfter(12L, PageRequest.of(0, 2))).thenReturn(List.of(third));
+        when(kobisMovieInfoClient.fetchMovieInfo(anyString())).thenReturn(Optional.empty());
+
+        MovieMetadataBackfillReport report = movieMetadataBackfillService.backfill(false);
+
+        assertThat(report.getResumedAfterMovieId()).isEqualTo(10L);
+        assertThat(report.getRequestedMovies()).isEqualTo(3);
+        assertThat(report.getFailedMovies()).isEqualTo(3);
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(report.getKmdbRequests()).isZero();
+        // 청크마다 커서를 옮기고, 끝까지 돌면 커서를 지운다
+        assertThat(checkpoint.getLastMovieId()).isEqualTo(13L);
+        assertThat(checkpoint.getProcessedMovies()).isEqualTo(13);
+        verify(checkpointRepository).deleteByJob(MovieMetadataBackfillService.JOB);
+        verify(movieRepository, never()).save(any(Movie.class));
+        assertThat(meterRegistry.get("movie.metadata.backfill.movies").tag("outcome", "failed").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void backfill_shouldShareKmdbRateLimitAcrossFetchThreads() {
+        properties.setConcurrency(4);
+        properties.setKmdbRequestsPerSecond(20);
+        List<Movie> movies = List.of(
+                Movie.builder().id(1L).koficId("A").title("가").build(),
+                Movie.builder().id(2L).koficId("B").title("나").build(),
+                Movie.builder().id(3L).koficId("C").title("다").build()
+        );
+        when(movieRepository.findMetadataMissingAfter(0L, PageRequest.of(0, 50))).thenReturn(movies);
+        when(kobisMovieInfoClient.fetchMovieInfo(anyString())).thenAnswer(invocation -> Optional.of(new KobisMovieInfo(
+                invocation.getArgument(0), "제목", "", "", null, 0, "", List.of(), List.of(), "", List.of())));
+        when(kmdbMovieClient.searchMovieCandidates(anyString(), any(), anyString(), anyInt())).thenReturn(List.of());
+        when(checkpointRepository.save(any(MovieBackfillCheckpoint.class))).then(returnsFirstArg());
+
+        MovieMetadataBackfillReport report = movieMetadataBackfillService.backfill(false);
+
+        // 영화당 KMDb 2회(연도/감독/영문 제목 없음) x 3편을 초당 20건으로: 첫 호출 이후 최소 250ms
+        assertThat(report.getKmdbRequests()).isEqualTo(6);
+        assertThat(report.getIgnoredMovies()).isEqualTo(3);
+        assertThat(report.getElapsedMs()).isGreaterThanOrEqualTo(240);
+    }
 }
@@ -0,0 +1,159 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.PersonRole;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieBackfillCheckpoint;
+import com.insidemovie.backend.api.movie.entity.MoviePerson;
+import com.insidemovie.backend.api.movie.entity.Person;
+import com.insidemovie.backend.api.movie.infrastructure.RequestRateLimiter;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.MovieBackfillCheckpointRepository;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MoviePersonBackfillServiceTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private PersonRepository personRepository;
+    @Mock
+    private MoviePersonRepository moviePersonRepository;
+    @Mock
+    private MovieBackfillCheckpointRepository checkpointRepository;
+    @Mock
+    private KobisMovieInfoCache kobisMovieInfoCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<Collection<Person>> peopleCaptor;
+    @Captor
+    private ArgumentCaptor<List<MoviePerson>> creditsCaptor;
+
+    private MoviePersonBackfillProperties properties;
+    private MoviePersonBackfillService moviePersonBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MoviePersonBackfillProperties();
+        properties.setKobisRequestsPerSecond(0);
+        moviePersonBackfillService = new MoviePersonBackfillService(
+                movieRepository,
+                kobisMovieInfoCache,
+                new MovieListColumnParser(new ObjectMapper()),
+                new MoviePersonWriter(movieRepository, personRepository, moviePersonRepository,
+                        checkpointRepository, eventPublisher),
+                properties
+        );
+    }
+
+    @Test
+    void backfill_shouldStoreKobisCreditsAndReuseCollationEqualPeople() throws Exception {
+        Movie movie = Movie.builder().id(1L).koficId("20190001").actors("[\"옛 배우\"]").build();
+        KobisMovieInfo info = new KobisMovieInfo(
+                "20190001", "기생충", "Parasite", "20190530", 2019, 131, "한국",
+                List.of("봉준호"), List.of("송강호", " 이선균 ", "송강호", "", "Jean Dujardin", "jéan dujardin"),
+                "15세", List.of()
+        );
+        // DB 에는 대소문자/악센트만 다른 표기로 이미 있다
+        Person existing = Person.of("JEAN DUJARDIN");
+
+        when(checkpointRepository.findByJob(MoviePersonBackfillService.JOB)).thenReturn(Optional.empty());
+        when(movieRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 100))).thenReturn(List.of(movie));
+        when(kobisMovieInfoCache.fetchMovieInfo(eq("20190001"), any(RequestRateLimiter.class)))
+                .thenReturn(Optional.of(info));
+        when(personRepository.findByNameKeyIn(anyCollection())).thenReturn(List.of(existing));
+        when(personRepository.saveAll(anyCollection())).thenAnswer(returnsFirstArg());
+        when(checkpointRepository.save(any(MovieBackfillCheckpoint.class))).thenAnswer(returnsFirstArg());
+        when(movieRepository.getReferenceById(1L)).thenReturn(movie);
+
+        MoviePersonBackfillReport report = moviePersonBackfillService.backfill(false);
+
+        verify(personRepository).saveAll(peopleCaptor.capture());
+        assertThat(peopleCaptor.getValue()).extracting(Person::getName).containsExactly("봉준호", "송강호", "이선균");
+
+        verify(moviePersonRepository).deleteByMovieIdIn(List.of(1L));
+        verify(moviePersonRepository).saveAll(creditsCaptor.capture());
+        List<MoviePerson> credits = creditsCaptor.getValue();
+        assertThat(credits).extracting(credit -> credit.getPerson().getName())
+                .containsExactly("봉준호", "송강호", "이선균", "JEAN DUJARDIN");
+        assertThat(credits).extracting(MoviePerson::getRole)
+                .containsExactly(PersonRole.DIRECTOR, PersonRole.ACTOR, PersonRole.ACTOR, PersonRole.ACTOR);
+        assertThat(credits.get(3).getPerson()).isSameAs(existing);
+
+        assertThat(report.getKobisMovies()).isEqualTo(1);
+        assertThat(report.getCreatedPeople()).isEqualTo(3);
+        assertThat(report.getChunks()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new MoviesChangedEvent(List.of(1L)));
+        verify(checkpointRepository).deleteByJob(MoviePersonBackfillService.JOB);
+    }
+
+    @Test
+    void backfill_shouldResumeAfterCheckpointAndWriteEachChunkSeparately() {
+        properties.setChunkSize(1);
+        MovieBackfillCheckpoint checkpoint = MovieBackfillCheckpoint.of(MoviePersonBackfillService.JOB);
+        checkpoint.advance(10L, 10);
+        Movie legacy = Movie.builder().id(11L).directors("[박찬욱]").actors("[\"최민식\",\"유지태\"]").build();
+        Movie empty = Movie.builder().id(12L).actors("[]").build();
+
+        when(checkpointRepository.findByJob(MoviePersonBackfillService.JOB)).thenReturn(Optional.of(checkpoint));
+        when(movieRepository.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 1))).thenReturn(List.of(legacy));
+        when(movieRepository.findByIdGreaterThanOrderByIdAsc(11L, PageRequest.of(0, 1))).thenReturn(List.of(empty));
+        when(movieRepository.findByIdGreaterThanOrderByIdAsc(12L, PageRequest.of(0, 1))).thenReturn(List.of());
+        when(personRepository.saveAll(anyCollection())).thenAnswer(returnsFirstArg());
+        when(movieRepository.getReferenceById(11L)).thenReturn(legacy);
+
+        MoviePersonBackfillReport report = moviePersonBackfillService.backfill(false);
+
+        assertThat(report.getResumedAfterMovieId()).isEqualTo(10L);
+        assertThat(report.getLegacyMovies()).isEqualTo(1);
+        assertThat(report.getIgnoredMovies()).isEqualTo(1);
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(checkpoint.getLastMovieId()).isEqualTo(12L);
+        verify(moviePersonRepository, times(1)).deleteByMovieIdIn(anyCollection());
+    }
+
+    @Test
+    void backfill_dryRunShouldNotMutateOrTouchCheckpoint() {
+        Movie legacy = Movie.builder().id(2L).directors("[박찬욱]").build();
+        when(movieRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 100))).thenReturn(List.of(legacy));
+
+        MoviePersonBackfillReport report = moviePersonBackfillService.backfill(true);
+
+        verify(checkpointRepository, never()).findByJob(anyString());
+        verify(moviePersonRepository, never()).deleteByMovieIdIn(anyCollection());
+        verify(moviePersonRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(report.getLegacyMovies()).isEqualTo(1);
+        assertThat(report.getCreditRows()).isEqualTo(1);
+    }
+}
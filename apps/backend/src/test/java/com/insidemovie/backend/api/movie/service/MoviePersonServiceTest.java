@@ -0,0 +1,93 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.PersonRole;
+import com.insidemovie.backend.api.movie.dto.PersonFilmographyResDto;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.Person;
+import com.insidemovie.backend.api.movie.repository.MoviePersonRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.PersonRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MoviePersonServiceTest {
+
+    @Mock
+    private MoviePersonRepository moviePersonRepository;
+    @Mock
+    private PersonRepository personRepository;
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieListColumnParser movieListColumnParser;
+    private MoviePersonService moviePersonService;
+
+    @BeforeEach
+    void setUp() {
+        movieListColumnParser = new MovieListColumnParser(new ObjectMapper());
+        moviePersonService = new MoviePersonService(
+                moviePersonRepository, personRepository, movieRepository, movieListColumnParser);
+    }
+
+    @Test
+    void getCredits_shouldSplitNormalizedRowsByRole() {
+        Movie movie = Movie.builder().id(1L).actors("[\"옛 배우\"]").build();
+        when(moviePersonRepository.findCreditNameRowsByMovieIdIn(List.of(1L))).thenReturn(List.of(
+                new Object[]{1L, "봉준호", PersonRole.DIRECTOR},
+                new Object[]{1L, "송강호", PersonRole.ACTOR},
+                new Object[]{1L, "이선균", PersonRole.ACTOR}
+        ));
+
+        MovieCredits credits = moviePersonService.getCredits(movie);
+
+        assertThat(credits.directors()).containsExactly("봉준호");
+        assertThat(credits.actors()).containsExactly("송강호", "이선균");
+        assertThat(movieListColumnParser.cachedEntries()).isZero();
+    }
+
+    @Test
+    void getCredits_shouldParseLegacyColumnsOnceWhenNotBackfilled() {
+        Movie movie = Movie.builder().id(2L).actors("[최민식, 유지태]").directors("[\"박찬욱\"]").build();
+        when(moviePersonRepository.findCreditNameRowsByMovieIdIn(List.of(2L))).thenReturn(List.of());
+
+        MovieCredits first = moviePersonService.getCredits(movie);
+        MovieCredits second = moviePersonService.getCredits(movie);
+
+        assertThat(first.actors()).containsExactly("최민식", "유지태");
+        assertThat(first.directors()).containsExactly("박찬욱");
+        assertThat(second.actors()).isSameAs(first.actors());
+        assertThat(movieListColumnParser.cachedEntries()).isEqualTo(2);
+    }
+
+    @Test
+    void getFilmography_shouldMapRowsAndRejectUnknownPerson() {
+        when(personRepository.findById(10L)).thenReturn(Optional.of(Person.builder().id(10L).name("봉준호").build()));
+        when(moviePersonRepository.findFilmographyRows(10L)).thenReturn(List.of(
+                new Object[]{1L, "기생충", "/p.jpg", LocalDate.of(2019, 5, 30), PersonRole.DIRECTOR},
+                new Object[]{2L, "미공개작", null, null, PersonRole.DIRECTOR}
+        ));
+        when(personRepository.findById(99L)).thenReturn(Optional.empty());
+
+        PersonFilmographyResDto filmography = moviePersonService.getFilmography(10L);
+
+        assertThat(filmography.getName()).isEqualTo("봉준호");
+        assertThat(filmography.getMovies()).hasSize(2);
+        assertThat(filmography.getMovies().get(0).getReleaseDate()).isEqualTo("2019-05-30");
+        assertThat(filmography.getMovies().get(1).getReleaseDate()).isNull();
+        assertThatThrownBy(() -> moviePersonService.getFilmography(99L)).isInstanceOf(NotFoundException.class);
+    }
+}
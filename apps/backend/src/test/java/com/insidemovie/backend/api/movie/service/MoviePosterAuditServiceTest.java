@@ -1,16 +1,21 @@
 package com.insidemovie.backend.api.movie.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.infrastructure.kmdb.KmdbMovieClient;
 import com.insidemovie.backend.api.movie.infrastructure.kmdb.model.KmdbMovieCandidate;
+import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoCache;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.KobisMovieInfoClient;
 import com.insidemovie.backend.api.movie.infrastructure.kobis.model.KobisMovieInfo;
+import com.insidemovie.backend.api.movie.repository.KobisMovieInfoCacheRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,6 +26,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,9 +41,19 @@ class MoviePosterAuditServiceTest {
     @Mock
     private KmdbMovieClient kmdbMovieClient;
 
-    @InjectMocks
     private MoviePosterAuditService moviePosterAuditService;
 
+    @BeforeEach
+    void setUp() {
+        moviePosterAuditService = new MoviePosterAuditService(
+                movieRepository,
+                new KobisMovieInfoCache(kobisMovieInfoClient, mock(KobisMovieInfoCacheRepository.class),
+                        new ObjectMapper(), new SimpleMeterRegistry(), false, 30),
+                new KmdbCandidateMatcher(kmdbMovieClient, new SimpleMeterRegistry()),
+                mock(ApplicationEventPublisher.class)
+        );
+    }
+
     @Test
     void auditShouldClassifyMatchedUpdated() {
         Movie movie = Movie.builder()
@@ -86,6 +102,9 @@ class MoviePosterAuditServiceTest {
         assertThat(report.getKmdbNoResult()).isZero();
         assertThat(report.getKmdbResultNoPoster()).isZero();
         assertThat(report.getMatchScoreBelowThreshold()).isZero();
+        // 첫 검색에서 확신할 후보가 나와 나머지 검색은 보내지 않는다
+        assertThat(report.getKmdbRequests()).isEqualTo(1);
+        assertThat(report.getMatchTiers()).containsEntry("TITLE_YEAR_DIRECTOR", 1);
         verify(movieRepository, never()).save(any(Movie.class));
     }
 
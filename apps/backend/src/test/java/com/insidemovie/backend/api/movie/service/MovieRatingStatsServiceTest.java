@@ -0,0 +1,159 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import com.insidemovie.backend.api.movie.repository.MovieRatingStatsRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieRatingStatsServiceTest {
+
+    @Mock
+    private MovieRatingStatsRepository movieRatingStatsRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private MovieRatingStatsService movieRatingStatsService;
+
+    @Test
+    void applyRatingChange_shouldUpdateTotalsIncrementally() {
+        MovieRatingStats stats = MovieRatingStats.empty(1L);
+        stats.reset(2L, 7.0);
+        when(movieRatingStatsRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.of(stats));
+
+        movieRatingStatsService.applyRatingChange(1L, 3.0, 4.5);
+
+        assertThat(stats.getReviewCount()).isEqualTo(2L);
+        assertThat(stats.getRatingSum()).isEqualTo(8.5);
+        assertThat(stats.getRatingAvg()).isEqualByComparingTo("4.25");
+        verify(reviewRepository, never()).findRatingTotalsByMovieId(1L);
+        verify(movieRatingStatsRepository).save(stats);
+        verify(eventPublisher).publishEvent(new MovieRatingChangedEvent(List.of(1L)));
+    }
+
+    @Test
+    void applyRatingChange_shouldInsertIfAbsentThenInitializeLockedRowFromReviews() {
+        when(movieRatingStatsRepository.findForUpdateByMovieId(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(uncomputed(1L)));
+        when(reviewRepository.findRatingTotalsByMovieId(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3L, 10.0}));
+
+        movieRatingStatsService.applyRatingChange(1L, null, 4.0);
+
+        verify(movieRatingStatsRepository).insertIfAbsent(1L);
+        ArgumentCaptor<MovieRatingStats> saved = ArgumentCaptor.forClass(MovieRatingStats.class);
+        verify(movieRatingStatsRepository).save(saved.capture());
+        // 새 리뷰는 이미 리뷰 테이블 합계에 포함되어 있어 다시 더하지 않는다
+        assertThat(saved.getValue().getReviewCount()).isEqualTo(3L);
+        assertThat(saved.getValue().getRatingAvg()).isEqualByComparingTo("3.33");
+    }
+
+    @Test
+    void applyRatingChange_shouldApplyDeltaWhenAnotherWriterAlreadyCreatedRow() {
+        // 동시에 처음 쓴 다른 트랜잭션이 먼저 행을 만들고 계산까지 마친 경우
+        MovieRatingStats stats = MovieRatingStats.empty(1L);
+        stats.reset(1L, 5.0);
+        when(movieRatingStatsRepository.findForUpdateByMovieId(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stats));
+
+        movieRatingStatsService.applyRatingChange(1L, null, 3.0);
+
+        assertThat(stats.getReviewCount()).isEqualTo(2L);
+        assertThat(stats.getRatingAvg()).isEqualByComparingTo("4.00");
+        verify(reviewRepository, never()).findRatingTotalsByMovieId(1L);
+    }
+
+    @Test
+    void applyRatingChange_shouldResetWhenLastReviewRemoved() {
+        MovieRatingStats stats = MovieRatingStats.empty(1L);
+        stats.reset(1L, 4.0);
+        when(movieRatingStatsRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.of(stats));
+
+        movieRatingStatsService.applyRatingChange(1L, 4.0, null);
+
+        assertThat(stats.getReviewCount()).isZero();
+        assertThat(stats.getRatingAvg()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void rebuildAll_shouldRepairDriftAndCreateMissingRowsUnderRowLock() {
+        MovieRatingStats inSync = MovieRatingStats.empty(1L);
+        inSync.reset(2L, 9.0);
+        MovieRatingStats drifted = MovieRatingStats.empty(2L);
+        drifted.reset(5L, 20.0);
+        MovieRatingStats orphan = MovieRatingStats.empty(3L);
+        orphan.reset(1L, 3.0);
+        MovieRatingStats missing = uncomputed(4L);
+        runTransactionCallbacks();
+        when(movieRatingStatsRepository.findAllMovieIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(reviewRepository.findRatedMovieIds()).thenReturn(List.of(1L, 2L, 4L));
+        when(movieRatingStatsRepository.findForUpdateByMovieId(1L)).thenReturn(Optional.of(inSync));
+        when(movieRatingStatsRepository.findForUpdateByMovieId(2L)).thenReturn(Optional.of(drifted));
+        when(movieRatingStatsRepository.findForUpdateByMovieId(3L)).thenReturn(Optional.of(orphan));
+        when(movieRatingStatsRepository.findForUpdateByMovieId(4L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(missing));
+        when(reviewRepository.findRatingTotalsByMovieId(1L)).thenReturn(List.<Object[]>of(new Object[]{1L, 2L, 9.0}));
+        when(reviewRepository.findRatingTotalsByMovieId(2L)).thenReturn(List.<Object[]>of(new Object[]{2L, 4L, 14.0}));
+        when(reviewRepository.findRatingTotalsByMovieId(3L)).thenReturn(List.of());
+        when(reviewRepository.findRatingTotalsByMovieId(4L)).thenReturn(List.<Object[]>of(new Object[]{4L, 1L, 5.0}));
+
+        MovieRatingStatsRebuildReport report = movieRatingStatsService.rebuildAll();
+
+        assertThat(report.getCheckedMovies()).isEqualTo(3);
+        assertThat(report.getCorrectedMovies()).isEqualTo(1);
+        assertThat(report.getResetMovies()).isEqualTo(1);
+        assertThat(report.getCreatedMovies()).isEqualTo(1);
+        assertThat(drifted.getRatingAvg()).isEqualByComparingTo("3.50");
+        assertThat(orphan.getReviewCount()).isZero();
+        assertThat(missing.getRatingAvg()).isEqualByComparingTo("5.00");
+        verify(movieRatingStatsRepository).insertIfAbsent(4L);
+        verify(movieRatingStatsRepository, never()).save(inSync);
+        verify(eventPublisher).publishEvent(new MovieRatingChangedEvent(List.of(2L, 3L, 4L)));
+    }
+
+    @Test
+    void getRatingAvgs_shouldSkipQueryForEmptyIds() {
+        assertThat(movieRatingStatsService.getRatingAvgs(List.of())).isEqualTo(Map.of());
+        verify(movieRatingStatsRepository, never()).findByMovieIdIn(List.of());
+    }
+
+    // 영화마다 트랜잭션을 여는 대신 콜백을 바로 실행한다
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    // insertIfAbsent 직후 다시 읽은 행 (review_count = -1)
+    private static MovieRatingStats uncomputed(Long movieId) {
+        MovieRatingStats stats = MovieRatingStats.empty(movieId);
+        ReflectionTestUtils.setField(stats, "reviewCount", -1L);
+        return stats;
+    }
+}
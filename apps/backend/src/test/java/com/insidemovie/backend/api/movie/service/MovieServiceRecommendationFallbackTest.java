@@ -2,7 +2,6 @@ package com.insidemovie.backend.api.movie.service;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.constant.GenreType;
-import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
@@ -11,7 +10,6 @@ import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,9 +23,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,8 +44,6 @@ class MovieServiceRecommendationFallbackTest {
     @Mock
     private MovieGenreRepository movieGenreRepository;
     @Mock
-    private EmotionRepository emotionRepository;
-    @Mock
     private MovieEmotionSummaryRepository movieEmotionSummaryRepository;
     @Mock
     private ReviewRepository reviewRepository;
@@ -54,6 +51,8 @@ class MovieServiceRecommendationFallbackTest {
     private MemberRepository memberRepository;
     @Mock
     private MovieGenreBackfillService movieGenreBackfillService;
+    @Mock
+    private MovieCardEnrichmentService movieCardEnrichmentService;
 
     @InjectMocks
     private MovieService movieService;
@@ -93,6 +92,8 @@ class MovieServiceRecommendationFallbackTest {
 
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(response.getContent().get(0).getMainEmotion()).isEqualTo(EmotionType.JOY);
+        assertThat(response.getContent().get(0).getRatingAvg()).isEqualByComparingTo("4.00");
         verify(movieRepository, never()).findMoviesByGenreTypeOrderByPopularityDesc(eq(GenreType.액션), any(Pageable.class));
     }
 
@@ -110,15 +111,8 @@ class MovieServiceRecommendationFallbackTest {
     }
 
     private void stubMovieSummary() {
-        EmotionAvgDTO avg = EmotionAvgDTO.builder()
-                .joy(0.7)
-                .sadness(0.1)
-                .anger(0.1)
-                .fear(0.05)
-                .disgust(0.05)
-                .repEmotionType(EmotionType.JOY)
-                .build();
         MovieEmotionSummary summary = MovieEmotionSummary.builder()
+                .movieId(1L)
                 .movie(movie)
                 .dominantEmotion(EmotionType.JOY)
                 .joy(0.7f)
@@ -127,9 +121,7 @@ class MovieServiceRecommendationFallbackTest {
                 .fear(0.05f)
                 .disgust(0.05f)
                 .build();
-        when(emotionRepository.findAverageEmotionsByMovieId(1L)).thenReturn(Optional.of(avg));
-        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
-        when(movieEmotionSummaryRepository.findByMovieId(1L)).thenReturn(Optional.of(summary));
-        when(reviewRepository.findAverageByMovieId(1L)).thenReturn(4.0);
+        when(movieCardEnrichmentService.enrich(List.of(1L)))
+                .thenReturn(new MovieCardEnrichment(Map.of(1L, summary), Map.of(1L, new BigDecimal("4.00"))));
     }
 }
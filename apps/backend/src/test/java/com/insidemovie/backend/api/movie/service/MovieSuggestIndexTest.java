@@ -0,0 +1,131 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.MovieSuggestResDto;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MovieSuggestIndexTest {
+
+    private MovieRepository movieRepository;
+    private MovieSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository = mock(MovieRepository.class);
+        when(movieRepository.findAllSuggestRows()).thenReturn(List.of(
+                row(1L, "반지의 제왕 : 두 개의 탑", "The Lord of the Rings: The Two Towers", 80.0),
+                row(2L, "반지의 제왕 : 왕의 귀환", "The Lord of the Rings: The Return of the King", 95.0),
+                row(3L, "기생충", "Parasite", 99.0),
+                row(4L, "극한직업", "Extreme Job", 70.0),
+                row(5L, "거신병 도쿄에 나타나다", null, null)
+        ));
+        index = new MovieSuggestIndex(movieRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void suggest_shouldReturnEmptyUntilBuilt() {
+        assertThat(index.suggest("반지", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_shouldMatchPrefixIgnoringSpacesOrderedByPopularity() {
+        index.rebuild();
+
+        assertThat(ids(index.suggest("반지의 제", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("반지의제왕두", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("반지", 1))).containsExactly(2L);
+    }
+
+    @Test
+    void suggest_shouldMatchLaterWordsAndEnglishTitles() {
+        index.rebuild();
+
+        assertThat(ids(index.suggest("왕의 귀환", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("lord of", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("PARA", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void suggest_shouldMatchChoseongQueries() {
+        index.rebuild();
+
+        // 어절 "개의 탑", "귀환" 도 ㄱ 으로 시작하고, 인기도 없는 영화는 맨 뒤
+        assertThat(ids(index.suggest("ㄱ", 10))).containsExactly(3L, 2L, 1L, 4L, 5L);
+        assertThat(ids(index.suggest("ㄱㅅㅊ", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("ㄷㅋ", 10))).containsExactly(5L);
+    }
+
+    @Test
+    void suggest_shouldFilterByTrailingChoseong() {
+        index.rebuild();
+
+        assertThat(ids(index.suggest("반지의ㅈ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("기ㅅ", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("기ㅎ", 10))).isEmpty();
+    }
+
+    @Test
+    void refresh_shouldApplyChangedMoviesOnly() {
+        index.rebuild();
+        when(movieRepository.findSuggestRowsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                row(4L, "극한직업 2", null, 100.0)
+        ));
+
+        index.onMoviesChanged(new MoviesChangedEvent(List.of(3L, 4L)));
+
+        assertThat(ids(index.suggest("ㄱ", 10))).containsExactly(4L, 2L, 1L, 5L);
+        assertThat(index.suggest("극한", 10).get(0).getTitle()).isEqualTo("극한직업 2");
+        assertThat(ids(index.suggest("반지", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void refresh_shouldMergeNewAndRenamedMoviesIntoSortedKeys() {
+        index.rebuild();
+        when(movieRepository.findSuggestRowsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                row(1L, "두 개의 탑 확장판", null, 80.0),
+                row(6L, "반지원정대", "Fellowship", 90.0)
+        ));
+
+        index.refresh(List.of(1L, 6L));
+
+        assertThat(ids(index.suggest("반지", 10))).containsExactly(2L, 6L);
+        assertThat(ids(index.suggest("반지의제왕두", 10))).isEmpty();
+        assertThat(ids(index.suggest("두개", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("ㅂㅈㅇ", 10))).containsExactly(2L, 6L);
+        assertThat(ids(index.suggest("fell", 10))).containsExactly(6L);
+        assertThat(ids(index.suggest("ㄱ", 10))).containsExactly(3L, 2L, 1L, 4L, 5L);
+    }
+
+    @Test
+    void refresh_shouldKeepResultsAfterDeletesTriggerCompaction() {
+        index.rebuild();
+        when(movieRepository.findSuggestRowsByIdIn(anyCollection())).thenReturn(List.of());
+        index.refresh(List.of(2L, 3L));
+        when(movieRepository.findSuggestRowsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+                row(3L, "기생충", "Parasite", 99.0)
+        ));
+
+        index.refresh(List.of(3L));
+
+        assertThat(ids(index.suggest("반지", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("ㄱ", 10))).containsExactly(3L, 1L, 4L, 5L);
+        assertThat(ids(index.suggest("ㄱ", 2))).containsExactly(3L, 1L);
+    }
+
+    private static List<Long> ids(List<MovieSuggestResDto> suggestions) {
+        return suggestions.stream().map(MovieSuggestResDto::getId).toList();
+    }
+
+    private static Object[] row(Long id, String title, String titleEn, Double popularity) {
+        return new Object[]{id, title, titleEn, null, popularity};
+    }
+}
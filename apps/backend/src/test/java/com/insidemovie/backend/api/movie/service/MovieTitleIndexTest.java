@@ -0,0 +1,96 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MovieTitleIndexTest {
+
+    private MovieRepository movieRepository;
+    private MovieTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository = mock(MovieRepository.class);
+        when(movieRepository.findAllTitles()).thenReturn(List.of(
+                row(1L, "반지의 제왕 : 두 개의 탑", "The Lord of the Rings: The Two Towers"),
+                row(2L, "반지의 제왕 : 왕의 귀환", "The Lord of the Rings: The Return of the King"),
+                row(3L, "반지", "The Ring"),
+                row(4L, "어벤져스: 엔드게임", "Avengers: Endgame"),
+                row(5L, "엔드게임 반지", null)
+        ));
+        index = new MovieTitleIndex(movieRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void search_shouldBeEmptyUntilBuilt() {
+        assertThat(index.search("반지")).isEmpty();
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void search_shouldRankExactThenPrefixThenContains() {
+        index.rebuild();
+
+        // 3 일치 > 1, 2 접두 > 5 포함
+        assertThat(index.search("반지")).contains(List.of(3L, 1L, 2L, 5L));
+    }
+
+    @Test
+    void search_shouldIgnoreSpacesPunctuationAndCase() {
+        index.rebuild();
+
+        assertThat(index.search("반지의제왕두개의탑")).contains(List.of(1L));
+        assertThat(index.search("AVENGERS endgame")).contains(List.of(4L));
+        assertThat(index.search("lord of the rings")).contains(List.of(1L, 2L));
+    }
+
+    @Test
+    void search_shouldMatchSingleSyllableAndSplitBigrams() {
+        index.rebuild();
+
+        assertThat(index.search("탑")).contains(List.of(1L));
+        // 붙어 있지 않아도 검색어의 글자쌍을 모두 가진 제목은 찾는다
+        assertThat(index.search("개의제왕")).contains(List.of(1L));
+        assertThat(index.search("없는영화")).contains(List.of());
+    }
+
+    @Test
+    void search_shouldFallBackForBlankQuery() {
+        index.rebuild();
+
+        assertThat(index.search(" : ")).isEmpty();
+    }
+
+    @Test
+    void reindex_shouldReplaceChangedAndDropMissingMovies() {
+        index.rebuild();
+        when(movieRepository.findTitlesByIdIn(anyCollection())).thenReturn(List.of(
+                row(3L, "반지의 전쟁", null),
+                row(6L, "새 반지", null)
+        ));
+
+        index.onMoviesChanged(new MoviesChangedEvent(List.of(3L, 5L, 6L)));
+
+        assertThat(index.size()).isEqualTo(5);
+        // 3 은 "반지의 전쟁" 접두로 바뀌었고 5 는 빠졌다
+        assertThat(index.search("반지")).contains(List.of(3L, 1L, 2L, 6L));
+        assertThat(index.search("엔드게임")).contains(List.of(4L));
+    }
+
+    private static Object[] row(Long id, String title, String titleEn) {
+        return new Object[]{id, title, titleEn};
+    }
+}
@@ -0,0 +1,91 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.review.entity.Review;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmotionPredictionCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void keyShouldIgnoreWhitespaceDifferencesButNotModel() {
+        String key = EmotionPredictionCache.key("정말  재밌는\n영화 ", "overall_avg");
+
+        assertThat(EmotionPredictionCache.key("정말 재밌는 영화", "overall_avg")).isEqualTo(key);
+        assertThat(EmotionPredictionCache.key("정말 재밌는 영화", "full")).isNotEqualTo(key);
+        assertThat(EmotionPredictionCache.key("정말 재밌는 영화!", "overall_avg")).isNotEqualTo(key);
+    }
+
+    @Test
+    void keyShouldMatchReviewContentComparison() {
+        // 자모 분리(NFD) 입력도 리뷰 수정 비교와 같은 기준으로 같은 내용이다
+        String decomposed = Normalizer.normalize("정말 재밌는 영화", Normalizer.Form.NFD);
+        Review review = Review.builder().content("정말 재밌는 영화").build();
+
+        assertThat(review.hasSameContent(decomposed)).isTrue();
+        assertThat(EmotionPredictionCache.key(decomposed, "overall_avg"))
+                .isEqualTo(EmotionPredictionCache.key("정말 재밌는 영화", "overall_avg"));
+    }
+
+    @Test
+    void localTierShouldEvictLeastRecentlyUsedEntry() {
+        EmotionPredictionProperties properties = new EmotionPredictionProperties();
+        properties.getCache().setMaxEntries(2);
+        EmotionPredictionCache cache = newCache(properties, null);
+
+        cache.put("a", Map.of("joy", 1.0));
+        cache.put("b", Map.of("joy", 2.0));
+        assertThat(cache.get("a")).isPresent();
+        cache.put("c", Map.of("joy", 3.0));
+
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(meterRegistry.get("review.emotion.prediction.cache").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisTierShouldBeReadOnLocalMissAndWrittenOnPut() {
+        EmotionPredictionProperties properties = new EmotionPredictionProperties();
+        properties.getCache().setRedisEnabled(true);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("emotion:prediction:k1")).thenReturn("{\"joy\":42.0}");
+        EmotionPredictionCache cache = newCache(properties, redisTemplate);
+
+        assertThat(cache.get("k1")).contains(Map.of("joy", 42.0));
+        assertThat(cache.get("k1")).contains(Map.of("joy", 42.0));
+        assertThat(meterRegistry.get("review.emotion.prediction.cache").tag("tier", "redis").counter().count())
+                .isEqualTo(1.0);
+
+        cache.put("k2", Map.of("joy", 7.0));
+        verify(valueOperations).set(eq("emotion:prediction:k2"), anyString(), any(Duration.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EmotionPredictionCache newCache(EmotionPredictionProperties properties, StringRedisTemplate redisTemplate) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        return new EmotionPredictionCache(properties, provider, new ObjectMapper(), meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.insidemovie.backend.api.review.infrastructure.fastapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class EmotionPredictionClientTest {
+
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private EmotionPredictionClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://ai");
+        server = MockRestServiceServer.bindTo(builder).build();
+
+        EmotionPredictionProperties properties = new EmotionPredictionProperties();
+        properties.setMaxBatchSize(8);
+        properties.setMaxWaitMs(300);
+        properties.setConcurrency(1);
+        properties.setTimeoutMs(5000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> redisProvider = mock(ObjectProvider.class);
+        EmotionPredictionCache cache = new EmotionPredictionCache(
+                properties, redisProvider, new ObjectMapper(), meterRegistry);
+        client = new EmotionPredictionClient(builder.build(), properties, cache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.shutdown();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRequestsIntoOneBatchCall() {
+        server.expect(once(), requestTo("http://ai" + EmotionPredictionClient.BATCH_PATH))
+                .andExpect(method(POST))
+                .andExpect(content().json("{\"texts\":[\"좋아요\",\"슬퍼요\",\"무서워요\"],\"aggregation\":\"overall_avg\"}"))
+                .andRespond(withSuccess("""
+                        {"aggregation":"overall_avg","count":3,"analyzedAt":"2026-02-23T00:00:00Z","items":[
+                          {"text":"좋아요","probabilities":{"joy":90.0,"sadness":10.0}},
+                          {"text":"슬퍼요","probabilities":{"joy":10.0,"sadness":90.0}},
+                          {"text":"무서워요","probabilities":{"fear":70.0,"sadness":30.0}}
+                        ]}
+                        """, MediaType.APPLICATION_JSON));
+
+        List<CompletableFuture<Map<String, Double>>> futures = List.of(
+                client.submit("좋아요"),
+                client.submit("슬퍼요"),
+                client.submit("무서워요")
+        );
+
+        assertThat(futures.get(0).join()).containsEntry("joy", 90.0);
+        assertThat(futures.get(1).join()).containsEntry("sadness", 90.0);
+        assertThat(futures.get(2).join()).containsEntry("fear", 70.0);
+        server.verify();
+
+        assertThat(meterRegistry.get("review.emotion.prediction.batch").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("review.emotion.prediction.batch.size").summary().totalAmount())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldServeRepeatedContentFromCacheAndShareInFlightRequests() {
+        server.expect(once(), requestTo("http://ai" + EmotionPredictionClient.BATCH_PATH))
+                .andExpect(content().json("{\"texts\":[\"최고의 영화\"]}"))
+                .andRespond(withSuccess("""
+                        {"aggregation":"overall_avg","count":1,"items":[
+                          {"text":"최고의 영화","probabilities":{"joy":95.0}}
+                        ]}
+                        """, MediaType.APPLICATION_JSON));
+
+        CompletableFuture<Map<String, Double>> first = client.submit("최고의 영화");
+        CompletableFuture<Map<String, Double>> duplicate = client.submit("최고의   영화 ");
+        assertThat(duplicate).isSameAs(first);
+        assertThat(first.join()).containsEntry("joy", 95.0);
+
+        assertThat(client.predict(" 최고의 영화")).containsEntry("joy", 95.0);
+        server.verify();
+        assertThat(meterRegistry.get("review.emotion.prediction.cache").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenBatchRequestFails() {
+        server.expect(once(), requestTo("http://ai" + EmotionPredictionClient.BATCH_PATH))
+                .andRespond(withServerError());
+
+        assertThatThrownBy(() -> client.predict("좋아요"))
+                .isInstanceOf(ExternalServiceException.class);
+        server.verify();
+        assertThat(meterRegistry.get("review.emotion.prediction.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRejectBlankTextWithoutCallingFastApi() {
+        assertThatThrownBy(() -> client.predict("  "))
+                .isInstanceOf(ExternalServiceException.class);
+        server.verify();
+    }
+}
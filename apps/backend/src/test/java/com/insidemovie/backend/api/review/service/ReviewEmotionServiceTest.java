@@ -0,0 +1,143 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.EmotionStatus;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.entity.EmotionOutbox;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.EmotionOutboxRepository;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.api.review.service.ReviewEmotionService.PendingAnalysis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewEmotionServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private EmotionOutboxRepository emotionOutboxRepository;
+    @Mock
+    private MovieEmotionSummaryService movieEmotionSummaryService;
+
+    private ReviewEmotionService reviewEmotionService;
+    private Review review;
+    private EmotionOutbox outbox;
+
+    private static final Map<String, Double> PROBABILITIES =
+            Map.of("joy", 0.8, "sadness", 0.05, "anger", 0.05, "fear", 0.05, "disgust", 0.05);
+
+    @BeforeEach
+    void setUp() {
+        EmotionOutboxProperties properties = new EmotionOutboxProperties();
+        properties.setMaxAttempts(3);
+        reviewEmotionService = new ReviewEmotionService(
+                reviewRepository,
+                emotionRepository,
+                emotionOutboxRepository,
+                movieEmotionSummaryService,
+                properties
+        );
+
+        Movie movie = Movie.builder().id(1L).title("테스트 영화").build();
+        review = Review.builder().id(5L).content("재밌어요").movie(movie).build();
+        review.markEmotionPending();
+        outbox = EmotionOutbox.pending(5L, LocalDateTime.now());
+    }
+
+    @Test
+    void complete_shouldSaveEmotionApplyDeltaAndRemoveOutbox() {
+        when(emotionOutboxRepository.findForUpdateById(100L)).thenReturn(Optional.of(outbox));
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+        when(emotionRepository.findByReviewId(5L)).thenReturn(Optional.empty());
+        when(emotionRepository.save(any(Emotion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        boolean completed = reviewEmotionService.complete(pending("재밌어요"), PROBABILITIES);
+
+        assertThat(completed).isTrue();
+        assertThat(review.getEmotionStatus()).isEqualTo(EmotionStatus.COMPLETE);
+        ArgumentCaptor<Emotion> added = ArgumentCaptor.forClass(Emotion.class);
+        verify(movieEmotionSummaryService).applyEmotionChange(eq(1L), eq(null), added.capture());
+        assertThat(added.getValue().getJoy()).isEqualTo(0.8);
+        verify(emotionOutboxRepository).delete(outbox);
+    }
+
+    @Test
+    void complete_shouldUpdateExistingEmotionInPlace() {
+        Emotion existing = Emotion.builder().joy(0.1).sadness(0.9).review(review).build();
+        when(emotionOutboxRepository.findForUpdateById(100L)).thenReturn(Optional.of(outbox));
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+        when(emotionRepository.findByReviewId(5L)).thenReturn(Optional.of(existing));
+
+        reviewEmotionService.complete(pending("재밌어요"), PROBABILITIES);
+
+        ArgumentCaptor<Emotion> removed = ArgumentCaptor.forClass(Emotion.class);
+        verify(movieEmotionSummaryService).applyEmotionChange(eq(1L), removed.capture(), eq(existing));
+        assertThat(removed.getValue().getSadness()).isEqualTo(0.9);
+        assertThat(existing.getJoy()).isEqualTo(0.8);
+        verify(emotionRepository, never()).save(any());
+    }
+
+    @Test
+    void complete_shouldSkipWhenContentChangedWhilePredicting() {
+        when(emotionOutboxRepository.findForUpdateById(100L)).thenReturn(Optional.of(outbox));
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+
+        boolean completed = reviewEmotionService.complete(pending("이전 내용"), PROBABILITIES);
+
+        assertThat(completed).isFalse();
+        assertThat(review.getEmotionStatus()).isEqualTo(EmotionStatus.PENDING);
+        verify(emotionOutboxRepository, never()).delete(any());
+        verify(movieEmotionSummaryService, never()).applyEmotionChange(any(), any(), any());
+    }
+
+    @Test
+    void recordFailure_shouldMarkFailedAfterMaxAttempts() {
+        outbox.recordFailure("timeout", LocalDateTime.now());
+        outbox.recordFailure("timeout", LocalDateTime.now());
+        when(emotionOutboxRepository.findForUpdateById(100L)).thenReturn(Optional.of(outbox));
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+
+        boolean gaveUp = reviewEmotionService.recordFailure(pending("재밌어요"), "timeout");
+
+        assertThat(gaveUp).isTrue();
+        assertThat(review.getEmotionStatus()).isEqualTo(EmotionStatus.FAILED);
+        verify(emotionOutboxRepository).delete(outbox);
+    }
+
+    @Test
+    void recordFailure_shouldScheduleRetryWithBackoff() {
+        when(emotionOutboxRepository.findForUpdateById(100L)).thenReturn(Optional.of(outbox));
+
+        boolean gaveUp = reviewEmotionService.recordFailure(pending("재밌어요"), "timeout");
+
+        assertThat(gaveUp).isFalse();
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        verify(emotionOutboxRepository, never()).delete(any());
+    }
+
+    private PendingAnalysis pending(String content) {
+        return new PendingAnalysis(100L, 5L, content, LocalDateTime.now().minusSeconds(1));
+    }
+}
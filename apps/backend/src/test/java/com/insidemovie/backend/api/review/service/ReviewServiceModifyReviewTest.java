@@ -0,0 +1,116 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.EmotionStatus;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.member.service.MemberPolicyService;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import com.insidemovie.backend.api.report.repository.ReportRepository;
+import com.insidemovie.backend.api.review.dto.ReviewUpdateDTO;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceModifyReviewTest {
+
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private ReviewEmotionService reviewEmotionService;
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private MemberPolicyService memberPolicyService;
+    @Mock
+    private ReportRepository reportRepository;
+    @Mock
+    private MovieEmotionSummaryService movieEmotionSummaryService;
+    @Mock
+    private MovieRatingStatsService movieRatingStatsService;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder().id(11L).isBanned(false).build();
+        Movie movie = Movie.builder().id(1L).title("테스트 영화").build();
+        review = Review.builder()
+                .id(5L)
+                .content("정말 재밌는 영화")
+                .rating(3.0)
+                .member(member)
+                .movie(movie)
+                .build();
+        when(memberPolicyService.getActiveMemberById(11L)).thenReturn(member);
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+    }
+
+    @Test
+    void shouldKeepEmotionWhenOnlyRatingChanged() {
+        reviewService.modifyReview(5L, update("정말  재밌는 영화 ", 5.0), 11L);
+
+        assertThat(review.getRating()).isEqualTo(5.0);
+        assertThat(review.getEmotionStatus()).isEqualTo(EmotionStatus.COMPLETE);
+        verify(reviewEmotionService, never()).requestAnalysis(any());
+        verify(movieRatingStatsService).applyRatingChange(1L, 3.0, 5.0);
+        verifyNoInteractions(emotionRepository, movieEmotionSummaryService);
+    }
+
+    @Test
+    void shouldNotTouchRatingStatsWhenRatingUnchanged() {
+        reviewService.modifyReview(5L, update("생각보다 지루했다", 3.0), 11L);
+
+        verifyNoInteractions(movieRatingStatsService);
+    }
+
+    @Test
+    void shouldRequestAnalysisWhenContentChanged() {
+        reviewService.modifyReview(5L, update("생각보다 지루했다", 2.0), 11L);
+
+        assertThat(review.getContent()).isEqualTo("생각보다 지루했다");
+        verify(reviewEmotionService).requestAnalysis(review);
+        verifyNoInteractions(movieEmotionSummaryService);
+    }
+
+    @Test
+    void shouldRetryFailedAnalysisEvenWhenContentUnchanged() {
+        review.markEmotionFailed();
+
+        reviewService.modifyReview(5L, update("정말 재밌는 영화", 4.0), 11L);
+
+        verify(reviewEmotionService).requestAnalysis(review);
+    }
+
+    private ReviewUpdateDTO update(String content, double rating) {
+        return ReviewUpdateDTO.builder()
+                .content(content)
+                .rating(rating)
+                .build();
+    }
+}
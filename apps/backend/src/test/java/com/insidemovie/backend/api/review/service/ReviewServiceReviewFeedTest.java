@@ -0,0 +1,159 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.ReviewSort;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.member.service.MemberPolicyService;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import com.insidemovie.backend.api.report.repository.ReportRepository;
+import com.insidemovie.backend.api.review.dto.ReviewCursor;
+import com.insidemovie.backend.api.review.dto.ReviewResponseDTO;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceReviewFeedTest {
+
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private ReviewEmotionService reviewEmotionService;
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private MemberPolicyService memberPolicyService;
+    @Mock
+    private ReportRepository reportRepository;
+    @Mock
+    private MovieEmotionSummaryService movieEmotionSummaryService;
+    @Mock
+    private MovieRatingStatsService movieRatingStatsService;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private final Member member = Member.builder().id(11L).nickname("작성자").build();
+    private final Movie movie = Movie.builder().id(1L).title("테스트 영화").build();
+
+    @Test
+    void getReviewFeedByMovie_shouldFetchOneExtraRowAndReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        Review first = review(7L, now, 3);
+        Review second = review(6L, now.minusMinutes(1), 1);
+        Review extra = review(5L, now.minusMinutes(2), 0);
+
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(reviewRepository.findVisibleByMovieCreatedBefore(
+                movie, ReviewCursor.FIRST_DESC.createdAt(), ReviewCursor.FIRST_DESC.id(), PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, extra));
+
+        CursorPageResDto<ReviewResponseDTO> page = reviewService.getReviewFeedByMovie(1L, ReviewSort.LATEST, null, 2, null);
+
+        assertThat(page.getContent()).extracting(ReviewResponseDTO::getReviewId).containsExactly(7L, 6L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(ReviewCursor.decode(page.getNextCursor()))
+                .isEqualTo(new ReviewCursor(now.minusMinutes(1), 1, 6L));
+        // 비로그인 목록은 좋아요 여부를 조회하지 않는다
+        verifyNoInteractions(reviewLikeRepository);
+    }
+
+    @Test
+    void getReviewFeedByMovie_shouldSeekFromCursorAndStopOnLastPage() {
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        String cursor = new ReviewCursor(now, 4, 9L).encode();
+        Review last = review(3L, now.minusDays(1), 4);
+
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(reviewRepository.findVisibleByMovieLikeCountBefore(eq(movie), eq(4L), eq(9L), any()))
+                .thenReturn(List.of(last));
+
+        CursorPageResDto<ReviewResponseDTO> page = reviewService.getReviewFeedByMovie(1L, ReviewSort.POPULAR, cursor, 20, null);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getReviewFeedByMovie_shouldResolveViewerFlagsForLoggedInUser() {
+        Review mine = review(5L, LocalDateTime.of(2025, 7, 1, 12, 0), 1);
+        Review other = review(4L, LocalDateTime.of(2025, 6, 30, 12, 0), 0);
+        ReflectionTestUtils.setField(other, "member", Member.builder().id(12L).nickname("다른 회원").build());
+
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(reviewRepository.findVisibleByMovieCreatedBefore(eq(movie), any(), anyLong(), any()))
+                .thenReturn(List.of(mine, other));
+        when(reviewLikeRepository.findLikedReviewIds(11L, List.of(5L, 4L))).thenReturn(List.of(4L));
+
+        CursorPageResDto<ReviewResponseDTO> page = reviewService.getReviewFeedByMovie(1L, ReviewSort.LATEST, null, 20, 11L);
+
+        assertThat(page.getContent()).extracting(ReviewResponseDTO::isMyReview).containsExactly(true, false);
+        assertThat(page.getContent()).extracting(ReviewResponseDTO::isMyLike).containsExactly(false, true);
+    }
+
+    @Test
+    void getMyReviewFeed_shouldResolveLikesForCurrentUser() {
+        Review mine = review(5L, LocalDateTime.of(2025, 7, 1, 12, 0), 1);
+
+        when(memberPolicyService.getMemberById(11L)).thenReturn(member);
+        when(reviewRepository.findByMemberCreatedBefore(eq(member), any(), anyLong(), any()))
+                .thenReturn(List.of(mine));
+        when(reviewLikeRepository.findLikedReviewIds(11L, List.of(5L))).thenReturn(List.of(5L));
+
+        CursorPageResDto<ReviewResponseDTO> page = reviewService.getMyReviewFeed(11L, null, 10);
+
+        assertThat(page.getContent().get(0).isMyLike()).isTrue();
+        assertThat(page.getContent().get(0).isMyReview()).isTrue();
+        verify(reportRepository).findStatusesByReviewIds(List.of(5L));
+    }
+
+    @Test
+    void getReviewFeedByMovie_shouldRejectMalformedCursor() {
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+
+        assertThatThrownBy(() -> reviewService.getReviewFeedByMovie(1L, ReviewSort.LATEST, "not-a-cursor", 20, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Review review(Long id, LocalDateTime createdAt, long likeCount) {
+        Review review = Review.builder()
+                .id(id)
+                .content("리뷰 " + id)
+                .likeCount(likeCount)
+                .member(member)
+                .movie(movie)
+                .build();
+        ReflectionTestUtils.setField(review, "createdAt", createdAt);
+        return review;
+    }
+}
@@ -0,0 +1,122 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.constant.ReportStatus;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
+import com.insidemovie.backend.api.member.service.MemberPolicyService;
+import com.insidemovie.backend.api.movie.dto.PageResDto;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import com.insidemovie.backend.api.report.repository.ReportRepository;
+import com.insidemovie.backend.api.review.dto.ReviewResponseDTO;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceReviewPageTest {
+
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private ReviewEmotionService reviewEmotionService;
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private MemberPolicyService memberPolicyService;
+    @Mock
+    private ReportRepository reportRepository;
+    @Mock
+    private MovieEmotionSummaryService movieEmotionSummaryService;
+    @Mock
+    private MovieRatingStatsService movieRatingStatsService;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    @Test
+    void getMyReviews_shouldResolveViewerFlagsWithOneQueryPerPage() {
+        Member member = Member.builder().id(11L).nickname("작성자").build();
+        MemberEmotionSummary summary = MemberEmotionSummary.builder()
+                .member(member)
+                .repEmotionType(EmotionType.JOY)
+                .build();
+        member.setEmotionSummary(summary);
+        Movie movie = Movie.builder().id(1L).title("테스트 영화").build();
+
+        Emotion emotion = Emotion.builder().joy(80.0).sadness(5.0).anger(5.0).fear(5.0).disgust(5.0).build();
+        Review first = Review.builder().id(5L).content("좋아요").member(member).movie(movie).emotion(emotion).build();
+        Review second = Review.builder().id(6L).content("별로").member(member).movie(movie).build();
+
+        when(memberPolicyService.getMemberById(11L)).thenReturn(member);
+        when(reviewRepository.findWithDetailsByMember(any(), any()))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(reviewLikeRepository.findLikedReviewIds(11L, List.of(5L, 6L))).thenReturn(List.of(6L));
+        when(reportRepository.findStatusesByReviewIds(List.of(5L, 6L))).thenReturn(List.of(
+                new Object[]{5L, ReportStatus.UNPROCESSED},
+                new Object[]{5L, ReportStatus.REJECTED}
+        ));
+
+        PageResDto<ReviewResponseDTO> page = reviewService.getMyReviews(11L, 0, 20);
+
+        List<ReviewResponseDTO> content = page.getContent();
+        assertThat(content).hasSize(2);
+        assertThat(content.get(0).isMyLike()).isFalse();
+        assertThat(content.get(0).getReportStatus()).isEqualTo(ReportStatus.UNPROCESSED);
+        assertThat(content.get(0).getEmotion().getRepEmotion()).isEqualTo("joy");
+        assertThat(content.get(0).getMemberEmotion()).isEqualTo("JOY");
+        assertThat(content.get(1).isMyLike()).isTrue();
+        assertThat(content.get(1).getReportStatus()).isNull();
+        assertThat(content.get(1).getEmotion()).isNull();
+
+        verify(reviewLikeRepository, never()).existsByReview_IdAndMember_Id(anyLong(), anyLong());
+        verifyNoInteractions(emotionRepository);
+    }
+
+    @Test
+    void getReviewsByMovie_shouldResolveViewerFlagsForLoggedInUser() {
+        Member writer = Member.builder().id(11L).nickname("작성자").build();
+        Movie movie = Movie.builder().id(1L).title("테스트 영화").build();
+        Review mine = Review.builder().id(5L).content("좋아요").member(writer).movie(movie).build();
+        Review other = Review.builder().id(6L).content("별로")
+                .member(Member.builder().id(12L).nickname("다른 회원").build()).movie(movie).build();
+
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(movie));
+        when(reviewRepository.findVisibleWithDetailsByMovie(eq(movie), any()))
+                .thenReturn(new PageImpl<>(List.of(mine, other)));
+        when(reviewLikeRepository.findLikedReviewIds(11L, List.of(5L, 6L))).thenReturn(List.of(6L));
+
+        PageResDto<ReviewResponseDTO> page = reviewService.getReviewsByMovie(1L, PageRequest.of(0, 20), 11L);
+
+        assertThat(page.getContent()).extracting(ReviewResponseDTO::isMyReview).containsExactly(true, false);
+        assertThat(page.getContent()).extracting(ReviewResponseDTO::isMyLike).containsExactly(false, true);
+    }
+}